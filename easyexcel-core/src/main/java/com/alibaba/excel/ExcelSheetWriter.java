@@ -0,0 +1,113 @@
+package com.alibaba.excel;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.alibaba.excel.context.SheetWriteContextImpl;
+import com.alibaba.excel.context.WriteContext;
+import com.alibaba.excel.write.ExcelBuilder;
+import com.alibaba.excel.write.ExcelBuilderImpl;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import com.alibaba.excel.write.metadata.WriteTable;
+
+/**
+ * Sheet Writer This tool is used to write a sheet of the workbook of a {@link ExcelWriter} on its own thread. It's
+ * created by {@link ExcelWriter#sheetWriter(WriteSheet)}.
+ *
+ * <pre>
+ *    1. The sheet writers of the same workbook can write at the same time, each of them has its own rows and
+ *       handlers. Only the styles, fonts and data formats of the workbook are shared.
+ *    2. A sheet writer must be used by one thread at a time, and finished on the thread that writes it.
+ *    3. All the sheet writers must be finished before the {@link ExcelWriter} is finished, then the sheets are
+ *       written to the file. Otherwise finishing the {@link ExcelWriter} fails and nothing is written.
+ * </pre>
+ * <p>
+ * The handlers registered on the workbook are called by all the sheet writers, so they must be thread safe, the
+ * others should be registered on the {@link WriteSheet}. Only the xlsx without 'inMemory', 'directWrite' and
+ * 'useSharedStringsTable' is supported, and it can not be used with 'asyncQueueSize'.
+ *
+ * @author Jiaju Zhuang
+ */
+public class ExcelSheetWriter implements Closeable {
+
+    private final ExcelBuilder excelBuilder;
+    private final WriteSheet writeSheet;
+
+    /**
+     * Create the sheet, the workbook of the context is shared.
+     *
+     * @param writeContext the context of the {@link ExcelWriter}
+     * @param writeSheet   the sheet to be written
+     */
+    public ExcelSheetWriter(WriteContext writeContext, WriteSheet writeSheet) {
+        this.excelBuilder = new ExcelBuilderImpl(
+            new SheetWriteContextImpl(writeContext.writeWorkbookHolder(), writeSheet));
+        this.writeSheet = writeSheet;
+    }
+
+    /**
+     * Write data to the sheet
+     *
+     * @param data Data to be written
+     * @return this current writer
+     */
+    public ExcelSheetWriter write(Collection<?> data) {
+        return write(data, null);
+    }
+
+    /**
+     * Write data to the sheet
+     *
+     * @param supplier Data to be written
+     * @return this current writer
+     */
+    public ExcelSheetWriter write(Supplier<Collection<?>> supplier) {
+        return write(supplier.get(), null);
+    }
+
+    /**
+     * Write data to a table of the sheet
+     *
+     * @param data       Data to be written
+     * @param writeTable Write to this table
+     * @return this current writer
+     */
+    public ExcelSheetWriter write(Collection<?> data, WriteTable writeTable) {
+        excelBuilder.addContent(data, writeSheet, writeTable);
+        return this;
+    }
+
+    /**
+     * Write data to a table of the sheet
+     *
+     * @param supplier   Data to be written
+     * @param writeTable Write to this table
+     * @return this current writer
+     */
+    public ExcelSheetWriter write(Supplier<Collection<?>> supplier, WriteTable writeTable) {
+        return write(supplier.get(), writeTable);
+    }
+
+    /**
+     * Finish writing the sheet and clear the caches of the current thread, the sheet is written to the file when the
+     * {@link ExcelWriter} is finished.
+     */
+    public void finish() {
+        excelBuilder.finish(false);
+    }
+
+    /**
+     * The context of the sheet writer
+     *
+     * @return
+     */
+    public WriteContext writeContext() {
+        return excelBuilder.writeContext();
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+}
@@ -2,9 +2,13 @@ package com.alibaba.excel;
 
 import java.io.Closeable;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.alibaba.excel.context.WriteContext;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.write.AsyncExcelBuilder;
 import com.alibaba.excel.write.ExcelBuilder;
 import com.alibaba.excel.write.ExcelBuilderImpl;
 import com.alibaba.excel.write.metadata.WriteSheet;
@@ -36,7 +40,12 @@ public class ExcelWriter implements Closeable {
      * @param writeWorkbook
      */
     public ExcelWriter(WriteWorkbook writeWorkbook) {
-        excelBuilder = new ExcelBuilderImpl(writeWorkbook);
+        ExcelBuilder builder = new ExcelBuilderImpl(writeWorkbook);
+        Integer asyncQueueSize = writeWorkbook.getAsyncQueueSize();
+        if (asyncQueueSize != null && asyncQueueSize > 0) {
+            builder = new AsyncExcelBuilder(builder, asyncQueueSize, writeWorkbook.getAsyncBatchSize());
+        }
+        excelBuilder = builder;
     }
 
     /**
@@ -87,6 +96,56 @@ public class ExcelWriter implements Closeable {
         return this;
     }
 
+    /**
+     * Write data to a sheet, the rows are taken from the iterator one by one while writing, so they don't need to be in
+     * memory at the same time.
+     *
+     * @param data       Data to be written
+     * @param writeSheet Write to this sheet
+     * @return this current writer
+     */
+    public ExcelWriter write(Iterator<?> data, WriteSheet writeSheet) {
+        return write(data, writeSheet, null);
+    }
+
+    /**
+     * Write data to a table of a sheet, the rows are taken from the iterator one by one while writing, so they don't
+     * need to be in memory at the same time.
+     *
+     * @param data       Data to be written
+     * @param writeSheet Write to this sheet
+     * @param writeTable Write to this table
+     * @return this
+     */
+    public ExcelWriter write(Iterator<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        excelBuilder.addContent(data, writeSheet, writeTable);
+        return this;
+    }
+
+    /**
+     * Write data to a sheet, the rows are taken from the stream one by one while writing. The stream is not closed.
+     *
+     * @param data       Data to be written
+     * @param writeSheet Write to this sheet
+     * @return this current writer
+     */
+    public ExcelWriter write(Stream<?> data, WriteSheet writeSheet) {
+        return write(data, writeSheet, null);
+    }
+
+    /**
+     * Write data to a table of a sheet, the rows are taken from the stream one by one while writing. The stream is not
+     * closed.
+     *
+     * @param data       Data to be written
+     * @param writeSheet Write to this sheet
+     * @param writeTable Write to this table
+     * @return this
+     */
+    public ExcelWriter write(Stream<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        return write(data == null ? null : data.iterator(), writeSheet, writeTable);
+    }
+
     /**
      * Fill value to a sheet
      *
@@ -135,6 +194,33 @@ public class ExcelWriter implements Closeable {
         return this;
     }
 
+    /**
+     * Create a writer of a sheet, which can write the sheet on another thread at the same time as the other sheet
+     * writers. The sheet is created now, and written to the file when this writer is finished.
+     *
+     * @param writeSheet Write to this sheet
+     * @return a new sheet writer
+     * @see ExcelSheetWriter
+     */
+    public ExcelSheetWriter sheetWriter(WriteSheet writeSheet) {
+        // The context is changed by the queued writes on the other thread
+        if (excelBuilder instanceof AsyncExcelBuilder) {
+            throw new ExcelGenerateException("The sheet writer can not be used with 'asyncQueueSize'.");
+        }
+        return new ExcelSheetWriter(excelBuilder.writeContext(), writeSheet);
+    }
+
+    /**
+     * Wait until the data written before are written to the sheets, when writing with 'asyncQueueSize'. The exception
+     * thrown while writing them is thrown here.
+     *
+     * @return this
+     */
+    public ExcelWriter await() {
+        excelBuilder.await();
+        return this;
+    }
+
     /**
      * Close IO
      */
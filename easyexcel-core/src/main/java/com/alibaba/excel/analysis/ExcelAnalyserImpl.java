@@ -22,6 +22,8 @@ import com.alibaba.excel.support.ExcelTypeEnum;
 import com.alibaba.excel.util.ClassUtils;
 import com.alibaba.excel.util.DateUtils;
 import com.alibaba.excel.util.FileUtils;
+import com.alibaba.excel.util.FormatterUtils;
+import com.alibaba.excel.util.HeadNameMatchUtils;
 import com.alibaba.excel.util.NumberDataFormatterUtils;
 import com.alibaba.excel.util.StringUtils;
 import org.apache.commons.collections4.CollectionUtils;
@@ -213,7 +215,9 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
     private void removeThreadLocalCache() {
         NumberDataFormatterUtils.removeThreadLocalCache();
         DateUtils.removeThreadLocalCache();
+        FormatterUtils.removeThreadLocalCache();
         ClassUtils.removeThreadLocalCache();
+        HeadNameMatchUtils.removeThreadLocalCache();
     }
 
     private void clearEncrypt03() {
@@ -22,12 +22,12 @@ import com.alibaba.excel.metadata.Cell;
 import com.alibaba.excel.metadata.data.ReadCellData;
 import com.alibaba.excel.read.metadata.ReadSheet;
 import com.alibaba.excel.read.metadata.holder.ReadRowHolder;
+import com.alibaba.excel.read.metadata.holder.csv.CsvReadSheetHolder;
 import com.alibaba.excel.read.metadata.holder.csv.CsvReadWorkbookHolder;
 import com.alibaba.excel.util.SheetUtils;
 import com.alibaba.excel.util.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -75,8 +75,15 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
                 csvReadContext.currentSheet(readSheet);
 
                 int rowIndex = 0;
-
+                CsvReadSheetHolder csvReadSheetHolder = csvReadContext.csvReadSheetHolder();
                 for (CSVRecord record : csvParser) {
+                    if (csvReadSheetHolder.stopAtRow(rowIndex)) {
+                        break;
+                    }
+                    if (csvReadSheetHolder.ignoreRow(rowIndex)) {
+                        rowIndex++;
+                        continue;
+                    }
                     dealRecord(record, rowIndex++);
                 }
             } catch (ExcelAnalysisStopSheetException e) {
@@ -120,8 +127,13 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
         Iterator<String> cellIterator = record.iterator();
         int columnIndex = 0;
         Boolean autoTrim = csvReadContext.currentReadHolder().globalConfiguration().getAutoTrim();
+        CsvReadSheetHolder csvReadSheetHolder = csvReadContext.csvReadSheetHolder();
         while (cellIterator.hasNext()) {
             String cellString = cellIterator.next();
+            if (csvReadSheetHolder.ignoreColumn(rowIndex, columnIndex)) {
+                columnIndex++;
+                continue;
+            }
             ReadCellData<String> readCellData = new ReadCellData<>();
             readCellData.setRowIndex(rowIndex);
             readCellData.setColumnIndex(columnIndex);
@@ -136,13 +148,14 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
             cellMap.put(columnIndex++, readCellData);
         }
 
-        RowTypeEnum rowType = MapUtils.isEmpty(cellMap) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
+        // The row is not empty even if none of the cells are read
+        RowTypeEnum rowType = columnIndex == 0 ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
         ReadRowHolder readRowHolder = new ReadRowHolder(rowIndex, rowType,
             csvReadContext.readWorkbookHolder().getGlobalConfiguration(), cellMap);
         csvReadContext.readRowHolder(readRowHolder);
 
-        csvReadContext.csvReadSheetHolder().setCellMap(cellMap);
-        csvReadContext.csvReadSheetHolder().setRowIndex(rowIndex);
+        csvReadSheetHolder.setCellMap(cellMap);
+        csvReadSheetHolder.setRowIndex(rowIndex);
         csvReadContext.analysisEventProcessor().endRow(csvReadContext);
     }
 }
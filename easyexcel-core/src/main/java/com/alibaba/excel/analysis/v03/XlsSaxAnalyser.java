@@ -2,6 +2,7 @@ package com.alibaba.excel.analysis.v03;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -12,11 +13,14 @@ import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
 import org.apache.poi.hssf.eventusermodel.HSSFListener;
 import org.apache.poi.hssf.eventusermodel.HSSFRequest;
 import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.MissingCellDummyRecord;
 import org.apache.poi.hssf.eventusermodel.dummyrecord.MissingRowDummyRecord;
 import org.apache.poi.hssf.record.BOFRecord;
 import org.apache.poi.hssf.record.BlankRecord;
 import org.apache.poi.hssf.record.BoolErrRecord;
 import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
 import org.apache.poi.hssf.record.EOFRecord;
 import org.apache.poi.hssf.record.FormulaRecord;
 import org.apache.poi.hssf.record.HyperlinkRecord;
@@ -32,6 +36,7 @@ import org.apache.poi.hssf.record.Record;
 import org.apache.poi.hssf.record.SSTRecord;
 import org.apache.poi.hssf.record.StringRecord;
 import org.apache.poi.hssf.record.TextObjectRecord;
+import org.apache.poi.ss.usermodel.CellType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,10 +61,12 @@ import com.alibaba.excel.analysis.v03.handlers.SstRecordHandler;
 import com.alibaba.excel.analysis.v03.handlers.StringRecordHandler;
 import com.alibaba.excel.analysis.v03.handlers.TextObjectRecordHandler;
 import com.alibaba.excel.context.xls.XlsReadContext;
+import com.alibaba.excel.enums.RowTypeEnum;
 import com.alibaba.excel.exception.ExcelAnalysisException;
 import com.alibaba.excel.exception.ExcelAnalysisStopException;
 import com.alibaba.excel.exception.ExcelAnalysisStopSheetException;
 import com.alibaba.excel.read.metadata.ReadSheet;
+import com.alibaba.excel.read.metadata.holder.xls.XlsReadSheetHolder;
 import com.alibaba.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
 
 /**
@@ -164,6 +171,9 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         }
 
         try {
+            if (skipRecord(record)) {
+                return;
+            }
             handler.processRecord(xlsReadContext, record);
         } catch (ExcelAnalysisStopSheetException e) {
             if (log.isDebugEnabled()) {
@@ -174,4 +184,49 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         }
     }
 
+    /**
+     * Skip the rows and the cells whose values are not needed, but the row still has data. The string result of a
+     * formula is in the next record, so the formula is always read.
+     */
+    private boolean skipRecord(Record record) {
+        XlsReadSheetHolder xlsReadSheetHolder = xlsReadContext.xlsReadSheetHolder();
+        if (xlsReadSheetHolder == null) {
+            return false;
+        }
+        if (record instanceof LastCellOfRowDummyRecord) {
+            int rowIndex = ((LastCellOfRowDummyRecord)record).getRow();
+            if (xlsReadSheetHolder.stopAtRow(rowIndex)) {
+                throw new ExcelAnalysisStopSheetException();
+            }
+            if (!xlsReadSheetHolder.ignoreRow(rowIndex)) {
+                return false;
+            }
+            xlsReadSheetHolder.setRowIndex(rowIndex);
+            xlsReadSheetHolder.setCellMap(new LinkedHashMap<>());
+            xlsReadSheetHolder.setTempRowType(RowTypeEnum.EMPTY);
+            return true;
+        }
+        if (record instanceof MissingCellDummyRecord) {
+            return xlsReadSheetHolder.ignoreRow(((MissingCellDummyRecord)record).getRow());
+        }
+        if (!(record instanceof CellValueRecordInterface)) {
+            return false;
+        }
+        if (record instanceof FormulaRecord
+            && CellType.forInt(((FormulaRecord)record).getCachedResultType()) == CellType.STRING) {
+            return false;
+        }
+        CellValueRecordInterface cellValueRecord = (CellValueRecordInterface)record;
+        if (xlsReadSheetHolder.ignoreRow(cellValueRecord.getRow())) {
+            return true;
+        }
+        if (!xlsReadSheetHolder.ignoreColumn(cellValueRecord.getRow(), cellValueRecord.getColumn())) {
+            return false;
+        }
+        if (!(record instanceof BlankRecord)) {
+            xlsReadSheetHolder.setTempRowType(RowTypeEnum.DATA);
+        }
+        return true;
+    }
+
 }
@@ -10,15 +10,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import com.alibaba.excel.analysis.ExcelReadExecutor;
+import com.alibaba.excel.analysis.v07.handlers.XlsxTagHandler;
 import com.alibaba.excel.analysis.v07.handlers.sax.SharedStringsTableHandler;
 import com.alibaba.excel.analysis.v07.handlers.sax.XlsxRowHandler;
+import com.alibaba.excel.analysis.v07.handlers.sax.XlsxSheetTokenizer;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndex;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndexBuilder;
+import com.alibaba.excel.cache.LazySharedStringsCache;
 import com.alibaba.excel.cache.ReadCache;
+import com.alibaba.excel.cache.SynchronizedReadCache;
+import com.alibaba.excel.context.xlsx.DefaultXlsxReadContext;
 import com.alibaba.excel.context.xlsx.XlsxReadContext;
 import com.alibaba.excel.enums.CellExtraTypeEnum;
 import com.alibaba.excel.exception.ExcelAnalysisException;
@@ -27,8 +38,14 @@ import com.alibaba.excel.exception.ExcelAnalysisStopSheetException;
 import com.alibaba.excel.metadata.CellExtra;
 import com.alibaba.excel.read.metadata.ReadSheet;
 import com.alibaba.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import com.alibaba.excel.read.processor.PipelinedAnalysisEventProcessor;
+import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.util.DateUtils;
 import com.alibaba.excel.util.FileUtils;
+import com.alibaba.excel.util.FormatterUtils;
+import com.alibaba.excel.util.HeadNameMatchUtils;
 import com.alibaba.excel.util.MapUtils;
+import com.alibaba.excel.util.NumberDataFormatterUtils;
 import com.alibaba.excel.util.SheetUtils;
 import com.alibaba.excel.util.StringUtils;
 
@@ -48,6 +65,7 @@ import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -80,6 +98,10 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
      * excel comments key: sheetNo value: CommentsTable
      */
     private final Map<Integer, CommentsTable> commentsTableMap;
+    /**
+     * The file of the package, null if it's opened from a stream
+     */
+    private File packageFile;
 
     public XlsxSaxAnalyser(XlsxReadContext xlsxReadContext, InputStream decryptedStream) throws Exception {
         this.xlsxReadContext = xlsxReadContext;
@@ -88,10 +110,12 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
 
         OPCPackage pkg = readOpcPackage(xlsxReadWorkbookHolder, decryptedStream);
         xlsxReadWorkbookHolder.setOpcPackage(pkg);
+        loadRowOffsetIndex(xlsxReadWorkbookHolder, pkg);
 
         // Read the Shared information Strings
         PackagePart sharedStringsTablePackagePart = pkg.getPart(SHARED_STRINGS_PART_NAME);
-        if (sharedStringsTablePackagePart != null) {
+        if (sharedStringsTablePackagePart != null
+            && !lazySharedStringsTable(xlsxReadWorkbookHolder, sharedStringsTablePackagePart)) {
             // Specify default cache
             defaultReadCache(xlsxReadWorkbookHolder, sharedStringsTablePackagePart);
 
@@ -162,6 +186,26 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         readCache.init(xlsxReadContext);
     }
 
+    private boolean lazySharedStringsTable(XlsxReadWorkbookHolder xlsxReadWorkbookHolder,
+        PackagePart sharedStringsTablePackagePart) throws IOException {
+        if (!xlsxReadWorkbookHolder.getLazySharedStrings()) {
+            return false;
+        }
+        LazySharedStringsCache lazySharedStringsCache = new LazySharedStringsCache();
+        // Set it first, so it will be destroyed on failure
+        xlsxReadWorkbookHolder.setReadCache(lazySharedStringsCache);
+        lazySharedStringsCache.init(xlsxReadContext);
+        XlsxRowOffsetIndex rowOffsetIndex = xlsxReadWorkbookHolder.getRowOffsetIndex();
+        long[] sharedStringsPositions = rowOffsetIndex == null ? null : rowOffsetIndex.getSharedStringsPositions();
+        if (lazySharedStringsCache.index(sharedStringsTablePackagePart.getInputStream(), sharedStringsPositions)) {
+            return true;
+        }
+        log.warn("The shared strings can not be read lazily, it will be parsed at once.");
+        lazySharedStringsCache.destroy();
+        xlsxReadWorkbookHolder.setReadCache(null);
+        return false;
+    }
+
     private void analysisUse1904WindowDate(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
         throws Exception {
         if (xlsxReadWorkbookHolder.globalConfiguration().getUse1904windowing() != null) {
@@ -185,9 +229,22 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         xlsxReadWorkbookHolder.getReadCache().putFinished();
     }
 
+    private void loadRowOffsetIndex(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, OPCPackage pkg) {
+        if (xlsxReadWorkbookHolder.getRowOffsetIndexDirectory() == null) {
+            return;
+        }
+        if (packageFile == null) {
+            log.warn("The row offset index can not be used when 'mandatoryUseInputStream' is true.");
+            return;
+        }
+        xlsxReadWorkbookHolder.setRowOffsetIndex(XlsxRowOffsetIndexBuilder.load(packageFile, pkg,
+            xlsxReadWorkbookHolder.getRowOffsetIndexDirectory(), xlsxReadWorkbookHolder.getRowOffsetIndexInterval()));
+    }
+
     private OPCPackage readOpcPackage(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, InputStream decryptedStream)
         throws Exception {
         if (decryptedStream == null && xlsxReadWorkbookHolder.getFile() != null) {
+            packageFile = xlsxReadWorkbookHolder.getFile();
             return OPCPackage.open(xlsxReadWorkbookHolder.getFile());
         }
         if (xlsxReadWorkbookHolder.getMandatoryUseInputStream()) {
@@ -206,6 +263,7 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             FileUtils.writeToFile(tempFile, xlsxReadWorkbookHolder.getInputStream(),
                 xlsxReadWorkbookHolder.getAutoCloseStream());
         }
+        packageFile = tempFile;
         return OPCPackage.open(tempFile, PackageAccess.READ);
     }
 
@@ -253,27 +311,143 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
 
     @Override
     public void execute() {
+        Executor sheetExecutor = xlsxReadContext.xlsxReadWorkbookHolder().getSheetExecutor();
+        if (sheetExecutor != null) {
+            executeConcurrently(sheetExecutor);
+            return;
+        }
         for (ReadSheet readSheet : sheetList) {
             readSheet = SheetUtils.match(readSheet, xlsxReadContext);
             if (readSheet != null) {
+                xlsxReadContext.currentSheet(readSheet);
+                readSheet(xlsxReadContext, readSheet, null);
+            }
+        }
+    }
+
+    /**
+     * Each sheet is read with its own context on the executor, and they share the workbook holder.
+     */
+    private void executeConcurrently(Executor sheetExecutor) {
+        // The shared strings are read by all the sheets at the same time
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        xlsxReadWorkbookHolder.setReadCache(SynchronizedReadCache.threadSafe(xlsxReadWorkbookHolder.getReadCache()));
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        List<CompletableFuture<Void>> futureList = new ArrayList<>();
+        for (ReadSheet readSheet : sheetList) {
+            ReadSheet matchedReadSheet = SheetUtils.match(readSheet, xlsxReadContext);
+            if (matchedReadSheet == null) {
+                continue;
+            }
+            // Create the sheet holder on the current thread, the read sheets are not thread safe
+            XlsxReadContext sheetReadContext = new DefaultXlsxReadContext(xlsxReadWorkbookHolder);
+            sheetReadContext.currentSheet(matchedReadSheet);
+            futureList.add(CompletableFuture.runAsync(
+                () -> readSheetConcurrently(sheetReadContext, matchedReadSheet, stopped), sheetExecutor));
+        }
+        // Wait for all the sheets, the files can only be closed after that
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futureList) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                // Prefer the failure to the stops caused by it
+                if (failure == null || failure instanceof ExcelAnalysisStopException) {
+                    failure = e.getCause() == null ? e : e.getCause();
+                }
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error)failure;
+        }
+        if (failure != null) {
+            throw new ExcelAnalysisException(failure);
+        }
+    }
+
+    private void readSheetConcurrently(XlsxReadContext sheetReadContext, ReadSheet readSheet, AtomicBoolean stopped) {
+        try {
+            if (stopped.get()) {
+                throw new ExcelAnalysisStopException();
+            }
+            readSheet(sheetReadContext, readSheet, stopped);
+        } catch (RuntimeException | Error e) {
+            // Stop reading the other sheets
+            stopped.set(true);
+            throw e;
+        } finally {
+            NumberDataFormatterUtils.removeThreadLocalCache();
+            DateUtils.removeThreadLocalCache();
+            FormatterUtils.removeThreadLocalCache();
+            ClassUtils.removeThreadLocalCache();
+            HeadNameMatchUtils.removeThreadLocalCache();
+        }
+    }
+
+    /**
+     * @param stopped Whether another sheet read at the same time failed, is null if the sheets are read one by one.
+     */
+    private void readSheet(XlsxReadContext sheetReadContext, ReadSheet readSheet, AtomicBoolean stopped) {
+        Integer pipelineBufferSize = sheetReadContext.xlsxReadWorkbookHolder().getPipelineBufferSize();
+        if (pipelineBufferSize == null) {
+            parseSheet(sheetReadContext, readSheet, stopped);
+            return;
+        }
+        // Parse on the current thread, and call the listeners with the sheet context on another thread
+        try (PipelinedAnalysisEventProcessor pipelinedAnalysisEventProcessor = new PipelinedAnalysisEventProcessor(
+            sheetReadContext, pipelineBufferSize)) {
+            XlsxReadContext parseContext = new DefaultXlsxReadContext(sheetReadContext.xlsxReadWorkbookHolder(),
+                sheetReadContext.xlsxReadSheetHolder(), pipelinedAnalysisEventProcessor);
+            parseSheet(parseContext, readSheet, stopped);
+        }
+    }
+
+    private void parseSheet(XlsxReadContext sheetReadContext, ReadSheet readSheet, AtomicBoolean stopped) {
+        XlsxRowHandler handler = stopped == null ? new XlsxRowHandler(sheetReadContext)
+            : new StoppableXlsxRowHandler(sheetReadContext, stopped);
+        try {
+            InputStream sheetInputStream = sheetMap.get(readSheet.getSheetNo());
+            if (sheetReadContext.xlsxReadWorkbookHolder().getUseSheetTokenizer()) {
+                sheetInputStream = tokenizeSheet(sheetInputStream, handler);
+            }
+            if (sheetInputStream != null) {
+                parseXmlSource(sheetInputStream, handler);
+            }
+            // Read comments
+            readComments(sheetReadContext, readSheet);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+        }
+        // The last sheet is read
+        sheetReadContext.analysisEventProcessor().endSheet(sheetReadContext);
+    }
+
+    /**
+     * @return null if the sheet is read, otherwise the sheet should be parsed by SAX.
+     */
+    private InputStream tokenizeSheet(InputStream sheetInputStream, XlsxRowHandler handler) {
+        InputStream fallbackInputStream = null;
+        try {
+            fallbackInputStream = new XlsxSheetTokenizer(handler).parse(sheetInputStream);
+            return fallbackInputStream;
+        } finally {
+            if (fallbackInputStream == null) {
                 try {
-                    xlsxReadContext.currentSheet(readSheet);
-                    parseXmlSource(sheetMap.get(readSheet.getSheetNo()), new XlsxRowHandler(xlsxReadContext));
-                    // Read comments
-                    readComments(readSheet);
-                } catch (ExcelAnalysisStopSheetException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Custom stop!", e);
-                    }
+                    sheetInputStream.close();
+                } catch (IOException e) {
+                    throw new ExcelAnalysisException("Can not close 'inputStream'!");
                 }
-                // The last sheet is read
-                xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
             }
         }
     }
 
-    private void readComments(ReadSheet readSheet) {
-        if (!xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
+    private void readComments(XlsxReadContext sheetReadContext, ReadSheet readSheet) {
+        if (!sheetReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
             return;
         }
         CommentsTable commentsTable = commentsTableMap.get(readSheet.getSheetNo());
@@ -286,8 +460,28 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             XSSFComment cellComment = commentsTable.findCellComment(cellAddress);
             CellExtra cellExtra = new CellExtra(CellExtraTypeEnum.COMMENT, cellComment.getString().toString(),
                 cellAddress.getRow(), cellAddress.getColumn());
-            xlsxReadContext.readSheetHolder().setCellExtra(cellExtra);
-            xlsxReadContext.analysisEventProcessor().extra(xlsxReadContext);
+            sheetReadContext.readSheetHolder().setCellExtra(cellExtra);
+            sheetReadContext.analysisEventProcessor().extra(sheetReadContext);
+        }
+    }
+
+    /**
+     * Stop parsing the sheet once another sheet failed or was stopped.
+     */
+    private static class StoppableXlsxRowHandler extends XlsxRowHandler {
+        private final AtomicBoolean stopped;
+
+        StoppableXlsxRowHandler(XlsxReadContext xlsxReadContext, AtomicBoolean stopped) {
+            super(xlsxReadContext);
+            this.stopped = stopped;
+        }
+
+        @Override
+        public void startElement(String name, XlsxTagHandler handler, Attributes attributes) {
+            if (stopped.get()) {
+                throw new ExcelAnalysisStopException();
+            }
+            super.startElement(name, handler, attributes);
         }
     }
 }
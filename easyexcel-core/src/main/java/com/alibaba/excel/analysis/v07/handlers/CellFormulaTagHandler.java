@@ -13,6 +13,11 @@ import org.xml.sax.Attributes;
  */
 public class CellFormulaTagHandler extends AbstractXlsxTagHandler {
 
+    @Override
+    public boolean support(XlsxReadContext xlsxReadContext) {
+        return !xlsxReadContext.xlsxReadSheetHolder().isTempCellIgnored();
+    }
+
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
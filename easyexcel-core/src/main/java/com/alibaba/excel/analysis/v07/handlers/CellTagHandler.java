@@ -22,12 +22,28 @@ import org.xml.sax.Attributes;
 public class CellTagHandler extends AbstractXlsxTagHandler {
 
     private static final int DEFAULT_FORMAT_INDEX = 0;
+    private static final int DECIMAL_RADIX = 10;
+    private static final int DEFAULT_TEMP_CHARS_SIZE = 32;
 
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
         xlsxReadSheetHolder.setColumnIndex(PositionUtils.getCol(attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R),
             xlsxReadSheetHolder.getColumnIndex()));
+        // Reuse the buffer of the sheet
+        StringBuilder tempData = xlsxReadSheetHolder.getTempData();
+        if (tempData == null) {
+            xlsxReadSheetHolder.setTempData(new StringBuilder());
+        } else {
+            tempData.setLength(0);
+        }
+        // The value is not needed, only check whether there's data
+        boolean ignored = xlsxReadSheetHolder.isTempRowIgnored() || xlsxReadSheetHolder.ignoreColumn(
+            xlsxReadSheetHolder.getRowIndex(), xlsxReadSheetHolder.getColumnIndex());
+        xlsxReadSheetHolder.setTempCellIgnored(ignored);
+        if (ignored) {
+            return;
+        }
 
         // t="s" ,it means String
         // t="str" ,it means String,but does not need to be read in the 'sharedStrings.xml'
@@ -38,7 +54,6 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         // t is null ,it means Empty or Number
         CellDataTypeEnum type = CellDataTypeEnum.buildFromCellType(attributes.getValue(ExcelXmlConstants.ATTRIBUTE_T));
         xlsxReadSheetHolder.setTempCellData(new ReadCellData<>(type));
-        xlsxReadSheetHolder.setTempData(new StringBuilder());
 
         // Put in data transformation information
         String dateFormatIndex = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_S);
@@ -56,27 +71,33 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
-        ReadCellData<?> tempCellData = xlsxReadSheetHolder.getTempCellData();
+        // The text is parsed from the buffer directly, without creating a string
         StringBuilder tempData = xlsxReadSheetHolder.getTempData();
-        String tempDataString = tempData.toString();
+        if (xlsxReadSheetHolder.isTempCellIgnored()) {
+            if (tempData.length() > 0) {
+                xlsxReadSheetHolder.setIgnoredCellHasData(true);
+            }
+            return;
+        }
+        ReadCellData<?> tempCellData = xlsxReadSheetHolder.getTempCellData();
         CellDataTypeEnum oldType = tempCellData.getType();
         switch (oldType) {
             case STRING:
                 // In some cases, although cell type is a string, it may be an empty tag
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     break;
                 }
                 String stringValue = xlsxReadContext.readWorkbookHolder().getReadCache().get(
-                    Integer.valueOf(tempDataString));
+                    parseSharedStringsIndex(tempData));
                 tempCellData.setStringValue(stringValue);
                 break;
             case DIRECT_STRING:
             case ERROR:
-                tempCellData.setStringValue(tempDataString);
+                tempCellData.setStringValue(tempData.toString());
                 tempCellData.setType(CellDataTypeEnum.STRING);
                 break;
             case BOOLEAN:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
@@ -84,12 +105,15 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
                 break;
             case NUMBER:
             case EMPTY:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
                 tempCellData.setType(CellDataTypeEnum.NUMBER);
-                tempCellData.setOriginalNumberValue(new BigDecimal(tempDataString));
+                if (parsePrimitiveNumber(tempCellData, tempData)) {
+                    break;
+                }
+                tempCellData.setOriginalNumberValue(parseNumber(xlsxReadSheetHolder, tempData));
                 tempCellData.setNumberValue(
                     tempCellData.getOriginalNumberValue().round(EasyExcelConstants.EXCEL_MATH_CONTEXT));
                 break;
@@ -107,4 +131,74 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         tempCellData.setColumnIndex(xlsxReadSheetHolder.getColumnIndex());
         xlsxReadSheetHolder.getCellMap().put(xlsxReadSheetHolder.getColumnIndex(), tempCellData);
     }
+
+    private static Integer parseSharedStringsIndex(StringBuilder tempData) {
+        int index = 0;
+        for (int i = 0; i < tempData.length(); i++) {
+            int digit = Character.digit(tempData.charAt(i), DECIMAL_RADIX);
+            if (digit < 0 || index > (Integer.MAX_VALUE - digit) / DECIMAL_RADIX) {
+                // Let it throw the same exception as before
+                return Integer.valueOf(tempData.toString());
+            }
+            index = index * DECIMAL_RADIX + digit;
+        }
+        return index;
+    }
+
+    /**
+     * Keep a plain number of at most 15 digits, like `-12.50`, in primitive types. It doesn't change when rounded to
+     * the excel precision, and the most of the numbers are like this.
+     *
+     * @param tempCellData cell data
+     * @param tempData     text of the number
+     * @return false if it's not such a number, such as `1.2E-5`
+     */
+    private static boolean parsePrimitiveNumber(ReadCellData<?> tempCellData, StringBuilder tempData) {
+        int length = tempData.length();
+        boolean negative = tempData.charAt(0) == '-';
+        long unscaledValue = 0;
+        int digits = 0;
+        boolean hasDigit = false;
+        // Negative before the decimal point
+        int scale = -1;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            char c = tempData.charAt(i);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            int digit = Character.digit(c, DECIMAL_RADIX);
+            if (digit < 0) {
+                return false;
+            }
+            hasDigit = true;
+            if (scale >= 0) {
+                scale++;
+            }
+            // The leading zeros are not significant
+            if (unscaledValue == 0 && digit == 0) {
+                continue;
+            }
+            if (++digits > ReadCellData.MAX_PRIMITIVE_SCALE) {
+                return false;
+            }
+            unscaledValue = unscaledValue * DECIMAL_RADIX + digit;
+        }
+        if (!hasDigit || scale > ReadCellData.MAX_PRIMITIVE_SCALE) {
+            return false;
+        }
+        tempCellData.setPrimitiveNumberValue(negative ? -unscaledValue : unscaledValue, Math.max(scale, 0));
+        return true;
+    }
+
+    private static BigDecimal parseNumber(XlsxReadSheetHolder xlsxReadSheetHolder, StringBuilder tempData) {
+        int length = tempData.length();
+        char[] tempChars = xlsxReadSheetHolder.getTempChars();
+        if (tempChars == null || tempChars.length < length) {
+            tempChars = new char[Math.max(length, DEFAULT_TEMP_CHARS_SIZE)];
+            xlsxReadSheetHolder.setTempChars(tempChars);
+        }
+        tempData.getChars(0, length, tempChars, 0);
+        return new BigDecimal(tempChars, 0, length);
+    }
 }
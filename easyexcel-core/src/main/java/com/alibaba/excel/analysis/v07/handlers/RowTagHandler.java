@@ -1,15 +1,15 @@
 package com.alibaba.excel.analysis.v07.handlers;
 
-import java.util.LinkedHashMap;
-
 import com.alibaba.excel.constant.ExcelXmlConstants;
 import com.alibaba.excel.context.xlsx.XlsxReadContext;
 import com.alibaba.excel.enums.CellDataTypeEnum;
 import com.alibaba.excel.enums.RowTypeEnum;
+import com.alibaba.excel.exception.ExcelAnalysisStopSheetException;
 import com.alibaba.excel.metadata.Cell;
 import com.alibaba.excel.metadata.data.ReadCellData;
 import com.alibaba.excel.read.metadata.holder.ReadRowHolder;
 import com.alibaba.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
+import com.alibaba.excel.util.IntArrayMap;
 import com.alibaba.excel.util.PositionUtils;
 
 import org.apache.commons.collections4.MapUtils;
@@ -29,22 +29,43 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
             xlsxReadSheetHolder.getRowIndex());
         Integer lastRowIndex = xlsxReadContext.readSheetHolder().getRowIndex();
         while (lastRowIndex + 1 < rowIndex) {
-            xlsxReadContext.readRowHolder(new ReadRowHolder(lastRowIndex + 1, RowTypeEnum.EMPTY,
-                xlsxReadSheetHolder.getGlobalConfiguration(), new LinkedHashMap<Integer, Cell>()));
-            xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
-            xlsxReadSheetHolder.setColumnIndex(null);
-            xlsxReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
+            int emptyRowIndex = lastRowIndex + 1;
+            if (xlsxReadSheetHolder.stopAtRow(emptyRowIndex)) {
+                throw new ExcelAnalysisStopSheetException();
+            }
+            if (!xlsxReadSheetHolder.ignoreRow(emptyRowIndex)) {
+                xlsxReadContext.readRowHolder(new ReadRowHolder(emptyRowIndex, RowTypeEnum.EMPTY,
+                    xlsxReadSheetHolder.getGlobalConfiguration(), new IntArrayMap<>(0)));
+                xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+                xlsxReadSheetHolder.setColumnIndex(null);
+                xlsxReadSheetHolder.setCellMap(new IntArrayMap<>());
+            }
             lastRowIndex++;
         }
+        // No more rows are read, skip the rest of the sheet
+        if (xlsxReadSheetHolder.stopAtRow(rowIndex)) {
+            throw new ExcelAnalysisStopSheetException();
+        }
         xlsxReadSheetHolder.setRowIndex(rowIndex);
+        xlsxReadSheetHolder.setTempRowIgnored(xlsxReadSheetHolder.ignoreRow(rowIndex));
     }
 
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.isTempRowIgnored()) {
+            // None of the cells are read
+            xlsxReadSheetHolder.setTempRowIgnored(false);
+            xlsxReadSheetHolder.setIgnoredCellHasData(false);
+            xlsxReadSheetHolder.setColumnIndex(null);
+            return;
+        }
         RowTypeEnum rowType = MapUtils.isEmpty(xlsxReadSheetHolder.getCellMap()) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
-        // It's possible that all of the cells in the row are empty
-        if (rowType == RowTypeEnum.DATA) {
+        if (xlsxReadSheetHolder.isIgnoredCellHasData()) {
+            rowType = RowTypeEnum.DATA;
+            xlsxReadSheetHolder.setIgnoredCellHasData(false);
+        } else if (rowType == RowTypeEnum.DATA) {
+            // It's possible that all of the cells in the row are empty
             boolean hasData = false;
             for (Cell cell : xlsxReadSheetHolder.getCellMap().values()) {
                 if (!(cell instanceof ReadCellData)) {
@@ -61,11 +82,13 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
                 rowType = RowTypeEnum.EMPTY;
             }
         }
+        // The rows of a sheet usually have the same number of cells
+        int cellCount = xlsxReadSheetHolder.getCellMap().size();
         xlsxReadContext.readRowHolder(new ReadRowHolder(xlsxReadSheetHolder.getRowIndex(), rowType,
             xlsxReadSheetHolder.getGlobalConfiguration(), xlsxReadSheetHolder.getCellMap()));
         xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
         xlsxReadSheetHolder.setColumnIndex(null);
-        xlsxReadSheetHolder.setCellMap(new LinkedHashMap<>());
+        xlsxReadSheetHolder.setCellMap(new IntArrayMap<>(cellCount));
     }
 
 }
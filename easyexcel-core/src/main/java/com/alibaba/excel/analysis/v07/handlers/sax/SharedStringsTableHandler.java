@@ -148,7 +148,7 @@ public class SharedStringsTableHandler extends DefaultHandler {
      * See section 3.18.9 in the OOXML spec.
      * @see org.apache.poi.xssf.usermodel.XSSFRichTextString#utfDecode(String)
      */
-    static String utfDecode(String value) {
+    public static String utfDecode(String value) {
         if (value == null || !value.contains("_x")) {
             return value;
         }
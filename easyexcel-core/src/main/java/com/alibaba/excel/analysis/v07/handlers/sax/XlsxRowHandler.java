@@ -1,7 +1,11 @@
 package com.alibaba.excel.analysis.v07.handlers.sax;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.alibaba.excel.analysis.v07.handlers.CellFormulaTagHandler;
 import com.alibaba.excel.analysis.v07.handlers.CellInlineStringValueTagHandler;
@@ -12,8 +16,10 @@ import com.alibaba.excel.analysis.v07.handlers.HyperlinkTagHandler;
 import com.alibaba.excel.analysis.v07.handlers.MergeCellTagHandler;
 import com.alibaba.excel.analysis.v07.handlers.RowTagHandler;
 import com.alibaba.excel.analysis.v07.handlers.XlsxTagHandler;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndex;
 import com.alibaba.excel.constant.ExcelXmlConstants;
 import com.alibaba.excel.context.xlsx.XlsxReadContext;
+import com.alibaba.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 
 import lombok.extern.slf4j.Slf4j;
 import org.xml.sax.Attributes;
@@ -63,27 +69,93 @@ public class XlsxRowHandler extends DefaultHandler {
         XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_ROW_TAG, rowTagHandler);
     }
 
+    /**
+     * The handlers of the tags in `tagDeque`
+     */
+    private final Deque<XlsxTagHandler> tagHandlerDeque = new ArrayDeque<>();
+
     public XlsxRowHandler(XlsxReadContext xlsxReadContext) {
         this.xlsxReadContext = xlsxReadContext;
     }
 
+    /**
+     * Get the handler of the tag.
+     *
+     * @param name Tag name
+     * @return null if the tag is ignored
+     */
+    public static XlsxTagHandler tagHandler(String name) {
+        return XLSX_CELL_HANDLER_MAP.get(name);
+    }
+
+    /**
+     * All the names of the handled tags.
+     *
+     * @return Tag names
+     */
+    public static Set<String> tagNames() {
+        return Collections.unmodifiableSet(XLSX_CELL_HANDLER_MAP.keySet());
+    }
+
     @Override
     public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(name);
+        startElement(name, XLSX_CELL_HANDLER_MAP.get(name), attributes);
+    }
+
+    /**
+     * Start a tag whose handler is already known.
+     *
+     * @param name       Tag name
+     * @param handler    The handler of the tag, may be null
+     * @param attributes Tag attributes
+     */
+    public void startElement(String name, XlsxTagHandler handler, Attributes attributes) {
         if (handler == null || !handler.support(xlsxReadContext)) {
             return;
         }
         xlsxReadContext.xlsxReadSheetHolder().getTagDeque().push(name);
+        tagHandlerDeque.push(handler);
         handler.startElement(xlsxReadContext, name, attributes);
     }
 
-    @Override
-    public void characters(char[] ch, int start, int length) throws SAXException {
-        String currentTag = xlsxReadContext.xlsxReadSheetHolder().getTagDeque().peek();
-        if (currentTag == null) {
-            return;
+    /**
+     * Whether the content of the current row can be skipped, it's outside the rows to read.
+     *
+     * @return true if the row is ignored
+     */
+    public boolean ignoreRowContent() {
+        return xlsxReadContext.xlsxReadSheetHolder().isTempRowIgnored();
+    }
+
+    /**
+     * Find an indexed row to jump to from the current row, which is ignored. It's the last indexed row before
+     * `startRow` of the sheet, and the current row index is moved to the row before it.
+     *
+     * @param offset The byte offset of the sheet xml read so far
+     * @return The byte offset of the indexed row, or -1 if the reading should go on from the current row.
+     */
+    public long seekRow(long offset) {
+        XlsxRowOffsetIndex rowOffsetIndex = xlsxReadContext.xlsxReadWorkbookHolder().getRowOffsetIndex();
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        Integer startRow = xlsxReadSheetHolder.getStartRow();
+        if (rowOffsetIndex == null || startRow == null || xlsxReadSheetHolder.getRowIndex() >= startRow) {
+            return -1;
+        }
+        XlsxRowOffsetIndex.SheetRowOffsets sheetRowOffsets = rowOffsetIndex.sheet(xlsxReadSheetHolder.getSheetNo());
+        if (sheetRowOffsets == null) {
+            return -1;
         }
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(currentTag);
+        int position = sheetRowOffsets.floor(startRow);
+        if (position < 0 || sheetRowOffsets.getOffset(position) <= offset) {
+            return -1;
+        }
+        xlsxReadSheetHolder.setRowIndex(sheetRowOffsets.getRowIndex(position) - 1);
+        return sheetRowOffsets.getOffset(position);
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        XlsxTagHandler handler = tagHandlerDeque.peek();
         if (handler == null || !handler.support(xlsxReadContext)) {
             return;
         }
@@ -92,12 +164,22 @@ public class XlsxRowHandler extends DefaultHandler {
 
     @Override
     public void endElement(String uri, String localName, String name) throws SAXException {
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(name);
+        endElement(name, XLSX_CELL_HANDLER_MAP.get(name));
+    }
+
+    /**
+     * End a tag whose handler is already known.
+     *
+     * @param name    Tag name
+     * @param handler The handler of the tag, may be null
+     */
+    public void endElement(String name, XlsxTagHandler handler) {
         if (handler == null || !handler.support(xlsxReadContext)) {
             return;
         }
         handler.endElement(xlsxReadContext, name);
         xlsxReadContext.xlsxReadSheetHolder().getTagDeque().pop();
+        tagHandlerDeque.pop();
     }
 
 }
@@ -0,0 +1,874 @@
+package com.alibaba.excel.analysis.v07.handlers.sax;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.alibaba.excel.analysis.v07.handlers.RowTagHandler;
+import com.alibaba.excel.analysis.v07.handlers.XlsxTagHandler;
+import com.alibaba.excel.constant.ExcelXmlConstants;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+
+import org.xml.sax.Attributes;
+
+/**
+ * A pull tokenizer of the sheet xml. It scans the UTF-8 bytes directly, and hands the tags to {@link XlsxRowHandler}
+ * with the handler resolved from the bytes of the tag name, without a SAX parser.
+ * <p>
+ * Elements, attributes, text, references, CDATA, comments and processing instructions are supported, which is all a
+ * sheet contains. If the part is not encoded in UTF-8 or has a document type declaration, nothing is handled and it
+ * should be parsed by SAX.
+ *
+ * @author Jiaju Zhuang
+ */
+public class XlsxSheetTokenizer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_TEXT_SIZE = 256;
+    private static final int DEFAULT_NAME_SIZE = 64;
+    private static final int MAX_REFERENCE_LENGTH = 16;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int HEX_RADIX = 16;
+    private static final int DECIMAL_RADIX = 10;
+    /**
+     * A code point is decoded into at most 2 chars
+     */
+    private static final int MAX_CHARS_PER_CODE_POINT = 2;
+    /**
+     * Such as `#9`
+     */
+    private static final int MIN_CHARACTER_REFERENCE_LENGTH = 2;
+
+    private static final int LESS_THAN = '<';
+    private static final int GREATER_THAN = '>';
+    private static final int SLASH = '/';
+    private static final int QUESTION_MARK = '?';
+    private static final int EXCLAMATION_MARK = '!';
+    private static final int EQUALS = '=';
+    private static final int AMPERSAND = '&';
+    private static final int SEMICOLON = ';';
+    private static final int HASH_SIGN = '#';
+    private static final int DOUBLE_QUOTE = '"';
+    private static final int SINGLE_QUOTE = '\'';
+    private static final int CARRIAGE_RETURN = '\r';
+    private static final int LINE_FEED = '\n';
+    private static final int TAB = '\t';
+    private static final int SPACE = ' ';
+    private static final int HEX_MARK = 'x';
+    /**
+     * Leading bits of the first byte of a UTF-8 sequence
+     */
+    private static final int UTF8_SINGLE_BYTE_LIMIT = 0x80;
+    private static final int UTF8_TWO_BYTES_MASK = 0xE0;
+    private static final int UTF8_TWO_BYTES_LEADING = 0xC0;
+    private static final int UTF8_THREE_BYTES_MASK = 0xF0;
+    private static final int UTF8_THREE_BYTES_LEADING = 0xE0;
+    private static final int UTF8_FOUR_BYTES_MASK = 0xF8;
+    private static final int UTF8_FOUR_BYTES_LEADING = 0xF0;
+    private static final int UTF8_CONTINUATION_BITS = 6;
+    private static final int UTF8_CONTINUATION_MASK = 0x3F;
+    private static final int UTF8_TWO_BYTES_VALUE_MASK = 0x1F;
+    private static final int UTF8_THREE_BYTES_VALUE_MASK = 0x0F;
+    private static final int UTF8_FOUR_BYTES_VALUE_MASK = 0x07;
+
+    private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+    private static final byte[] XML_DECLARATION_START = bytes("<?xml");
+    private static final byte[] PI_START = bytes("<?");
+    private static final byte[] PI_END = bytes("?>");
+    private static final byte[] COMMENT_START = bytes("<!--");
+    private static final byte[] COMMENT_END = bytes("-->");
+    private static final byte[] DECLARATION_START = bytes("<!");
+    private static final byte[] CDATA_START = bytes("[CDATA[");
+    private static final byte[] CDATA_END = bytes("]]>");
+    private static final byte[] COMMENT_REST = bytes("--");
+    private static final byte[] ENCODING = bytes("encoding");
+    private static final String UTF8 = "UTF-8";
+    private static final String UTF8_ALIAS = "UTF8";
+
+    private static final NameTable<TagName> TAG_NAME_TABLE;
+    private static final NameTable<String> ATTRIBUTE_NAME_TABLE;
+
+    static {
+        Map<String, TagName> tagNameMap = new HashMap<>(64);
+        for (String tagName : XlsxRowHandler.tagNames()) {
+            tagNameMap.put(tagName, new TagName(tagName, XlsxRowHandler.tagHandler(tagName)));
+        }
+        TAG_NAME_TABLE = new NameTable<>(tagNameMap);
+        Map<String, String> attributeNameMap = new HashMap<>(16);
+        for (String attributeName : new String[] {ExcelXmlConstants.ATTRIBUTE_S, ExcelXmlConstants.ATTRIBUTE_REF,
+            ExcelXmlConstants.ATTRIBUTE_R, ExcelXmlConstants.ATTRIBUTE_T, ExcelXmlConstants.ATTRIBUTE_LOCATION,
+            ExcelXmlConstants.ATTRIBUTE_RID}) {
+            attributeNameMap.put(attributeName, attributeName);
+        }
+        ATTRIBUTE_NAME_TABLE = new NameTable<>(attributeNameMap);
+    }
+
+    private final XlsxRowHandler xlsxRowHandler;
+    private final TokenizerAttributes attributes = new TokenizerAttributes();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private InputStream inputStream;
+    /**
+     * Offset of the first byte of the buffer in the sheet xml
+     */
+    private long bufferOffset;
+    private int position;
+    private int limit;
+    /**
+     * Decoded characters of the current text or attribute value
+     */
+    private char[] text = new char[DEFAULT_TEXT_SIZE];
+    private int textLength;
+    /**
+     * Bytes and hash of the current name
+     */
+    private byte[] name = new byte[DEFAULT_NAME_SIZE];
+    private int nameLength;
+    private int nameHash;
+
+    public XlsxSheetTokenizer(XlsxRowHandler xlsxRowHandler) {
+        this.xlsxRowHandler = xlsxRowHandler;
+    }
+
+    /**
+     * Tokenize the sheet xml.
+     *
+     * @param inputStream The sheet xml, not closed.
+     * @return null if the sheet is read, otherwise a stream of the whole sheet xml which should be parsed by SAX.
+     */
+    public InputStream parse(InputStream inputStream) {
+        this.inputStream = inputStream;
+        readFirstChunk();
+        if (!skipProlog()) {
+            return new SequenceInputStream(new ByteArrayInputStream(buffer, 0, limit), inputStream);
+        }
+        for (int b = read(); b >= 0; b = read()) {
+            if (b == LESS_THAN) {
+                markup();
+            } else {
+                text(b);
+            }
+        }
+        return null;
+    }
+
+    private void readFirstChunk() {
+        bufferOffset = 0;
+        position = 0;
+        limit = 0;
+        try {
+            int count = inputStream.read(buffer, 0, buffer.length);
+            while (count >= 0) {
+                limit += count;
+                if (limit == buffer.length) {
+                    return;
+                }
+                count = inputStream.read(buffer, limit, buffer.length - limit);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not read the sheet.", e);
+        }
+    }
+
+    /**
+     * Skip the xml declaration, comments and processing instructions before the root element, which must be in the
+     * first chunk.
+     *
+     * @return false if it should be parsed by SAX
+     */
+    private boolean skipProlog() {
+        if (startsWith(position, UTF8_BOM)) {
+            position += UTF8_BOM.length;
+        }
+        while (true) {
+            while (position < limit && isWhitespace(buffer[position])) {
+                position++;
+            }
+            // Not starting with '<', or encoded in UTF-16 without a byte order mark
+            if (position + 1 >= limit || buffer[position] != LESS_THAN || buffer[position + 1] == 0) {
+                return false;
+            }
+            if (startsWith(position, PI_START)) {
+                int end = indexOf(position, PI_END);
+                if (end < 0) {
+                    return false;
+                }
+                if (startsWith(position, XML_DECLARATION_START) && !isUtf8Declaration(position, end)) {
+                    return false;
+                }
+                position = end + PI_END.length;
+            } else if (startsWith(position, COMMENT_START)) {
+                int end = indexOf(position, COMMENT_END);
+                if (end < 0) {
+                    return false;
+                }
+                position = end + COMMENT_END.length;
+            } else {
+                // A document type declaration is not supported
+                return !startsWith(position, DECLARATION_START);
+            }
+        }
+    }
+
+    private boolean isUtf8Declaration(int start, int end) {
+        int encoding = indexOf(start, ENCODING);
+        if (encoding < 0 || encoding > end) {
+            return true;
+        }
+        int valueStart = encoding + ENCODING.length;
+        while (valueStart < end && buffer[valueStart] != DOUBLE_QUOTE && buffer[valueStart] != SINGLE_QUOTE) {
+            valueStart++;
+        }
+        int valueEnd = valueStart + 1;
+        while (valueEnd < end && buffer[valueEnd] != buffer[valueStart]) {
+            valueEnd++;
+        }
+        if (valueEnd >= end) {
+            return false;
+        }
+        String value = new String(buffer, valueStart + 1, valueEnd - valueStart - 1, StandardCharsets.US_ASCII);
+        return UTF8.equalsIgnoreCase(value) || UTF8_ALIAS.equalsIgnoreCase(value);
+    }
+
+    private void markup() {
+        int b = readRequired();
+        if (b == SLASH) {
+            endTag();
+        } else if (b == QUESTION_MARK) {
+            skipTo(PI_END);
+        } else if (b == EXCLAMATION_MARK) {
+            declaration();
+        } else {
+            startTag(b);
+        }
+    }
+
+    private void startTag(int first) {
+        TagName tagName = TAG_NAME_TABLE.get(name, readName(first), nameHash);
+        attributes.clear();
+        while (true) {
+            int b = skipWhitespace();
+            if (b == GREATER_THAN) {
+                startElement(tagName);
+                if (tagName != null && tagName.row && xlsxRowHandler.ignoreRowContent()) {
+                    skipRow(tagName);
+                }
+                return;
+            }
+            if (b == SLASH) {
+                expect(GREATER_THAN);
+                startElement(tagName);
+                endElement(tagName);
+                return;
+            }
+            String attributeName = ATTRIBUTE_NAME_TABLE.get(name, readName(b), nameHash);
+            if (skipWhitespace() != EQUALS) {
+                throw malformed();
+            }
+            int quote = skipWhitespace();
+            if (quote != DOUBLE_QUOTE && quote != SINGLE_QUOTE) {
+                throw malformed();
+            }
+            if (tagName == null || attributeName == null) {
+                skipTo(quote);
+            } else {
+                attributes.add(attributeName, attributeValue(quote));
+            }
+        }
+    }
+
+    private void endTag() {
+        TagName tagName = TAG_NAME_TABLE.get(name, readName(readRequired()), nameHash);
+        if (skipWhitespace() != GREATER_THAN) {
+            throw malformed();
+        }
+        endElement(tagName);
+    }
+
+    /**
+     * Skip an ignored row, or jump to a later row found in the row offset index.
+     */
+    private void skipRow(TagName tagName) {
+        long seekOffset = xlsxRowHandler.seekRow(bufferOffset + position);
+        if (seekOffset < 0) {
+            skipElement(tagName);
+            return;
+        }
+        endElement(tagName);
+        seek(seekOffset);
+        if (peek() != LESS_THAN) {
+            throw new ExcelAnalysisException("The row offset index does not match the sheet.");
+        }
+    }
+
+    /**
+     * Skip the content of an element without decoding it, until its end tag. Only used for a row, which is never
+     * nested.
+     */
+    private void skipElement(TagName tagName) {
+        while (true) {
+            skipTo(LESS_THAN);
+            int b = readRequired();
+            if (b == SLASH) {
+                if (TAG_NAME_TABLE.get(name, readName(readRequired()), nameHash) == tagName) {
+                    if (skipWhitespace() != GREATER_THAN) {
+                        throw malformed();
+                    }
+                    endElement(tagName);
+                    return;
+                }
+            } else if (b == QUESTION_MARK) {
+                skipTo(PI_END);
+            } else if (b == EXCLAMATION_MARK) {
+                skipDeclaration();
+            }
+        }
+    }
+
+    private void skipDeclaration() {
+        int b = readRequired();
+        if (b == COMMENT_REST[0]) {
+            expect(COMMENT_REST, 1);
+            skipTo(COMMENT_END);
+        } else if (b == CDATA_START[0]) {
+            expect(CDATA_START, 1);
+            skipTo(CDATA_END);
+        } else {
+            throw new ExcelAnalysisException("Unsupported declaration in the sheet.");
+        }
+    }
+
+    private void startElement(TagName tagName) {
+        if (tagName != null) {
+            xlsxRowHandler.startElement(tagName.name, tagName.handler, attributes);
+        }
+    }
+
+    private void endElement(TagName tagName) {
+        if (tagName != null) {
+            xlsxRowHandler.endElement(tagName.name, tagName.handler);
+        }
+    }
+
+    /**
+     * Comments and CDATA sections, the rest is not allowed after the prolog.
+     */
+    private void declaration() {
+        int b = readRequired();
+        if (b == COMMENT_REST[0]) {
+            expect(COMMENT_REST, 1);
+            skipTo(COMMENT_END);
+            return;
+        }
+        if (b != CDATA_START[0]) {
+            throw new ExcelAnalysisException("Unsupported declaration in the sheet.");
+        }
+        expect(CDATA_START, 1);
+        textLength = 0;
+        int window = 0;
+        int endWindow = window(CDATA_END);
+        int windowMask = windowMask(CDATA_END);
+        while (true) {
+            b = readRequired();
+            window = ((window << Byte.SIZE) | b) & windowMask;
+            if (window == endWindow) {
+                // Remove the ']]' already appended
+                textLength -= CDATA_END.length - 1;
+                break;
+            }
+            appendCharacter(b, false, false);
+        }
+        characters();
+    }
+
+    /**
+     * Character data until the next tag.
+     */
+    private void text(int first) {
+        textLength = 0;
+        int b = first;
+        while (true) {
+            appendCharacter(b, true, false);
+            int next = peek();
+            if (next < 0 || next == LESS_THAN) {
+                break;
+            }
+            b = read();
+        }
+        characters();
+    }
+
+    private void characters() {
+        if (textLength > 0) {
+            xlsxRowHandler.characters(text, 0, textLength);
+        }
+    }
+
+    private String attributeValue(int quote) {
+        textLength = 0;
+        for (int b = readRequired(); b != quote; b = readRequired()) {
+            appendCharacter(b, true, true);
+        }
+        return new String(text, 0, textLength);
+    }
+
+    /**
+     * Decode a character like a xml parser: the UTF-8 sequence, references and the line breaks.
+     */
+    private void appendCharacter(int b, boolean resolveReference, boolean attribute) {
+        if (text.length - textLength < MAX_CHARS_PER_CODE_POINT) {
+            text = Arrays.copyOf(text, text.length << 1);
+        }
+        if (b < UTF8_SINGLE_BYTE_LIMIT) {
+            if (b == AMPERSAND && resolveReference) {
+                appendCodePoint(reference());
+                return;
+            }
+            if (b == CARRIAGE_RETURN) {
+                if (peek() == LINE_FEED) {
+                    read();
+                }
+                b = LINE_FEED;
+            }
+            if (attribute && isWhitespace(b)) {
+                b = SPACE;
+            }
+            text[textLength++] = (char)b;
+            return;
+        }
+        int codePoint;
+        int continuationCount;
+        if ((b & UTF8_TWO_BYTES_MASK) == UTF8_TWO_BYTES_LEADING) {
+            codePoint = b & UTF8_TWO_BYTES_VALUE_MASK;
+            continuationCount = 1;
+        } else if ((b & UTF8_THREE_BYTES_MASK) == UTF8_THREE_BYTES_LEADING) {
+            codePoint = b & UTF8_THREE_BYTES_VALUE_MASK;
+            continuationCount = 2;
+        } else if ((b & UTF8_FOUR_BYTES_MASK) == UTF8_FOUR_BYTES_LEADING) {
+            codePoint = b & UTF8_FOUR_BYTES_VALUE_MASK;
+            continuationCount = 3;
+        } else {
+            throw new ExcelAnalysisException("Invalid UTF-8 byte in the sheet.");
+        }
+        for (int i = 0; i < continuationCount; i++) {
+            codePoint = (codePoint << UTF8_CONTINUATION_BITS) | (readRequired() & UTF8_CONTINUATION_MASK);
+        }
+        appendCodePoint(codePoint);
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (text.length - textLength < MAX_CHARS_PER_CODE_POINT) {
+            text = Arrays.copyOf(text, text.length << 1);
+        }
+        textLength += Character.toChars(codePoint, text, textLength);
+    }
+
+    /**
+     * The predefined entities and the character references, a sheet has no document type declaration.
+     */
+    private int reference() {
+        StringBuilder reference = new StringBuilder();
+        for (int b = readRequired(); b != SEMICOLON; b = readRequired()) {
+            if (reference.length() >= MAX_REFERENCE_LENGTH) {
+                throw malformed();
+            }
+            reference.append((char)b);
+        }
+        String value = reference.toString();
+        switch (value) {
+            case "amp":
+                return AMPERSAND;
+            case "lt":
+                return LESS_THAN;
+            case "gt":
+                return GREATER_THAN;
+            case "quot":
+                return DOUBLE_QUOTE;
+            case "apos":
+                return SINGLE_QUOTE;
+            default:
+                break;
+        }
+        if (value.length() < MIN_CHARACTER_REFERENCE_LENGTH || value.charAt(0) != HASH_SIGN) {
+            throw new ExcelAnalysisException("Unknown entity in the sheet: " + value);
+        }
+        try {
+            if (value.charAt(1) == HEX_MARK) {
+                return Integer.parseInt(value.substring(2), HEX_RADIX);
+            }
+            return Integer.parseInt(value.substring(1), DECIMAL_RADIX);
+        } catch (NumberFormatException e) {
+            throw new ExcelAnalysisException("Invalid character reference in the sheet: " + value, e);
+        }
+    }
+
+    /**
+     * Read a name into `name` and compute its hash, the byte after it is not consumed.
+     *
+     * @return The length of the name
+     */
+    private int readName(int first) {
+        nameLength = 0;
+        nameHash = 0;
+        int b = first;
+        while (true) {
+            if (nameLength == name.length) {
+                name = Arrays.copyOf(name, name.length << 1);
+            }
+            name[nameLength++] = (byte)b;
+            nameHash = HASH_MULTIPLIER * nameHash + b;
+            b = peek();
+            if (b < 0 || isNameEnd(b)) {
+                return nameLength;
+            }
+            read();
+        }
+    }
+
+    private int skipWhitespace() {
+        int b = readRequired();
+        while (isWhitespace(b)) {
+            b = readRequired();
+        }
+        return b;
+    }
+
+    private void skipTo(int terminator) {
+        while (true) {
+            for (int i = position; i < limit; i++) {
+                if (buffer[i] == terminator) {
+                    position = i + 1;
+                    return;
+                }
+            }
+            position = limit;
+            if (!fill()) {
+                throw new ExcelAnalysisException("Unexpected end of the sheet.");
+            }
+        }
+    }
+
+    private void skipTo(byte[] terminator) {
+        int window = 0;
+        int endWindow = window(terminator);
+        int windowMask = windowMask(terminator);
+        while (window != endWindow) {
+            window = ((window << Byte.SIZE) | readRequired()) & windowMask;
+        }
+    }
+
+    /**
+     * Move forward to an offset of the sheet xml, the bytes in between are inflated but not scanned.
+     */
+    private void seek(long offset) {
+        if (offset < bufferOffset + limit) {
+            position = (int)(offset - bufferOffset);
+            return;
+        }
+        long remaining = offset - bufferOffset - limit;
+        bufferOffset += limit;
+        position = 0;
+        limit = 0;
+        try {
+            while (remaining > 0) {
+                long skipped = inputStream.skip(remaining);
+                if (skipped <= 0) {
+                    if (inputStream.read() < 0) {
+                        throw new ExcelAnalysisException("Unexpected end of the sheet.");
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+                bufferOffset += skipped;
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not read the sheet.", e);
+        }
+    }
+
+    private void expect(int expected) {
+        if (readRequired() != expected) {
+            throw malformed();
+        }
+    }
+
+    private void expect(byte[] expected, int from) {
+        for (int i = from; i < expected.length; i++) {
+            expect(expected[i]);
+        }
+    }
+
+    private int read() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & BYTE_MASK;
+    }
+
+    private int readRequired() {
+        int b = read();
+        if (b < 0) {
+            throw new ExcelAnalysisException("Unexpected end of the sheet.");
+        }
+        return b;
+    }
+
+    private int peek() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & BYTE_MASK;
+    }
+
+    private boolean fill() {
+        try {
+            int count = inputStream.read(buffer, 0, buffer.length);
+            while (count == 0) {
+                count = inputStream.read(buffer, 0, buffer.length);
+            }
+            if (count < 0) {
+                return false;
+            }
+            bufferOffset += limit;
+            position = 0;
+            limit = count;
+            return true;
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not read the sheet.", e);
+        }
+    }
+
+    private boolean startsWith(int start, byte[] target) {
+        if (start + target.length > limit) {
+            return false;
+        }
+        for (int i = 0; i < target.length; i++) {
+            if (buffer[start + i] != target[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int start, byte[] target) {
+        for (int i = start; i + target.length <= limit; i++) {
+            if (startsWith(i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ExcelAnalysisException malformed() {
+        return new ExcelAnalysisException("Malformed xml in the sheet.");
+    }
+
+    private static boolean isWhitespace(int b) {
+        switch (b) {
+            case SPACE:
+            case TAB:
+            case LINE_FEED:
+            case CARRIAGE_RETURN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isNameEnd(int b) {
+        switch (b) {
+            case GREATER_THAN:
+            case SLASH:
+            case EQUALS:
+                return true;
+            default:
+                return isWhitespace(b);
+        }
+    }
+
+    /**
+     * The last bytes read are kept in an int to find a terminator of at most 3 bytes.
+     */
+    private static int window(byte[] terminator) {
+        int window = 0;
+        for (byte b : terminator) {
+            window = (window << Byte.SIZE) | (b & BYTE_MASK);
+        }
+        return window;
+    }
+
+    private static int windowMask(byte[] terminator) {
+        return (1 << (Byte.SIZE * terminator.length)) - 1;
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = 0;
+        for (byte b : bytes) {
+            hash = HASH_MULTIPLIER * hash + (b & BYTE_MASK);
+        }
+        return hash;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class TagName {
+        private final String name;
+        private final XlsxTagHandler handler;
+        private final boolean row;
+
+        private TagName(String name, XlsxTagHandler handler) {
+            this.name = name;
+            this.handler = handler;
+            this.row = handler instanceof RowTagHandler;
+        }
+    }
+
+    /**
+     * Find the value of a name by its bytes, without creating a string.
+     */
+    private static final class NameTable<V> {
+        private final byte[][] keys;
+        private final Object[] values;
+        private final int mask;
+
+        private NameTable(Map<String, V> map) {
+            int size = Integer.highestOneBit(Math.max(1, map.size()) << 2);
+            this.keys = new byte[size][];
+            this.values = new Object[size];
+            this.mask = size - 1;
+            for (Map.Entry<String, V> entry : map.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                int index = hash(key) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = entry.getValue();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V get(byte[] bytes, int length, int hash) {
+            for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+                byte[] key = keys[index];
+                if (key.length == length && equals(key, bytes, length)) {
+                    return (V)values[index];
+                }
+            }
+            return null;
+        }
+
+        private static boolean equals(byte[] key, byte[] bytes, int length) {
+            for (int i = 0; i < length; i++) {
+                if (key[i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Only the attributes read by the tag handlers are kept.
+     */
+    private static final class TokenizerAttributes implements Attributes {
+        private static final String TYPE = "CDATA";
+        private static final String EMPTY = "";
+        private static final int DEFAULT_SIZE = 4;
+
+        private String[] names = new String[DEFAULT_SIZE];
+        private String[] values = new String[DEFAULT_SIZE];
+        private int length;
+
+        private void clear() {
+            length = 0;
+        }
+
+        private void add(String name, String value) {
+            if (length == names.length) {
+                names = Arrays.copyOf(names, length << 1);
+                values = Arrays.copyOf(values, length << 1);
+            }
+            names[length] = name;
+            values[length] = value;
+            length++;
+        }
+
+        @Override
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public String getURI(int index) {
+            return index < length ? EMPTY : null;
+        }
+
+        @Override
+        public String getLocalName(int index) {
+            return getQName(index);
+        }
+
+        @Override
+        public String getQName(int index) {
+            return index < length ? names[index] : null;
+        }
+
+        @Override
+        public String getType(int index) {
+            return index < length ? TYPE : null;
+        }
+
+        @Override
+        public String getValue(int index) {
+            return index < length ? values[index] : null;
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            return getIndex(localName);
+        }
+
+        @Override
+        public int getIndex(String qName) {
+            for (int i = 0; i < length; i++) {
+                if (names[i].equals(qName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getType(String uri, String localName) {
+            return getType(getIndex(localName));
+        }
+
+        @Override
+        public String getType(String qName) {
+            return getType(getIndex(qName));
+        }
+
+        @Override
+        public String getValue(String uri, String localName) {
+            return getValue(getIndex(localName));
+        }
+
+        @Override
+        public String getValue(String qName) {
+            for (int i = 0; i < length; i++) {
+                // The names are the same constants used by the handlers
+                if (names[i] == qName || names[i].equals(qName)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+    }
+}
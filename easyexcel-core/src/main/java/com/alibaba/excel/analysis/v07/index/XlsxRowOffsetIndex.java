@@ -0,0 +1,263 @@
+package com.alibaba.excel.analysis.v07.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.alibaba.excel.exception.ExcelAnalysisException;
+
+import lombok.Getter;
+
+/**
+ * The byte offsets of every so many rows in the inflated sheet xml of a xlsx file, and of every `si` element in the
+ * `sharedStrings.xml`.
+ * <p>
+ * It's saved next to the file as a sidecar, so the later reads of the same file can jump to the first row to read
+ * instead of scanning the sheet from the beginning, and don't have to scan the shared strings.
+ *
+ * @author Jiaju Zhuang
+ * @see XlsxRowOffsetIndexBuilder
+ */
+@Getter
+public class XlsxRowOffsetIndex {
+    /**
+     * `EROI`
+     */
+    private static final int MAGIC = 0x45524F49;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NONE = -1;
+
+    /**
+     * Only one of every so many rows is indexed
+     */
+    private final int interval;
+    /**
+     * The byte offset of each `si` element, null if the shared strings are not indexed
+     */
+    private final long[] sharedStringsPositions;
+    /**
+     * The row offsets of each sheet, the index is the sheet number
+     */
+    private final SheetRowOffsets[] sheetRowOffsets;
+
+    public XlsxRowOffsetIndex(int interval, long[] sharedStringsPositions, SheetRowOffsets[] sheetRowOffsets) {
+        this.interval = interval;
+        this.sharedStringsPositions = sharedStringsPositions;
+        this.sheetRowOffsets = sheetRowOffsets;
+    }
+
+    /**
+     * Get the row offsets of a sheet.
+     *
+     * @param sheetNo Sheet number
+     * @return null if the sheet is not indexed
+     */
+    public SheetRowOffsets sheet(Integer sheetNo) {
+        if (sheetNo == null || sheetNo < 0 || sheetNo >= sheetRowOffsets.length) {
+            return null;
+        }
+        return sheetRowOffsets[sheetNo];
+    }
+
+    /**
+     * Save the index, replacing the file at once so a reader never sees a half written index.
+     *
+     * @param file Index file
+     */
+    public void write(File file) {
+        File tempFile = new File(file.getParentFile(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), BUFFER_SIZE))) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeInt(interval);
+                writeLongs(outputStream, sharedStringsPositions, sharedStringsPositions == null ? NONE
+                    : sharedStringsPositions.length);
+                outputStream.writeInt(sheetRowOffsets.length);
+                for (SheetRowOffsets rowOffsets : sheetRowOffsets) {
+                    outputStream.writeInt(rowOffsets.size);
+                    for (int i = 0; i < rowOffsets.size; i++) {
+                        outputStream.writeInt(rowOffsets.rowIndexes[i]);
+                    }
+                    writeLongs(outputStream, rowOffsets.offsets, rowOffsets.size);
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not write the row offset index!", e);
+        } finally {
+            if (tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Load a saved index. A truncated or broken index is not an error, the index can always be built again.
+     *
+     * @param file Index file
+     * @return null if the file is not a valid index of this version
+     */
+    public static XlsxRowOffsetIndex read(File file) {
+        // No size can be larger than the file, so a broken size is found before allocating the array
+        long length = file.length();
+        try (DataInputStream inputStream = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE))) {
+            if (inputStream.readInt() != MAGIC || inputStream.readInt() != VERSION) {
+                return null;
+            }
+            int interval = inputStream.readInt();
+            if (interval <= 0) {
+                return null;
+            }
+            int sharedStringsSize = inputStream.readInt();
+            long[] sharedStringsPositions = null;
+            if (sharedStringsSize != NONE) {
+                sharedStringsPositions = readLongs(inputStream, sharedStringsSize, length);
+                if (sharedStringsPositions == null) {
+                    return null;
+                }
+            }
+            int sheetCount = inputStream.readInt();
+            if (!validSize(sheetCount, Integer.BYTES, length)) {
+                return null;
+            }
+            SheetRowOffsets[] sheetRowOffsets = new SheetRowOffsets[sheetCount];
+            for (int sheetNo = 0; sheetNo < sheetCount; sheetNo++) {
+                sheetRowOffsets[sheetNo] = readSheetRowOffsets(inputStream, length);
+                if (sheetRowOffsets[sheetNo] == null) {
+                    return null;
+                }
+            }
+            // Anything after the index means it's not written by this version
+            if (inputStream.read() != NONE) {
+                return null;
+            }
+            return new XlsxRowOffsetIndex(interval, sharedStringsPositions, sheetRowOffsets);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static SheetRowOffsets readSheetRowOffsets(DataInputStream inputStream, long length) throws IOException {
+        int size = inputStream.readInt();
+        if (!validSize(size, Integer.BYTES, length)) {
+            return null;
+        }
+        int[] rowIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowIndexes[i] = inputStream.readInt();
+        }
+        int offsetsSize = inputStream.readInt();
+        if (offsetsSize != size) {
+            return null;
+        }
+        long[] offsets = readLongs(inputStream, offsetsSize, length);
+        if (offsets == null) {
+            return null;
+        }
+        return new SheetRowOffsets(rowIndexes, offsets, size);
+    }
+
+    private static boolean validSize(int size, int bytes, long length) {
+        return size >= 0 && (long)size * bytes <= length;
+    }
+
+    private static void writeLongs(DataOutputStream outputStream, long[] values, int size) throws IOException {
+        outputStream.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            outputStream.writeLong(values[i]);
+        }
+    }
+
+    /**
+     * @return null if the size is not valid
+     */
+    private static long[] readLongs(DataInputStream inputStream, int size, long length) throws IOException {
+        if (!validSize(size, Long.BYTES, length)) {
+            return null;
+        }
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = inputStream.readLong();
+        }
+        return values;
+    }
+
+    /**
+     * The indexed rows of a sheet, in the order of the sheet xml.
+     */
+    public static class SheetRowOffsets {
+        private static final int DEFAULT_CAPACITY = 16;
+
+        /**
+         * Index of each indexed row
+         */
+        private int[] rowIndexes;
+        /**
+         * The byte offset of the `row` element of each indexed row in the inflated sheet xml
+         */
+        private long[] offsets;
+        private int size;
+
+        public SheetRowOffsets() {
+            this(new int[DEFAULT_CAPACITY], new long[DEFAULT_CAPACITY], 0);
+        }
+
+        private SheetRowOffsets(int[] rowIndexes, long[] offsets, int size) {
+            this.rowIndexes = rowIndexes;
+            this.offsets = offsets;
+            this.size = size;
+        }
+
+        public void add(int rowIndex, long offset) {
+            if (size == rowIndexes.length) {
+                rowIndexes = Arrays.copyOf(rowIndexes, size << 1);
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            rowIndexes[size] = rowIndex;
+            offsets[size] = offset;
+            size++;
+        }
+
+        /**
+         * Find the last indexed row that is not after the row.
+         *
+         * @param rowIndex Index of the row
+         * @return Position of the indexed row, or -1 if all the indexed rows are after it.
+         */
+        public int floor(int rowIndex) {
+            int position = Arrays.binarySearch(rowIndexes, 0, size, rowIndex);
+            if (position >= 0) {
+                return position;
+            }
+            // The insertion point minus one
+            return -position - 2;
+        }
+
+        public int getRowIndex(int position) {
+            return rowIndexes[position];
+        }
+
+        public long getOffset(int position) {
+            return offsets[position];
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.alibaba.excel.analysis.v07.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.excel.analysis.v07.XlsxSaxAnalyser;
+import com.alibaba.excel.cache.LazySharedStringsCache;
+import com.alibaba.excel.constant.ExcelXmlConstants;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.util.PositionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+
+/**
+ * Build the {@link XlsxRowOffsetIndex} of a xlsx file, and save it as a sidecar in a directory. The name of the
+ * sidecar is the hash of the file, so a changed file is indexed again.
+ * <p>
+ * The sheets are only scanned for the `row` tags, nothing is decoded.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+public class XlsxRowOffsetIndexBuilder {
+    /**
+     * Index one of every so many rows by default.
+     */
+    public static final int DEFAULT_INTERVAL = 1000;
+
+    private static final String INDEX_FILE_SUFFIX = ".rowindex";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HEX_MASK = 0xF;
+    private static final int HALF_BYTE_BITS = 4;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private XlsxRowOffsetIndexBuilder() {}
+
+    /**
+     * Index a xlsx file and save the index in the directory.
+     *
+     * @param file      The xlsx file
+     * @param directory Directory of the index files
+     * @param interval  Index one of every so many rows
+     * @return The index file
+     */
+    public static File build(File file, File directory, int interval) {
+        OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (Exception e) {
+            throw new ExcelAnalysisException("Can not open the file: " + file, e);
+        }
+        try {
+            File indexFile = indexFile(file, directory);
+            build(opcPackage, interval).write(indexFile);
+            return indexFile;
+        } finally {
+            opcPackage.revert();
+        }
+    }
+
+    /**
+     * Load the saved index of a xlsx file, or build and save it if it's not found, can not be read, or is built with
+     * another interval.
+     *
+     * @param file       The xlsx file
+     * @param opcPackage The opened package of the file
+     * @param directory  Directory of the index files
+     * @param interval   Index one of every so many rows
+     * @return The index
+     */
+    public static XlsxRowOffsetIndex load(File file, OPCPackage opcPackage, File directory, int interval) {
+        File indexFile = indexFile(file, directory);
+        if (indexFile.isFile()) {
+            XlsxRowOffsetIndex rowOffsetIndex = XlsxRowOffsetIndex.read(indexFile);
+            if (rowOffsetIndex != null && rowOffsetIndex.getInterval() == interval) {
+                return rowOffsetIndex;
+            }
+            if (rowOffsetIndex == null) {
+                log.warn("The row offset index '{}' can not be read, it will be built again.", indexFile);
+            }
+        }
+        XlsxRowOffsetIndex rowOffsetIndex = build(opcPackage, interval);
+        rowOffsetIndex.write(indexFile);
+        return rowOffsetIndex;
+    }
+
+    /**
+     * Index the sheets in the same order as {@link XlsxSaxAnalyser#sheetList()}.
+     *
+     * @param opcPackage The opened package
+     * @param interval   Index one of every so many rows
+     * @return The index
+     */
+    public static XlsxRowOffsetIndex build(OPCPackage opcPackage, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The interval of the row offset index must be positive.");
+        }
+        try {
+            long[] sharedStringsPositions = null;
+            PackagePart sharedStringsPart = opcPackage.getPart(XlsxSaxAnalyser.SHARED_STRINGS_PART_NAME);
+            if (sharedStringsPart != null) {
+                LazySharedStringsCache lazySharedStringsCache = new LazySharedStringsCache();
+                try {
+                    if (lazySharedStringsCache.index(sharedStringsPart.getInputStream())) {
+                        sharedStringsPositions = lazySharedStringsCache.getPositions();
+                    }
+                } finally {
+                    lazySharedStringsCache.destroy();
+                }
+            }
+            List<XlsxRowOffsetIndex.SheetRowOffsets> sheetRowOffsetsList = new ArrayList<>();
+            XSSFReader.SheetIterator sheetIterator = (XSSFReader.SheetIterator)new XSSFReader(opcPackage)
+                .getSheetsData();
+            while (sheetIterator.hasNext()) {
+                try (InputStream sheetInputStream = sheetIterator.next()) {
+                    sheetRowOffsetsList.add(new RowScanner(sheetInputStream).scan(interval));
+                }
+            }
+            return new XlsxRowOffsetIndex(interval, sharedStringsPositions,
+                sheetRowOffsetsList.toArray(new XlsxRowOffsetIndex.SheetRowOffsets[0]));
+        } catch (ExcelAnalysisException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExcelAnalysisException("Can not build the row offset index!", e);
+        }
+    }
+
+    /**
+     * The index file of a xlsx file, named by the hash of its content.
+     *
+     * @param file      The xlsx file
+     * @param directory Directory of the index files
+     * @return The index file, may not exist
+     */
+    public static File indexFile(File file, File directory) {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new ExcelAnalysisException("Can not create the directory: " + directory);
+        }
+        return new File(directory, hash(file) + INDEX_FILE_SUFFIX);
+    }
+
+    private static String hash(File file) {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int count = inputStream.read(buffer); count >= 0; count = inputStream.read(buffer)) {
+                messageDigest.update(buffer, 0, count);
+            }
+            byte[] digest = messageDigest.digest();
+            char[] hex = new char[digest.length << 1];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i << 1] = HEX_DIGITS[(digest[i] >> HALF_BYTE_BITS) & HEX_MASK];
+                hex[(i << 1) + 1] = HEX_DIGITS[digest[i] & HEX_MASK];
+            }
+            return new String(hex);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new ExcelAnalysisException("Can not hash the file: " + file, e);
+        }
+    }
+
+    /**
+     * Find the `row` tags of a sheet and the offsets of their `<`, the same offsets as the sheet tokenizer counts.
+     * Comments, CDATA sections and processing instructions are skipped, a `<` can't be anywhere else except in a tag.
+     */
+    private static class RowScanner {
+        private static final int LESS_THAN = '<';
+        private static final int GREATER_THAN = '>';
+        private static final int SLASH = '/';
+        private static final int QUESTION_MARK = '?';
+        private static final int EXCLAMATION_MARK = '!';
+        private static final int HYPHEN = '-';
+        private static final int LEFT_BRACKET = '[';
+        private static final int EQUALS = '=';
+        private static final int DOUBLE_QUOTE = '"';
+        private static final int SINGLE_QUOTE = '\'';
+        private static final int BYTE_MASK = 0xFF;
+        private static final int MAX_NAME_LENGTH = 64;
+        private static final byte[] PI_END = "?>".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[][] ROW_TAGS = {bytes(ExcelXmlConstants.ROW_TAG),
+            bytes(ExcelXmlConstants.X_ROW_TAG), bytes(ExcelXmlConstants.NS2_ROW_TAG)};
+        private static final byte[] ATTRIBUTE_R = bytes(ExcelXmlConstants.ATTRIBUTE_R);
+
+        private final InputStream inputStream;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        /**
+         * Offset of the first byte of the buffer in the sheet xml
+         */
+        private long bufferOffset;
+        private int position;
+        private int limit;
+        private final byte[] name = new byte[MAX_NAME_LENGTH];
+        private int nameLength;
+
+        private RowScanner(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        private XlsxRowOffsetIndex.SheetRowOffsets scan(int interval) throws IOException {
+            XlsxRowOffsetIndex.SheetRowOffsets sheetRowOffsets = new XlsxRowOffsetIndex.SheetRowOffsets();
+            int rowCount = 0;
+            Integer rowIndex = null;
+            while (skipTo(LESS_THAN)) {
+                long offset = bufferOffset + position - 1;
+                int b = read();
+                if (b == QUESTION_MARK) {
+                    skipTo(PI_END);
+                } else if (b == EXCLAMATION_MARK) {
+                    skipDeclaration();
+                } else if (b >= 0 && b != SLASH) {
+                    b = readName(b);
+                    if (isRowTag()) {
+                        rowIndex = PositionUtils.getRowByRowTagt(readRowNumber(b), rowIndex);
+                        if (rowCount % interval == 0) {
+                            sheetRowOffsets.add(rowIndex, offset);
+                        }
+                        rowCount++;
+                    }
+                }
+            }
+            return sheetRowOffsets;
+        }
+
+        private void skipDeclaration() throws IOException {
+            int b = read();
+            if (b == HYPHEN) {
+                skipTo(COMMENT_END);
+            } else if (b == LEFT_BRACKET) {
+                skipTo(CDATA_END);
+            } else {
+                skipTo(GREATER_THAN);
+            }
+        }
+
+        /**
+         * @return The byte after the name
+         */
+        private int readName(int first) throws IOException {
+            nameLength = 0;
+            int b = first;
+            while (b >= 0 && b != GREATER_THAN && b != SLASH && !isWhitespace(b)) {
+                if (nameLength < MAX_NAME_LENGTH) {
+                    name[nameLength] = (byte)b;
+                }
+                nameLength++;
+                b = read();
+            }
+            return b;
+        }
+
+        /**
+         * Read the attributes of the `row` tag.
+         *
+         * @return The value of the `r` attribute, or null if it's not set
+         */
+        private String readRowNumber(int next) throws IOException {
+            String rowNumber = null;
+            int b = next;
+            while (true) {
+                while (isWhitespace(b)) {
+                    b = read();
+                }
+                if (b < 0 || b == GREATER_THAN || b == SLASH) {
+                    return rowNumber;
+                }
+                b = readName(b);
+                boolean isRowNumber = nameLength == ATTRIBUTE_R.length && name[0] == ATTRIBUTE_R[0];
+                while (b >= 0 && b != DOUBLE_QUOTE && b != SINGLE_QUOTE) {
+                    b = read();
+                }
+                int quote = b;
+                StringBuilder value = new StringBuilder();
+                for (b = read(); b >= 0 && b != quote; b = read()) {
+                    value.append((char)b);
+                }
+                if (isRowNumber) {
+                    rowNumber = value.toString();
+                }
+                b = read();
+            }
+        }
+
+        private boolean isRowTag() {
+            for (byte[] rowTag : ROW_TAGS) {
+                if (matchesName(rowTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesName(byte[] target) {
+            if (nameLength != target.length) {
+                return false;
+            }
+            for (int i = 0; i < nameLength; i++) {
+                if (name[i] != target[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return false if the end of the sheet is reached
+         */
+        private boolean skipTo(int terminator) throws IOException {
+            while (true) {
+                for (int i = position; i < limit; i++) {
+                    if (buffer[i] == terminator) {
+                        position = i + 1;
+                        return true;
+                    }
+                }
+                position = limit;
+                if (!fill()) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Compare the last bytes read with the terminator, which is at most 3 bytes.
+         */
+        private void skipTo(byte[] terminator) throws IOException {
+            int end = 0;
+            for (byte t : terminator) {
+                end = (end << Byte.SIZE) | (t & BYTE_MASK);
+            }
+            int mask = (1 << (Byte.SIZE * terminator.length)) - 1;
+            int window = 0;
+            while (window != end) {
+                int b = read();
+                if (b < 0) {
+                    return;
+                }
+                window = ((window << Byte.SIZE) | b) & mask;
+            }
+        }
+
+        private int read() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++] & BYTE_MASK;
+        }
+
+        private boolean fill() throws IOException {
+            int count = inputStream.read(buffer, 0, buffer.length);
+            while (count == 0) {
+                count = inputStream.read(buffer, 0, buffer.length);
+            }
+            if (count < 0) {
+                return false;
+            }
+            bufferOffset += limit;
+            position = 0;
+            limit = count;
+            return true;
+        }
+
+        private static boolean isWhitespace(int b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+        }
+
+        private static byte[] bytes(String value) {
+            return value.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
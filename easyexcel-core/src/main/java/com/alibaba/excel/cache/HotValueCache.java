@@ -0,0 +1,53 @@
+package com.alibaba.excel.cache;
+
+import java.util.Arrays;
+
+/**
+ * A small direct-mapped cache of recently decoded values, indexed by key.
+ * <p>
+ * Entries are immutable, so it can be shared between threads without locking.
+ *
+ * @author Jiaju Zhuang
+ */
+class HotValueCache {
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * @param size will be rounded up to a power of 2.
+     */
+    HotValueCache(int size) {
+        int actualSize = Integer.highestOneBit(Math.max(1, size - 1) << 1);
+        this.entries = new Entry[actualSize];
+        this.mask = actualSize - 1;
+    }
+
+    /**
+     * Is null if not cached. A cached null value can not be distinguished, it's cheap to decode again.
+     */
+    String get(int key) {
+        Entry entry = entries[key & mask];
+        if (entry != null && entry.key == key) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    void put(int key, String value) {
+        entries[key & mask] = new Entry(key, value);
+    }
+
+    void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    private static final class Entry {
+        private final int key;
+        private final String value;
+
+        private Entry(int key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.alibaba.excel.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.alibaba.excel.analysis.v07.handlers.sax.SharedStringsTableHandler;
+import com.alibaba.excel.constant.ExcelXmlConstants;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.util.FileUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Only index the `sharedStrings.xml` when reading starts, and decode each value the first time it's used.
+ * <p>
+ * The part is copied to a temporary file and memory-mapped, then scanned once to record the byte offset of every `si`
+ * element. It's filled by {@link #index(InputStream)} instead of {@link #put(String)}. A part that is not encoded in
+ * UTF-8, by the byte order mark or the XML declaration, is not indexed and should be parsed as usual.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+public class LazySharedStringsCache implements ReadCache {
+    private static final String SHARED_STRINGS_FILE_NAME = "sharedStrings.xml";
+    private static final int DEFAULT_INDEX_CAPACITY = 1024;
+    private static final int DEFAULT_HOT_CACHE_SIZE = 1024;
+
+    private static final byte[][] SI_TAGS = bytes(ExcelXmlConstants.SHAREDSTRINGS_SI_TAG,
+        ExcelXmlConstants.SHAREDSTRINGS_X_SI_TAG, ExcelXmlConstants.SHAREDSTRINGS_NS2_SI_TAG);
+    private static final byte[][] T_TAGS = bytes(ExcelXmlConstants.SHAREDSTRINGS_T_TAG,
+        ExcelXmlConstants.SHAREDSTRINGS_X_T_TAG, ExcelXmlConstants.SHAREDSTRINGS_NS2_T_TAG);
+    private static final byte[][] RPH_TAGS = bytes(ExcelXmlConstants.SHAREDSTRINGS_RPH_TAG,
+        ExcelXmlConstants.SHAREDSTRINGS_X_RPH_TAG, ExcelXmlConstants.SHAREDSTRINGS_NS2_RPH_TAG);
+    private static final byte[] COMMENT_START = "<!--".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CDATA_START = "<![CDATA[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PI_END = "?>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UTF16_BE_BOM = {(byte)0xFE, (byte)0xFF};
+    private static final byte[] UTF16_LE_BOM = {(byte)0xFF, (byte)0xFE};
+    private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+    private static final byte[] XML_DECLARATION_START = "<?xml".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENCODING = "encoding".getBytes(StandardCharsets.US_ASCII);
+    private static final String UTF8 = "UTF-8";
+    private static final String UTF8_ALIAS = "UTF8";
+    private static final byte TAG_START = '<';
+    private static final byte TAG_END = '>';
+    private static final byte SLASH = '/';
+    private static final byte QUESTION_MARK = '?';
+    private static final byte EXCLAMATION_MARK = '!';
+    private static final byte DOUBLE_QUOTE = '"';
+    private static final byte SINGLE_QUOTE = '\'';
+    private static final char REFERENCE_START = '&';
+    private static final char REFERENCE_END = ';';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+
+    private File cacheDirectory;
+    private MappedSegments segments;
+    /**
+     * The byte offset of each `si` element
+     */
+    private long[] positions = new long[DEFAULT_INDEX_CAPACITY];
+    /**
+     * Number of values
+     */
+    private int size;
+    private final HotValueCache hotValueCache = new HotValueCache(DEFAULT_HOT_CACHE_SIZE);
+
+    @Override
+    public void init(AnalysisContext analysisContext) {}
+
+    /**
+     * Index the `sharedStrings.xml`.
+     *
+     * @param sharedStringsInputStream will be closed.
+     * @return false if the part can not be read lazily, such as not encoded in UTF-8, and should be parsed as usual.
+     */
+    public boolean index(InputStream sharedStringsInputStream) {
+        return index(sharedStringsInputStream, null);
+    }
+
+    /**
+     * Index the `sharedStrings.xml`, with the offsets of the `si` elements found by an earlier read of the same part.
+     *
+     * @param sharedStringsInputStream will be closed.
+     * @param knownPositions           The byte offset of each `si` element, it's scanned if null.
+     * @return false if the part can not be read lazily, such as not encoded in UTF-8, and should be parsed as usual.
+     */
+    public boolean index(InputStream sharedStringsInputStream, long[] knownPositions) {
+        cacheDirectory = FileUtils.createCacheTmpFile();
+        File sharedStringsFile = new File(cacheDirectory, SHARED_STRINGS_FILE_NAME);
+        FileUtils.writeToFile(sharedStringsFile, sharedStringsInputStream);
+        try {
+            segments = MappedSegments.map(sharedStringsFile);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not map cache file!", e);
+        }
+        long length = segments.size();
+        // UTF-16 byte order mark
+        if (startsWith(0, UTF16_BE_BOM) || startsWith(0, UTF16_LE_BOM)) {
+            return false;
+        }
+        if (!isUtf8Declaration(startsWith(0, UTF8_BOM) ? UTF8_BOM.length : 0)) {
+            return false;
+        }
+        if (knownPositions != null) {
+            positions = knownPositions;
+            size = knownPositions.length;
+            return true;
+        }
+        long position = 0;
+        while (position < length) {
+            if (segments.get(position) != TAG_START) {
+                position++;
+                continue;
+            }
+            long skipped = skipSpecial(position);
+            if (skipped > position) {
+                position = skipped;
+                continue;
+            }
+            long nameEnd = nameEnd(position + 1);
+            if (matches(position + 1, nameEnd, SI_TAGS)) {
+                if (size == positions.length) {
+                    positions = Arrays.copyOf(positions, size + (size >> 1));
+                }
+                positions[size++] = position;
+            }
+            position = nameEnd;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Lazy shared strings indexed, size:{}, bytes:{}", size, length);
+        }
+        return true;
+    }
+
+    /**
+     * The byte offset of each `si` element, which can be saved and passed to {@link #index(InputStream, long[])}.
+     *
+     * @return Offsets
+     */
+    public long[] getPositions() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    @Override
+    public void put(String value) {}
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        if (key >= size) {
+            throw new IndexOutOfBoundsException("Index: " + key + ", Size: " + size);
+        }
+        String value = hotValueCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = decode(positions[key]);
+        hotValueCache.put(key, value);
+        return value;
+    }
+
+    @Override
+    public void putFinished() {}
+
+    @Override
+    public void destroy() {
+        // Unmapped before deleting, a mapped file can not be deleted on Windows
+        if (segments != null) {
+            segments.unmap();
+            segments = null;
+        }
+        positions = null;
+        hotValueCache.clear();
+        if (cacheDirectory != null) {
+            FileUtils.delete(cacheDirectory);
+        }
+    }
+
+    /**
+     * Same as {@link SharedStringsTableHandler}: join the text of all the `t` elements, except those in `rPh`.
+     */
+    private String decode(long start) {
+        long length = segments.size();
+        long position = tagEnd(start);
+        if (segments.get(position - 1) == SLASH) {
+            // <si/>
+            return null;
+        }
+        position++;
+        StringBuilder value = null;
+        boolean isTagt = false;
+        boolean ignoreTagt = false;
+        while (position < length) {
+            if (segments.get(position) != TAG_START) {
+                long textEnd = position;
+                while (textEnd < length && segments.get(textEnd) != TAG_START) {
+                    textEnd++;
+                }
+                if (isTagt && !ignoreTagt) {
+                    if (value == null) {
+                        value = new StringBuilder();
+                    }
+                    appendText(value, position, textEnd);
+                }
+                position = textEnd;
+                continue;
+            }
+            if (startsWith(position, CDATA_START)) {
+                long cdataEnd = indexOf(position + CDATA_START.length, CDATA_END);
+                if (isTagt && !ignoreTagt && cdataEnd > position + CDATA_START.length) {
+                    if (value == null) {
+                        value = new StringBuilder();
+                    }
+                    value.append(string(position + CDATA_START.length, cdataEnd));
+                }
+                position = cdataEnd + CDATA_END.length;
+                continue;
+            }
+            long skipped = skipSpecial(position);
+            if (skipped > position) {
+                position = skipped;
+                continue;
+            }
+            boolean endTag = segments.get(position + 1) == SLASH;
+            long nameStart = endTag ? position + 2 : position + 1;
+            long nameEnd = nameEnd(nameStart);
+            long tagEnd = tagEnd(nameEnd);
+            boolean emptyTag = !endTag && segments.get(tagEnd - 1) == SLASH;
+            if (matches(nameStart, nameEnd, SI_TAGS)) {
+                break;
+            }
+            if (!emptyTag) {
+                if (matches(nameStart, nameEnd, T_TAGS)) {
+                    isTagt = !endTag;
+                } else if (matches(nameStart, nameEnd, RPH_TAGS)) {
+                    ignoreTagt = !endTag;
+                }
+            }
+            position = tagEnd + 1;
+        }
+        if (value == null) {
+            return null;
+        }
+        return SharedStringsTableHandler.utfDecode(value.toString());
+    }
+
+    /**
+     * Append character data, resolve the references and normalize the line breaks like a xml parser.
+     */
+    private void appendText(StringBuilder value, long start, long end) {
+        String text = string(start, end);
+        if (text.indexOf(REFERENCE_START) < 0 && text.indexOf(CARRIAGE_RETURN) < 0) {
+            value.append(text);
+            return;
+        }
+        int index = 0;
+        while (index < text.length()) {
+            char c = text.charAt(index);
+            if (c == CARRIAGE_RETURN) {
+                value.append(LINE_FEED);
+                if (index + 1 < text.length() && text.charAt(index + 1) == LINE_FEED) {
+                    index++;
+                }
+                index++;
+                continue;
+            }
+            int referenceEnd = c == REFERENCE_START ? text.indexOf(REFERENCE_END, index) : -1;
+            if (referenceEnd < 0) {
+                value.append(c);
+                index++;
+                continue;
+            }
+            String reference = text.substring(index + 1, referenceEnd);
+            switch (reference) {
+                case "amp":
+                    value.append('&');
+                    break;
+                case "lt":
+                    value.append('<');
+                    break;
+                case "gt":
+                    value.append('>');
+                    break;
+                case "quot":
+                    value.append('"');
+                    break;
+                case "apos":
+                    value.append('\'');
+                    break;
+                default:
+                    if (reference.startsWith("#x")) {
+                        value.appendCodePoint(Integer.parseInt(reference.substring(2), 16));
+                    } else if (reference.startsWith("#")) {
+                        value.appendCodePoint(Integer.parseInt(reference.substring(1)));
+                    } else {
+                        throw new ExcelAnalysisException("Unknown entity in shared strings: " + reference);
+                    }
+            }
+            index = referenceEnd + 1;
+        }
+    }
+
+    /**
+     * Same as the sheets, the part is only read lazily if it's declared as UTF-8, or the encoding is not declared.
+     */
+    private boolean isUtf8Declaration(long start) {
+        if (!startsWith(start, XML_DECLARATION_START)) {
+            return true;
+        }
+        long end = indexOf(start, PI_END);
+        long encoding = indexOf(start, ENCODING);
+        if (encoding >= end) {
+            return true;
+        }
+        long valueStart = encoding + ENCODING.length;
+        while (valueStart < end && segments.get(valueStart) != DOUBLE_QUOTE
+            && segments.get(valueStart) != SINGLE_QUOTE) {
+            valueStart++;
+        }
+        long valueEnd = valueStart + 1;
+        while (valueEnd < end && segments.get(valueEnd) != segments.get(valueStart)) {
+            valueEnd++;
+        }
+        if (valueEnd >= end) {
+            return false;
+        }
+        byte[] value = new byte[(int)(valueEnd - valueStart - 1)];
+        segments.get(valueStart + 1, value, 0, value.length);
+        String encodingName = new String(value, StandardCharsets.US_ASCII);
+        return UTF8.equalsIgnoreCase(encodingName) || UTF8_ALIAS.equalsIgnoreCase(encodingName);
+    }
+
+    /**
+     * Skip comments, CDATA sections, processing instructions and declarations.
+     *
+     * @return The position after it, or the same position if it's not one of them.
+     */
+    private long skipSpecial(long position) {
+        if (position + 1 >= segments.size()) {
+            return segments.size();
+        }
+        byte next = segments.get(position + 1);
+        if (next == QUESTION_MARK) {
+            return indexOf(position + 2, PI_END) + PI_END.length;
+        }
+        if (next != EXCLAMATION_MARK) {
+            return position;
+        }
+        if (startsWith(position, COMMENT_START)) {
+            return indexOf(position + COMMENT_START.length, COMMENT_END) + COMMENT_END.length;
+        }
+        if (startsWith(position, CDATA_START)) {
+            return indexOf(position + CDATA_START.length, CDATA_END) + CDATA_END.length;
+        }
+        return tagEnd(position) + 1;
+    }
+
+    private long nameEnd(long position) {
+        long length = segments.size();
+        while (position < length) {
+            byte b = segments.get(position);
+            if (b == TAG_END || b == SLASH || Character.isWhitespace(b)) {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * `>` is allowed in attribute values, so skip the quoted values.
+     */
+    private long tagEnd(long position) {
+        long length = segments.size();
+        byte quote = 0;
+        while (position < length) {
+            byte b = segments.get(position);
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == TAG_END) {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private long indexOf(long position, byte[] target) {
+        long length = segments.size();
+        while (position < length) {
+            if (startsWith(position, target)) {
+                return position;
+            }
+            position++;
+        }
+        return length;
+    }
+
+    private boolean startsWith(long position, byte[] target) {
+        if (position + target.length > segments.size()) {
+            return false;
+        }
+        for (int i = 0; i < target.length; i++) {
+            if (segments.get(position + i) != target[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(long start, long end, byte[][] names) {
+        for (byte[] name : names) {
+            if (end - start == name.length && startsWith(start, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String string(long start, long end) {
+        byte[] bytes = new byte[(int)(end - start)];
+        segments.get(start, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] bytes(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,159 @@
+package com.alibaba.excel.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.util.FileUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append the UTF-8 bytes of every value to a temporary file and memory-map it once all the values are put in.
+ * <p>
+ * The start offset of each value is stored in a second mapped file, so a lookup is two absolute reads and a decode,
+ * without deserialization and without holding the values in the heap.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+public class MappedFileCache implements ReadCache {
+    private static final String DATA_FILE_NAME = "data";
+    private static final String INDEX_FILE_NAME = "index";
+    private static final int WRITE_BUFF_SIZE = 64 * 1024;
+    /**
+     * The size of one index entry
+     */
+    private static final int INDEX_ENTRY_SIZE = 8;
+
+    /**
+     * Directory of the cache files
+     */
+    private File cacheDirectory;
+    private DataOutputStream dataOutputStream;
+    private DataOutputStream indexOutputStream;
+    /**
+     * Number of bytes already written to the data file
+     */
+    private long dataPosition;
+    /**
+     * Number of values
+     */
+    private int size;
+    private MappedSegments dataSegments;
+    private MappedSegments indexSegments;
+
+    @Override
+    public void init(AnalysisContext analysisContext) {
+        cacheDirectory = FileUtils.createCacheTmpFile();
+        try {
+            dataOutputStream = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(new File(cacheDirectory, DATA_FILE_NAME)), WRITE_BUFF_SIZE));
+            indexOutputStream = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(new File(cacheDirectory, INDEX_FILE_NAME)), WRITE_BUFF_SIZE));
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not create cache file!", e);
+        }
+    }
+
+    @Override
+    public void put(String value) {
+        try {
+            if (value == null) {
+                // A negative offset means null
+                indexOutputStream.writeLong(~dataPosition);
+            } else {
+                indexOutputStream.writeLong(dataPosition);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                dataOutputStream.write(bytes);
+                dataPosition += bytes.length;
+            }
+            size++;
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not write cache file!", e);
+        }
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        if (key >= size) {
+            throw new IndexOutOfBoundsException("Index: " + key + ", Size: " + size);
+        }
+        long start = readIndex(key);
+        if (start < 0) {
+            return null;
+        }
+        long end = readIndex(key + 1);
+        if (end < 0) {
+            end = ~end;
+        }
+        return readString(start, (int)(end - start));
+    }
+
+    @Override
+    public void putFinished() {
+        try {
+            // The end offset of the last value
+            indexOutputStream.writeLong(dataPosition);
+            indexOutputStream.close();
+            indexOutputStream = null;
+            dataOutputStream.close();
+            dataOutputStream = null;
+            dataSegments = MappedSegments.map(new File(cacheDirectory, DATA_FILE_NAME));
+            indexSegments = MappedSegments.map(new File(cacheDirectory, INDEX_FILE_NAME));
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not map cache file!", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Mapped cache finished, size:{}, bytes:{}", size, dataPosition);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closeQuietly(dataOutputStream);
+        closeQuietly(indexOutputStream);
+        // Unmapped before deleting, a mapped file can not be deleted on Windows
+        if (dataSegments != null) {
+            dataSegments.unmap();
+            dataSegments = null;
+        }
+        if (indexSegments != null) {
+            indexSegments.unmap();
+            indexSegments = null;
+        }
+        if (cacheDirectory != null) {
+            FileUtils.delete(cacheDirectory);
+        }
+    }
+
+    private long readIndex(int key) {
+        // Index entries never cross a segment, since the segment size is a multiple of the entry size
+        return indexSegments.getLong((long)key * INDEX_ENTRY_SIZE);
+    }
+
+    private String readString(long start, int length) {
+        byte[] bytes = new byte[length];
+        dataSegments.get(start, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void closeQuietly(DataOutputStream outputStream) {
+        if (outputStream == null) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            log.warn("Can not close cache file.", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.alibaba.excel.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.poifs.nio.CleanerUtil;
+
+/**
+ * A read only file mapped into segments of at most 1G, so files larger than 2G can be addressed with a long position.
+ * <p>
+ * Only absolute reads are used, so it can be shared between threads.
+ * <p>
+ * The segments are unmapped the same way as POI does, so the file can be deleted at once, even on Windows. If the JVM
+ * does not allow it, the segments stay mapped until they are garbage collected, and the file may not be deleted
+ * before that on Windows.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+class MappedSegments {
+    private static final int SEGMENT_SHIFT = 30;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private MappedSegments(MappedByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    static MappedSegments map(File file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            int segmentCount = (int)((fileSize + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long)i << SEGMENT_SHIFT;
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(SEGMENT_SIZE, fileSize - position));
+            }
+            return new MappedSegments(segments, fileSize);
+        }
+    }
+
+    /**
+     * Unmap the segments. Nothing can be read after it, any read would crash the JVM.
+     */
+    void unmap() {
+        if (!CleanerUtil.UNMAP_SUPPORTED) {
+            if (log.isDebugEnabled()) {
+                log.debug("Can not unmap the cache file: {}", CleanerUtil.UNMAP_NOT_SUPPORTED_REASON);
+            }
+            return;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            try {
+                CleanerUtil.getCleaner().freeBuffer(segments[i]);
+            } catch (IOException e) {
+                log.warn("Can not unmap the cache file.", e);
+            }
+            segments[i] = null;
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long position) {
+        return segments[(int)(position >>> SEGMENT_SHIFT)].get((int)(position & SEGMENT_MASK));
+    }
+
+    /**
+     * The 8 bytes must be in the same segment, so the position should be aligned.
+     */
+    long getLong(long position) {
+        return segments[(int)(position >>> SEGMENT_SHIFT)].getLong((int)(position & SEGMENT_MASK));
+    }
+
+    void get(long position, byte[] dst, int offset, int length) {
+        int read = 0;
+        while (read < length) {
+            long current = position + read;
+            // Use a duplicate so concurrent readers do not share the buffer position
+            ByteBuffer segment = segments[(int)(current >>> SEGMENT_SHIFT)].duplicate();
+            segment.position((int)(current & SEGMENT_MASK));
+            int count = Math.min(length - read, segment.remaining());
+            segment.get(dst, offset + read, count);
+            read += count;
+        }
+    }
+}
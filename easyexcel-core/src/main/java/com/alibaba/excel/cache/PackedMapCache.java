@@ -0,0 +1,151 @@
+package com.alibaba.excel.cache;
+
+import java.util.Arrays;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+
+/**
+ * Pack all the values into a few large char arenas with an int offset table.
+ * <p>
+ * Compared to {@link MapCache}, there is no object per value. The {@link String} is only created on {@link #get},
+ * and recently used values are kept in a small cache indexed by key.
+ *
+ * @author Jiaju Zhuang
+ */
+public class PackedMapCache implements ReadCache {
+    /**
+     * Each arena holds 1M chars.
+     */
+    private static final int ARENA_SHIFT = 20;
+    private static final int ARENA_SIZE = 1 << ARENA_SHIFT;
+    private static final int ARENA_MASK = ARENA_SIZE - 1;
+    private static final int DEFAULT_INDEX_CAPACITY = 1024;
+    /**
+     * The size of hot cache
+     */
+    private static final int DEFAULT_HOT_CACHE_SIZE = 1024;
+
+    private char[][] arenas = new char[1][];
+    /**
+     * The start position of each value, a negative position means null. There is one more position than values, which
+     * is the end of the last value.
+     */
+    private int[] positions = new int[DEFAULT_INDEX_CAPACITY];
+    /**
+     * Number of chars already written
+     */
+    private int position;
+    /**
+     * Number of values
+     */
+    private int size;
+    private final HotValueCache hotValueCache;
+
+    public PackedMapCache() {
+        this(DEFAULT_HOT_CACHE_SIZE);
+    }
+
+    /**
+     * @param hotCacheSize The number of decoded values to keep, will be rounded up to a power of 2.
+     */
+    public PackedMapCache(int hotCacheSize) {
+        this.hotValueCache = new HotValueCache(hotCacheSize);
+    }
+
+    @Override
+    public void init(AnalysisContext analysisContext) {}
+
+    @Override
+    public void put(String value) {
+        if (size + 1 >= positions.length) {
+            positions = Arrays.copyOf(positions, positions.length + (positions.length >> 1));
+        }
+        if (value == null) {
+            positions[size++] = ~position;
+            return;
+        }
+        if ((long)position + value.length() > Integer.MAX_VALUE) {
+            throw new ExcelAnalysisException("The shared strings is too large, please use MappedFileCache.");
+        }
+        positions[size++] = position;
+        int written = 0;
+        while (written < value.length()) {
+            char[] arena = arena(position >>> ARENA_SHIFT);
+            int offset = position & ARENA_MASK;
+            int count = Math.min(value.length() - written, ARENA_SIZE - offset);
+            value.getChars(written, written + count, arena, offset);
+            written += count;
+            position += count;
+        }
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        if (key >= size) {
+            throw new IndexOutOfBoundsException("Index: " + key + ", Size: " + size);
+        }
+        String value = hotValueCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = decode(key);
+        hotValueCache.put(key, value);
+        return value;
+    }
+
+    @Override
+    public void putFinished() {
+        positions[size] = position;
+        positions = Arrays.copyOf(positions, size + 1);
+    }
+
+    @Override
+    public void destroy() {
+        arenas = null;
+        positions = null;
+        hotValueCache.clear();
+    }
+
+    private String decode(int key) {
+        int start = positions[key];
+        if (start < 0) {
+            return null;
+        }
+        int end = positions[key + 1];
+        if (end < 0) {
+            end = ~end;
+        }
+        int arenaIndex = start >>> ARENA_SHIFT;
+        int offset = start & ARENA_MASK;
+        int length = end - start;
+        if (offset + length <= ARENA_SIZE) {
+            return new String(arenas[arenaIndex], offset, length);
+        }
+        // The value spans multiple arenas
+        char[] chars = new char[length];
+        int read = 0;
+        while (read < length) {
+            int current = start + read;
+            int count = Math.min(length - read, ARENA_SIZE - (current & ARENA_MASK));
+            System.arraycopy(arenas[current >>> ARENA_SHIFT], current & ARENA_MASK, chars, read, count);
+            read += count;
+        }
+        return new String(chars);
+    }
+
+    private char[] arena(int arenaIndex) {
+        if (arenaIndex >= arenas.length) {
+            arenas = Arrays.copyOf(arenas, Math.max(arenaIndex + 1, arenas.length << 1));
+        }
+        char[] arena = arenas[arenaIndex];
+        if (arena == null) {
+            arena = new char[ARENA_SIZE];
+            arenas[arenaIndex] = arena;
+        }
+        return arena;
+    }
+}
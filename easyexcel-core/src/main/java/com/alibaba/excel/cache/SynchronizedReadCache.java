@@ -0,0 +1,68 @@
+package com.alibaba.excel.cache;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.alibaba.excel.context.AnalysisContext;
+
+/**
+ * Lock a read cache that can not be shared between threads, such as {@link Ehcache}, which changes its active batch
+ * when getting a value.
+ * <p>
+ * It's used when the sheets are read at the same time, the values are all put in before that.
+ *
+ * @author Jiaju Zhuang
+ */
+public class SynchronizedReadCache implements ReadCache {
+    /**
+     * Nothing is changed by `get` once all the values are put in
+     */
+    private static final Set<Class<?>> THREAD_SAFE_CLASS_SET = new HashSet<>(Arrays.asList(MapCache.class,
+        PackedMapCache.class, MappedFileCache.class, LazySharedStringsCache.class));
+
+    private final ReadCache readCache;
+
+    private SynchronizedReadCache(ReadCache readCache) {
+        this.readCache = readCache;
+    }
+
+    /**
+     * Get a read cache that can be shared between threads.
+     *
+     * @param readCache The read cache, may be null
+     * @return The read cache itself if it's thread safe, otherwise a locked one
+     */
+    public static ReadCache threadSafe(ReadCache readCache) {
+        if (readCache == null || readCache instanceof SynchronizedReadCache
+            || THREAD_SAFE_CLASS_SET.contains(readCache.getClass())) {
+            return readCache;
+        }
+        return new SynchronizedReadCache(readCache);
+    }
+
+    @Override
+    public synchronized void init(AnalysisContext analysisContext) {
+        readCache.init(analysisContext);
+    }
+
+    @Override
+    public synchronized void put(String value) {
+        readCache.put(value);
+    }
+
+    @Override
+    public synchronized String get(Integer key) {
+        return readCache.get(key);
+    }
+
+    @Override
+    public synchronized void putFinished() {
+        readCache.putFinished();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        readCache.destroy();
+    }
+}
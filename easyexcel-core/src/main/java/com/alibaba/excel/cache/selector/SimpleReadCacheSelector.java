@@ -12,6 +12,8 @@ import org.slf4j.LoggerFactory;
 
 import com.alibaba.excel.cache.Ehcache;
 import com.alibaba.excel.cache.MapCache;
+import com.alibaba.excel.cache.MappedFileCache;
+import com.alibaba.excel.cache.PackedMapCache;
 import com.alibaba.excel.cache.ReadCache;
 
 /**
@@ -29,23 +31,35 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
      */
     private static final long B2M = 1000 * 1000L;
     /**
-     * If it's less than 5M, use map cache, or use ehcache.unit MB.
+     * If it's less than 5M, use map cache, or use mapped file cache.unit MB.
      */
     private static final long DEFAULT_MAX_USE_MAP_CACHE_SIZE = 5;
-
     /**
-     * Maximum batch of `SharedStrings` stored in memory.
-     * The batch size is 100.{@link Ehcache#BATCH_COUNT}
+     * {@link MapCache} takes about 10 times the size of the shared strings.
+     */
+    private static final long MAP_CACHE_MEMORY_RATIO = 10;
+    /**
+     * {@link PackedMapCache} takes at most 2 times the size of the shared strings.
      */
-    private static final int DEFAULT_MAX_EHCACHE_ACTIVATE_BATCH_COUNT = 20;
+    private static final long PACKED_MAP_CACHE_MEMORY_RATIO = 2;
 
     /**
-     * Shared strings exceeding this value will use {@link Ehcache},or use {@link MapCache}.unit MB.
+     * Shared strings exceeding this value will use {@link MappedFileCache},or use {@link MapCache}.unit MB.
      */
     private Long maxUseMapCacheSize;
 
+    /**
+     * Shared strings between {@link #maxUseMapCacheSize} and this value will use {@link PackedMapCache} if there is
+     * enough heap, or use {@link MappedFileCache}.unit MB.
+     * <p>
+     * Not used by default.
+     */
+    private Long maxUsePackedMapCacheSize;
+
     /**
      * Maximum size of cache activation.unit MB.
+     * <p>
+     * Only work on the {@link Ehcache}. If set, {@link Ehcache} is used instead of {@link MappedFileCache}.
      *
      * @deprecated Please use maxCacheActivateBatchCount to control the size of the occupied memory
      */
@@ -55,6 +69,8 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
     /**
      * Maximum batch of `SharedStrings` stored in memory.
      * The batch size is 100.{@link Ehcache#BATCH_COUNT}
+     * <p>
+     * Only work on the {@link Ehcache}. If set, {@link Ehcache} is used instead of {@link MappedFileCache}.
      */
     private Integer maxCacheActivateBatchCount;
 
@@ -88,25 +104,41 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
             maxUseMapCacheSize = DEFAULT_MAX_USE_MAP_CACHE_SIZE;
         }
         if (size < maxUseMapCacheSize * B2M) {
+            // Not enough heap to hold a string object for each value
+            if (availableHeapSize() < size * MAP_CACHE_MEMORY_RATIO) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Use packed map cache.size:{}", size);
+                }
+                return new PackedMapCache();
+            }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Use map cache.size:{}", size);
             }
             return new MapCache();
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Use ehcache.size:{}", size);
+        if (maxUsePackedMapCacheSize != null && size < maxUsePackedMapCacheSize * B2M
+            && availableHeapSize() >= size * PACKED_MAP_CACHE_MEMORY_RATIO) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Use packed map cache.size:{}", size);
+            }
+            return new PackedMapCache();
         }
-
         // In order to be compatible with the code
-        // If the user set up `maxCacheActivateSize`, then continue using it
-        if (maxCacheActivateSize != null) {
-            return new Ehcache(maxCacheActivateSize, maxCacheActivateBatchCount);
-        } else {
-            if (maxCacheActivateBatchCount == null) {
-                maxCacheActivateBatchCount = DEFAULT_MAX_EHCACHE_ACTIVATE_BATCH_COUNT;
+        // If the user set up the ehcache parameters, then continue using it
+        if (maxCacheActivateSize != null || maxCacheActivateBatchCount != null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Use ehcache.size:{}", size);
             }
             return new Ehcache(maxCacheActivateSize, maxCacheActivateBatchCount);
         }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Use mapped file cache.size:{}", size);
+        }
+        return new MappedFileCache();
+    }
 
+    private long availableHeapSize() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
     }
 }
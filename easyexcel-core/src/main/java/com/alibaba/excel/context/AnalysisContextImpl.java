@@ -72,6 +72,36 @@ public class AnalysisContextImpl implements AnalysisContext {
         }
     }
 
+    /**
+     * Share the workbook holder of another context, so that each sheet can be read with its own context.
+     *
+     * @param readWorkbookHolder the workbook holder already initialized
+     */
+    public AnalysisContextImpl(ReadWorkbookHolder readWorkbookHolder) {
+        if (readWorkbookHolder == null) {
+            throw new IllegalArgumentException("Workbook holder argument cannot be null");
+        }
+        this.readWorkbookHolder = readWorkbookHolder;
+        currentReadHolder = readWorkbookHolder;
+        analysisEventProcessor = new DefaultAnalysisEventProcessor();
+    }
+
+    /**
+     * Share the holders of another context with a different event processor, so that a sheet can be parsed and handed
+     * to the listeners on different threads.
+     *
+     * @param readWorkbookHolder     the workbook holder already initialized
+     * @param readSheetHolder        the sheet holder already initialized
+     * @param analysisEventProcessor the event processor
+     */
+    public AnalysisContextImpl(ReadWorkbookHolder readWorkbookHolder, ReadSheetHolder readSheetHolder,
+        AnalysisEventProcessor analysisEventProcessor) {
+        this.readWorkbookHolder = readWorkbookHolder;
+        this.readSheetHolder = readSheetHolder;
+        currentReadHolder = readSheetHolder;
+        this.analysisEventProcessor = analysisEventProcessor;
+    }
+
     @Override
     public void currentSheet(ReadSheet readSheet) {
         switch (readWorkbookHolder.getExcelType()) {
@@ -0,0 +1,85 @@
+package com.alibaba.excel.context;
+
+import java.util.Set;
+
+import com.alibaba.excel.enums.WriteTypeEnum;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import com.alibaba.excel.write.metadata.holder.WriteWorkbookHolder;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * The context of a sheet writer. It shares the workbook of the {@link WriteContextImpl} that creates it, and only
+ * writes its own sheet, so several sheet writers can write their sheets at the same time on their own threads. The
+ * workbook is written when the {@link WriteContextImpl} is finished.
+ *
+ * @author Jiaju Zhuang
+ */
+public class SheetWriteContextImpl extends WriteContextImpl {
+    /**
+     * The sheet written by this context
+     */
+    private final WriteSheet writeSheet;
+    /**
+     * Prevent multiple shutdowns
+     */
+    private boolean finished = false;
+
+    public SheetWriteContextImpl(WriteWorkbookHolder writeWorkbookHolder, WriteSheet writeSheet) {
+        super(writeWorkbookHolder);
+        if (writeSheet == null) {
+            throw new IllegalArgumentException("Sheet argument cannot be null");
+        }
+        // The rows of the different sheets are written to their own cache files by sxssf, but the strings of the
+        // shared strings table are added when the rows are flushed.
+        if (!(writeWorkbookHolder.getWorkbook() instanceof SXSSFWorkbook)
+            || writeWorkbookHolder.getUseSharedStringsTable()) {
+            throw new ExcelGenerateException(
+                "The sheet writer only supports xlsx without 'inMemory', 'directWrite' and 'useSharedStringsTable'.");
+        }
+        this.writeSheet = writeSheet;
+        synchronized (writeWorkbookHolder) {
+            if (writeWorkbookHolder.getOpenSheetWriterSet() == null) {
+                throw new ExcelGenerateException("Can not create a sheet writer after the workbook is finished.");
+            }
+            super.currentSheet(writeSheet, WriteTypeEnum.ADD);
+            if (!writeSheetHolder().getNewInitialization()) {
+                throw new ExcelGenerateException(
+                    "The sheet:" + writeSheetHolder().getSheetName() + " has already been written by another writer.");
+            }
+            writeWorkbookHolder.getOpenSheetWriterSet().add(writeSheetHolder().getSheetName());
+        }
+    }
+
+    @Override
+    public void currentSheet(WriteSheet writeSheet, WriteTypeEnum writeType) {
+        if (finished) {
+            throw new ExcelGenerateException("The sheet writer is already finished.");
+        }
+        if (writeSheet != this.writeSheet) {
+            throw new ExcelGenerateException("The sheet writer can only write its own sheet.");
+        }
+        super.currentSheet(writeSheet, writeType);
+    }
+
+    /**
+     * Only the caches of the current thread are cleared and the sheet writer is closed, the workbook is not written.
+     *
+     * @param onException
+     */
+    @Override
+    public void finish(boolean onException) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        synchronized (writeWorkbookHolder()) {
+            Set<String> openSheetWriterSet = writeWorkbookHolder().getOpenSheetWriterSet();
+            if (openSheetWriterSet != null) {
+                openSheetWriterSet.remove(writeSheetHolder().getSheetName());
+            }
+        }
+        removeThreadLocalCache();
+    }
+}
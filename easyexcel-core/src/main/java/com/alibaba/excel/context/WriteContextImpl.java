@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import com.alibaba.excel.enums.WriteTypeEnum;
@@ -15,6 +16,7 @@ import com.alibaba.excel.support.ExcelTypeEnum;
 import com.alibaba.excel.util.ClassUtils;
 import com.alibaba.excel.util.DateUtils;
 import com.alibaba.excel.util.FileUtils;
+import com.alibaba.excel.util.FormatterUtils;
 import com.alibaba.excel.util.ListUtils;
 import com.alibaba.excel.util.NumberDataFormatterUtils;
 import com.alibaba.excel.util.StringUtils;
@@ -103,6 +105,16 @@ public class WriteContextImpl implements WriteContext {
         }
     }
 
+    /**
+     * Share the workbook of another context, it's not created or written by this context.
+     *
+     * @param writeWorkbookHolder
+     */
+    protected WriteContextImpl(WriteWorkbookHolder writeWorkbookHolder) {
+        this.writeWorkbookHolder = writeWorkbookHolder;
+        this.currentWriteHolder = writeWorkbookHolder;
+    }
+
     private void initCurrentWorkbookHolder(WriteWorkbook writeWorkbook) {
         writeWorkbookHolder = new WriteWorkbookHolder(writeWorkbook);
         currentWriteHolder = writeWorkbookHolder;
@@ -119,20 +131,23 @@ public class WriteContextImpl implements WriteContext {
         if (writeSheet == null) {
             throw new IllegalArgumentException("Sheet argument cannot be null");
         }
-        if (selectSheetFromCache(writeSheet)) {
-            return;
-        }
+        // The sheets may be created by the sheet writers at the same time
+        synchronized (writeWorkbookHolder) {
+            if (selectSheetFromCache(writeSheet)) {
+                return;
+            }
 
-        initCurrentSheetHolder(writeSheet);
+            initCurrentSheetHolder(writeSheet);
 
-        // Workbook handler need to supplementary execution
-        WorkbookWriteHandlerContext workbookWriteHandlerContext = WriteHandlerUtils.createWorkbookWriteHandlerContext(
-            this);
-        WriteHandlerUtils.beforeWorkbookCreate(workbookWriteHandlerContext, true);
-        WriteHandlerUtils.afterWorkbookCreate(workbookWriteHandlerContext, true);
+            // Workbook handler need to supplementary execution
+            WorkbookWriteHandlerContext workbookWriteHandlerContext
+                = WriteHandlerUtils.createWorkbookWriteHandlerContext(this);
+            WriteHandlerUtils.beforeWorkbookCreate(workbookWriteHandlerContext, true);
+            WriteHandlerUtils.afterWorkbookCreate(workbookWriteHandlerContext, true);
 
-        // Initialization current sheet
-        initSheet(writeType);
+            // Initialization current sheet
+            initSheet(writeType);
+        }
     }
 
     private boolean selectSheetFromCache(WriteSheet writeSheet) {
@@ -350,6 +365,22 @@ public class WriteContextImpl implements WriteContext {
         return currentWriteHolder;
     }
 
+    /**
+     * No sheet writer can be created after it.
+     *
+     * @return the names of the sheets whose writers are not finished, or null if all of them are finished
+     */
+    private Set<String> closeSheetWriters() {
+        synchronized (writeWorkbookHolder) {
+            Set<String> openSheetWriterSet = writeWorkbookHolder.getOpenSheetWriterSet();
+            writeWorkbookHolder.setOpenSheetWriterSet(null);
+            if (openSheetWriterSet == null || openSheetWriterSet.isEmpty()) {
+                return null;
+            }
+            return openSheetWriterSet;
+        }
+    }
+
     @Override
     public void finish(boolean onException) {
         if (finished) {
@@ -360,13 +391,12 @@ public class WriteContextImpl implements WriteContext {
         if (writeWorkbookHolder == null) {
             return;
         }
+        Set<String> unfinishedSheetWriterSet = closeSheetWriters();
         Throwable throwable = null;
         boolean isOutputStreamEncrypt = false;
-        // Determine if you need to write excel
-        boolean writeExcel = !onException;
-        if (writeWorkbookHolder.getWriteExcelOnException()) {
-            writeExcel = Boolean.TRUE;
-        }
+        // Determine if you need to write excel, never write the sheets that may be still being written
+        boolean writeExcel = unfinishedSheetWriterSet == null
+            && (!onException || writeWorkbookHolder.getWriteExcelOnException());
         // No data is written if an exception is thrown
         if (writeExcel) {
             try {
@@ -419,14 +449,19 @@ public class WriteContextImpl implements WriteContext {
         if (throwable != null) {
             throw new ExcelGenerateException("Can not close IO.", throwable);
         }
+        if (unfinishedSheetWriterSet != null) {
+            throw new ExcelGenerateException("The sheet writers of the sheets " + unfinishedSheetWriterSet
+                + " are not finished, all the sheet writers must be finished before the workbook.");
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Finished write.");
         }
     }
 
-    private void removeThreadLocalCache() {
+    protected void removeThreadLocalCache() {
         NumberDataFormatterUtils.removeThreadLocalCache();
         DateUtils.removeThreadLocalCache();
+        FormatterUtils.removeThreadLocalCache();
         ClassUtils.removeThreadLocalCache();
     }
 
@@ -4,6 +4,7 @@ import com.alibaba.excel.context.AnalysisContextImpl;
 import com.alibaba.excel.read.metadata.ReadWorkbook;
 import com.alibaba.excel.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 import com.alibaba.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import com.alibaba.excel.read.processor.AnalysisEventProcessor;
 import com.alibaba.excel.support.ExcelTypeEnum;
 
 /**
@@ -18,6 +19,15 @@ public class DefaultXlsxReadContext extends AnalysisContextImpl implements XlsxR
         super(readWorkbook, actualExcelType);
     }
 
+    public DefaultXlsxReadContext(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        super(xlsxReadWorkbookHolder);
+    }
+
+    public DefaultXlsxReadContext(XlsxReadWorkbookHolder xlsxReadWorkbookHolder,
+        XlsxReadSheetHolder xlsxReadSheetHolder, AnalysisEventProcessor analysisEventProcessor) {
+        super(xlsxReadWorkbookHolder, xlsxReadSheetHolder, analysisEventProcessor);
+    }
+
     @Override
     public XlsxReadWorkbookHolder xlsxReadWorkbookHolder() {
         return (XlsxReadWorkbookHolder)readWorkbookHolder();
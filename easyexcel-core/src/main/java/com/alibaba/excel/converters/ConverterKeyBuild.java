@@ -35,11 +35,21 @@ public class ConverterKeyBuild {
     }
 
     public static ConverterKey buildKey(Class<?> clazz, CellDataTypeEnum cellDataTypeEnum) {
+        return new ConverterKey(boxingClass(clazz), cellDataTypeEnum);
+    }
+
+    /**
+     * The boxing class of a primitive class
+     *
+     * @param clazz class
+     * @return the class itself if it's not a primitive class
+     */
+    public static Class<?> boxingClass(Class<?> clazz) {
         Class<?> boxingClass = BOXING_MAP.get(clazz);
         if (boxingClass != null) {
-            return new ConverterKey(boxingClass, cellDataTypeEnum);
+            return boxingClass;
         }
-        return new ConverterKey(clazz, cellDataTypeEnum);
+        return clazz;
     }
 
     @Getter
@@ -0,0 +1,272 @@
+package com.alibaba.excel.converters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.alibaba.excel.converters.ConverterKeyBuild.ConverterKey;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+
+/**
+ * The converters of a holder.
+ * <p>
+ * It's still a map by {@link ConverterKey}, but it also keeps the converters in a flat table indexed by a small id of
+ * the java type and the ordinal of the excel type. So finding the converter of a cell doesn't create a key or hash
+ * anything. The table is rebuilt on the first lookup after the map is changed. Like any {@link HashMap}, it may be read
+ * by many threads, but only if it's not changed any more.
+ *
+ * @author Jiaju Zhuang
+ */
+public class ConverterMap extends HashMap<ConverterKey, Converter<?>> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * One more for the converters without an excel type, they are at 0
+     */
+    private static final int SLOT_COUNT = CellDataTypeEnum.values().length + 1;
+    private static final AtomicInteger NEXT_TYPE_ID = new AtomicInteger();
+    /**
+     * The id of each java type, a primitive type has the id of its boxing type
+     */
+    private static final ClassValue<Integer> TYPE_ID = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            Class<?> boxingClass = ConverterKeyBuild.boxingClass(type);
+            if (boxingClass != type) {
+                return get(boxingClass);
+            }
+            return NEXT_TYPE_ID.getAndIncrement();
+        }
+    };
+
+    private transient volatile Table table;
+    /**
+     * Counted after each change, so a table built while the map is being changed is not used any more. The changes
+     * through the views of the map are only seen by the size of the table.
+     */
+    private transient volatile int modifications;
+
+    public ConverterMap() {
+        super();
+    }
+
+    public ConverterMap(Map<? extends ConverterKey, ? extends Converter<?>> converterMap) {
+        super(converterMap);
+    }
+
+    /**
+     * Find a converter in any map of converters.
+     *
+     * @param converterMap     The converters
+     * @param clazz            Java type
+     * @param cellDataTypeEnum Excel type, may be null
+     * @return null if not found
+     */
+    public static Converter<?> getConverter(Map<ConverterKey, Converter<?>> converterMap, Class<?> clazz,
+        CellDataTypeEnum cellDataTypeEnum) {
+        if (converterMap instanceof ConverterMap) {
+            return ((ConverterMap)converterMap).getConverter(clazz, cellDataTypeEnum);
+        }
+        return converterMap.get(ConverterKeyBuild.buildKey(clazz, cellDataTypeEnum));
+    }
+
+    /**
+     * Find a converter.
+     *
+     * @param clazz            Java type
+     * @param cellDataTypeEnum Excel type, may be null
+     * @return null if not found
+     */
+    public Converter<?> getConverter(Class<?> clazz, CellDataTypeEnum cellDataTypeEnum) {
+        if (clazz == null) {
+            return get(ConverterKeyBuild.buildKey(null, cellDataTypeEnum));
+        }
+        Table currentTable = table;
+        int currentModifications = modifications;
+        if (currentTable == null || currentTable.modifications != currentModifications
+            || currentTable.size != size()) {
+            currentTable = buildTable(currentModifications);
+            table = currentTable;
+        }
+        int typeId = TYPE_ID.get(clazz);
+        if (typeId >= currentTable.converters.length) {
+            return null;
+        }
+        Converter<?>[] converters = currentTable.converters[typeId];
+        if (converters == null) {
+            return null;
+        }
+        return converters[slot(cellDataTypeEnum)];
+    }
+
+    private Table buildTable(int currentModifications) {
+        Converter<?>[][] converters = new Converter<?>[0][];
+        for (Map.Entry<ConverterKey, Converter<?>> entry : entrySet()) {
+            ConverterKey key = entry.getKey();
+            if (key.getClazz() == null) {
+                continue;
+            }
+            int typeId = TYPE_ID.get(key.getClazz());
+            if (typeId >= converters.length) {
+                Converter<?>[][] newConverters = new Converter<?>[typeId + 1][];
+                System.arraycopy(converters, 0, newConverters, 0, converters.length);
+                converters = newConverters;
+            }
+            if (converters[typeId] == null) {
+                converters[typeId] = new Converter<?>[SLOT_COUNT];
+            }
+            converters[typeId][slot(key.getCellDataTypeEnum())] = entry.getValue();
+        }
+        return new Table(converters, currentModifications, size());
+    }
+
+    private static int slot(CellDataTypeEnum cellDataTypeEnum) {
+        return cellDataTypeEnum == null ? 0 : cellDataTypeEnum.ordinal() + 1;
+    }
+
+    /**
+     * Called after the map is changed, the table is rebuilt by the next lookup
+     */
+    private void changed() {
+        modifications++;
+    }
+
+    @Override
+    public Converter<?> put(ConverterKey key, Converter<?> value) {
+        try {
+            return super.put(key, value);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends ConverterKey, ? extends Converter<?>> m) {
+        try {
+            super.putAll(m);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> remove(Object key) {
+        try {
+            return super.remove(key);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        try {
+            return super.remove(key, value);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            super.clear();
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> putIfAbsent(ConverterKey key, Converter<?> value) {
+        try {
+            return super.putIfAbsent(key, value);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public boolean replace(ConverterKey key, Converter<?> oldValue, Converter<?> newValue) {
+        try {
+            return super.replace(key, oldValue, newValue);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> replace(ConverterKey key, Converter<?> value) {
+        try {
+            return super.replace(key, value);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public void replaceAll(
+        BiFunction<? super ConverterKey, ? super Converter<?>, ? extends Converter<?>> function) {
+        try {
+            super.replaceAll(function);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> computeIfAbsent(ConverterKey key,
+        Function<? super ConverterKey, ? extends Converter<?>> mappingFunction) {
+        try {
+            return super.computeIfAbsent(key, mappingFunction);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> computeIfPresent(ConverterKey key,
+        BiFunction<? super ConverterKey, ? super Converter<?>, ? extends Converter<?>> remappingFunction) {
+        try {
+            return super.computeIfPresent(key, remappingFunction);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> compute(ConverterKey key,
+        BiFunction<? super ConverterKey, ? super Converter<?>, ? extends Converter<?>> remappingFunction) {
+        try {
+            return super.compute(key, remappingFunction);
+        } finally {
+            changed();
+        }
+    }
+
+    @Override
+    public Converter<?> merge(ConverterKey key, Converter<?> value,
+        BiFunction<? super Converter<?>, ? super Converter<?>, ? extends Converter<?>> remappingFunction) {
+        try {
+            return super.merge(key, value, remappingFunction);
+        } finally {
+            changed();
+        }
+    }
+
+    /**
+     * The converters by type id and excel type, with the count of the changes and the size of the map when it's built.
+     */
+    private static class Table {
+        private final Converter<?>[][] converters;
+        private final int modifications;
+        private final int size;
+
+        private Table(Converter<?>[][] converters, int modifications, int size) {
+            this.converters = converters;
+            this.modifications = modifications;
+            this.size = size;
+        }
+    }
+}
@@ -48,7 +48,6 @@ import com.alibaba.excel.converters.string.StringErrorConverter;
 import com.alibaba.excel.converters.string.StringNumberConverter;
 import com.alibaba.excel.converters.string.StringStringConverter;
 import com.alibaba.excel.converters.url.UrlImageConverter;
-import com.alibaba.excel.util.MapUtils;
 
 /**
  * Load default handler
@@ -65,7 +64,7 @@ public class DefaultConverterLoader {
     }
 
     private static void initAllConverter() {
-        allConverter = MapUtils.newHashMapWithExpectedSize(40);
+        allConverter = new ConverterMap();
         putAllConverter(new BigDecimalBooleanConverter());
         putAllConverter(new BigDecimalNumberConverter());
         putAllConverter(new BigDecimalStringConverter());
@@ -118,7 +117,7 @@ public class DefaultConverterLoader {
     }
 
     private static void initDefaultWriteConverter() {
-        defaultWriteConverter = MapUtils.newHashMapWithExpectedSize(40);
+        defaultWriteConverter = new ConverterMap();
         putWriteConverter(new BigDecimalNumberConverter());
         putWriteConverter(new BigIntegerNumberConverter());
         putWriteConverter(new BooleanBooleanConverter());
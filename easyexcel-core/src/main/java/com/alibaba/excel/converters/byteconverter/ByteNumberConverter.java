@@ -28,7 +28,7 @@ public class ByteNumberConverter implements Converter<Byte> {
     @Override
     public Byte convertToJavaData(ReadCellData<?> cellData, ExcelContentProperty contentProperty,
         GlobalConfiguration globalConfiguration) {
-        return cellData.getNumberValue().byteValue();
+        return (byte)cellData.numberValueAsInt();
     }
 
     @Override
@@ -29,7 +29,7 @@ public class FloatNumberConverter implements Converter<Float> {
     @Override
     public Float convertToJavaData(ReadCellData<?> cellData, ExcelContentProperty contentProperty,
         GlobalConfiguration globalConfiguration) {
-        return cellData.getNumberValue().floatValue();
+        return cellData.numberValueAsFloat();
     }
 
     @Override
@@ -50,8 +50,8 @@ public class StringNumberConverter implements Converter<String> {
             && cellData.getDataFormatData().getIndex() != null && !StringUtils.isEmpty(
             cellData.getDataFormatData().getFormat());
         if (hasDataFormatData) {
-            return NumberDataFormatterUtils.format(cellData.getNumberValue(),
-                cellData.getDataFormatData().getIndex(), cellData.getDataFormatData().getFormat(), globalConfiguration);
+            return NumberDataFormatterUtils.format(cellData.getNumberValue(), cellData.getDataFormatData(),
+                globalConfiguration);
         }
         // Default conversion number
         return NumberUtils.format(cellData.getNumberValue(), contentProperty);
@@ -0,0 +1,22 @@
+package com.alibaba.excel.enums;
+
+/**
+ * How the head names are normalized before they are matched, both the names declared in the class and the names in
+ * the head row.
+ *
+ * @author Jiaju Zhuang
+ **/
+public enum HeadNameNormalizeEnum {
+    /**
+     * Remove the leading and trailing whitespace. The names in the head row are already trimmed if `autoTrim` is true.
+     */
+    TRIM,
+    /**
+     * Ignore the case
+     */
+    IGNORE_CASE,
+    /**
+     * Replace each run of whitespace with one space, such as the line breaks in the head
+     */
+    COLLAPSE_WHITESPACE,;
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 
 /**
  * Synchronous data reading
@@ -15,6 +16,11 @@ public class SyncReadListener extends AnalysisEventListener<Object> {
 
     @Override
     public void invoke(Object object, AnalysisContext context) {
+        // The reused row is only valid for the current row
+        if (object instanceof FlyweightRowMap) {
+            list.add(((FlyweightRowMap<?>)object).copy());
+            return;
+        }
         list.add(object);
     }
 
@@ -49,6 +49,15 @@ public class CellData<T> extends AbstractCell {
      */
     private FormulaData formulaData;
 
+    /**
+     * Whether there's a number value, without creating it if it's kept in another form
+     *
+     * @return true if there's a number value
+     */
+    protected boolean hasNumberValue() {
+        return numberValue != null;
+    }
+
     /**
      * Ensure that the object does not appear null
      */
@@ -65,7 +74,7 @@ public class CellData<T> extends AbstractCell {
                 }
                 return;
             case NUMBER:
-                if (numberValue == null) {
+                if (!hasNumberValue()) {
                     type = CellDataTypeEnum.EMPTY;
                 }
                 return;
@@ -1,7 +1,9 @@
 package com.alibaba.excel.metadata.data;
 
+import com.alibaba.excel.util.DateUtils;
 import com.alibaba.excel.util.StringUtils;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,6 +27,40 @@ public class DataFormatData {
      */
     private String format;
 
+    /**
+     * Whether it's a date format, it's resolved on the first use and kept until the index or the format is changed.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private Boolean dateFormat;
+
+    public void setIndex(Short index) {
+        this.index = index;
+        this.dateFormat = null;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+        this.dateFormat = null;
+    }
+
+    /**
+     * Determine if it is a date format, which is only determined once for the object.
+     *
+     * @return true if it's a date format
+     * @see DateUtils#isADateFormat(Short, String)
+     */
+    public boolean isDateFormat() {
+        Boolean isDateFormat = dateFormat;
+        if (isDateFormat != null) {
+            return isDateFormat.booleanValue();
+        }
+        boolean resolved = DateUtils.isADateFormat(index, format);
+        dateFormat = resolved;
+        return resolved;
+    }
+
     /**
      * The source is not empty merge the data to the target.
      *
@@ -48,6 +84,7 @@ public class DataFormatData {
         DataFormatData dataFormatData = new DataFormatData();
         dataFormatData.setIndex(getIndex());
         dataFormatData.setFormat(getFormat());
+        dataFormatData.dateFormat = dateFormat;
         return dataFormatData;
     }
 }
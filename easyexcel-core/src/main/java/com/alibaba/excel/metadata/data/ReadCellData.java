@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import com.alibaba.excel.constant.EasyExcelConstants;
 import com.alibaba.excel.enums.CellDataTypeEnum;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,6 +23,21 @@ import lombok.Setter;
 @EqualsAndHashCode
 @NoArgsConstructor
 public class ReadCellData<T> extends CellData<T> {
+    /**
+     * The max scale and digits of a number kept in primitive types
+     */
+    public static final int MAX_PRIMITIVE_SCALE = EasyExcelConstants.EXCEL_MATH_CONTEXT.getPrecision();
+    private static final long[] LONG_POWERS_OF_TEN = new long[MAX_PRIMITIVE_SCALE + 1];
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_PRIMITIVE_SCALE + 1];
+
+    static {
+        long power = 1;
+        for (int i = 0; i <= MAX_PRIMITIVE_SCALE; i++) {
+            LONG_POWERS_OF_TEN[i] = power;
+            DOUBLE_POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
 
     /**
      * originalNumberValue vs numberValue
@@ -50,6 +66,25 @@ public class ReadCellData<T> extends CellData<T> {
      */
     private DataFormatData dataFormatData;
 
+    /**
+     * Whether the number value is kept as {@link #unscaledNumberValue} and {@link #numberScale}, the
+     * {@link BigDecimal} is only created when it's asked for.
+     * <p>
+     * A number of at most 15 digits is read like this, so it can be converted to a primitive type directly.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean primitiveNumberValue;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private long unscaledNumberValue;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int numberScale;
+
     public ReadCellData(CellDataTypeEnum type) {
         super();
         if (type == null) {
@@ -142,6 +177,122 @@ public class ReadCellData<T> extends CellData<T> {
         return cellData;
     }
 
+    /**
+     * Set the number value as an unscaled value and a scale, for example `-12.50` is `-1250` and `2`.
+     *
+     * @param unscaledValue the unscaled value, at most 15 digits
+     * @param scale         the scale, at most 15
+     */
+    public void setPrimitiveNumberValue(long unscaledValue, int scale) {
+        if (scale < 0 || scale > MAX_PRIMITIVE_SCALE) {
+            throw new IllegalArgumentException("Only support at most 15 scale");
+        }
+        long maxUnscaledValue = LONG_POWERS_OF_TEN[MAX_PRIMITIVE_SCALE];
+        if (unscaledValue <= -maxUnscaledValue || unscaledValue >= maxUnscaledValue) {
+            throw new IllegalArgumentException("Only support at most 15 digits");
+        }
+        super.setNumberValue(null);
+        this.originalNumberValue = null;
+        this.primitiveNumberValue = true;
+        this.unscaledNumberValue = unscaledValue;
+        this.numberScale = scale;
+    }
+
+    /**
+     * Same as {@code getNumberValue().longValue()}, but without creating the {@link BigDecimal} if it's not created
+     * yet.
+     *
+     * @return the number value
+     */
+    public long numberValueAsLong() {
+        if (primitiveNumberValue) {
+            return unscaledNumberValue / LONG_POWERS_OF_TEN[numberScale];
+        }
+        return getNumberValue().longValue();
+    }
+
+    /**
+     * Same as {@code getNumberValue().intValue()}, but without creating the {@link BigDecimal} if it's not created
+     * yet.
+     *
+     * @return the number value
+     */
+    public int numberValueAsInt() {
+        if (primitiveNumberValue) {
+            return (int)numberValueAsLong();
+        }
+        return getNumberValue().intValue();
+    }
+
+    /**
+     * Same as {@code getNumberValue().doubleValue()}, but without creating the {@link BigDecimal} if it's not created
+     * yet.
+     *
+     * @return the number value
+     */
+    public double numberValueAsDouble() {
+        if (primitiveNumberValue) {
+            // Both are exact doubles, so the quotient is rounded only once like parsing the text
+            return unscaledNumberValue / DOUBLE_POWERS_OF_TEN[numberScale];
+        }
+        return getNumberValue().doubleValue();
+    }
+
+    /**
+     * Same as {@code getNumberValue().floatValue()}, but without creating the {@link BigDecimal} if it's not created
+     * yet.
+     *
+     * @return the number value
+     */
+    public float numberValueAsFloat() {
+        // Going through a double may round twice, so only an integer is converted directly
+        if (primitiveNumberValue && numberScale == 0) {
+            return (float)unscaledNumberValue;
+        }
+        return getNumberValue().floatValue();
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        createNumberValue();
+        return super.getNumberValue();
+    }
+
+    @Override
+    public void setNumberValue(BigDecimal numberValue) {
+        createNumberValue();
+        primitiveNumberValue = false;
+        super.setNumberValue(numberValue);
+    }
+
+    public BigDecimal getOriginalNumberValue() {
+        createNumberValue();
+        return originalNumberValue;
+    }
+
+    public void setOriginalNumberValue(BigDecimal originalNumberValue) {
+        createNumberValue();
+        primitiveNumberValue = false;
+        this.originalNumberValue = originalNumberValue;
+    }
+
+    @Override
+    protected boolean hasNumberValue() {
+        return primitiveNumberValue || super.hasNumberValue();
+    }
+
+    /**
+     * A number of at most 15 digits doesn't change when rounded to the excel precision, so the original and the
+     * rounded value are the same.
+     */
+    private void createNumberValue() {
+        if (primitiveNumberValue && originalNumberValue == null) {
+            BigDecimal numberValue = BigDecimal.valueOf(unscaledNumberValue, numberScale);
+            super.setNumberValue(numberValue);
+            originalNumberValue = numberValue;
+        }
+    }
+
     @Override
     public ReadCellData<Object> clone() {
         ReadCellData<Object> readCellData = new ReadCellData<>();
@@ -0,0 +1,133 @@
+package com.alibaba.excel.metadata.format;
+
+import java.math.BigDecimal;
+import java.text.Format;
+
+import com.alibaba.excel.util.DateUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.poi.ss.format.CellFormat;
+import org.apache.poi.ss.usermodel.ExcelStyleDateFormatter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A data format that is compiled once by {@link DataFormatter#compile(Short, String, boolean)}.
+ * <p>
+ * Everything that only depends on the format string is resolved up front: whether it's a date, the conditional
+ * format of the multi-part formats and the {@link Format} without colours and locales. So formatting a value doesn't
+ * look up or parse anything, and doesn't use a regular expression.
+ * <p>
+ * It never changes after it's compiled, but the formats in it are not thread safe, so it's only used by the
+ * {@link DataFormatter} that compiled it.
+ *
+ * @author Jiaju Zhuang
+ */
+@Getter
+public class CompiledDataFormat {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDataFormat.class);
+    private static final char EXPONENT = 'E';
+
+    /**
+     * index
+     */
+    private final Short index;
+    /**
+     * format
+     */
+    private final String format;
+    /**
+     * Whether it's a date format
+     */
+    private final boolean dateFormat;
+    /**
+     * Only for the multi-part formats, null if it's not one or it can not be parsed
+     */
+    private final CellFormat cellFormat;
+    /**
+     * The format of the value, null if there is a conditional format
+     */
+    private final Format valueFormat;
+    private final boolean use1904windowing;
+    /**
+     * The formatter that compiled it, the format of the value is got from it when the conditional format fails
+     */
+    @Getter(AccessLevel.NONE)
+    private final DataFormatter dataFormatter;
+
+    CompiledDataFormat(Short index, String format, boolean dateFormat, CellFormat cellFormat, Format valueFormat,
+        boolean use1904windowing, DataFormatter dataFormatter) {
+        this.index = index;
+        this.format = format;
+        this.dateFormat = dateFormat;
+        this.cellFormat = cellFormat;
+        this.valueFormat = valueFormat;
+        this.use1904windowing = use1904windowing;
+        this.dataFormatter = dataFormatter;
+    }
+
+    /**
+     * Whether it's compiled from the format.
+     *
+     * @param format     format
+     * @param dateFormat Whether it's a date format
+     * @return true if it can be used for the format
+     */
+    public boolean matches(String format, boolean dateFormat) {
+        return this.dateFormat == dateFormat && this.format.equals(format);
+    }
+
+    /**
+     * Format data, the same as {@link DataFormatter#format(BigDecimal, Short, String, boolean)}.
+     *
+     * @param data
+     * @return
+     */
+    public String format(BigDecimal data) {
+        if (cellFormat == null) {
+            return formatValue(data, valueFormat);
+        }
+        try {
+            return formatConditional(data);
+        } catch (Exception e) {
+            LOGGER.warn("Formatting failed for format {}, falling back", format, e);
+        }
+        return formatValue(data, dataFormatter.getCachedFormat(index, format));
+    }
+
+    private String formatValue(BigDecimal data, Format javaFormat) {
+        if (dateFormat) {
+            double value = data.doubleValue();
+            if (javaFormat instanceof ExcelStyleDateFormatter) {
+                // Hint about the raw excel value
+                ((ExcelStyleDateFormatter)javaFormat).setDateToBeFormatted(value);
+            }
+            return javaFormat.format(DateUtils.getJavaDate(value, use1904windowing));
+        }
+        return fixExponent(javaFormat.format(data));
+    }
+
+    private String formatConditional(BigDecimal data) {
+        double value = data.doubleValue();
+        // CellFormat requires callers to identify date vs not, so do so
+        // don't try to handle Date value 0, let a 3 or 4-part format take care of it
+        Object cellValue = dateFormat && value != 0.0 ? DateUtils.getJavaDate(value, use1904windowing) : value;
+        String text = cellFormat.apply(cellValue).text.trim();
+        return dateFormat ? text : fixExponent(text);
+    }
+
+    /**
+     * Excel always writes the sign of the exponent, replace the first `E` followed by a digit with `E+`.
+     */
+    private static String fixExponent(String text) {
+        int length = text.length();
+        for (int i = text.indexOf(EXPONENT); i >= 0 && i < length - 1; i = text.indexOf(EXPONENT, i + 1)) {
+            char next = text.charAt(i + 1);
+            if (next >= '0' && next <= '9') {
+                return text.substring(0, i + 1) + '+' + text.substring(i + 1);
+            }
+        }
+        return text;
+    }
+}
@@ -26,6 +26,7 @@ import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -113,6 +114,11 @@ public class DataFormatter {
 
     private static final Pattern E_NOTATION_PATTERN = Pattern.compile("E(\\d)");
 
+    /**
+     * Enough for the built in formats and some custom ones, which start from 164.
+     */
+    private static final int DEFAULT_COMPILED_FORMATS_SIZE = 256;
+
     /**
      * Cells formatted with a date or time format and which contain invalid date or time values show 255 pound signs
      * ("#").
@@ -142,6 +148,10 @@ public class DataFormatter {
      * A map to cache formats. Map<String,Format> formats
      */
     private final Map<String, Format> formats = new HashMap<String, Format>();
+    /**
+     * The compiled formats by the index of the format.
+     */
+    private CompiledDataFormat[] compiledFormats = new CompiledDataFormat[DEFAULT_COMPILED_FORMATS_SIZE];
 
     /**
      * stores the locale valid it the last formatting call
@@ -224,6 +234,10 @@ public class DataFormatter {
             }
         }
 
+        return getCachedFormat(dataFormat, formatStr);
+    }
+
+    Format getCachedFormat(Short dataFormat, String formatStr) {
         // See if we already have it cached
         Format format = formats.get(formatStr);
         if (format != null) {
@@ -233,16 +247,63 @@ public class DataFormatter {
         // Is it one of the special built in types, General or @?
         if ("General".equalsIgnoreCase(formatStr) || "@".equals(formatStr)) {
             format = getDefaultFormat();
-            addFormat(formatStr, format);
+            formats.put(formatStr, format);
             return format;
         }
 
         // Build a formatter, and cache it
         format = createFormat(dataFormat, formatStr);
-        addFormat(formatStr, format);
+        formats.put(formatStr, format);
         return format;
     }
 
+    /**
+     * Compile a data format, the compiled one is cached by the index until another format is compiled with the same
+     * index.
+     *
+     * @param dataFormat       Not null.
+     * @param dataFormatString
+     * @param dateFormat       Whether it's a date format
+     * @return
+     */
+    public CompiledDataFormat compile(Short dataFormat, String dataFormatString, boolean dateFormat) {
+        int index = dataFormat;
+        if (index >= 0 && index < compiledFormats.length) {
+            CompiledDataFormat compiledDataFormat = compiledFormats[index];
+            if (compiledDataFormat != null && compiledDataFormat.matches(dataFormatString, dateFormat)) {
+                return compiledDataFormat;
+            }
+        }
+        CellFormat cellFormat = createCellFormat(dataFormatString);
+        CompiledDataFormat compiledDataFormat = new CompiledDataFormat(dataFormat, dataFormatString, dateFormat,
+            cellFormat, cellFormat == null ? getCachedFormat(dataFormat, dataFormatString) : null, use1904windowing,
+            this);
+        if (index >= 0) {
+            if (index >= compiledFormats.length) {
+                compiledFormats = Arrays.copyOf(compiledFormats, Math.max(index + 1, compiledFormats.length << 1));
+            }
+            compiledFormats[index] = compiledDataFormat;
+        }
+        return compiledDataFormat;
+    }
+
+    /**
+     * Only the multi-part formats are formatted by {@link CellFormat}, see {@link #getFormat(Double, Short, String)}.
+     */
+    private CellFormat createCellFormat(String formatStr) {
+        if (formatStr.contains(";") &&
+            (formatStr.indexOf(';') != formatStr.lastIndexOf(';')
+                || rangeConditionalPattern.matcher(formatStr).matches()
+            )) {
+            try {
+                return CellFormat.getInstance(locale, formatStr);
+            } catch (Exception e) {
+                LOGGER.warn("Formatting failed for format {}, falling back", formatStr, e);
+            }
+        }
+        return null;
+    }
+
 
 
     private Format createFormat(Short dataFormat, String dataFormatString) {
@@ -660,7 +721,20 @@ public class DataFormatter {
      * @return
      */
     public String format(BigDecimal data, Short dataFormat, String dataFormatString) {
-        if (DateUtils.isADateFormat(dataFormat, dataFormatString)) {
+        return format(data, dataFormat, dataFormatString, DateUtils.isADateFormat(dataFormat, dataFormatString));
+    }
+
+    /**
+     * Format data, with whether it's a date format that is already determined.
+     *
+     * @param data
+     * @param dataFormat
+     * @param dataFormatString
+     * @param dateFormat       Whether it's a date format
+     * @return
+     */
+    public String format(BigDecimal data, Short dataFormat, String dataFormatString, boolean dateFormat) {
+        if (dateFormat) {
             return getFormattedDateString(data.doubleValue(), dataFormat, dataFormatString);
         }
         return getFormattedNumberString(data, dataFormat, dataFormatString);
@@ -688,6 +762,7 @@ public class DataFormatter {
             }
         }
         defaultNumFormat = format;
+        Arrays.fill(compiledFormats, null);
     }
 
     /**
@@ -703,6 +778,7 @@ public class DataFormatter {
      */
     public void addFormat(String excelFormatStr, Format format) {
         formats.put(excelFormatStr, format);
+        Arrays.fill(compiledFormats, null);
     }
 
     // Some custom formats
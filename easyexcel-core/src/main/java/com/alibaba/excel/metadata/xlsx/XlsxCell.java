@@ -0,0 +1,298 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+import lombok.Getter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellBase;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+/**
+ * xlsx cell, it's kept until the row is written.
+ *
+ * @author Jiaju Zhuang
+ */
+@Getter
+public class XlsxCell extends CellBase {
+    /**
+     * row
+     */
+    private final XlsxRow xlsxRow;
+    /**
+     * column index
+     */
+    private final int columnIndex;
+    /**
+     * cell type
+     */
+    private CellType cellType;
+    /**
+     * {@link CellType#NUMERIC}
+     */
+    private double numberValue;
+    /**
+     * {@link CellType#STRING}
+     */
+    private String stringValue;
+    /**
+     * {@link CellType#BOOLEAN}
+     */
+    private boolean booleanValue;
+    /**
+     * {@link CellType#ERROR}
+     */
+    private byte errorValue;
+    /**
+     * {@link CellType#FORMULA}
+     */
+    private String formula;
+    /**
+     * The type of the value of {@link CellType#FORMULA}
+     */
+    private CellType formulaResultType;
+    /**
+     * style
+     */
+    private CellStyle cellStyle;
+    /**
+     * hyperlink
+     */
+    private Hyperlink hyperlink;
+
+    public XlsxCell(XlsxRow xlsxRow, int columnIndex, CellType cellType) {
+        this.xlsxRow = xlsxRow;
+        this.columnIndex = columnIndex;
+        this.cellType = cellType == null ? CellType.BLANK : cellType;
+    }
+
+    @Override
+    protected void setCellTypeImpl(CellType cellType) {
+        if (cellType == CellType.BLANK) {
+            stringValue = null;
+            formula = null;
+        }
+        this.cellType = cellType;
+    }
+
+    @Override
+    protected void setCellFormulaImpl(String formula) {
+        if (cellType != CellType.FORMULA) {
+            formulaResultType = cellType == CellType.BLANK ? CellType.NUMERIC : cellType;
+        }
+        this.formula = formula;
+        this.cellType = CellType.FORMULA;
+    }
+
+    @Override
+    protected void removeFormulaImpl() {
+        this.formula = null;
+        this.cellType = formulaResultType;
+    }
+
+    @Override
+    protected void setCellValueImpl(double value) {
+        this.numberValue = value;
+        setValueType(CellType.NUMERIC);
+    }
+
+    @Override
+    protected void setCellValueImpl(Date value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(LocalDateTime value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(Calendar value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(String value) {
+        this.stringValue = value;
+        setValueType(CellType.STRING);
+    }
+
+    /**
+     * Only the text is written
+     */
+    @Override
+    protected void setCellValueImpl(RichTextString value) {
+        setCellValueImpl(value.getString());
+    }
+
+    /**
+     * The value of a formula is kept as the cached result, the formula is not removed.
+     */
+    private void setValueType(CellType valueType) {
+        if (cellType == CellType.FORMULA) {
+            formulaResultType = valueType;
+            return;
+        }
+        cellType = valueType;
+    }
+
+    @Override
+    protected SpreadsheetVersion getSpreadsheetVersion() {
+        return SpreadsheetVersion.EXCEL2007;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return xlsxRow.getRowNum();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return xlsxRow.getSheet();
+    }
+
+    @Override
+    public Row getRow() {
+        return xlsxRow;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        if (cellType != CellType.FORMULA) {
+            throw new IllegalStateException("Only formula cells have cached results");
+        }
+        return formulaResultType;
+    }
+
+    @Override
+    public String getCellFormula() {
+        return formula;
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return getValueType() == CellType.NUMERIC ? numberValue : 0;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        if (getValueType() != CellType.NUMERIC) {
+            return null;
+        }
+        return DateUtil.getJavaDate(numberValue, false);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        if (getValueType() != CellType.NUMERIC) {
+            return null;
+        }
+        return DateUtil.getLocalDateTime(numberValue, false);
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return getValueType() == CellType.STRING ? stringValue : "";
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        this.booleanValue = value;
+        setValueType(CellType.BOOLEAN);
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        this.errorValue = value;
+        setValueType(CellType.ERROR);
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return getValueType() == CellType.BOOLEAN && booleanValue;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        return getValueType() == CellType.ERROR ? errorValue : FormulaError.NA.getCode();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        this.cellStyle = style;
+    }
+
+    @Override
+    public void setAsActiveCell() {
+
+    }
+
+    /**
+     * Comments are not supported
+     */
+    @Override
+    public void setCellComment(Comment comment) {
+        throw new UnsupportedOperationException("Comments are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public void removeCellComment() {
+
+    }
+
+    /**
+     * The same as xssf, the hyperlink is moved to this cell.
+     */
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        removeHyperlink();
+        if (link == null) {
+            return;
+        }
+        link.setFirstRow(getRowIndex());
+        link.setLastRow(getRowIndex());
+        link.setFirstColumn(columnIndex);
+        link.setLastColumn(columnIndex);
+        this.hyperlink = link;
+        xlsxRow.getXlsxSheet().addHyperlink(link);
+    }
+
+    @Override
+    public void removeHyperlink() {
+        if (hyperlink != null) {
+            xlsxRow.getXlsxSheet().removeHyperlink(hyperlink);
+            hyperlink = null;
+        }
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        return null;
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+}
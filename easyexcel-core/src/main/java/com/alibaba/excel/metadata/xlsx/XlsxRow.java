@@ -0,0 +1,254 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import lombok.Getter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * xlsx row, the cells are kept by the column index until the row is written.
+ *
+ * @author Jiaju Zhuang
+ */
+@Getter
+public class XlsxRow implements Row {
+    private static final int DEFAULT_CELL_SIZE = 16;
+    private static final float TWIPS_PER_POINT = 20F;
+    private static final short DEFAULT_HEIGHT = -1;
+
+    /**
+     * sheet
+     */
+    private final XlsxSheet xlsxSheet;
+    /**
+     * row index
+     */
+    private int rowIndex;
+    /**
+     * cells by the column index, the missing ones are null
+     */
+    private XlsxCell[] cells;
+    /**
+     * the last column index + 1
+     */
+    private int cellSize;
+    /**
+     * height in twips, {@link #DEFAULT_HEIGHT} means the default height
+     */
+    private short height;
+    /**
+     * hidden
+     */
+    private boolean zeroHeight;
+    /**
+     * style
+     */
+    private CellStyle rowStyle;
+
+    public XlsxRow(XlsxSheet xlsxSheet, int rowIndex) {
+        this.xlsxSheet = xlsxSheet;
+        this.rowIndex = rowIndex;
+        this.cells = new XlsxCell[DEFAULT_CELL_SIZE];
+        this.height = DEFAULT_HEIGHT;
+    }
+
+    @Override
+    public Cell createCell(int column) {
+        return createCell(column, CellType.BLANK);
+    }
+
+    @Override
+    public Cell createCell(int column, CellType type) {
+        int maxColumnIndex = SpreadsheetVersion.EXCEL2007.getLastColumnIndex();
+        if (column < 0 || column > maxColumnIndex) {
+            throw new IllegalArgumentException(
+                "Invalid column index (" + column + ").  Allowable column range for EXCEL2007 is (0.."
+                    + maxColumnIndex + ")");
+        }
+        if (column >= cells.length) {
+            cells = Arrays.copyOf(cells, Math.max(column + 1, cells.length << 1));
+        }
+        XlsxCell cell = new XlsxCell(this, column, type);
+        cells[column] = cell;
+        cellSize = Math.max(cellSize, column + 1);
+        return cell;
+    }
+
+    @Override
+    public void removeCell(Cell cell) {
+        int column = cell.getColumnIndex();
+        if (column < cellSize && cells[column] == cell) {
+            cells[column] = null;
+        }
+    }
+
+    @Override
+    public void setRowNum(int rowNum) {
+        this.rowIndex = rowNum;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowIndex;
+    }
+
+    @Override
+    public Cell getCell(int cellnum) {
+        return getCell(cellnum, MissingCellPolicy.RETURN_NULL_AND_BLANK);
+    }
+
+    @Override
+    public Cell getCell(int cellnum, MissingCellPolicy policy) {
+        XlsxCell cell = cellnum >= 0 && cellnum < cellSize ? cells[cellnum] : null;
+        switch (policy) {
+            case RETURN_BLANK_AS_NULL:
+                return cell == null || cell.getCellType() == CellType.BLANK ? null : cell;
+            case CREATE_NULL_AS_BLANK:
+                return cell == null ? createCell(cellnum) : cell;
+            default:
+                return cell;
+        }
+    }
+
+    @Override
+    public short getFirstCellNum() {
+        for (int i = 0; i < cellSize; i++) {
+            if (cells[i] != null) {
+                return (short)i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public short getLastCellNum() {
+        for (int i = cellSize - 1; i >= 0; i--) {
+            if (cells[i] != null) {
+                return (short)(i + 1);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getPhysicalNumberOfCells() {
+        int count = 0;
+        for (int i = 0; i < cellSize; i++) {
+            if (cells[i] != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void setHeight(short height) {
+        this.height = height;
+    }
+
+    @Override
+    public void setZeroHeight(boolean zHeight) {
+        this.zeroHeight = zHeight;
+    }
+
+    @Override
+    public boolean getZeroHeight() {
+        return zeroHeight;
+    }
+
+    @Override
+    public void setHeightInPoints(float height) {
+        this.height = height == DEFAULT_HEIGHT ? DEFAULT_HEIGHT : (short)(height * TWIPS_PER_POINT);
+    }
+
+    @Override
+    public short getHeight() {
+        return height == DEFAULT_HEIGHT ? xlsxSheet.getDefaultRowHeight() : height;
+    }
+
+    @Override
+    public float getHeightInPoints() {
+        return getHeight() / TWIPS_PER_POINT;
+    }
+
+    /**
+     * Whether the height is set
+     *
+     * @return
+     */
+    public boolean hasCustomHeight() {
+        return height != DEFAULT_HEIGHT;
+    }
+
+    @Override
+    public boolean isFormatted() {
+        return rowStyle != null;
+    }
+
+    @Override
+    public void setRowStyle(CellStyle style) {
+        this.rowStyle = style;
+    }
+
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return new Iterator<Cell>() {
+            private int index = nextIndex(0);
+
+            private int nextIndex(int from) {
+                int next = from;
+                while (next < cellSize && cells[next] == null) {
+                    next++;
+                }
+                return next;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < cellSize;
+            }
+
+            @Override
+            public Cell next() {
+                if (index >= cellSize) {
+                    throw new NoSuchElementException();
+                }
+                Cell cell = cells[index];
+                index = nextIndex(index + 1);
+                return cell;
+            }
+        };
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return xlsxSheet;
+    }
+
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    @Override
+    public void shiftCellsRight(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw new UnsupportedOperationException("Cells can not be shifted when writing xlsx directly.");
+    }
+
+    @Override
+    public void shiftCellsLeft(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw new UnsupportedOperationException("Cells can not be shifted when writing xlsx directly.");
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return cellIterator();
+    }
+}
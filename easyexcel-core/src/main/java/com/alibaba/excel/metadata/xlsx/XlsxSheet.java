@@ -0,0 +1,1157 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.util.ListUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.poi.common.usermodel.HyperlinkType;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.AutoFilter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellRange;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.Drawing;
+import org.apache.poi.ss.usermodel.Footer;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Header;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.PageMargin;
+import org.apache.poi.ss.usermodel.PaneType;
+import org.apache.poi.ss.usermodel.PrintSetup;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.SheetConditionalFormatting;
+import org.apache.poi.ss.usermodel.SheetVisibility;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.PaneInformation;
+
+/**
+ * xlsx sheet, the rows are written to the zip entry of the sheet once they are out of the row cache.
+ * <p>
+ * The column widths, the default sizes and the freeze pane are written before the first row, so they're ignored if
+ * they are set after the first rows are flushed. The rows must be created in order and the sheet can't be written
+ * after the next sheet is created.
+ * <p>
+ * The features that are not written, such as data validations, sheet protection and print settings, throw
+ * {@link UnsupportedOperationException} instead of being ignored.
+ *
+ * @author Jiaju Zhuang
+ */
+public class XlsxSheet implements Sheet, Closeable {
+    private static final int DEFAULT_COLUMN_WIDTH = 8;
+    private static final short DEFAULT_ROW_HEIGHT = 300;
+    private static final int COLUMN_WIDTH_UNIT = 256;
+    private static final float TWIPS_PER_POINT = 20F;
+    private static final float PIXELS_PER_CHARACTER = 7F;
+    /**
+     * The rows are flushed when there are twice as many rows as the row cache count, so at least so many rows can
+     * be got.
+     */
+    private static final int FLUSH_MULTIPLE = 2;
+
+    /**
+     * workbook
+     */
+    @Getter
+    private final XlsxWorkbook xlsxWorkbook;
+    /**
+     * The position of the sheet in the workbook
+     */
+    @Getter
+    private final int sheetIndex;
+    /**
+     * sheet name
+     */
+    private final String sheetName;
+    /**
+     * row cache
+     */
+    @Getter
+    private final int rowCacheCount;
+    /**
+     * row cache
+     */
+    private final List<XlsxRow> rowCache;
+    /**
+     * first row index
+     */
+    private int firstRowIndex;
+    /**
+     * last row index
+     */
+    private int lastRowIndex;
+    /**
+     * number of created rows
+     */
+    private int physicalNumberOfRows;
+    /**
+     * width and hidden of the columns
+     */
+    private final Map<Integer, XlsxColumn> columnMap;
+    /**
+     * default column width in characters, null means not set
+     */
+    private Integer defaultColumnWidth;
+    /**
+     * default row height in twips
+     */
+    private short defaultRowHeight;
+    /**
+     * Whether the default row height is set
+     */
+    private boolean customDefaultRowHeight;
+    /**
+     * freeze pane, null means no pane
+     */
+    private PaneInformation paneInformation;
+    /**
+     * merged regions
+     */
+    private final List<CellRangeAddress> mergedRegionList;
+    /**
+     * hyperlinks
+     */
+    private final List<Hyperlink> hyperlinkList;
+    /**
+     * visibility
+     */
+    @Getter
+    private SheetVisibility sheetVisibility;
+    /**
+     * Whether the head of the sheet is written
+     */
+    private boolean started;
+    /**
+     * Whether the whole sheet is written
+     */
+    @Getter
+    private boolean finished;
+
+    public XlsxSheet(XlsxWorkbook xlsxWorkbook, int sheetIndex, String sheetName, int rowCacheCount) {
+        this.xlsxWorkbook = xlsxWorkbook;
+        this.sheetIndex = sheetIndex;
+        this.sheetName = sheetName;
+        this.rowCacheCount = rowCacheCount;
+        this.rowCache = ListUtils.newArrayListWithExpectedSize(rowCacheCount * FLUSH_MULTIPLE);
+        this.firstRowIndex = -1;
+        this.lastRowIndex = -1;
+        this.columnMap = new TreeMap<>();
+        this.defaultRowHeight = DEFAULT_ROW_HEIGHT;
+        this.mergedRegionList = ListUtils.newArrayList();
+        this.hyperlinkList = ListUtils.newArrayList();
+        this.sheetVisibility = SheetVisibility.VISIBLE;
+    }
+
+    @Override
+    public Row createRow(int rownum) {
+        if (finished) {
+            throw new ExcelGenerateException("Can not write to the sheet '" + sheetName
+                + "' after the next sheet is created, the sheets are written one by one when writing xlsx directly.");
+        }
+        int maxRowIndex = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+        if (rownum < 0 || rownum > maxRowIndex) {
+            throw new IllegalArgumentException(
+                "Invalid row number (" + rownum + ") outside allowable range (0.." + maxRowIndex + ")");
+        }
+        if (rownum <= lastRowIndex) {
+            throw new IllegalArgumentException("Attempting to write a row[" + rownum + "] after the row["
+                + lastRowIndex + "], the rows must be created in order when writing xlsx directly.");
+        }
+        if (rowCache.size() >= rowCacheCount * FLUSH_MULTIPLE) {
+            flushRows(rowCacheCount);
+        }
+        XlsxRow row = new XlsxRow(this, rownum);
+        rowCache.add(row);
+        if (firstRowIndex < 0) {
+            firstRowIndex = rownum;
+        }
+        lastRowIndex = rownum;
+        physicalNumberOfRows++;
+        return row;
+    }
+
+    @Override
+    public void removeRow(Row row) {
+        if (!rowCache.remove(row)) {
+            throw new IllegalArgumentException("The row[" + row.getRowNum() + "] has been written.");
+        }
+        physicalNumberOfRows--;
+    }
+
+    /**
+     * Get a row in the row cache.
+     *
+     * @param rownum row index
+     * @return null if the row is not created or has been written
+     */
+    @Override
+    public Row getRow(int rownum) {
+        int low = 0;
+        int high = rowCache.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            XlsxRow row = rowCache.get(middle);
+            if (row.getRowNum() < rownum) {
+                low = middle + 1;
+            } else if (row.getRowNum() > rownum) {
+                high = middle - 1;
+            } else {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getPhysicalNumberOfRows() {
+        return physicalNumberOfRows;
+    }
+
+    @Override
+    public int getFirstRowNum() {
+        return firstRowIndex;
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return lastRowIndex;
+    }
+
+    @Override
+    public void setColumnHidden(int columnIndex, boolean hidden) {
+        columnMap.computeIfAbsent(columnIndex, key -> new XlsxColumn()).setHidden(hidden);
+    }
+
+    @Override
+    public boolean isColumnHidden(int columnIndex) {
+        XlsxColumn xlsxColumn = columnMap.get(columnIndex);
+        return xlsxColumn != null && xlsxColumn.isHidden();
+    }
+
+    @Override
+    public void setRightToLeft(boolean value) {
+
+    }
+
+    @Override
+    public boolean isRightToLeft() {
+        return false;
+    }
+
+    @Override
+    public void setColumnWidth(int columnIndex, int width) {
+        columnMap.computeIfAbsent(columnIndex, key -> new XlsxColumn()).setWidth(width);
+    }
+
+    @Override
+    public int getColumnWidth(int columnIndex) {
+        XlsxColumn xlsxColumn = columnMap.get(columnIndex);
+        if (xlsxColumn == null || xlsxColumn.getWidth() == null) {
+            return getDefaultColumnWidth() * COLUMN_WIDTH_UNIT;
+        }
+        return xlsxColumn.getWidth();
+    }
+
+    @Override
+    public float getColumnWidthInPixels(int columnIndex) {
+        return getColumnWidth(columnIndex) / (float)COLUMN_WIDTH_UNIT * PIXELS_PER_CHARACTER;
+    }
+
+    @Override
+    public void setDefaultColumnWidth(int width) {
+        this.defaultColumnWidth = width;
+    }
+
+    @Override
+    public int getDefaultColumnWidth() {
+        return defaultColumnWidth == null ? DEFAULT_COLUMN_WIDTH : defaultColumnWidth;
+    }
+
+    @Override
+    public short getDefaultRowHeight() {
+        return defaultRowHeight;
+    }
+
+    @Override
+    public float getDefaultRowHeightInPoints() {
+        return defaultRowHeight / TWIPS_PER_POINT;
+    }
+
+    @Override
+    public void setDefaultRowHeight(short height) {
+        this.defaultRowHeight = height;
+        this.customDefaultRowHeight = true;
+    }
+
+    @Override
+    public void setDefaultRowHeightInPoints(float height) {
+        setDefaultRowHeight((short)(height * TWIPS_PER_POINT));
+    }
+
+    @Override
+    public CellStyle getColumnStyle(int column) {
+        return null;
+    }
+
+    @Override
+    public int addMergedRegion(CellRangeAddress region) {
+        return addMergedRegionUnsafe(region);
+    }
+
+    @Override
+    public int addMergedRegionUnsafe(CellRangeAddress region) {
+        region.validate(SpreadsheetVersion.EXCEL2007);
+        mergedRegionList.add(region);
+        return mergedRegionList.size() - 1;
+    }
+
+    @Override
+    public void validateMergedRegions() {
+
+    }
+
+    @Override
+    public void setVerticallyCenter(boolean value) {
+
+    }
+
+    @Override
+    public void setHorizontallyCenter(boolean value) {
+
+    }
+
+    @Override
+    public boolean getHorizontallyCenter() {
+        return false;
+    }
+
+    @Override
+    public boolean getVerticallyCenter() {
+        return false;
+    }
+
+    @Override
+    public void removeMergedRegion(int index) {
+        mergedRegionList.remove(index);
+    }
+
+    @Override
+    public void removeMergedRegions(Collection<Integer> indices) {
+        List<Integer> indexList = new ArrayList<>(indices);
+        indexList.sort(Collections.reverseOrder());
+        for (Integer index : indexList) {
+            mergedRegionList.remove(index.intValue());
+        }
+    }
+
+    @Override
+    public int getNumMergedRegions() {
+        return mergedRegionList.size();
+    }
+
+    @Override
+    public CellRangeAddress getMergedRegion(int index) {
+        return mergedRegionList.get(index);
+    }
+
+    @Override
+    public List<CellRangeAddress> getMergedRegions() {
+        return Collections.unmodifiableList(mergedRegionList);
+    }
+
+    /**
+     * Only the rows in the row cache
+     */
+    @Override
+    public Iterator<Row> rowIterator() {
+        return (Iterator<Row>)(Iterator<? extends Row>)rowCache.iterator();
+    }
+
+    @Override
+    public void setForceFormulaRecalculation(boolean value) {
+
+    }
+
+    @Override
+    public boolean getForceFormulaRecalculation() {
+        return false;
+    }
+
+    @Override
+    public void setAutobreaks(boolean value) {
+
+    }
+
+    @Override
+    public void setDisplayGuts(boolean value) {
+
+    }
+
+    @Override
+    public void setDisplayZeros(boolean value) {
+
+    }
+
+    @Override
+    public boolean isDisplayZeros() {
+        return true;
+    }
+
+    @Override
+    public void setFitToPage(boolean value) {
+
+    }
+
+    @Override
+    public void setRowSumsBelow(boolean value) {
+
+    }
+
+    @Override
+    public void setRowSumsRight(boolean value) {
+
+    }
+
+    @Override
+    public boolean getAutobreaks() {
+        return false;
+    }
+
+    @Override
+    public boolean getDisplayGuts() {
+        return false;
+    }
+
+    @Override
+    public boolean getFitToPage() {
+        return false;
+    }
+
+    @Override
+    public boolean getRowSumsBelow() {
+        return false;
+    }
+
+    @Override
+    public boolean getRowSumsRight() {
+        return false;
+    }
+
+    @Override
+    public boolean isPrintGridlines() {
+        return false;
+    }
+
+    @Override
+    public void setPrintGridlines(boolean show) {
+        throw new UnsupportedOperationException("Print settings are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public boolean isPrintRowAndColumnHeadings() {
+        return false;
+    }
+
+    @Override
+    public void setPrintRowAndColumnHeadings(boolean show) {
+
+    }
+
+    @Override
+    public PrintSetup getPrintSetup() {
+        throw new UnsupportedOperationException("Print settings are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public Header getHeader() {
+        throw new UnsupportedOperationException("Headers and footers are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public Footer getFooter() {
+        throw new UnsupportedOperationException("Headers and footers are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void setSelected(boolean value) {
+        throw new UnsupportedOperationException("Selecting sheets is not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public double getMargin(short margin) {
+        return 0;
+    }
+
+    @Override
+    public double getMargin(PageMargin pageMargin) {
+        return 0;
+    }
+
+    @Override
+    public void setMargin(short margin, double size) {
+        throw new UnsupportedOperationException("Margins are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void setMargin(PageMargin pageMargin, double v) {
+        throw new UnsupportedOperationException("Margins are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public boolean getProtect() {
+        return false;
+    }
+
+    @Override
+    public void protectSheet(String password) {
+        throw new UnsupportedOperationException("Protecting sheets is not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public boolean getScenarioProtect() {
+        return false;
+    }
+
+    @Override
+    public void setZoom(int scale) {
+
+    }
+
+    @Override
+    public short getTopRow() {
+        return 0;
+    }
+
+    @Override
+    public short getLeftCol() {
+        return 0;
+    }
+
+    @Override
+    public void showInPane(int topRow, int leftCol) {
+
+    }
+
+    @Override
+    public void shiftRows(int startRow, int endRow, int n) {
+        throw new UnsupportedOperationException("Rows can not be shifted when writing xlsx directly.");
+    }
+
+    @Override
+    public void shiftRows(int startRow, int endRow, int n, boolean copyRowHeight, boolean resetOriginalRowHeight) {
+        throw new UnsupportedOperationException("Rows can not be shifted when writing xlsx directly.");
+    }
+
+    @Override
+    public void shiftColumns(int startColumn, int endColumn, int n) {
+        throw new UnsupportedOperationException("Columns can not be shifted when writing xlsx directly.");
+    }
+
+    @Override
+    public void createFreezePane(int colSplit, int rowSplit, int leftmostColumn, int topRow) {
+        if (colSplit == 0 && rowSplit == 0) {
+            paneInformation = null;
+            return;
+        }
+        byte activePane;
+        if (colSplit == 0) {
+            activePane = PaneInformation.PANE_LOWER_LEFT;
+        } else if (rowSplit == 0) {
+            activePane = PaneInformation.PANE_UPPER_RIGHT;
+        } else {
+            activePane = PaneInformation.PANE_LOWER_RIGHT;
+        }
+        paneInformation = new PaneInformation((short)colSplit, (short)rowSplit, (short)topRow, (short)leftmostColumn,
+            activePane, true);
+    }
+
+    @Override
+    public void createFreezePane(int colSplit, int rowSplit) {
+        createFreezePane(colSplit, rowSplit, colSplit, rowSplit);
+    }
+
+    @Override
+    public void createSplitPane(int xSplitPos, int ySplitPos, int leftmostColumn, int topRow, int activePane) {
+
+    }
+
+    @Override
+    public void createSplitPane(int i, int i1, int i2, int i3, PaneType paneType) {
+
+    }
+
+    @Override
+    public PaneInformation getPaneInformation() {
+        return paneInformation;
+    }
+
+    @Override
+    public void setDisplayGridlines(boolean show) {
+
+    }
+
+    @Override
+    public boolean isDisplayGridlines() {
+        return true;
+    }
+
+    @Override
+    public void setDisplayFormulas(boolean show) {
+
+    }
+
+    @Override
+    public boolean isDisplayFormulas() {
+        return false;
+    }
+
+    @Override
+    public void setDisplayRowColHeadings(boolean show) {
+
+    }
+
+    @Override
+    public boolean isDisplayRowColHeadings() {
+        return true;
+    }
+
+    @Override
+    public void setRowBreak(int row) {
+
+    }
+
+    @Override
+    public boolean isRowBroken(int row) {
+        return false;
+    }
+
+    @Override
+    public void removeRowBreak(int row) {
+
+    }
+
+    @Override
+    public int[] getRowBreaks() {
+        return new int[0];
+    }
+
+    @Override
+    public int[] getColumnBreaks() {
+        return new int[0];
+    }
+
+    @Override
+    public void setColumnBreak(int column) {
+
+    }
+
+    @Override
+    public boolean isColumnBroken(int column) {
+        return false;
+    }
+
+    @Override
+    public void removeColumnBreak(int column) {
+
+    }
+
+    @Override
+    public void setColumnGroupCollapsed(int columnNumber, boolean collapsed) {
+
+    }
+
+    @Override
+    public void groupColumn(int fromColumn, int toColumn) {
+
+    }
+
+    @Override
+    public void ungroupColumn(int fromColumn, int toColumn) {
+
+    }
+
+    @Override
+    public void groupRow(int fromRow, int toRow) {
+
+    }
+
+    @Override
+    public void ungroupRow(int fromRow, int toRow) {
+
+    }
+
+    @Override
+    public void setRowGroupCollapsed(int row, boolean collapse) {
+
+    }
+
+    @Override
+    public void setDefaultColumnStyle(int column, CellStyle style) {
+        throw new UnsupportedOperationException("Column styles are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void autoSizeColumn(int column) {
+        throw new UnsupportedOperationException("Auto sizing columns is not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void autoSizeColumn(int column, boolean useMergedCells) {
+        throw new UnsupportedOperationException("Auto sizing columns is not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public Comment getCellComment(CellAddress ref) {
+        return null;
+    }
+
+    @Override
+    public Map<CellAddress, ? extends Comment> getCellComments() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Drawing<?> getDrawingPatriarch() {
+        return null;
+    }
+
+    /**
+     * Images and comments are not supported
+     */
+    @Override
+    public Drawing<?> createDrawingPatriarch() {
+        throw new UnsupportedOperationException("Images and comments are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public Workbook getWorkbook() {
+        return xlsxWorkbook;
+    }
+
+    @Override
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    @Override
+    public boolean isSelected() {
+        return sheetIndex == xlsxWorkbook.getActiveSheetIndex();
+    }
+
+    @Override
+    public CellRange<? extends Cell> setArrayFormula(String formula, CellRangeAddress range) {
+        throw new UnsupportedOperationException("Array formulas are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public CellRange<? extends Cell> removeArrayFormula(Cell cell) {
+        throw new UnsupportedOperationException("Array formulas are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public DataValidationHelper getDataValidationHelper() {
+        throw new UnsupportedOperationException("Data validations are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public List<? extends DataValidation> getDataValidations() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void addValidationData(DataValidation dataValidation) {
+        throw new UnsupportedOperationException("Data validations are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public AutoFilter setAutoFilter(CellRangeAddress range) {
+        throw new UnsupportedOperationException("Auto filters are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public SheetConditionalFormatting getSheetConditionalFormatting() {
+        throw new UnsupportedOperationException(
+            "Conditional formattings are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public CellRangeAddress getRepeatingRows() {
+        return null;
+    }
+
+    @Override
+    public CellRangeAddress getRepeatingColumns() {
+        return null;
+    }
+
+    @Override
+    public void setRepeatingRows(CellRangeAddress rowRangeRef) {
+
+    }
+
+    @Override
+    public void setRepeatingColumns(CellRangeAddress columnRangeRef) {
+
+    }
+
+    @Override
+    public int getColumnOutlineLevel(int columnIndex) {
+        return 0;
+    }
+
+    @Override
+    public Hyperlink getHyperlink(int row, int column) {
+        for (Hyperlink hyperlink : hyperlinkList) {
+            if (hyperlink.getFirstRow() == row && hyperlink.getFirstColumn() == column) {
+                return hyperlink;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Hyperlink getHyperlink(CellAddress addr) {
+        return getHyperlink(addr.getRow(), addr.getColumn());
+    }
+
+    @Override
+    public List<? extends Hyperlink> getHyperlinkList() {
+        return Collections.unmodifiableList(hyperlinkList);
+    }
+
+    @Override
+    public CellAddress getActiveCell() {
+        return null;
+    }
+
+    @Override
+    public void setActiveCell(CellAddress address) {
+
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return rowIterator();
+    }
+
+    public void setSheetVisibility(SheetVisibility sheetVisibility) {
+        this.sheetVisibility = sheetVisibility;
+    }
+
+    public void addHyperlink(Hyperlink hyperlink) {
+        hyperlinkList.add(hyperlink);
+    }
+
+    public void removeHyperlink(Hyperlink hyperlink) {
+        hyperlinkList.remove(hyperlink);
+    }
+
+    /**
+     * Write the rest rows and the end of the sheet, nothing can be written to the sheet after it.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        flushRows(rowCache.size());
+        writeSheetEnd();
+    }
+
+    private void flushRows(int count) {
+        try {
+            XlsxXmlWriter writer = startSheet();
+            for (int i = 0; i < count; i++) {
+                writeRow(writer, rowCache.get(i));
+            }
+        } catch (IOException e) {
+            throw new ExcelGenerateException(e);
+        }
+        rowCache.subList(0, count).clear();
+    }
+
+    private XlsxXmlWriter startSheet() throws IOException {
+        if (started) {
+            return xlsxWorkbook.getXmlWriter();
+        }
+        started = true;
+        XlsxXmlWriter writer = xlsxWorkbook.putNextEntry(XlsxWorkbook.sheetPartName(sheetIndex));
+        writer.write(XlsxWorkbook.XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + XlsxWorkbook.MAIN_NAMESPACE + "\" xmlns:r=\""
+            + XlsxWorkbook.RELATIONSHIPS_NAMESPACE + "\">");
+        writeSheetViews(writer);
+        writer.write("<sheetFormatPr");
+        if (defaultColumnWidth != null) {
+            writer.write(" baseColWidth=\"");
+            writer.writeInt(defaultColumnWidth);
+            writer.write('"');
+        }
+        writer.write(" defaultRowHeight=\"");
+        writer.writeNumber(getDefaultRowHeightInPoints());
+        writer.write('"');
+        if (customDefaultRowHeight) {
+            writer.write(" customHeight=\"1\"");
+        }
+        writer.write("/>");
+        writeColumns(writer);
+        writer.write("<sheetData>");
+        return writer;
+    }
+
+    private void writeSheetViews(XlsxXmlWriter writer) throws IOException {
+        writer.write("<sheetViews><sheetView workbookViewId=\"0\"");
+        if (isSelected()) {
+            writer.write(" tabSelected=\"1\"");
+        }
+        if (paneInformation == null) {
+            writer.write("/></sheetViews>");
+            return;
+        }
+        writer.write("><pane");
+        if (paneInformation.getVerticalSplitPosition() > 0) {
+            writer.write(" xSplit=\"");
+            writer.writeInt(paneInformation.getVerticalSplitPosition());
+            writer.write('"');
+        }
+        if (paneInformation.getHorizontalSplitPosition() > 0) {
+            writer.write(" ySplit=\"");
+            writer.writeInt(paneInformation.getHorizontalSplitPosition());
+            writer.write('"');
+        }
+        writer.write(" topLeftCell=\"");
+        writer.write(xlsxWorkbook.columnName(paneInformation.getVerticalSplitLeftColumn()));
+        writer.writeInt(paneInformation.getHorizontalSplitTopRow() + 1);
+        writer.write("\" activePane=\"");
+        writer.write(activePaneName(paneInformation.getActivePane()));
+        writer.write("\" state=\"frozen\"/></sheetView></sheetViews>");
+    }
+
+    private static String activePaneName(byte activePane) {
+        switch (activePane) {
+            case PaneInformation.PANE_LOWER_LEFT:
+                return "bottomLeft";
+            case PaneInformation.PANE_UPPER_RIGHT:
+                return "topRight";
+            default:
+                return "bottomRight";
+        }
+    }
+
+    private void writeColumns(XlsxXmlWriter writer) throws IOException {
+        if (columnMap.isEmpty()) {
+            return;
+        }
+        writer.write("<cols>");
+        for (Map.Entry<Integer, XlsxColumn> entry : columnMap.entrySet()) {
+            XlsxColumn xlsxColumn = entry.getValue();
+            writer.write("<col min=\"");
+            writer.writeInt(entry.getKey() + 1);
+            writer.write("\" max=\"");
+            writer.writeInt(entry.getKey() + 1);
+            writer.write('"');
+            if (xlsxColumn.getWidth() != null) {
+                writer.write(" width=\"");
+                writer.writeNumber(xlsxColumn.getWidth() / (double)COLUMN_WIDTH_UNIT);
+                writer.write("\" customWidth=\"1\"");
+            }
+            if (xlsxColumn.isHidden()) {
+                writer.write(" hidden=\"1\"");
+            }
+            writer.write("/>");
+        }
+        writer.write("</cols>");
+    }
+
+    private void writeRow(XlsxXmlWriter writer, XlsxRow row) throws IOException {
+        int rowNumber = row.getRowNum() + 1;
+        writer.write("<row r=\"");
+        writer.writeInt(rowNumber);
+        writer.write('"');
+        if (row.hasCustomHeight()) {
+            writer.write(" ht=\"");
+            writer.writeNumber(row.getHeightInPoints());
+            writer.write("\" customHeight=\"1\"");
+        }
+        if (row.getZeroHeight()) {
+            writer.write(" hidden=\"1\"");
+        }
+        if (row.getRowStyle() != null) {
+            writer.write(" s=\"");
+            writer.writeInt(styleIndex(row.getRowStyle()));
+            writer.write("\" customFormat=\"1\"");
+        }
+        writer.write('>');
+        XlsxCell[] cells = row.getCells();
+        for (int i = 0; i < row.getCellSize(); i++) {
+            if (cells[i] != null) {
+                writeCell(writer, cells[i], rowNumber);
+            }
+        }
+        writer.write("</row>");
+    }
+
+    private void writeCell(XlsxXmlWriter writer, XlsxCell cell, int rowNumber) throws IOException {
+        CellType cellType = cell.getCellType();
+        int styleIndex = styleIndex(cell.getCellStyle());
+        if (cellType == CellType.BLANK && styleIndex == 0) {
+            return;
+        }
+        writer.write("<c r=\"");
+        writer.write(xlsxWorkbook.columnName(cell.getColumnIndex()));
+        writer.writeInt(rowNumber);
+        writer.write('"');
+        if (styleIndex != 0) {
+            writer.write(" s=\"");
+            writer.writeInt(styleIndex);
+            writer.write('"');
+        }
+        switch (cellType) {
+            case NUMERIC:
+                writer.write("><v>");
+                writer.writeNumber(cell.getNumberValue());
+                writer.write("</v></c>");
+                return;
+            case STRING:
+                writeString(writer, cell.getStringValue());
+                return;
+            case BOOLEAN:
+                writer.write(cell.isBooleanValue() ? " t=\"b\"><v>1</v></c>" : " t=\"b\"><v>0</v></c>");
+                return;
+            case ERROR:
+                writer.write(" t=\"e\"><v>");
+                writer.writeEscaped(FormulaError.forInt(cell.getErrorValue()).getString());
+                writer.write("</v></c>");
+                return;
+            case FORMULA:
+                xlsxWorkbook.setFormulaWritten(true);
+                writer.write("><f>");
+                writer.writeEscaped(cell.getFormula());
+                writer.write("</f></c>");
+                return;
+            default:
+                writer.write("/>");
+        }
+    }
+
+    private void writeString(XlsxXmlWriter writer, String value) throws IOException {
+        if (xlsxWorkbook.getUseSharedStringsTable()) {
+            writer.write(" t=\"s\"><v>");
+            writer.writeInt(xlsxWorkbook.sharedStringIndex(value));
+            writer.write("</v></c>");
+            return;
+        }
+        writer.write(" t=\"inlineStr\"><is>");
+        XlsxWorkbook.writeText(writer, value);
+        writer.write("</is></c>");
+    }
+
+    private static int styleIndex(CellStyle cellStyle) {
+        if (cellStyle == null) {
+            return 0;
+        }
+        return Short.toUnsignedInt(cellStyle.getIndex());
+    }
+
+    private void writeSheetEnd() throws IOException {
+        XlsxXmlWriter writer = startSheet();
+        writer.write("</sheetData>");
+        if (!mergedRegionList.isEmpty()) {
+            writer.write("<mergeCells count=\"");
+            writer.writeInt(mergedRegionList.size());
+            writer.write("\">");
+            for (CellRangeAddress cellRangeAddress : mergedRegionList) {
+                writer.write("<mergeCell ref=\"");
+                writer.write(cellRangeAddress.formatAsString());
+                writer.write("\"/>");
+            }
+            writer.write("</mergeCells>");
+        }
+        List<Hyperlink> externalHyperlinkList = writeHyperlinks(writer);
+        writer.write("</worksheet>");
+        xlsxWorkbook.closeEntry();
+        if (externalHyperlinkList.isEmpty()) {
+            return;
+        }
+        writer = xlsxWorkbook.putNextEntry(XlsxWorkbook.sheetRelationshipsPartName(sheetIndex));
+        writer.write(XlsxWorkbook.XML_DECLARATION);
+        writer.write("<Relationships xmlns=\"" + XlsxWorkbook.PACKAGE_RELATIONSHIPS_NAMESPACE + "\">");
+        for (int i = 0; i < externalHyperlinkList.size(); i++) {
+            writer.write("<Relationship Id=\"rId");
+            writer.writeInt(i + 1);
+            writer.write("\" Type=\"" + XlsxWorkbook.HYPERLINK_RELATIONSHIP_TYPE + "\" Target=\"");
+            writer.writeEscaped(externalHyperlinkList.get(i).getAddress());
+            writer.write("\" TargetMode=\"External\"/>");
+        }
+        writer.write("</Relationships>");
+        xlsxWorkbook.closeEntry();
+    }
+
+    /**
+     * @return The hyperlinks to the outside of the workbook, they are in the relationships of the sheet.
+     */
+    private List<Hyperlink> writeHyperlinks(XlsxXmlWriter writer) throws IOException {
+        List<Hyperlink> externalHyperlinkList = ListUtils.newArrayList();
+        boolean hasHyperlink = false;
+        for (Hyperlink hyperlink : hyperlinkList) {
+            if (hyperlink.getType() == HyperlinkType.NONE || hyperlink.getAddress() == null) {
+                continue;
+            }
+            if (!hasHyperlink) {
+                writer.write("<hyperlinks>");
+                hasHyperlink = true;
+            }
+            writer.write("<hyperlink ref=\"");
+            writer.write(new CellRangeAddress(hyperlink.getFirstRow(), hyperlink.getLastRow(),
+                hyperlink.getFirstColumn(), hyperlink.getLastColumn()).formatAsString());
+            if (hyperlink.getType() == HyperlinkType.DOCUMENT) {
+                writer.write("\" location=\"");
+                writer.writeEscaped(hyperlink.getAddress());
+            } else {
+                externalHyperlinkList.add(hyperlink);
+                writer.write("\" r:id=\"rId");
+                writer.writeInt(externalHyperlinkList.size());
+            }
+            writer.write("\"/>");
+        }
+        if (hasHyperlink) {
+            writer.write("</hyperlinks>");
+        }
+        return externalHyperlinkList;
+    }
+
+    /**
+     * width and hidden of a column
+     */
+    @Getter
+    @Setter
+    private static class XlsxColumn {
+        /**
+         * width in 1/256 of a character, null means the default width
+         */
+        private Integer width;
+        /**
+         * hidden
+         */
+        private boolean hidden;
+    }
+}
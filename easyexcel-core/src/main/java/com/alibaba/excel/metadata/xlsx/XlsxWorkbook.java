@@ -0,0 +1,689 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.util.ListUtils;
+import com.alibaba.excel.util.MapUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.formula.EvaluationWorkbook;
+import org.apache.poi.ss.formula.udf.UDFFinder;
+import org.apache.poi.ss.usermodel.CellReferenceType;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.PictureData;
+import org.apache.poi.ss.usermodel.Row.MissingCellPolicy;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.SheetVisibility;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * xlsx workbook that writes the rows directly to the output stream.
+ * <p>
+ * Each sheet is a zip entry, which is written while the rows are created, so no temporary file is needed. The styles,
+ * fonts and data formats are created by a {@link XSSFWorkbook} without sheets, and the other parts are written when
+ * the workbook is written. The strings are inline strings, or in the shared strings table if `useSharedStringsTable`
+ * is true, which keeps all the different strings in memory.
+ * <p>
+ * Images, comments and rich text fonts are not supported.
+ *
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+public class XlsxWorkbook implements Workbook {
+    public static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    public static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    public static final String RELATIONSHIPS_NAMESPACE
+        = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    public static final String PACKAGE_RELATIONSHIPS_NAMESPACE
+        = "http://schemas.openxmlformats.org/package/2006/relationships";
+    public static final String HYPERLINK_RELATIONSHIP_TYPE = RELATIONSHIPS_NAMESPACE + "/hyperlink";
+
+    private static final String CONTENT_TYPES_NAMESPACE
+        = "http://schemas.openxmlformats.org/package/2006/content-types";
+    private static final String CONTENT_TYPE_PREFIX = "application/vnd.openxmlformats-officedocument.spreadsheetml.";
+    private static final String WORKBOOK_PART_NAME = "xl/workbook.xml";
+    private static final String STYLES_PART_NAME = "xl/styles.xml";
+    private static final String SHARED_STRINGS_PART_NAME = "xl/sharedStrings.xml";
+    private static final int DEFAULT_ROW_CACHE_COUNT = 100;
+    private static final int DEFAULT_COLUMN_NAME_SIZE = 64;
+
+    /**
+     * output
+     */
+    private XlsxZipOutputStream zipOutputStream;
+    /**
+     * The xml writer of the current zip entry
+     */
+    private XlsxXmlWriter xmlWriter;
+    /**
+     * Create the styles, fonts and data formats
+     */
+    private XSSFWorkbook styleWorkbook;
+    /**
+     * sheets
+     */
+    private List<XlsxSheet> sheetList;
+    /**
+     * Number of rows kept in memory of a sheet before they are written
+     */
+    private int rowCacheCount;
+    /**
+     * active sheet
+     */
+    private int activeSheetIndex;
+    /**
+     * Use the shared strings table, or the inline strings.
+     * <p>
+     * default is false
+     */
+    private Boolean useSharedStringsTable;
+    /**
+     * the index of the shared strings
+     */
+    private Map<String, Integer> sharedStringMap;
+    /**
+     * the number of the shared strings written
+     */
+    private int sharedStringCount;
+    /**
+     * Whether there are formulas, they are calculated when the file is opened
+     */
+    private boolean formulaWritten;
+    /**
+     * Whether the workbook is written
+     */
+    private boolean written;
+    /**
+     * The names of the columns, like "A"
+     */
+    private String[] columnNames;
+
+    /**
+     * @param outputStream          output
+     * @param useSharedStringsTable use the shared strings table, or the inline strings
+     * @param compressionLevel      compression level, see {@link java.util.zip.Deflater}
+     * @param compressionExecutor   deflate the sheets in blocks on it, or null to deflate on the current thread
+     */
+    public XlsxWorkbook(OutputStream outputStream, Boolean useSharedStringsTable, int compressionLevel,
+        Executor compressionExecutor) {
+        this.zipOutputStream = new XlsxZipOutputStream(outputStream, compressionLevel, compressionExecutor);
+        this.xmlWriter = new XlsxXmlWriter(zipOutputStream);
+        this.styleWorkbook = new XSSFWorkbook();
+        this.sheetList = ListUtils.newArrayList();
+        this.rowCacheCount = DEFAULT_ROW_CACHE_COUNT;
+        this.useSharedStringsTable = Boolean.TRUE.equals(useSharedStringsTable);
+        if (this.useSharedStringsTable) {
+            this.sharedStringMap = MapUtils.newLinkedHashMap();
+        }
+        this.columnNames = new String[DEFAULT_COLUMN_NAME_SIZE];
+    }
+
+    /**
+     * Start a zip entry, the previous one must be closed.
+     *
+     * @param name entry name
+     * @return the xml writer of the entry
+     * @throws IOException
+     */
+    public XlsxXmlWriter putNextEntry(String name) throws IOException {
+        zipOutputStream.putNextEntry(name);
+        return xmlWriter;
+    }
+
+    /**
+     * Close the current zip entry
+     *
+     * @throws IOException
+     */
+    public void closeEntry() throws IOException {
+        xmlWriter.flush();
+        zipOutputStream.closeEntry();
+    }
+
+    /**
+     * Get the name of a column, like "A"
+     *
+     * @param columnIndex column index
+     * @return column name
+     */
+    public String columnName(int columnIndex) {
+        if (columnIndex >= columnNames.length) {
+            columnNames = Arrays.copyOf(columnNames, Math.max(columnIndex + 1, columnNames.length << 1));
+        }
+        String columnName = columnNames[columnIndex];
+        if (columnName == null) {
+            columnName = CellReference.convertNumToColString(columnIndex);
+            columnNames[columnIndex] = columnName;
+        }
+        return columnName;
+    }
+
+    /**
+     * Get the index of a string in the shared strings table
+     *
+     * @param value string
+     * @return index
+     */
+    public int sharedStringIndex(String value) {
+        sharedStringCount++;
+        Integer index = sharedStringMap.get(value);
+        if (index != null) {
+            return index.intValue();
+        }
+        int newIndex = sharedStringMap.size();
+        sharedStringMap.put(value, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Write a `t` element of a string
+     *
+     * @param writer xml writer
+     * @param value  string
+     * @throws IOException
+     */
+    public static void writeText(XlsxXmlWriter writer, String value) throws IOException {
+        writer.write(XlsxXmlWriter.needPreserveSpace(value) ? "<t xml:space=\"preserve\">" : "<t>");
+        writer.writeEscaped(value);
+        writer.write("</t>");
+    }
+
+    public static String sheetPartName(int sheetIndex) {
+        return "xl/worksheets/sheet" + (sheetIndex + 1) + ".xml";
+    }
+
+    public static String sheetRelationshipsPartName(int sheetIndex) {
+        return "xl/worksheets/_rels/sheet" + (sheetIndex + 1) + ".xml.rels";
+    }
+
+    @Override
+    public int getActiveSheetIndex() {
+        return activeSheetIndex;
+    }
+
+    @Override
+    public void setActiveSheet(int sheetIndex) {
+        this.activeSheetIndex = sheetIndex;
+    }
+
+    @Override
+    public int getFirstVisibleTab() {
+        return 0;
+    }
+
+    @Override
+    public void setFirstVisibleTab(int sheetIndex) {
+
+    }
+
+    @Override
+    public void setSheetOrder(String sheetname, int pos) {
+        throw new UnsupportedOperationException("The sheet order can not be changed when writing xlsx directly.");
+    }
+
+    @Override
+    public void setSelectedTab(int index) {
+
+    }
+
+    @Override
+    public void setSheetName(int sheet, String name) {
+        throw new UnsupportedOperationException("The sheet name can not be changed when writing xlsx directly.");
+    }
+
+    @Override
+    public String getSheetName(int sheet) {
+        return getSheetAt(sheet).getSheetName();
+    }
+
+    @Override
+    public int getSheetIndex(String name) {
+        for (XlsxSheet xlsxSheet : sheetList) {
+            if (xlsxSheet.getSheetName().equalsIgnoreCase(name)) {
+                return xlsxSheet.getSheetIndex();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getSheetIndex(Sheet sheet) {
+        return sheetList.indexOf(sheet);
+    }
+
+    @Override
+    public Sheet createSheet() {
+        return createSheet("Sheet" + sheetList.size());
+    }
+
+    /**
+     * Create a sheet, the previous sheet is finished.
+     *
+     * @param sheetname sheet name
+     * @return sheet
+     */
+    @Override
+    public Sheet createSheet(String sheetname) {
+        WorkbookUtil.validateSheetName(sheetname);
+        if (getSheetIndex(sheetname) >= 0) {
+            throw new IllegalArgumentException("The workbook already contains a sheet named '" + sheetname + "'");
+        }
+        if (!sheetList.isEmpty()) {
+            try {
+                sheetList.get(sheetList.size() - 1).close();
+            } catch (IOException e) {
+                throw new ExcelGenerateException(e);
+            }
+        }
+        XlsxSheet xlsxSheet = new XlsxSheet(this, sheetList.size(), sheetname, rowCacheCount);
+        sheetList.add(xlsxSheet);
+        return xlsxSheet;
+    }
+
+    @Override
+    public Sheet cloneSheet(int sheetNum) {
+        throw new UnsupportedOperationException("Sheets can not be cloned when writing xlsx directly.");
+    }
+
+    @Override
+    public Iterator<Sheet> sheetIterator() {
+        return (Iterator<Sheet>)(Iterator<? extends Sheet>)sheetList.iterator();
+    }
+
+    @Override
+    public int getNumberOfSheets() {
+        return sheetList.size();
+    }
+
+    @Override
+    public Sheet getSheetAt(int index) {
+        if (sheetList.isEmpty()) {
+            throw new IllegalArgumentException("Sheet index (" + index + ") is out of range (no sheets)");
+        }
+        if (index < 0 || index >= sheetList.size()) {
+            throw new IllegalArgumentException(
+                "Sheet index (" + index + ") is out of range (0.." + (sheetList.size() - 1) + ")");
+        }
+        return sheetList.get(index);
+    }
+
+    @Override
+    public Sheet getSheet(String name) {
+        int index = getSheetIndex(name);
+        return index < 0 ? null : sheetList.get(index);
+    }
+
+    @Override
+    public void removeSheetAt(int index) {
+        throw new UnsupportedOperationException("Sheets can not be removed when writing xlsx directly.");
+    }
+
+    @Override
+    public Font createFont() {
+        return styleWorkbook.createFont();
+    }
+
+    @Override
+    public Font findFont(boolean bold, short color, short fontHeight, String name, boolean italic, boolean strikeout,
+        short typeOffset, byte underline) {
+        return styleWorkbook.findFont(bold, color, fontHeight, name, italic, strikeout, typeOffset, underline);
+    }
+
+    @Override
+    public int getNumberOfFonts() {
+        return styleWorkbook.getNumberOfFonts();
+    }
+
+    @Override
+    public int getNumberOfFontsAsInt() {
+        return styleWorkbook.getNumberOfFontsAsInt();
+    }
+
+    @Override
+    public Font getFontAt(int idx) {
+        return styleWorkbook.getFontAt(idx);
+    }
+
+    @Override
+    public CellStyle createCellStyle() {
+        return styleWorkbook.createCellStyle();
+    }
+
+    @Override
+    public int getNumCellStyles() {
+        return styleWorkbook.getNumCellStyles();
+    }
+
+    @Override
+    public CellStyle getCellStyleAt(int idx) {
+        return styleWorkbook.getCellStyleAt(idx);
+    }
+
+    /**
+     * Finish the last sheet and write the other parts. The workbook is written to the output stream given when it's
+     * created.
+     *
+     * @param stream ignored
+     * @throws IOException
+     */
+    @Override
+    public void write(OutputStream stream) throws IOException {
+        if (written) {
+            return;
+        }
+        written = true;
+        for (XlsxSheet xlsxSheet : sheetList) {
+            xlsxSheet.close();
+        }
+        if (useSharedStringsTable) {
+            writeSharedStrings();
+        }
+        putNextEntry(STYLES_PART_NAME);
+        xmlWriter.flush();
+        styleWorkbook.getStylesSource().writeTo(zipOutputStream);
+        closeEntry();
+        writeWorkbook();
+        writeWorkbookRelationships();
+        writeContentTypes();
+        writeRelationships();
+        zipOutputStream.finish();
+    }
+
+    private void writeSharedStrings() throws IOException {
+        XlsxXmlWriter writer = putNextEntry(SHARED_STRINGS_PART_NAME);
+        writer.write(XML_DECLARATION);
+        writer.write("<sst xmlns=\"" + MAIN_NAMESPACE + "\" count=\"");
+        writer.writeInt(sharedStringCount);
+        writer.write("\" uniqueCount=\"");
+        writer.writeInt(sharedStringMap.size());
+        writer.write("\">");
+        for (String value : sharedStringMap.keySet()) {
+            writer.write("<si>");
+            writeText(writer, value);
+            writer.write("</si>");
+        }
+        writer.write("</sst>");
+        closeEntry();
+    }
+
+    private void writeWorkbook() throws IOException {
+        XlsxXmlWriter writer = putNextEntry(WORKBOOK_PART_NAME);
+        writer.write(XML_DECLARATION);
+        writer.write("<workbook xmlns=\"" + MAIN_NAMESPACE + "\" xmlns:r=\"" + RELATIONSHIPS_NAMESPACE + "\">");
+        writer.write("<workbookPr/><bookViews><workbookView activeTab=\"");
+        writer.writeInt(activeSheetIndex);
+        writer.write("\"/></bookViews><sheets>");
+        for (XlsxSheet xlsxSheet : sheetList) {
+            writer.write("<sheet name=\"");
+            writer.writeEscaped(xlsxSheet.getSheetName());
+            writer.write("\" sheetId=\"");
+            writer.writeInt(xlsxSheet.getSheetIndex() + 1);
+            writer.write('"');
+            if (xlsxSheet.getSheetVisibility() == SheetVisibility.HIDDEN) {
+                writer.write(" state=\"hidden\"");
+            } else if (xlsxSheet.getSheetVisibility() == SheetVisibility.VERY_HIDDEN) {
+                writer.write(" state=\"veryHidden\"");
+            }
+            writer.write(" r:id=\"rId");
+            writer.writeInt(xlsxSheet.getSheetIndex() + 1);
+            writer.write("\"/>");
+        }
+        writer.write("</sheets>");
+        if (formulaWritten) {
+            writer.write("<calcPr fullCalcOnLoad=\"1\"/>");
+        }
+        writer.write("</workbook>");
+        closeEntry();
+    }
+
+    private void writeWorkbookRelationships() throws IOException {
+        XlsxXmlWriter writer = putNextEntry("xl/_rels/workbook.xml.rels");
+        writer.write(XML_DECLARATION);
+        writer.write("<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS_NAMESPACE + "\">");
+        int relationshipId = 1;
+        for (XlsxSheet xlsxSheet : sheetList) {
+            writeRelationship(writer, relationshipId++, "worksheet",
+                "worksheets/sheet" + (xlsxSheet.getSheetIndex() + 1) + ".xml");
+        }
+        writeRelationship(writer, relationshipId++, "styles", "styles.xml");
+        if (useSharedStringsTable) {
+            writeRelationship(writer, relationshipId, "sharedStrings", "sharedStrings.xml");
+        }
+        writer.write("</Relationships>");
+        closeEntry();
+    }
+
+    private void writeRelationships() throws IOException {
+        XlsxXmlWriter writer = putNextEntry("_rels/.rels");
+        writer.write(XML_DECLARATION);
+        writer.write("<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS_NAMESPACE + "\">");
+        writeRelationship(writer, 1, "officeDocument", WORKBOOK_PART_NAME);
+        writer.write("</Relationships>");
+        closeEntry();
+    }
+
+    private static void writeRelationship(XlsxXmlWriter writer, int relationshipId, String type, String target)
+        throws IOException {
+        writer.write("<Relationship Id=\"rId");
+        writer.writeInt(relationshipId);
+        writer.write("\" Type=\"" + RELATIONSHIPS_NAMESPACE + "/" + type + "\" Target=\"" + target + "\"/>");
+    }
+
+    private void writeContentTypes() throws IOException {
+        XlsxXmlWriter writer = putNextEntry("[Content_Types].xml");
+        writer.write(XML_DECLARATION);
+        writer.write("<Types xmlns=\"" + CONTENT_TYPES_NAMESPACE + "\">"
+            + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+            + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+        writeOverride(writer, WORKBOOK_PART_NAME, "sheet.main+xml");
+        writeOverride(writer, STYLES_PART_NAME, "styles+xml");
+        if (useSharedStringsTable) {
+            writeOverride(writer, SHARED_STRINGS_PART_NAME, "sharedStrings+xml");
+        }
+        for (XlsxSheet xlsxSheet : sheetList) {
+            writeOverride(writer, sheetPartName(xlsxSheet.getSheetIndex()), "worksheet+xml");
+        }
+        writer.write("</Types>");
+        closeEntry();
+    }
+
+    private static void writeOverride(XlsxXmlWriter writer, String partName, String contentType) throws IOException {
+        writer.write("<Override PartName=\"/" + partName + "\" ContentType=\"" + CONTENT_TYPE_PREFIX + contentType
+            + "\"/>");
+    }
+
+    /**
+     * The output stream is not closed, it's closed by the writer.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        styleWorkbook.close();
+    }
+
+    @Override
+    public int getNumberOfNames() {
+        return 0;
+    }
+
+    @Override
+    public Name getName(String name) {
+        return null;
+    }
+
+    @Override
+    public List<? extends Name> getNames(String name) {
+        return ListUtils.newArrayList();
+    }
+
+    @Override
+    public List<? extends Name> getAllNames() {
+        return ListUtils.newArrayList();
+    }
+
+    @Override
+    public Name createName() {
+        throw new UnsupportedOperationException("Names are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void removeName(Name name) {
+
+    }
+
+    @Override
+    public int linkExternalWorkbook(String name, Workbook workbook) {
+        throw new UnsupportedOperationException("External workbooks are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public void setPrintArea(int sheetIndex, String reference) {
+
+    }
+
+    @Override
+    public void setPrintArea(int sheetIndex, int startColumn, int endColumn, int startRow, int endRow) {
+
+    }
+
+    @Override
+    public String getPrintArea(int sheetIndex) {
+        return null;
+    }
+
+    @Override
+    public void removePrintArea(int sheetIndex) {
+
+    }
+
+    @Override
+    public MissingCellPolicy getMissingCellPolicy() {
+        return MissingCellPolicy.RETURN_NULL_AND_BLANK;
+    }
+
+    @Override
+    public void setMissingCellPolicy(MissingCellPolicy missingCellPolicy) {
+
+    }
+
+    @Override
+    public DataFormat createDataFormat() {
+        return styleWorkbook.createDataFormat();
+    }
+
+    /**
+     * Images are not supported
+     */
+    @Override
+    public int addPicture(byte[] pictureData, int format) {
+        throw new UnsupportedOperationException("Images are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public List<? extends PictureData> getAllPictures() {
+        return ListUtils.newArrayList();
+    }
+
+    @Override
+    public CreationHelper getCreationHelper() {
+        return styleWorkbook.getCreationHelper();
+    }
+
+    @Override
+    public boolean isHidden() {
+        return false;
+    }
+
+    @Override
+    public void setHidden(boolean hiddenFlag) {
+
+    }
+
+    @Override
+    public boolean isSheetHidden(int sheetIx) {
+        return getSheetVisibility(sheetIx) == SheetVisibility.HIDDEN;
+    }
+
+    @Override
+    public boolean isSheetVeryHidden(int sheetIx) {
+        return getSheetVisibility(sheetIx) == SheetVisibility.VERY_HIDDEN;
+    }
+
+    @Override
+    public void setSheetHidden(int sheetIx, boolean hidden) {
+        setSheetVisibility(sheetIx, hidden ? SheetVisibility.HIDDEN : SheetVisibility.VISIBLE);
+    }
+
+    @Override
+    public SheetVisibility getSheetVisibility(int sheetIx) {
+        return ((XlsxSheet)getSheetAt(sheetIx)).getSheetVisibility();
+    }
+
+    @Override
+    public void setSheetVisibility(int sheetIx, SheetVisibility visibility) {
+        ((XlsxSheet)getSheetAt(sheetIx)).setSheetVisibility(visibility);
+    }
+
+    @Override
+    public void addToolPack(UDFFinder toopack) {
+
+    }
+
+    @Override
+    public void setForceFormulaRecalculation(boolean value) {
+
+    }
+
+    @Override
+    public boolean getForceFormulaRecalculation() {
+        return formulaWritten;
+    }
+
+    @Override
+    public SpreadsheetVersion getSpreadsheetVersion() {
+        return SpreadsheetVersion.EXCEL2007;
+    }
+
+    @Override
+    public int addOlePackage(byte[] oleData, String label, String fileName, String command) {
+        throw new UnsupportedOperationException("Ole packages are not supported when writing xlsx directly.");
+    }
+
+    @Override
+    public EvaluationWorkbook createEvaluationWorkbook() {
+        return null;
+    }
+
+    @Override
+    public CellReferenceType getCellReferenceType() {
+        return CellReferenceType.A1;
+    }
+
+    @Override
+    public void setCellReferenceType(CellReferenceType cellReferenceType) {
+
+    }
+
+    @Override
+    public Iterator<Sheet> iterator() {
+        return sheetIterator();
+    }
+}
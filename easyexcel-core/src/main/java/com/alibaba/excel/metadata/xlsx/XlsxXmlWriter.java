@@ -0,0 +1,148 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Write the xml of the xlsx parts, the values are escaped and the characters that are not allowed in xml are replaced
+ * by '?'.
+ *
+ * @author Jiaju Zhuang
+ */
+public class XlsxXmlWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * The integral doubles smaller than it are written without the fraction
+     */
+    private static final double MAX_LONG_DOUBLE = 1E15;
+    private static final String REPLACEMENT = "?";
+    private static final char MIN_XML_CHAR = ' ';
+    private static final char INVALID_XML_CHAR_FFFE = '\uFFFE';
+    private static final char INVALID_XML_CHAR_FFFF = '\uFFFF';
+
+    private final Writer writer;
+    private final char[] numberBuffer = new char[20];
+
+    public XlsxXmlWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public void write(String value) throws IOException {
+        writer.write(value);
+    }
+
+    public void write(char value) throws IOException {
+        writer.write(value);
+    }
+
+    public void writeInt(int value) throws IOException {
+        writeLong(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writer.write(Long.toString(value));
+            return;
+        }
+        long positiveValue = value;
+        if (value < 0) {
+            writer.write('-');
+            positiveValue = -value;
+        }
+        int position = numberBuffer.length;
+        do {
+            numberBuffer[--position] = (char)('0' + positiveValue % 10);
+            positiveValue /= 10;
+        } while (positiveValue != 0);
+        writer.write(numberBuffer, position, numberBuffer.length - position);
+    }
+
+    /**
+     * Write a number, the integral ones are written without the fraction.
+     *
+     * @param value a finite number
+     * @throws IOException
+     */
+    public void writeNumber(double value) throws IOException {
+        if (Math.abs(value) < MAX_LONG_DOUBLE && value == Math.rint(value)) {
+            writeLong((long)value);
+            return;
+        }
+        writer.write(Double.toString(value));
+    }
+
+    /**
+     * Write a text in the content or in the attribute of an element.
+     *
+     * @param value text
+     * @throws IOException
+     */
+    public void writeEscaped(String value) throws IOException {
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = replacement(c);
+            if (replacement == null) {
+                continue;
+            }
+            if (i > start) {
+                writer.write(value, start, i - start);
+            }
+            writer.write(replacement);
+            start = i + 1;
+        }
+        if (start < length) {
+            writer.write(value, start, length - start);
+        }
+    }
+
+    private static String replacement(char c) {
+        switch (c) {
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '&':
+                return "&amp;";
+            case '"':
+                return "&quot;";
+            case '\t':
+            case '\n':
+            case '\r':
+                return null;
+            default:
+                if (c < MIN_XML_CHAR || c == INVALID_XML_CHAR_FFFE || c == INVALID_XML_CHAR_FFFF) {
+                    return REPLACEMENT;
+                }
+                return null;
+        }
+    }
+
+    /**
+     * Whether the text needs `xml:space="preserve"` to keep the whitespaces.
+     *
+     * @param value text
+     * @return
+     */
+    public static boolean needPreserveSpace(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        return Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(length - 1));
+    }
+
+    /**
+     * Flush the written xml to the output stream, it's needed before closing a zip entry.
+     *
+     * @throws IOException
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
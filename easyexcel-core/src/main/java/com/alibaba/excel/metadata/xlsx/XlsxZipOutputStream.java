@@ -0,0 +1,425 @@
+package com.alibaba.excel.metadata.xlsx;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.util.ListUtils;
+
+/**
+ * Zip output of the xlsx parts. The entries are deflated and followed by the data descriptors, so the output stream
+ * needn't be seekable, and zip64 is used if they are too large.
+ * <p>
+ * If an executor is set, an entry is split into blocks which are deflated on the executor at the same time, like pigz.
+ * Each block uses the end of the previous one as the dictionary and ends with a sync flush, so the blocks written in
+ * order are still a single deflate stream. Otherwise the entries are deflated on the current thread.
+ *
+ * @author Jiaju Zhuang
+ */
+public class XlsxZipOutputStream extends OutputStream {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int VERSION = 20;
+    private static final int ZIP64_VERSION = 45;
+    /**
+     * The sizes are in the data descriptor, and the names are utf-8
+     */
+    private static final int FLAG = 0x0808;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int ZIP64_EXTRA_ID = 1;
+    private static final int ZIP64_END_SIZE = 44;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final int DOS_BASE_YEAR = 1980;
+    private static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PENDING_BLOCKS_PER_PROCESSOR = 2;
+
+    private final OutputStream outputStream;
+    private final int level;
+    private final Executor executor;
+    /**
+     * The blocks deflating at the same time, the writing waits when it's full
+     */
+    private final int maxPendingBlockCount;
+    private final Deque<FutureTask<byte[]>> pendingBlockDeque;
+    /**
+     * Deflate on the current thread if there is no executor
+     */
+    private final Deflater deflater;
+    private final byte[] deflateBuffer;
+    private final CRC32 crc;
+    private final int dosTime;
+    private final List<ZipEntry> entryList;
+    private ZipEntry entry;
+    private byte[] block;
+    private int blockSize;
+    private byte[] previousBlock;
+    /**
+     * The number of bytes written to the output
+     */
+    private long written;
+    private boolean finished;
+
+    /**
+     * @param outputStream output
+     * @param level        compression level, see {@link Deflater}
+     * @param executor     deflate the blocks on it, or null to deflate on the current thread
+     */
+    public XlsxZipOutputStream(OutputStream outputStream, int level, Executor executor) {
+        this.outputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        this.level = level;
+        this.executor = executor;
+        this.maxPendingBlockCount = Runtime.getRuntime().availableProcessors() * PENDING_BLOCKS_PER_PROCESSOR;
+        this.pendingBlockDeque = new ArrayDeque<>();
+        if (executor == null) {
+            this.deflater = new Deflater(level, true);
+            this.deflateBuffer = new byte[BUFFER_SIZE];
+        } else {
+            this.deflater = null;
+            this.deflateBuffer = null;
+        }
+        this.crc = new CRC32();
+        this.dosTime = dosTime(LocalDateTime.now());
+        this.entryList = ListUtils.newArrayList();
+    }
+
+    /**
+     * Start a zip entry, the previous one is closed.
+     *
+     * @param name entry name
+     * @throws IOException
+     */
+    public void putNextEntry(String name) throws IOException {
+        if (finished) {
+            throw new ExcelGenerateException("Can not add an entry after the zip is finished.");
+        }
+        if (entry != null) {
+            closeEntry();
+        }
+        entry = new ZipEntry(name.getBytes(StandardCharsets.UTF_8), written);
+        crc.reset();
+        block = new byte[BLOCK_SIZE];
+        blockSize = 0;
+        previousBlock = null;
+
+        writeInt(LOCAL_HEADER_SIGNATURE);
+        writeShort(VERSION);
+        writeShort(FLAG);
+        writeShort(METHOD_DEFLATED);
+        writeInt(dosTime);
+        // crc and sizes are in the data descriptor
+        writeInt(0);
+        writeInt(0);
+        writeInt(0);
+        writeShort(entry.name.length);
+        writeShort(0);
+        writeBytes(entry.name);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte)b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (entry == null) {
+            throw new ExcelGenerateException("No zip entry is started.");
+        }
+        crc.update(b, off, len);
+        entry.size += len;
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            int length = Math.min(remaining, BLOCK_SIZE - blockSize);
+            System.arraycopy(b, offset, block, blockSize, length);
+            blockSize += length;
+            offset += length;
+            remaining -= length;
+            if (blockSize == BLOCK_SIZE) {
+                deflateBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Close the current zip entry
+     *
+     * @throws IOException
+     */
+    public void closeEntry() throws IOException {
+        if (entry == null) {
+            return;
+        }
+        deflateBlock(true);
+        while (!pendingBlockDeque.isEmpty()) {
+            writeBlock(pendingBlockDeque.poll());
+        }
+        entry.crc = crc.getValue();
+        writeInt(DATA_DESCRIPTOR_SIGNATURE);
+        writeInt(entry.crc);
+        if (entry.isZip64()) {
+            writeLong(entry.compressedSize);
+            writeLong(entry.size);
+        } else {
+            writeInt(entry.compressedSize);
+            writeInt(entry.size);
+        }
+        entryList.add(entry);
+        entry = null;
+        block = null;
+        previousBlock = null;
+    }
+
+    /**
+     * Close the current zip entry and write the central directory, the output stream is flushed but not closed.
+     *
+     * @throws IOException
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        closeEntry();
+        finished = true;
+        if (deflater != null) {
+            deflater.end();
+        }
+        long centralDirectoryOffset = written;
+        for (ZipEntry zipEntry : entryList) {
+            writeCentralHeader(zipEntry);
+        }
+        long centralDirectorySize = written - centralDirectoryOffset;
+        int count = entryList.size();
+        boolean zip64 = count >= ZIP64_MAGIC_COUNT || centralDirectoryOffset >= ZIP64_MAGIC
+            || centralDirectorySize >= ZIP64_MAGIC;
+        if (zip64) {
+            long zip64EndOffset = written;
+            writeInt(ZIP64_END_SIGNATURE);
+            writeLong(ZIP64_END_SIZE);
+            writeShort(ZIP64_VERSION);
+            writeShort(ZIP64_VERSION);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(centralDirectorySize);
+            writeLong(centralDirectoryOffset);
+            writeInt(ZIP64_LOCATOR_SIGNATURE);
+            writeInt(0);
+            writeLong(zip64EndOffset);
+            writeInt(1);
+        }
+        writeInt(END_SIGNATURE);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeInt(Math.min(centralDirectorySize, ZIP64_MAGIC));
+        writeInt(Math.min(centralDirectoryOffset, ZIP64_MAGIC));
+        writeShort(0);
+        outputStream.flush();
+    }
+
+    /**
+     * Finish the zip, the output stream is not closed.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    private void writeCentralHeader(ZipEntry zipEntry) throws IOException {
+        boolean zip64Size = zipEntry.isZip64();
+        boolean zip64Offset = zipEntry.offset >= ZIP64_MAGIC;
+        int extraLength = 0;
+        if (zip64Size) {
+            extraLength += Long.BYTES * 2;
+        }
+        if (zip64Offset) {
+            extraLength += Long.BYTES;
+        }
+        int version = extraLength > 0 ? ZIP64_VERSION : VERSION;
+        writeInt(CENTRAL_HEADER_SIGNATURE);
+        writeShort(version);
+        writeShort(version);
+        writeShort(FLAG);
+        writeShort(METHOD_DEFLATED);
+        writeInt(dosTime);
+        writeInt(zipEntry.crc);
+        writeInt(zip64Size ? ZIP64_MAGIC : zipEntry.compressedSize);
+        writeInt(zip64Size ? ZIP64_MAGIC : zipEntry.size);
+        writeShort(zipEntry.name.length);
+        writeShort(extraLength > 0 ? extraLength + Short.BYTES * 2 : 0);
+        // comment length, disk number, internal and external attributes
+        writeShort(0);
+        writeShort(0);
+        writeShort(0);
+        writeInt(0);
+        writeInt(zip64Offset ? ZIP64_MAGIC : zipEntry.offset);
+        writeBytes(zipEntry.name);
+        if (extraLength > 0) {
+            writeShort(ZIP64_EXTRA_ID);
+            writeShort(extraLength);
+            if (zip64Size) {
+                writeLong(zipEntry.size);
+                writeLong(zipEntry.compressedSize);
+            }
+            if (zip64Offset) {
+                writeLong(zipEntry.offset);
+            }
+        }
+    }
+
+    /**
+     * Deflate the current block, it's the last one of the entry if `last`.
+     */
+    private void deflateBlock(boolean last) throws IOException {
+        if (executor == null) {
+            deflater.setInput(block, 0, blockSize);
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    writeCompressed(deflateBuffer, deflater.deflate(deflateBuffer));
+                }
+                deflater.reset();
+            } else {
+                while (!deflater.needsInput()) {
+                    writeCompressed(deflateBuffer, deflater.deflate(deflateBuffer));
+                }
+            }
+            blockSize = 0;
+            return;
+        }
+        byte[] input = block;
+        int inputSize = blockSize;
+        byte[] dictionary = previousBlock;
+        FutureTask<byte[]> task = new FutureTask<>(() -> deflate(input, inputSize, dictionary, last));
+        if (pendingBlockDeque.size() >= maxPendingBlockCount) {
+            writeBlock(pendingBlockDeque.poll());
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // The executor is saturated or shut down, deflate it here so it can be written in order
+            task.run();
+        }
+        pendingBlockDeque.add(task);
+        previousBlock = input;
+        block = last ? null : new byte[BLOCK_SIZE];
+        blockSize = 0;
+    }
+
+    private byte[] deflate(byte[] input, int inputSize, byte[] dictionary, boolean last) {
+        Deflater blockDeflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                blockDeflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            blockDeflater.setInput(input, 0, inputSize);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(inputSize / 4 + 64);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            if (last) {
+                blockDeflater.finish();
+                while (!blockDeflater.finished()) {
+                    output.write(buffer, 0, blockDeflater.deflate(buffer));
+                }
+                return output.toByteArray();
+            }
+            // the output is flushed to a byte boundary, so the next block can be appended
+            int length;
+            do {
+                length = blockDeflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                output.write(buffer, 0, length);
+            } while (length == buffer.length);
+            return output.toByteArray();
+        } finally {
+            blockDeflater.end();
+        }
+    }
+
+    private void writeBlock(FutureTask<byte[]> task) throws IOException {
+        byte[] compressed;
+        try {
+            compressed = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while deflating the zip entry.");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to deflate the zip entry.", e.getCause());
+        }
+        writeCompressed(compressed, compressed.length);
+    }
+
+    private void writeCompressed(byte[] b, int len) throws IOException {
+        outputStream.write(b, 0, len);
+        written += len;
+        entry.compressedSize += len;
+    }
+
+    private void writeShort(int value) throws IOException {
+        outputStream.write(value & 0xFF);
+        outputStream.write((value >>> 8) & 0xFF);
+        written += Short.BYTES;
+    }
+
+    private void writeInt(long value) throws IOException {
+        writeShort((int)(value & 0xFFFF));
+        writeShort((int)((value >>> 16) & 0xFFFF));
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt(value & ZIP64_MAGIC);
+        writeInt(value >>> 32);
+    }
+
+    private void writeBytes(byte[] b) throws IOException {
+        outputStream.write(b);
+        written += b.length;
+    }
+
+    private static int dosTime(LocalDateTime time) {
+        int date = ((time.getYear() - DOS_BASE_YEAR) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+        int dayTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+        return (date << 16) | dayTime;
+    }
+
+    private static class ZipEntry {
+        private final byte[] name;
+        private final long offset;
+        private long crc;
+        private long size;
+        private long compressedSize;
+
+        private ZipEntry(byte[] name, long offset) {
+            this.name = name;
+            this.offset = offset;
+        }
+
+        private boolean isZip64() {
+            return size >= ZIP64_MAGIC || compressedSize >= ZIP64_MAGIC;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.alibaba.excel.read.builder;
 
+import java.util.Collection;
+
 import com.alibaba.excel.metadata.AbstractParameterBuilder;
 import com.alibaba.excel.read.listener.ReadListener;
 import com.alibaba.excel.read.metadata.ReadBasicParameter;
@@ -43,6 +45,31 @@ public abstract class AbstractExcelReaderParameterBuilder<T extends AbstractExce
         return self();
     }
 
+    /**
+     * Only read the values of these columns in the data rows, the other cells are skipped without decoding. Default
+     * is null, all the columns are read, unless `onlyReadHeadColumns` is true.
+     *
+     * @param includeColumnIndexes
+     * @return
+     */
+    public T includeColumnIndexes(Collection<Integer> includeColumnIndexes) {
+        parameter().setIncludeColumnIndexes(includeColumnIndexes);
+        return self();
+    }
+
+    /**
+     * Only read the values of the columns of the head class in the data rows, the other cells are skipped without
+     * decoding, and are not in the cell map of the row either. Don't use it if the listeners read the other columns
+     * from the context. Default is false.
+     *
+     * @param onlyReadHeadColumns
+     * @return
+     */
+    public T onlyReadHeadColumns(Boolean onlyReadHeadColumns) {
+        parameter().setOnlyReadHeadColumns(onlyReadHeadColumns);
+        return self();
+    }
+
     /**
      * Custom type listener run after default
      *
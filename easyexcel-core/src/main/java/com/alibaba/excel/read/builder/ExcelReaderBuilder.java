@@ -5,18 +5,27 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javax.xml.parsers.SAXParserFactory;
 
 import com.alibaba.excel.ExcelReader;
+import com.alibaba.excel.cache.Ehcache;
+import com.alibaba.excel.cache.LazySharedStringsCache;
+import com.alibaba.excel.cache.MapCache;
+import com.alibaba.excel.cache.MappedFileCache;
+import com.alibaba.excel.cache.PackedMapCache;
 import com.alibaba.excel.cache.ReadCache;
 import com.alibaba.excel.cache.selector.ReadCacheSelector;
 import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.enums.HeadNameNormalizeEnum;
 import com.alibaba.excel.enums.ReadDefaultReturnEnum;
 import com.alibaba.excel.event.AnalysisEventListener;
 import com.alibaba.excel.event.SyncReadListener;
+import com.alibaba.excel.exception.ExcelAnalysisException;
 import com.alibaba.excel.read.listener.ModelBuildEventListener;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.read.metadata.ReadWorkbook;
 import com.alibaba.excel.support.ExcelTypeEnum;
 
@@ -172,6 +181,106 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Only index the shared strings when reading starts, and decode each of them the first time it's used. Default is
+     * false.
+     * <p>
+     * Reduce the time to the first row and the memory, when only a few rows are read. If true, 'readCache' and
+     * 'readCacheSelector' are ignored.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param lazySharedStrings
+     * @return
+     */
+    public ExcelReaderBuilder lazySharedStrings(Boolean lazySharedStrings) {
+        readWorkbook.setLazySharedStrings(lazySharedStrings);
+        return this;
+    }
+
+    /**
+     * Read the sheets at the same time on this executor. Default is null, the sheets are read one by one on the
+     * current thread.
+     * <p>
+     * Rows of the same sheet are still read in order on one thread, but the listeners shared by several sheets will be
+     * called concurrently, so they must be thread safe. Since java 21, a virtual thread executor can be used, such as
+     * `Executors.newVirtualThreadPerTaskExecutor()`.
+     * <p>
+     * The read cache of the shared strings is also shared by the sheets. A cache other than {@link MapCache},
+     * {@link PackedMapCache}, {@link MappedFileCache} and {@link LazySharedStringsCache}, such as {@link Ehcache} or
+     * a custom cache, is locked by every lookup. `doReadSync` and `doReadAllSync` can not be used with it, since their
+     * listener is not thread safe.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param sheetExecutor
+     * @return
+     */
+    public ExcelReaderBuilder sheetExecutor(Executor sheetExecutor) {
+        readWorkbook.setSheetExecutor(sheetExecutor);
+        return this;
+    }
+
+    /**
+     * Parse the sheet on the current thread, and convert the rows and call the listeners on another thread. The
+     * rows are handed over in order through a buffer of this size, and the parsing waits while it's full. Default is
+     * null, the listeners are called on the parsing thread.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param pipelineBufferSize
+     * @return
+     */
+    public ExcelReaderBuilder pipelineBufferSize(Integer pipelineBufferSize) {
+        readWorkbook.setPipelineBufferSize(pipelineBufferSize);
+        return this;
+    }
+
+    /**
+     * Scan the bytes of the sheet xml directly instead of using a SAX parser, which is faster and creates fewer
+     * objects. The sheet is still parsed by SAX if it's not encoded in UTF-8 or has a document type declaration.
+     * Default is false.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param useSheetTokenizer
+     * @return
+     */
+    public ExcelReaderBuilder useSheetTokenizer(Boolean useSheetTokenizer) {
+        readWorkbook.setUseSheetTokenizer(useSheetTokenizer);
+        return this;
+    }
+
+    /**
+     * Save the byte offsets of the rows and the shared strings of the file in this directory, and use them when the
+     * same file is read again, so the reading can jump to `startRow` of the sheet. The index is built at the first
+     * read. Default is null, no index is used.
+     * <p>
+     * If set, 'useSheetTokenizer' and 'lazySharedStrings' are true by default.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param rowOffsetIndexDirectory
+     * @return
+     */
+    public ExcelReaderBuilder rowOffsetIndexDirectory(File rowOffsetIndexDirectory) {
+        readWorkbook.setRowOffsetIndexDirectory(rowOffsetIndexDirectory);
+        return this;
+    }
+
+    /**
+     * Index one of every so many rows when the row offset index is built. Default is 1000.
+     * <p>
+     * Only work on the xlsx file.
+     *
+     * @param rowOffsetIndexInterval
+     * @return
+     */
+    public ExcelReaderBuilder rowOffsetIndexInterval(Integer rowOffsetIndexInterval) {
+        readWorkbook.setRowOffsetIndexInterval(rowOffsetIndexInterval);
+        return this;
+    }
+
     /**
      * Read some extra information, not by default
      *
@@ -186,6 +295,21 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Normalize the head names before they are matched, both the names declared in the class and the names in the
+     * head row. None by default.
+     *
+     * @param headNameNormalize how the head names are normalized
+     * @return
+     */
+    public ExcelReaderBuilder headNameNormalize(HeadNameNormalizeEnum headNameNormalize) {
+        if (readWorkbook.getHeadNameNormalizeSet() == null) {
+            readWorkbook.setHeadNameNormalizeSet(new HashSet<HeadNameNormalizeEnum>());
+        }
+        readWorkbook.getHeadNameNormalizeSet().add(headNameNormalize);
+        return this;
+    }
+
     /**
      * Whether to use the default listener, which is used by default.
      * <p>
@@ -210,6 +334,20 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Reuse one {@link FlyweightRowMap} for all the rows of a sheet that are read without a head class, instead of
+     * creating a map for each row. Default is false.
+     * <p>
+     * The row is only valid until the listeners return, use {@link FlyweightRowMap#copy()} to keep it.
+     *
+     * @param flyweightRow
+     * @return
+     */
+    public ExcelReaderBuilder flyweightRow(Boolean flyweightRow) {
+        readWorkbook.setFlyweightRow(flyweightRow);
+        return this;
+    }
+
     public ExcelReader build() {
         return new ExcelReader(readWorkbook);
     }
@@ -226,6 +364,10 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
      * @return
      */
     public <T> List<T> doReadAllSync() {
+        if (readWorkbook.getSheetExecutor() != null) {
+            throw new ExcelAnalysisException(
+                "Can not read synchronously with a sheet executor, use a thread safe listener instead.");
+        }
         SyncReadListener syncReadListener = new SyncReadListener();
         registerReadListener(syncReadListener);
         try (ExcelReader excelReader = build()) {
@@ -51,6 +51,47 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         return this;
     }
 
+    /**
+     * Index of the first data row to read, starting from 0 and counting the head rows. Default is null, the data rows
+     * are read from the head.
+     * <p>
+     * The head rows are always read. The rows before it are skipped without decoding the cells or calling the
+     * listeners.
+     *
+     * @param startRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder startRow(Integer startRow) {
+        readSheet.setStartRow(startRow);
+        return this;
+    }
+
+    /**
+     * Index of the row where reading stops, exclusive. Default is null, the data rows are read to the end.
+     * <p>
+     * The rest of the sheet is not parsed once it's reached, unless the extra information is read, such as comments
+     * and merged cells, which are at the end of the sheet.
+     *
+     * @param endRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder endRow(Integer endRow) {
+        readSheet.setEndRow(endRow);
+        return this;
+    }
+
+    /**
+     * Only read one of every so many data rows, counting from `startRow` or the first data row. Default is null, all
+     * the data rows are read.
+     *
+     * @param rowStride
+     * @return
+     */
+    public ExcelReaderSheetBuilder rowStride(Integer rowStride) {
+        readSheet.setRowStride(rowStride);
+        return this;
+    }
+
     public ReadSheet build() {
         return readSheet;
     }
@@ -75,6 +116,11 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         if (excelReader == null) {
             throw new ExcelAnalysisException("Must use 'EasyExcelFactory.read().sheet()' to call this method");
         }
+        if (excelReader.analysisContext().readWorkbookHolder().getReadWorkbook().getSheetExecutor() != null) {
+            excelReader.finish();
+            throw new ExcelAnalysisException(
+                "Can not read synchronously with a sheet executor, use a thread safe listener instead.");
+        }
         SyncReadListener syncReadListener = new SyncReadListener();
         registerReadListener(syncReadListener);
         excelReader.read(build());
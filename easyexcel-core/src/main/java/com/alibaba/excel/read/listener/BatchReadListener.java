@@ -0,0 +1,58 @@
+package com.alibaba.excel.read.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.alibaba.excel.context.AnalysisContext;
+
+/**
+ * Interface to listen for read results in batches.
+ * <p>
+ * The rows are collected by the reader and handed over once every {@link #batchSize()} rows, and the rest of them
+ * before {@link #doAfterAllAnalysed(AnalysisContext)} or when the read is stopped by {@link #hasNext(AnalysisContext)}.
+ * {@link #hasNext(AnalysisContext)} of this listener is only checked after a batch.
+ *
+ * @author Jiaju Zhuang
+ */
+public interface BatchReadListener<T> extends ReadListener<T> {
+    /**
+     * Default single handle the amount of data
+     */
+    int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The number of rows in a batch, it's got once for each sheet.
+     *
+     * @return batch size
+     */
+    default int batchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * When analysis a batch of rows trigger invoke function.
+     *
+     * @param dataList the rows in order. The list is reused for the next batch, so copy it if it needs to be kept.
+     * @param context  analysis context, the current row is the last row of the batch.
+     */
+    void invokeBatch(List<T> dataList, AnalysisContext context);
+
+    /**
+     * Only called if the listener is not invoked by the reader, one row is one batch.
+     *
+     * @param data    one row value
+     * @param context analysis context
+     */
+    @Override
+    default void invoke(T data, AnalysisContext context) {
+        invokeBatch(Collections.singletonList(data), context);
+    }
+
+    /**
+     * if have something to do after all analysis, the rest rows are already handed over
+     *
+     * @param context
+     */
+    @Override
+    default void doAfterAllAnalysed(AnalysisContext context) {}
+}
@@ -5,20 +5,14 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 import com.alibaba.excel.context.AnalysisContext;
-import com.alibaba.excel.enums.CellDataTypeEnum;
 import com.alibaba.excel.enums.HeadKindEnum;
 import com.alibaba.excel.enums.ReadDefaultReturnEnum;
-import com.alibaba.excel.exception.ExcelDataConvertException;
-import com.alibaba.excel.metadata.Head;
 import com.alibaba.excel.metadata.data.DataFormatData;
 import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.read.metadata.holder.ReadSheetHolder;
-import com.alibaba.excel.read.metadata.property.ExcelReadHeadProperty;
-import com.alibaba.excel.support.cglib.beans.BeanMap;
-import com.alibaba.excel.util.BeanMapUtils;
-import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.util.BooleanUtils;
 import com.alibaba.excel.util.ConverterUtils;
-import com.alibaba.excel.util.DateUtils;
 import com.alibaba.excel.util.MapUtils;
 
 
@@ -42,36 +36,37 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
 
     private Object buildNoModel(Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder,
         AnalysisContext context) {
+        ReadDefaultReturnEnum readDefaultReturn = context.readWorkbookHolder().getReadDefaultReturn();
+        // fix https://github.com/alibaba/easyexcel/issues/2014
+        int headSize = calculateHeadSize(readSheetHolder);
+        if (BooleanUtils.isTrue(context.readWorkbookHolder().getFlyweightRow())) {
+            FlyweightRowMap<Object> flyweightRowMap = readSheetHolder.getFlyweightRowMap();
+            if (flyweightRowMap == null) {
+                flyweightRowMap = new FlyweightRowMap<>();
+                readSheetHolder.setFlyweightRowMap(flyweightRowMap);
+            } else {
+                flyweightRowMap.clear();
+            }
+            for (Map.Entry<Integer, ReadCellData<?>> entry : cellDataMap.entrySet()) {
+                Integer key = entry.getKey();
+                flyweightRowMap.setValue(key,
+                    convertNoModelData(entry.getValue(), readDefaultReturn, readSheetHolder, context, key));
+            }
+            flyweightRowMap.fillTo(headSize);
+            return flyweightRowMap;
+        }
+
         int index = 0;
         Map<Integer, Object> map = MapUtils.newLinkedHashMapWithExpectedSize(cellDataMap.size());
         for (Map.Entry<Integer, ReadCellData<?>> entry : cellDataMap.entrySet()) {
             Integer key = entry.getKey();
-            ReadCellData<?> cellData = entry.getValue();
             while (index < key) {
                 map.put(index, null);
                 index++;
             }
             index++;
-
-            ReadDefaultReturnEnum readDefaultReturn = context.readWorkbookHolder().getReadDefaultReturn();
-            if (readDefaultReturn == ReadDefaultReturnEnum.STRING) {
-                // string
-                map.put(key,
-                    (String)ConverterUtils.convertToJavaObject(cellData, null, null, readSheetHolder.converterMap(),
-                        context, context.readRowHolder().getRowIndex(), key));
-            } else {
-                // retrun ReadCellData
-                ReadCellData<?> convertedReadCellData = convertReadCellData(cellData,
-                    context.readWorkbookHolder().getReadDefaultReturn(), readSheetHolder, context, key);
-                if (readDefaultReturn == ReadDefaultReturnEnum.READ_CELL_DATA) {
-                    map.put(key, convertedReadCellData);
-                } else {
-                    map.put(key, convertedReadCellData.getData());
-                }
-            }
+            map.put(key, convertNoModelData(entry.getValue(), readDefaultReturn, readSheetHolder, context, key));
         }
-        // fix https://github.com/alibaba/easyexcel/issues/2014
-        int headSize = calculateHeadSize(readSheetHolder);
         while (index < headSize) {
             map.put(index, null);
             index++;
@@ -79,6 +74,22 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
         return map;
     }
 
+    private Object convertNoModelData(ReadCellData<?> cellData, ReadDefaultReturnEnum readDefaultReturn,
+        ReadSheetHolder readSheetHolder, AnalysisContext context, Integer key) {
+        if (readDefaultReturn == ReadDefaultReturnEnum.STRING) {
+            // string
+            return ConverterUtils.convertToJavaObject(cellData, null, null, readSheetHolder.converterMap(),
+                context, context.readRowHolder().getRowIndex(), key);
+        }
+        // retrun ReadCellData
+        ReadCellData<?> convertedReadCellData = convertReadCellData(cellData, readDefaultReturn, readSheetHolder,
+            context, key);
+        if (readDefaultReturn == ReadDefaultReturnEnum.READ_CELL_DATA) {
+            return convertedReadCellData;
+        }
+        return convertedReadCellData.getData();
+    }
+
     private ReadCellData convertReadCellData(ReadCellData<?> cellData, ReadDefaultReturnEnum readDefaultReturn,
         ReadSheetHolder readSheetHolder, AnalysisContext context, Integer columnIndex) {
         Class<?> classGeneric;
@@ -94,8 +105,7 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
                 break;
             case NUMBER:
                 DataFormatData dataFormatData = cellData.getDataFormatData();
-                if (dataFormatData != null && DateUtils.isADateFormat(dataFormatData.getIndex(),
-                    dataFormatData.getFormat())) {
+                if (dataFormatData != null && dataFormatData.isDateFormat()) {
                     classGeneric = LocalDateTime.class;
                 } else {
                     classGeneric = BigDecimal.class;
@@ -123,34 +133,12 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
 
     private Object buildUserModel(Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder,
         AnalysisContext context) {
-        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
-        Object resultModel;
-        try {
-            resultModel = excelReadHeadProperty.getHeadClazz().newInstance();
-        } catch (Exception e) {
-            throw new ExcelDataConvertException(context.readRowHolder().getRowIndex(), 0,
-                new ReadCellData<>(CellDataTypeEnum.EMPTY), null,
-                "Can not instance class: " + excelReadHeadProperty.getHeadClazz().getName(), e);
-        }
-        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
-        BeanMap dataMap = BeanMapUtils.create(resultModel);
-        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-            Integer index = entry.getKey();
-            Head head = entry.getValue();
-            String fieldName = head.getFieldName();
-            if (!cellDataMap.containsKey(index)) {
-                continue;
-            }
-            ReadCellData<?> cellData = cellDataMap.get(index);
-            Object value = ConverterUtils.convertToJavaObject(cellData, head.getField(),
-                ClassUtils.declaredExcelContentProperty(dataMap, readSheetHolder.excelReadHeadProperty().getHeadClazz(),
-                    fieldName, readSheetHolder), readSheetHolder.converterMap(), context,
-                context.readRowHolder().getRowIndex(), index);
-            if (value != null) {
-                dataMap.put(fieldName, value);
-            }
+        RowBinder rowBinder = readSheetHolder.getRowBinder();
+        if (rowBinder == null || !rowBinder.matches(readSheetHolder.excelReadHeadProperty())) {
+            rowBinder = new RowBinder(readSheetHolder);
+            readSheetHolder.setRowBinder(rowBinder);
         }
-        return resultModel;
+        return rowBinder.bind(cellDataMap, readSheetHolder, context);
     }
 
     @Override
@@ -0,0 +1,176 @@
+package com.alibaba.excel.read.listener;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.converters.ConverterMap;
+import com.alibaba.excel.converters.NullableObjectConverter;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.exception.ExcelDataConvertException;
+import com.alibaba.excel.metadata.Head;
+import com.alibaba.excel.metadata.data.CellData;
+import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.metadata.property.ExcelContentProperty;
+import com.alibaba.excel.read.metadata.holder.ReadSheetHolder;
+import com.alibaba.excel.read.metadata.property.ExcelReadHeadProperty;
+import com.alibaba.excel.support.cglib.beans.BeanMap;
+import com.alibaba.excel.util.BeanMapUtils;
+import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.util.ConverterUtils;
+
+/**
+ * Bind the cells of a row to a new object of the head class.
+ * <p>
+ * It's built once for the head of a sheet: the constructor, the bean map and the content property of each column are
+ * resolved up front, and the converter of a column is found on the first cell of each type. So binding a row is only
+ * the conversions and the setter calls, without reflection or lookups by name.
+ *
+ * @author Jiaju Zhuang
+ */
+public class RowBinder {
+    private static final int CELL_DATA_TYPE_COUNT = CellDataTypeEnum.values().length;
+
+    private final Class<?> headClazz;
+    private final Map<Integer, Head> headMap;
+    /**
+     * Null if the class can not be instantiated
+     */
+    private final Constructor<?> constructor;
+    private final Exception constructorException;
+    /**
+     * Not bound to a bean, the bean is passed on each call
+     */
+    private final BeanMap beanMap;
+    private final ColumnBinder[] columnBinders;
+
+    public RowBinder(ReadSheetHolder readSheetHolder) {
+        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
+        this.headClazz = excelReadHeadProperty.getHeadClazz();
+        this.headMap = excelReadHeadProperty.getHeadMap();
+        Constructor<?> headConstructor = null;
+        Exception headConstructorException = null;
+        try {
+            headConstructor = headClazz.getDeclaredConstructor();
+        } catch (Exception e) {
+            headConstructor = null;
+            headConstructorException = e;
+        }
+        this.constructor = headConstructor;
+        this.constructorException = headConstructorException;
+        this.beanMap = BeanMapUtils.create(headClazz);
+        this.columnBinders = new ColumnBinder[headMap.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
+            Head head = entry.getValue();
+            ExcelContentProperty contentProperty = ClassUtils.declaredExcelContentProperty(null, headClazz,
+                head.getFieldName(), readSheetHolder);
+            columnBinders[i++] = new ColumnBinder(entry.getKey(), head, contentProperty);
+        }
+    }
+
+    /**
+     * Whether it's built for the current head of the sheet, the head map is replaced once the head row is read.
+     *
+     * @param excelReadHeadProperty The head of the sheet
+     * @return true if it can be used
+     */
+    public boolean matches(ExcelReadHeadProperty excelReadHeadProperty) {
+        return excelReadHeadProperty.getHeadClazz() == headClazz && excelReadHeadProperty.getHeadMap() == headMap;
+    }
+
+    /**
+     * Create an object of the head class and set the values of the cells.
+     *
+     * @param cellDataMap     Cells of the row
+     * @param readSheetHolder The sheet holder
+     * @param context         The context
+     * @return The object
+     */
+    public Object bind(Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder,
+        AnalysisContext context) {
+        Integer rowIndex = context.readRowHolder().getRowIndex();
+        Object resultModel = newInstance(rowIndex);
+        for (ColumnBinder columnBinder : columnBinders) {
+            ReadCellData<?> cellData = cellDataMap.get(columnBinder.columnIndex);
+            if (cellData == null) {
+                continue;
+            }
+            Object value = columnBinder.convert(cellData, readSheetHolder, context, rowIndex);
+            if (value != null) {
+                beanMap.put(resultModel, columnBinder.fieldName, value);
+            }
+        }
+        return resultModel;
+    }
+
+    private Object newInstance(Integer rowIndex) {
+        Exception exception = constructorException;
+        if (constructor != null) {
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                exception = e;
+            }
+        }
+        throw new ExcelDataConvertException(rowIndex, 0, new ReadCellData<>(CellDataTypeEnum.EMPTY), null,
+            "Can not instance class: " + headClazz.getName(), exception);
+    }
+
+    /**
+     * The resolved conversion of a column.
+     */
+    private static class ColumnBinder {
+        private final Integer columnIndex;
+        private final String fieldName;
+        private final Field field;
+        private final Class<?> fieldClass;
+        private final ExcelContentProperty contentProperty;
+        /**
+         * The converter of the content property, which is used for all types of cells
+         */
+        private final Converter<?> contentConverter;
+        /**
+         * Whether the field is a cell data, which is converted by its generic type
+         */
+        private final boolean cellDataField;
+        /**
+         * The converters found by the type of the cells
+         */
+        private final Converter<?>[] converters = new Converter<?>[CELL_DATA_TYPE_COUNT];
+
+        private ColumnBinder(Integer columnIndex, Head head, ExcelContentProperty contentProperty) {
+            this.columnIndex = columnIndex;
+            this.fieldName = head.getFieldName();
+            this.field = head.getField();
+            this.fieldClass = field == null ? String.class : field.getType();
+            this.contentProperty = contentProperty;
+            this.contentConverter = contentProperty == null ? null : contentProperty.getConverter();
+            this.cellDataField = fieldClass == CellData.class || fieldClass == ReadCellData.class;
+        }
+
+        private Object convert(ReadCellData<?> cellData, ReadSheetHolder readSheetHolder, AnalysisContext context,
+            Integer rowIndex) {
+            if (cellDataField) {
+                return ConverterUtils.convertToJavaObject(cellData, field, contentProperty,
+                    readSheetHolder.converterMap(), context, rowIndex, columnIndex);
+            }
+            CellDataTypeEnum type = cellData.getType();
+            if (type == CellDataTypeEnum.EMPTY && !(contentConverter instanceof NullableObjectConverter)) {
+                return null;
+            }
+            Converter<?> converter = contentConverter;
+            if (converter == null) {
+                converter = converters[type.ordinal()];
+                if (converter == null) {
+                    converter = ConverterMap.getConverter(readSheetHolder.converterMap(), fieldClass, type);
+                    converters[type.ordinal()] = converter;
+                }
+            }
+            return ConverterUtils.convertToJavaObject(cellData, fieldClass, contentProperty, converter, context,
+                rowIndex, columnIndex);
+        }
+    }
+}
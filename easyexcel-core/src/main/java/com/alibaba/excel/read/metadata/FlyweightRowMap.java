@@ -0,0 +1,156 @@
+package com.alibaba.excel.read.metadata;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.alibaba.excel.util.MapUtils;
+
+/**
+ * A row without a head class, which is reused for every row of a sheet when `flyweightRow` is true.
+ * <p>
+ * The keys are the column indexes from 0 to the last column, the same as the row map when it's not reused, and the
+ * values are kept in an array. It's only valid until the listeners return, the values of the next row are put in
+ * the same object, so use {@link #copy()} to keep it.
+ *
+ * @author Jiaju Zhuang
+ */
+public class FlyweightRowMap<V> extends AbstractMap<Integer, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] values = new Object[DEFAULT_CAPACITY];
+    private int size;
+    private Set<Map.Entry<Integer, V>> entrySet;
+
+    /**
+     * Get a value by the column index without boxing the index.
+     *
+     * @param index column index
+     * @return null if there is no value
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return (V)values[index];
+    }
+
+    /**
+     * Set a value, the missing columns before it are null.
+     *
+     * @param index column index
+     * @param value value
+     */
+    public void setValue(int index, V value) {
+        if (index < 0) {
+            throw new IllegalArgumentException("The column index can not be negative: " + index);
+        }
+        fillTo(index + 1);
+        values[index] = value;
+    }
+
+    /**
+     * Make sure there are at least so many columns, the missing ones are null.
+     *
+     * @param minSize number of columns
+     */
+    public void fillTo(int minSize) {
+        if (minSize <= size) {
+            return;
+        }
+        if (minSize > values.length) {
+            values = Arrays.copyOf(values, Math.max(minSize, values.length << 1));
+        }
+        size = minSize;
+    }
+
+    /**
+     * Copy it to a map that can be kept.
+     *
+     * @return a new map with the same columns
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, V> copy() {
+        LinkedHashMap<Integer, V> map = MapUtils.newLinkedHashMapWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            map.put(i, (V)values[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && (Integer)key >= 0 && (Integer)key < size;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+        return getValue((Integer)key);
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        V oldValue = getValue(key);
+        setValue(key, value);
+        return oldValue;
+    }
+
+    /**
+     * Remove all the columns, the array is kept for the next row.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<Integer, V>> {
+        @Override
+        public Iterator<Map.Entry<Integer, V>> iterator() {
+            return new Iterator<Map.Entry<Integer, V>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public Map.Entry<Integer, V> next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    Integer key = index++;
+                    return new SimpleImmutableEntry<>(key, getValue(key));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.alibaba.excel.read.metadata;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import com.alibaba.excel.metadata.BasicParameter;
@@ -34,6 +35,16 @@ public class ReadBasicParameter extends BasicParameter {
      * Custom type listener run after default
      */
     private List<ReadListener<?>> customReadListenerList;
+    /**
+     * Only read the values of these columns in the data rows, the other cells are skipped without decoding. Default
+     * is null, all the columns are read, unless `onlyReadHeadColumns` is true.
+     */
+    private Collection<Integer> includeColumnIndexes;
+    /**
+     * Only read the values of the columns of the head class in the data rows, the other cells are skipped without
+     * decoding, and are not in the cell map of the row either. Default is false.
+     */
+    private Boolean onlyReadHeadColumns;
 
     public ReadBasicParameter() {
         customReadListenerList = new ArrayList<>();
@@ -14,6 +14,20 @@ public class ReadSheet extends ReadBasicParameter {
      * sheet name
      */
     private String sheetName;
+    /**
+     * Index of the first data row to read, starting from 0 and counting the head rows. Default is null, the data rows
+     * are read from the head.
+     */
+    private Integer startRow;
+    /**
+     * Index of the row where reading stops, exclusive. The rest of the sheet is not parsed unless the extra
+     * information is read. Default is null, the data rows are read to the end.
+     */
+    private Integer endRow;
+    /**
+     * Only read one of every so many data rows from `startRow`. Default is null, all the data rows are read.
+     */
+    private Integer rowStride;
 
     public ReadSheet() {}
 
@@ -42,6 +56,30 @@ public class ReadSheet extends ReadBasicParameter {
         this.sheetName = sheetName;
     }
 
+    public Integer getStartRow() {
+        return startRow;
+    }
+
+    public void setStartRow(Integer startRow) {
+        this.startRow = startRow;
+    }
+
+    public Integer getEndRow() {
+        return endRow;
+    }
+
+    public void setEndRow(Integer endRow) {
+        this.endRow = endRow;
+    }
+
+    public Integer getRowStride() {
+        return rowStride;
+    }
+
+    public void setRowStride(Integer rowStride) {
+        this.rowStride = rowStride;
+    }
+
     public void copyBasicParameter(ReadSheet other) {
         if (other == null) {
             return;
@@ -53,6 +91,11 @@ public class ReadSheet extends ReadBasicParameter {
         this.setCustomConverterList(other.getCustomConverterList());
         this.setAutoTrim(other.getAutoTrim());
         this.setUse1904windowing(other.getUse1904windowing());
+        this.setIncludeColumnIndexes(other.getIncludeColumnIndexes());
+        this.setOnlyReadHeadColumns(other.getOnlyReadHeadColumns());
+        this.setStartRow(other.getStartRow());
+        this.setEndRow(other.getEndRow());
+        this.setRowStride(other.getRowStride());
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.xml.parsers.SAXParserFactory;
 
@@ -11,6 +12,7 @@ import com.alibaba.excel.cache.ReadCache;
 import com.alibaba.excel.cache.selector.ReadCacheSelector;
 import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.enums.HeadNameNormalizeEnum;
 import com.alibaba.excel.enums.ReadDefaultReturnEnum;
 import com.alibaba.excel.event.AnalysisEventListener;
 import com.alibaba.excel.read.listener.ModelBuildEventListener;
@@ -92,6 +94,62 @@ public class ReadWorkbook extends ReadBasicParameter {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String xlsxSAXParserFactoryName;
+    /**
+     * Only index the shared strings when reading starts, and decode each of them the first time it's used. Default is
+     * false.
+     * <p>
+     * Reduce the time to the first row and the memory, when only a few rows are read. If true, 'readCache' and
+     * 'readCacheSelector' are ignored.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Boolean lazySharedStrings;
+    /**
+     * Read the sheets at the same time on this executor. Default is null, the sheets are read one by one on the
+     * current thread.
+     * <p>
+     * Rows of the same sheet are still read in order on one thread, but the listeners shared by several sheets will be
+     * called concurrently, so they must be thread safe. Since java 21, a virtual thread executor can be used.
+     * <p>
+     * The read cache of the shared strings is also shared by the sheets, a cache that is not thread safe, such as
+     * {@link com.alibaba.excel.cache.Ehcache} or a custom cache, is locked by every lookup. It can not be used with
+     * `doReadSync` and `doReadAllSync`.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Executor sheetExecutor;
+    /**
+     * Parse the sheet on the current thread, and convert the rows and call the listeners on another thread. The
+     * rows are handed over in order through a buffer of this size, and the parsing waits while it's full. Default is
+     * null, the listeners are called on the parsing thread.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Integer pipelineBufferSize;
+    /**
+     * Scan the bytes of the sheet xml directly instead of using a SAX parser, which is faster and creates fewer
+     * objects. The sheet is still parsed by SAX if it's not encoded in UTF-8 or has a document type declaration.
+     * Default is false.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Boolean useSheetTokenizer;
+    /**
+     * Save the byte offsets of the rows and the shared strings of the file in this directory, and use them when the
+     * same file is read again, so the reading can jump to `startRow` of the sheet. The index is built at the first
+     * read. Default is null, no index is used.
+     * <p>
+     * If set, 'useSheetTokenizer' and 'lazySharedStrings' are true by default.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private File rowOffsetIndexDirectory;
+    /**
+     * Index one of every so many rows when the row offset index is built. Default is 1000.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Integer rowOffsetIndexInterval;
     /**
      * Whether to use the default listener, which is used by default.
      * <p>
@@ -107,6 +165,13 @@ public class ReadWorkbook extends ReadBasicParameter {
      * @see ReadDefaultReturnEnum
      */
     private ReadDefaultReturnEnum readDefaultReturn;
+    /**
+     * Reuse one {@link FlyweightRowMap} for all the rows of a sheet that are read without a head class, instead of
+     * creating a map for each row. Default is false.
+     * <p>
+     * The row is only valid until the listeners return, use {@link FlyweightRowMap#copy()} to keep it.
+     */
+    private Boolean flyweightRow;
 
     /**
      * Read some additional fields. None are read by default.
@@ -114,4 +179,11 @@ public class ReadWorkbook extends ReadBasicParameter {
      * @see CellExtraTypeEnum
      */
     private Set<CellExtraTypeEnum> extraReadSet;
+    /**
+     * How the head names are normalized before they are matched. None by default, the names must be the same, after
+     * the names in the head row are trimmed if `autoTrim` is true.
+     *
+     * @see HeadNameNormalizeEnum
+     */
+    private Set<HeadNameNormalizeEnum> headNameNormalizeSet;
 }
@@ -1,10 +1,11 @@
 package com.alibaba.excel.read.metadata.holder;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 
 import com.alibaba.excel.converters.Converter;
 import com.alibaba.excel.converters.ConverterKeyBuild;
+import com.alibaba.excel.converters.ConverterMap;
 import com.alibaba.excel.converters.DefaultConverterLoader;
 import com.alibaba.excel.enums.HolderEnum;
 import com.alibaba.excel.metadata.AbstractHolder;
@@ -49,6 +50,14 @@ public abstract class AbstractReadHolder extends AbstractHolder implements ReadH
      * Read listener
      */
     private List<ReadListener<?>> readListenerList;
+    /**
+     * Only read the values of these columns in the data rows
+     */
+    private Collection<Integer> includeColumnIndexes;
+    /**
+     * Only read the values of the columns of the head class in the data rows
+     */
+    private Boolean onlyReadHeadColumns;
 
     public AbstractReadHolder(ReadBasicParameter readBasicParameter, AbstractReadHolder parentAbstractReadHolder) {
         super(readBasicParameter, parentAbstractReadHolder);
@@ -78,6 +87,22 @@ public abstract class AbstractReadHolder extends AbstractHolder implements ReadH
             this.headRowNumber = readBasicParameter.getHeadRowNumber();
         }
 
+        if (readBasicParameter.getIncludeColumnIndexes() == null && parentAbstractReadHolder != null) {
+            this.includeColumnIndexes = parentAbstractReadHolder.getIncludeColumnIndexes();
+        } else {
+            this.includeColumnIndexes = readBasicParameter.getIncludeColumnIndexes();
+        }
+
+        if (readBasicParameter.getOnlyReadHeadColumns() == null) {
+            if (parentAbstractReadHolder == null) {
+                this.onlyReadHeadColumns = Boolean.FALSE;
+            } else {
+                this.onlyReadHeadColumns = parentAbstractReadHolder.getOnlyReadHeadColumns();
+            }
+        } else {
+            this.onlyReadHeadColumns = readBasicParameter.getOnlyReadHeadColumns();
+        }
+
         if (parentAbstractReadHolder == null) {
             this.readListenerList = ListUtils.newArrayList();
         } else {
@@ -95,9 +120,10 @@ public abstract class AbstractReadHolder extends AbstractHolder implements ReadH
         }
 
         if (parentAbstractReadHolder == null) {
-            setConverterMap(DefaultConverterLoader.loadDefaultReadConverter());
+            // Copied, so the custom converters are not put into the default converters shared by all the readers
+            setConverterMap(new ConverterMap(DefaultConverterLoader.loadDefaultReadConverter()));
         } else {
-            setConverterMap(new HashMap<>(parentAbstractReadHolder.getConverterMap()));
+            setConverterMap(new ConverterMap(parentAbstractReadHolder.getConverterMap()));
         }
         if (readBasicParameter.getCustomConverterList() != null
             && !readBasicParameter.getCustomConverterList().isEmpty()) {
@@ -1,13 +1,18 @@
 package com.alibaba.excel.read.metadata.holder;
 
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.alibaba.excel.enums.HeadKindEnum;
 import com.alibaba.excel.enums.HolderEnum;
 import com.alibaba.excel.metadata.Cell;
 import com.alibaba.excel.metadata.CellExtra;
 import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.read.listener.RowBinder;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.read.metadata.ReadSheet;
+import com.alibaba.excel.read.metadata.property.ExcelReadHeadProperty;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -71,6 +76,33 @@ public class ReadSheetHolder extends AbstractReadHolder {
      * Reading this sheet has ended.
      */
     private Boolean ended;
+    /**
+     * The columns read in the data rows, the values of the other cells are not decoded. Default is null, all the
+     * columns are read.
+     * <p>
+     * It may be set by the thread calling the listeners, once the head is built.
+     */
+    private volatile BitSet projectedColumns;
+    /**
+     * Index of the first data row to read. Default is null, the data rows are read from the head.
+     */
+    private Integer startRow;
+    /**
+     * Index of the row where reading stops, exclusive. Default is null, the data rows are read to the end.
+     */
+    private Integer endRow;
+    /**
+     * Only read one of every so many data rows. Default is null, all the data rows are read.
+     */
+    private Integer rowStride;
+    /**
+     * Bind the rows to the head class, built when the first data row is read
+     */
+    private RowBinder rowBinder;
+    /**
+     * The row reused for all the rows without a head class when `flyweightRow` is true
+     */
+    private FlyweightRowMap<Object> flyweightRowMap;
 
     public ReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
@@ -80,6 +112,92 @@ public class ReadSheetHolder extends AbstractReadHolder {
         this.sheetName = readSheet.getSheetName();
         this.cellMap = new LinkedHashMap<>();
         this.rowIndex = -1;
+        if (readSheet.getStartRow() != null && readSheet.getStartRow() > 0) {
+            this.startRow = readSheet.getStartRow();
+        }
+        if (readSheet.getEndRow() != null && readSheet.getEndRow() >= 0) {
+            this.endRow = readSheet.getEndRow();
+        }
+        if (readSheet.getRowStride() != null && readSheet.getRowStride() > 1) {
+            this.rowStride = readSheet.getRowStride();
+        }
+        if (getIncludeColumnIndexes() != null) {
+            BitSet columns = new BitSet();
+            for (Integer columnIndex : getIncludeColumnIndexes()) {
+                columns.set(columnIndex);
+            }
+            this.projectedColumns = columns;
+        } else if (getHeadRowNumber() == 0) {
+            projectHeadColumns();
+        }
+    }
+
+    /**
+     * Only read the columns of the head in the data rows, if `onlyReadHeadColumns` is true and the head is a class.
+     * It's called once the head row is matched, since the columns may be found by the head names.
+     */
+    public void projectHeadColumns() {
+        // The other cells may be used by the custom listeners, so it's only done on demand
+        if (getIncludeColumnIndexes() != null || !Boolean.TRUE.equals(getOnlyReadHeadColumns())) {
+            return;
+        }
+        ExcelReadHeadProperty excelReadHeadProperty = excelReadHeadProperty();
+        if (excelReadHeadProperty == null || !HeadKindEnum.CLASS.equals(excelReadHeadProperty.getHeadKind())) {
+            return;
+        }
+        BitSet columns = new BitSet();
+        for (Integer columnIndex : excelReadHeadProperty.getHeadMap().keySet()) {
+            columns.set(columnIndex);
+        }
+        this.projectedColumns = columns;
+    }
+
+    /**
+     * Whether the value of the cell is not needed. The head rows are always read.
+     *
+     * @param rowIndex    Index of the row
+     * @param columnIndex Index of the column
+     * @return true if the cell can be skipped
+     */
+    public boolean ignoreColumn(int rowIndex, int columnIndex) {
+        BitSet columns = projectedColumns;
+        return columns != null && rowIndex >= getHeadRowNumber() && !columns.get(columnIndex);
+    }
+
+    /**
+     * Whether the row is not read, because it's out of the range of `startRow` and `endRow`, or not sampled by
+     * `rowStride`. The head rows are always read.
+     *
+     * @param rowIndex Index of the row
+     * @return true if the row can be skipped
+     */
+    public boolean ignoreRow(int rowIndex) {
+        if (rowIndex < getHeadRowNumber()) {
+            return false;
+        }
+        if (endRow != null && rowIndex >= endRow) {
+            return true;
+        }
+        int firstRow = getHeadRowNumber();
+        if (startRow != null) {
+            if (rowIndex < startRow) {
+                return true;
+            }
+            firstRow = Math.max(firstRow, startRow);
+        }
+        return rowStride != null && (rowIndex - firstRow) % rowStride != 0;
+    }
+
+    /**
+     * Whether the rest of the sheet can be skipped from this row, since no more rows are read. It's not possible if
+     * the extra information is read, which is at the end of the sheet.
+     *
+     * @param rowIndex Index of the row
+     * @return true if the reading of the sheet can stop
+     */
+    public boolean stopAtRow(int rowIndex) {
+        return endRow != null && rowIndex >= endRow && rowIndex >= getHeadRowNumber()
+            && parentReadWorkbookHolder.getExtraReadSet().isEmpty();
     }
 
     /**
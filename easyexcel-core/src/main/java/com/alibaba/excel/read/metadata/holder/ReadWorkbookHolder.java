@@ -13,10 +13,12 @@ import com.alibaba.excel.cache.selector.ReadCacheSelector;
 import com.alibaba.excel.cache.selector.SimpleReadCacheSelector;
 import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.enums.HeadNameNormalizeEnum;
 import com.alibaba.excel.enums.HolderEnum;
 import com.alibaba.excel.enums.ReadDefaultReturnEnum;
 import com.alibaba.excel.event.AnalysisEventListener;
 import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.read.metadata.ReadSheet;
 import com.alibaba.excel.read.metadata.ReadWorkbook;
 import com.alibaba.excel.support.ExcelTypeEnum;
@@ -78,6 +80,10 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
      * @see ReadDefaultReturnEnum
      */
     private ReadDefaultReturnEnum readDefaultReturn;
+    /**
+     * Reuse one {@link FlyweightRowMap} for all the rows of a sheet that are read without a head class.
+     */
+    private Boolean flyweightRow;
 
     /**
      * Excel type
@@ -114,6 +120,12 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
      * @see CellExtraTypeEnum
      */
     private Set<CellExtraTypeEnum> extraReadSet;
+    /**
+     * How the head names are normalized before they are matched. None by default.
+     *
+     * @see HeadNameNormalizeEnum
+     */
+    private Set<HeadNameNormalizeEnum> headNameNormalizeSet;
     /**
      * Actual sheet data
      */
@@ -162,6 +174,11 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
         } else {
             this.readDefaultReturn = readWorkbook.getReadDefaultReturn();
         }
+        if (readWorkbook.getFlyweightRow() == null) {
+            this.flyweightRow = Boolean.FALSE;
+        } else {
+            this.flyweightRow = readWorkbook.getFlyweightRow();
+        }
 
         this.customObject = readWorkbook.getCustomObject();
         if (readWorkbook.getIgnoreEmptyRow() == null) {
@@ -186,6 +203,11 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
         } else {
             this.extraReadSet = readWorkbook.getExtraReadSet();
         }
+        if (readWorkbook.getHeadNameNormalizeSet() == null) {
+            this.headNameNormalizeSet = new HashSet<HeadNameNormalizeEnum>();
+        } else {
+            this.headNameNormalizeSet = readWorkbook.getHeadNameNormalizeSet();
+        }
         this.hasReadSheet = new HashSet<Integer>();
         this.password = readWorkbook.getPassword();
     }
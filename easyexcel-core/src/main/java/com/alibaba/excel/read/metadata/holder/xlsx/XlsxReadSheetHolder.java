@@ -1,11 +1,12 @@
 package com.alibaba.excel.read.metadata.holder.xlsx;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 
 import com.alibaba.excel.read.metadata.ReadSheet;
 import com.alibaba.excel.read.metadata.holder.ReadSheetHolder;
 import com.alibaba.excel.read.metadata.holder.ReadWorkbookHolder;
+import com.alibaba.excel.util.IntArrayMap;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -33,10 +34,26 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
      * Data for current label.
      */
     private StringBuilder tempData;
+    /**
+     * Reused to parse the numbers of the cells.
+     */
+    private char[] tempChars;
     /**
      * Formula for current label.
      */
     private StringBuilder tempFormula;
+    /**
+     * The current row is not read, see {@link #ignoreRow(int)}.
+     */
+    private boolean tempRowIgnored;
+    /**
+     * The current cell is not read, see {@link #ignoreColumn(int, int)}.
+     */
+    private boolean tempCellIgnored;
+    /**
+     * Some of the cells not read in the current row have data, so the row is not empty.
+     */
+    private boolean ignoredCellHasData;
     /**
      * excel Relationship
      */
@@ -44,7 +61,8 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
 
     public XlsxReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
-        this.tagDeque = new LinkedList<String>();
+        this.tagDeque = new ArrayDeque<>();
+        setCellMap(new IntArrayMap<>());
         packageRelationshipCollection
             = ((XlsxReadWorkbookHolder)readWorkbookHolder).getPackageRelationshipCollectionMap().get(
             readSheet.getSheetNo());
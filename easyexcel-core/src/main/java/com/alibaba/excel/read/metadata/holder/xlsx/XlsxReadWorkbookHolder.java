@@ -1,15 +1,19 @@
 package com.alibaba.excel.read.metadata.holder.xlsx;
 
+import java.io.File;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.xml.parsers.SAXParserFactory;
 
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndex;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndexBuilder;
 import com.alibaba.excel.constant.BuiltinFormats;
 import com.alibaba.excel.metadata.data.DataFormatData;
 import com.alibaba.excel.read.metadata.ReadWorkbook;
 import com.alibaba.excel.read.metadata.holder.ReadWorkbookHolder;
 import com.alibaba.excel.support.ExcelTypeEnum;
-import com.alibaba.excel.util.MapUtils;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -43,6 +47,36 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String saxParserFactoryName;
+    /**
+     * Only index the shared strings when reading starts, and decode each of them the first time it's used. Default is
+     * false.
+     */
+    private Boolean lazySharedStrings;
+    /**
+     * Read the sheets at the same time on this executor. Default is null, the sheets are read one by one.
+     */
+    private Executor sheetExecutor;
+    /**
+     * The number of rows buffered between the parsing thread and the listener thread. Default is null, the listeners
+     * are called on the parsing thread.
+     */
+    private Integer pipelineBufferSize;
+    /**
+     * Scan the bytes of the sheet xml directly instead of using a SAX parser. Default is false.
+     */
+    private Boolean useSheetTokenizer;
+    /**
+     * Directory of the row offset index files. Default is null, no index is used.
+     */
+    private File rowOffsetIndexDirectory;
+    /**
+     * Index one of every so many rows when the row offset index is built.
+     */
+    private int rowOffsetIndexInterval;
+    /**
+     * The row offset index of the file, loaded when the file is opened
+     */
+    private XlsxRowOffsetIndex rowOffsetIndex;
     /**
      * Current style information
      */
@@ -60,11 +94,37 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
     public XlsxReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
         this.saxParserFactoryName = readWorkbook.getXlsxSAXParserFactoryName();
+        this.rowOffsetIndexDirectory = readWorkbook.getRowOffsetIndexDirectory();
+        if (readWorkbook.getRowOffsetIndexInterval() == null || readWorkbook.getRowOffsetIndexInterval() <= 0) {
+            this.rowOffsetIndexInterval = XlsxRowOffsetIndexBuilder.DEFAULT_INTERVAL;
+        } else {
+            this.rowOffsetIndexInterval = readWorkbook.getRowOffsetIndexInterval();
+        }
+        if (readWorkbook.getLazySharedStrings() == null) {
+            this.lazySharedStrings = rowOffsetIndexDirectory != null;
+        } else {
+            this.lazySharedStrings = readWorkbook.getLazySharedStrings();
+        }
+        this.sheetExecutor = readWorkbook.getSheetExecutor();
+        if (readWorkbook.getPipelineBufferSize() != null && readWorkbook.getPipelineBufferSize() > 0) {
+            this.pipelineBufferSize = readWorkbook.getPipelineBufferSize();
+        }
+        if (readWorkbook.getUseSheetTokenizer() == null) {
+            this.useSheetTokenizer = rowOffsetIndexDirectory != null;
+        } else {
+            this.useSheetTokenizer = readWorkbook.getUseSheetTokenizer();
+        }
         setExcelType(ExcelTypeEnum.XLSX);
-        dataFormatDataCache = MapUtils.newHashMap();
+        // The sheets may be read at the same time
+        dataFormatDataCache = new ConcurrentHashMap<>();
     }
 
     public DataFormatData dataFormatData(int dateFormatIndexInteger) {
+        // Avoid the lock of `computeIfAbsent` on java 8 when the value already exists
+        DataFormatData cachedDataFormatData = dataFormatDataCache.get(dateFormatIndexInteger);
+        if (cachedDataFormatData != null) {
+            return cachedDataFormatData;
+        }
         return dataFormatDataCache.computeIfAbsent(dateFormatIndexInteger, key -> {
             DataFormatData dataFormatData = new DataFormatData();
             if (stylesTable == null) {
@@ -77,6 +137,8 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
             dataFormatData.setIndex(xssfCellStyle.getDataFormat());
             dataFormatData.setFormat(BuiltinFormats.getBuiltinFormat(dataFormatData.getIndex(),
                 xssfCellStyle.getDataFormatString(), globalConfiguration().getLocale()));
+            // It's shared by all the cells of the style, so the cells don't have to determine it again
+            dataFormatData.isDateFormat();
             return dataFormatData;
         });
     }
@@ -1,5 +1,7 @@
 package com.alibaba.excel.read.processor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,15 +12,18 @@ import com.alibaba.excel.enums.HeadKindEnum;
 import com.alibaba.excel.enums.RowTypeEnum;
 import com.alibaba.excel.exception.ExcelAnalysisException;
 import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.alibaba.excel.metadata.GlobalConfiguration;
 import com.alibaba.excel.metadata.Head;
 import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.read.listener.BatchReadListener;
 import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.read.metadata.holder.ReadRowHolder;
 import com.alibaba.excel.read.metadata.holder.ReadSheetHolder;
 import com.alibaba.excel.read.metadata.property.ExcelReadHeadProperty;
 import com.alibaba.excel.util.BooleanUtils;
 import com.alibaba.excel.util.ConverterUtils;
-import com.alibaba.excel.util.StringUtils;
+import com.alibaba.excel.util.HeadNameMatchUtils;
 
 import org.apache.commons.collections4.MapUtils;
 import org.slf4j.Logger;
@@ -32,6 +37,16 @@ import org.slf4j.LoggerFactory;
 public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAnalysisEventProcessor.class);
 
+    /**
+     * The listener list that the batches are created for
+     */
+    private List<ReadListener<?>> batchReadListenerList;
+    /**
+     * The rows not handed to each listener yet, by the position of the listener. Null if there is no
+     * {@link BatchReadListener}, and the position of the other listeners is null.
+     */
+    private List<List<Object>> batchDataLists;
+
     @Override
     public void extra(AnalysisContext analysisContext) {
         dealExtra(analysisContext);
@@ -58,6 +73,7 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         }
         readSheetHolder.setEnded(Boolean.TRUE);
 
+        invokeBatches(analysisContext);
         for (ReadListener readListener : analysisContext.currentReadHolder().readListenerList()) {
             readListener.doAfterAllAnalysed(analysisContext);
         }
@@ -103,9 +119,20 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
             buildHead(analysisContext, cellDataMap);
         }
         // Now is data
-        for (ReadListener readListener : analysisContext.currentReadHolder().readListenerList()) {
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        List<List<Object>> dataLists = isData ? batchDataLists(readListenerList) : null;
+        for (int i = 0; i < readListenerList.size(); i++) {
+            ReadListener readListener = readListenerList.get(i);
+            List<Object> batchDataList = dataLists == null ? null : dataLists.get(i);
             try {
-                if (isData) {
+                if (batchDataList != null) {
+                    batchDataList.add(retainedData(readRowHolder.getCurrentRowAnalysisResult()));
+                    // Only check `hasNext` after a batch
+                    if (batchDataList.size() < ((BatchReadListener)readListener).batchSize()) {
+                        continue;
+                    }
+                    invokeBatch((BatchReadListener)readListener, batchDataList, analysisContext);
+                } else if (isData) {
                     readListener.invoke(readRowHolder.getCurrentRowAnalysisResult(), analysisContext);
                 } else {
                     readListener.invokeHead(cellDataMap, analysisContext);
@@ -115,11 +142,81 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
                 break;
             }
             if (!readListener.hasNext(analysisContext)) {
+                invokeBatches(analysisContext);
                 throw new ExcelAnalysisStopException();
             }
         }
     }
 
+    /**
+     * The reused row is only valid for the current row, a copy of it is kept in the batch.
+     */
+    private Object retainedData(Object data) {
+        if (data instanceof FlyweightRowMap) {
+            return ((FlyweightRowMap<?>)data).copy();
+        }
+        return data;
+    }
+
+    /**
+     * Get the batches of the listeners, they are created again if the listeners are changed, which is only after a
+     * sheet is ended.
+     */
+    private List<List<Object>> batchDataLists(List<ReadListener<?>> readListenerList) {
+        if (readListenerList == batchReadListenerList) {
+            return batchDataLists;
+        }
+        batchReadListenerList = readListenerList;
+        batchDataLists = null;
+        for (int i = 0; i < readListenerList.size(); i++) {
+            ReadListener<?> readListener = readListenerList.get(i);
+            if (!(readListener instanceof BatchReadListener)) {
+                continue;
+            }
+            if (batchDataLists == null) {
+                batchDataLists = new ArrayList<>(Collections.nCopies(readListenerList.size(), null));
+            }
+            int batchSize = ((BatchReadListener<?>)readListener).batchSize();
+            if (batchSize <= 0) {
+                throw new ExcelAnalysisException("The batch size must be greater than 0, but it's " + batchSize);
+            }
+            batchDataLists.set(i, new ArrayList<>(batchSize));
+        }
+        return batchDataLists;
+    }
+
+    /**
+     * Hand the rest rows to the batch listeners.
+     */
+    private void invokeBatches(AnalysisContext analysisContext) {
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        if (batchDataLists == null || readListenerList != batchReadListenerList) {
+            return;
+        }
+        for (int i = 0; i < readListenerList.size(); i++) {
+            List<Object> batchDataList = batchDataLists.get(i);
+            if (batchDataList == null || batchDataList.isEmpty()) {
+                continue;
+            }
+            try {
+                invokeBatch((BatchReadListener)readListenerList.get(i), batchDataList, analysisContext);
+            } catch (Exception e) {
+                onException(analysisContext, e);
+                break;
+            }
+        }
+    }
+
+    private void invokeBatch(BatchReadListener readListener, List<Object> batchDataList,
+        AnalysisContext analysisContext) {
+        try {
+            readListener.invokeBatch(batchDataList, analysisContext);
+        } finally {
+            // The rows are never handed over twice, even if the listener fails
+            batchDataList.clear();
+        }
+    }
+
     private void buildHead(AnalysisContext analysisContext, Map<Integer, ReadCellData<?>> cellDataMap) {
         // Rule out empty head, and then take the largest column
         if (MapUtils.isNotEmpty(cellDataMap)) {
@@ -135,34 +232,38 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         Map<Integer, String> dataMap = ConverterUtils.convertToStringMap(cellDataMap, analysisContext);
         ExcelReadHeadProperty excelHeadPropertyData = analysisContext.readSheetHolder().excelReadHeadProperty();
         Map<Integer, Head> headMapData = excelHeadPropertyData.getHeadMap();
+        // The heads matched by the name
+        List<String> headNameList = new ArrayList<>(headMapData.size());
+        for (Head headData : headMapData.values()) {
+            if (matchByName(headData)) {
+                List<String> headDataNameList = headData.getHeadNameList();
+                headNameList.add(headDataNameList.get(headDataNameList.size() - 1));
+            }
+        }
+        GlobalConfiguration globalConfiguration = analysisContext.currentReadHolder().globalConfiguration();
+        int[] columnIndexes = HeadNameMatchUtils.match(headNameList, dataMap, globalConfiguration.getAutoTrim(),
+            analysisContext.readWorkbookHolder().getHeadNameNormalizeSet(),
+            globalConfiguration.getFiledCacheLocation());
+
         Map<Integer, Head> tmpHeadMap = new HashMap<Integer, Head>(headMapData.size() * 4 / 3 + 1);
+        int position = 0;
         for (Map.Entry<Integer, Head> entry : headMapData.entrySet()) {
             Head headData = entry.getValue();
-            if (headData.getForceIndex() || !headData.getForceName()) {
+            if (!matchByName(headData)) {
                 tmpHeadMap.put(entry.getKey(), headData);
                 continue;
             }
-            List<String> headNameList = headData.getHeadNameList();
-            String headName = headNameList.get(headNameList.size() - 1);
-            for (Map.Entry<Integer, String> stringEntry : dataMap.entrySet()) {
-                if (stringEntry == null) {
-                    continue;
-                }
-                String headString = stringEntry.getValue();
-                Integer stringKey = stringEntry.getKey();
-                if (StringUtils.isEmpty(headString)) {
-                    continue;
-                }
-                if (analysisContext.currentReadHolder().globalConfiguration().getAutoTrim()) {
-                    headString = headString.trim();
-                }
-                if (headName.equals(headString)) {
-                    headData.setColumnIndex(stringKey);
-                    tmpHeadMap.put(stringKey, headData);
-                    break;
-                }
+            int columnIndex = columnIndexes[position++];
+            if (columnIndex != HeadNameMatchUtils.NONE) {
+                headData.setColumnIndex(columnIndex);
+                tmpHeadMap.put(columnIndex, headData);
             }
         }
         excelHeadPropertyData.setHeadMap(tmpHeadMap);
+        analysisContext.readSheetHolder().projectHeadColumns();
+    }
+
+    private boolean matchByName(Head headData) {
+        return !headData.getForceIndex() && headData.getForceName();
     }
 }
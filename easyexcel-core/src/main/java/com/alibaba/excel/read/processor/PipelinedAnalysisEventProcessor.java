@@ -0,0 +1,210 @@
+package com.alibaba.excel.read.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.exception.ExcelAnalysisStopSheetException;
+import com.alibaba.excel.read.metadata.holder.ReadRowHolder;
+import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.util.DateUtils;
+import com.alibaba.excel.util.FormatterUtils;
+import com.alibaba.excel.util.HeadNameMatchUtils;
+import com.alibaba.excel.util.NumberDataFormatterUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hand the rows to the listeners on another thread, so the parsing and the conversion of the rows can overlap.
+ * <p>
+ * The rows are passed in batches through a bounded buffer, and the parsing thread is blocked while it's full. All the
+ * rows are handled in order by one thread with the listener context. Once the first extra is met, which is always after
+ * the rows, the rest of the sheet is handled on the parsing thread.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+public class PipelinedAnalysisEventProcessor implements AnalysisEventProcessor, AutoCloseable {
+    private static final String THREAD_NAME_PREFIX = "easyexcel-read-pipeline-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    /**
+     * Threads of the listeners, they are created on demand and exit after idle for a while
+     */
+    private static final ExecutorService LISTENER_EXECUTOR;
+    private static final int MAX_BATCH_SIZE = 100;
+    /**
+     * How long to wait for free space before checking whether the listener thread is still alive
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    private static final List<ReadRowHolder> END_BATCH = new ArrayList<>(0);
+
+    /**
+     * The context passed to the listeners
+     */
+    private final AnalysisContext listenerContext;
+    private final AnalysisEventProcessor delegate;
+    private final int batchSize;
+    private final BlockingQueue<List<ReadRowHolder>> buffer;
+    private final CompletableFuture<Void> listenerFuture;
+    private List<ReadRowHolder> batch;
+    /**
+     * The listener thread is finished, the events are handled on the parsing thread
+     */
+    private boolean finished;
+    /**
+     * Tell the listener thread to give up the buffered rows
+     */
+    private volatile boolean aborted;
+    /**
+     * The exception thrown on the listener thread
+     */
+    private volatile Throwable failure;
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        LISTENER_EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * @param listenerContext The context passed to the listeners, its event processor handles the rows.
+     * @param bufferSize      The maximum number of rows buffered.
+     */
+    public PipelinedAnalysisEventProcessor(AnalysisContext listenerContext, int bufferSize) {
+        this.listenerContext = listenerContext;
+        this.delegate = listenerContext.analysisEventProcessor();
+        this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, bufferSize));
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize / batchSize));
+        this.batch = new ArrayList<>(batchSize);
+        this.listenerFuture = CompletableFuture.runAsync(this::handleRows, LISTENER_EXECUTOR);
+    }
+
+    @Override
+    public void extra(AnalysisContext analysisContext) {
+        finish();
+        throwFailure();
+        delegate.extra(listenerContext);
+    }
+
+    @Override
+    public void endRow(AnalysisContext analysisContext) {
+        throwFailure();
+        if (finished) {
+            listenerContext.readRowHolder(analysisContext.readRowHolder());
+            delegate.endRow(listenerContext);
+            return;
+        }
+        batch.add(analysisContext.readRowHolder());
+        if (batch.size() >= batchSize) {
+            offer(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    @Override
+    public void endSheet(AnalysisContext analysisContext) {
+        finish();
+        // Same as reading on one thread, the sheet still ends after a custom stop of the sheet
+        if (!(failure instanceof ExcelAnalysisStopSheetException)) {
+            throwFailure();
+        }
+        delegate.endSheet(listenerContext);
+    }
+
+    /**
+     * Stop the listener thread without handling the buffered rows, if the sheet is not ended normally.
+     */
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        aborted = true;
+        finish();
+    }
+
+    /**
+     * Hand over the remaining rows and wait for the listener thread.
+     */
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (!batch.isEmpty()) {
+            offer(batch);
+            batch = null;
+        }
+        offer(END_BATCH);
+        // All the exceptions are kept in `failure`
+        listenerFuture.join();
+    }
+
+    private void offer(List<ReadRowHolder> rows) {
+        try {
+            while (!buffer.offer(rows, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The listener thread is stopped by an exception, nobody will take the rows
+                if (listenerFuture.isDone()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the listeners.", e);
+        }
+    }
+
+    private void throwFailure() {
+        Throwable throwable = failure;
+        if (throwable == null) {
+            return;
+        }
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException)throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error)throwable;
+        }
+        throw new ExcelAnalysisException(throwable);
+    }
+
+    private void handleRows() {
+        try {
+            List<ReadRowHolder> rows = buffer.take();
+            while (rows != END_BATCH) {
+                for (ReadRowHolder readRowHolder : rows) {
+                    if (aborted) {
+                        return;
+                    }
+                    listenerContext.readRowHolder(readRowHolder);
+                    delegate.endRow(listenerContext);
+                }
+                rows = buffer.take();
+            }
+        } catch (Throwable t) {
+            if (log.isDebugEnabled()) {
+                log.debug("The listener thread is stopped.", t);
+            }
+            failure = t;
+        } finally {
+            NumberDataFormatterUtils.removeThreadLocalCache();
+            DateUtils.removeThreadLocalCache();
+            FormatterUtils.removeThreadLocalCache();
+            ClassUtils.removeThreadLocalCache();
+            HeadNameMatchUtils.removeThreadLocalCache();
+        }
+    }
+}
@@ -29,6 +29,21 @@ public class BeanMapUtils {
         return gen.create();
     }
 
+    /**
+     * Create a <code>BeanMap</code> of a class without a bean, which can be used for any bean of the class with
+     * {@link BeanMap#put(Object, Object, Object)}.
+     *
+     * @param beanClass the class of the beans
+     * @return a new <code>BeanMap</code> instance
+     */
+    public static BeanMap create(Class<?> beanClass) {
+        BeanMap.Generator gen = new BeanMap.Generator();
+        gen.setBeanClass(beanClass);
+        gen.setContextClass(beanClass);
+        gen.setNamingPolicy(EasyExcelNamingPolicy.INSTANCE);
+        return gen.create();
+    }
+
     public static class EasyExcelNamingPolicy extends DefaultNamingPolicy {
         public static final EasyExcelNamingPolicy INSTANCE = new EasyExcelNamingPolicy();
 
@@ -7,8 +7,8 @@ import java.util.Map;
 
 import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.converters.Converter;
-import com.alibaba.excel.converters.ConverterKeyBuild;
 import com.alibaba.excel.converters.ConverterKeyBuild.ConverterKey;
+import com.alibaba.excel.converters.ConverterMap;
 import com.alibaba.excel.converters.NullableObjectConverter;
 import com.alibaba.excel.converters.ReadConverterContext;
 import com.alibaba.excel.enums.CellDataTypeEnum;
@@ -53,7 +53,7 @@ public class ConverterUtils {
                 continue;
             }
             Converter<?> converter =
-                readSheetHolder.converterMap().get(ConverterKeyBuild.buildKey(String.class, cellData.getType()));
+                ConverterMap.getConverter(readSheetHolder.converterMap(), String.class, cellData.getType());
             if (converter == null) {
                 throw new ExcelDataConvertException(context.readRowHolder().getRowIndex(), key, cellData, null,
                     "Converter not found, convert " + cellData.getType() + " to String");
@@ -170,8 +170,26 @@ public class ConverterUtils {
         }
 
         if (converter == null) {
-            converter = converterMap.get(ConverterKeyBuild.buildKey(clazz, cellData.getType()));
+            converter = ConverterMap.getConverter(converterMap, clazz, cellData.getType());
         }
+        return convertToJavaObject(cellData, clazz, contentProperty, converter, context, rowIndex, columnIndex);
+    }
+
+    /**
+     * Convert it into a Java object with a converter that is already found
+     *
+     * @param cellData
+     * @param clazz
+     * @param contentProperty
+     * @param converter       may be null if it's not found
+     * @param context
+     * @param rowIndex
+     * @param columnIndex
+     * @return
+     */
+    public static Object convertToJavaObject(ReadCellData<?> cellData, Class<?> clazz,
+        ExcelContentProperty contentProperty, Converter<?> converter, AnalysisContext context, Integer rowIndex,
+        Integer columnIndex) {
         if (converter == null) {
             throw new ExcelDataConvertException(rowIndex, columnIndex, cellData, contentProperty,
                 "Converter not found, convert " + cellData.getType() + " to " + clazz.getName());
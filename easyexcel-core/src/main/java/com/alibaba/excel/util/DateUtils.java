@@ -1,16 +1,12 @@
 package com.alibaba.excel.util;
 
 import java.math.BigDecimal;
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -28,11 +24,6 @@ public class DateUtils {
      */
     private static final ThreadLocal<Map<Short, Boolean>> DATE_THREAD_LOCAL =
         new ThreadLocal<>();
-    /**
-     * Is a cache of dates
-     */
-    private static final ThreadLocal<Map<String, SimpleDateFormat>> DATE_FORMAT_THREAD_LOCAL =
-        new ThreadLocal<>();
 
     /**
      * The following patterns are used in {@link #isADateFormat(Short, String)}
@@ -77,7 +68,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = switchDateFormat(dateString);
         }
-        return getCacheDateFormat(dateFormat).parse(dateString);
+        return FormatterUtils.simpleDateFormat(dateFormat).parse(dateString);
     }
 
     /**
@@ -92,11 +83,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = switchDateFormat(dateString);
         }
-        if (local == null) {
-            return LocalDateTime.parse(dateString, DateTimeFormatter.ofPattern(dateFormat));
-        } else {
-            return LocalDateTime.parse(dateString, DateTimeFormatter.ofPattern(dateFormat, local));
-        }
+        return LocalDateTime.parse(dateString, FormatterUtils.dateTimeFormatter(dateFormat, local));
     }
 
     /**
@@ -111,11 +98,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = switchDateFormat(dateString);
         }
-        if (local == null) {
-            return LocalDate.parse(dateString, DateTimeFormatter.ofPattern(dateFormat));
-        } else {
-            return LocalDate.parse(dateString, DateTimeFormatter.ofPattern(dateFormat, local));
-        }
+        return LocalDate.parse(dateString, FormatterUtils.dateTimeFormatter(dateFormat, local));
     }
 
     /**
@@ -187,7 +170,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = defaultDateFormat;
         }
-        return getCacheDateFormat(dateFormat).format(date);
+        return FormatterUtils.simpleDateFormat(dateFormat).format(date);
     }
 
     /**
@@ -204,11 +187,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = defaultDateFormat;
         }
-        if (local == null) {
-            return date.format(DateTimeFormatter.ofPattern(dateFormat));
-        } else {
-            return date.format(DateTimeFormatter.ofPattern(dateFormat, local));
-        }
+        return date.format(FormatterUtils.dateTimeFormatter(dateFormat, local));
     }
 
     /**
@@ -236,11 +215,7 @@ public class DateUtils {
         if (StringUtils.isEmpty(dateFormat)) {
             dateFormat = defaultLocalDateFormat;
         }
-        if (local == null) {
-            return date.format(DateTimeFormatter.ofPattern(dateFormat));
-        } else {
-            return date.format(DateTimeFormatter.ofPattern(dateFormat, local));
-        }
+        return date.format(FormatterUtils.dateTimeFormatter(dateFormat, local));
     }
 
     /**
@@ -270,22 +245,6 @@ public class DateUtils {
         return format(localDateTime, dateFormat);
     }
 
-    private static DateFormat getCacheDateFormat(String dateFormat) {
-        Map<String, SimpleDateFormat> dateFormatMap = DATE_FORMAT_THREAD_LOCAL.get();
-        if (dateFormatMap == null) {
-            dateFormatMap = new HashMap<String, SimpleDateFormat>();
-            DATE_FORMAT_THREAD_LOCAL.set(dateFormatMap);
-        } else {
-            SimpleDateFormat dateFormatCached = dateFormatMap.get(dateFormat);
-            if (dateFormatCached != null) {
-                return dateFormatCached;
-            }
-        }
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(dateFormat);
-        dateFormatMap.put(dateFormat, simpleDateFormat);
-        return simpleDateFormat;
-    }
-
     /**
      * Given an Excel date with either 1900 or 1904 date windowing,
      * converts it to a java.util.Date.
@@ -481,6 +440,5 @@ public class DateUtils {
 
     public static void removeThreadLocalCache() {
         DATE_THREAD_LOCAL.remove();
-        DATE_FORMAT_THREAD_LOCAL.remove();
     }
 }
@@ -0,0 +1,185 @@
+package com.alibaba.excel.util;
+
+import java.math.RoundingMode;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the date and number formatters, so a pattern is compiled once instead of once per cell.
+ * <p>
+ * A {@link DateTimeFormatter} is immutable and shared by all threads. A {@link SimpleDateFormat} or a
+ * {@link DecimalFormat} is not thread safe, so the compiled one is kept as a prototype, and each thread uses its own
+ * clone of it until {@link #removeThreadLocalCache()}. The caches are bounded, the formatters of the patterns beyond
+ * the bound are created each time.
+ * <p>
+ * The formatters are cached by the default locale, and the clones take the default time zone and locale symbols when
+ * they are created, so changing the defaults works the same as creating the formatters each time.
+ *
+ * @author Jiaju Zhuang
+ */
+public class FormatterUtils {
+    /**
+     * Max number of patterns in each cache
+     */
+    private static final int MAX_CACHE_SIZE = 1000;
+    private static final int ROUNDING_MODE_COUNT = RoundingMode.values().length;
+
+    private static final Map<Locale, Map<String, DateTimeFormatter>> LOCALE_DATE_TIME_FORMATTER_CACHE =
+        new ConcurrentHashMap<>();
+    /**
+     * Prototypes by the default locale, never used to format directly
+     */
+    private static final Map<Locale, Map<String, SimpleDateFormat>> SIMPLE_DATE_FORMAT_CACHE =
+        new ConcurrentHashMap<>();
+    /**
+     * Prototypes by the rounding mode, never used to format directly
+     */
+    private static final Map<RoundingMode, Map<String, DecimalFormat>> DECIMAL_FORMAT_CACHE =
+        new EnumMap<>(RoundingMode.class);
+
+    private static final ThreadLocal<Map<String, SimpleDateFormat>> SIMPLE_DATE_FORMAT_THREAD_LOCAL =
+        new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, DecimalFormat[]>> DECIMAL_FORMAT_THREAD_LOCAL = new ThreadLocal<>();
+
+    static {
+        for (RoundingMode roundingMode : RoundingMode.values()) {
+            DECIMAL_FORMAT_CACHE.put(roundingMode, new ConcurrentHashMap<>());
+        }
+    }
+
+    private FormatterUtils() {}
+
+    /**
+     * Get a date time formatter, which can be shared.
+     *
+     * @param pattern pattern of {@link DateTimeFormatter}
+     * @param locale  may be null, the current default locale is used
+     * @return formatter
+     */
+    public static DateTimeFormatter dateTimeFormatter(String pattern, Locale locale) {
+        // The same as `DateTimeFormatter.ofPattern(pattern)`
+        if (locale == null) {
+            locale = Locale.getDefault(Locale.Category.FORMAT);
+        }
+        Map<String, DateTimeFormatter> cache = localeCache(LOCALE_DATE_TIME_FORMATTER_CACHE, locale);
+        if (cache == null) {
+            return DateTimeFormatter.ofPattern(pattern, locale);
+        }
+        DateTimeFormatter dateTimeFormatter = cache.get(pattern);
+        if (dateTimeFormatter != null) {
+            return dateTimeFormatter;
+        }
+        dateTimeFormatter = DateTimeFormatter.ofPattern(pattern, locale);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.putIfAbsent(pattern, dateTimeFormatter);
+        }
+        return dateTimeFormatter;
+    }
+
+    /**
+     * Get a simple date format of the current thread.
+     *
+     * @param pattern pattern of {@link SimpleDateFormat}
+     * @return date format, don't share it with other threads
+     */
+    public static DateFormat simpleDateFormat(String pattern) {
+        Map<String, SimpleDateFormat> threadCache = SIMPLE_DATE_FORMAT_THREAD_LOCAL.get();
+        if (threadCache == null) {
+            threadCache = MapUtils.newHashMap();
+            SIMPLE_DATE_FORMAT_THREAD_LOCAL.set(threadCache);
+        } else {
+            SimpleDateFormat simpleDateFormat = threadCache.get(pattern);
+            if (simpleDateFormat != null) {
+                return simpleDateFormat;
+            }
+        }
+        Map<String, SimpleDateFormat> cache = localeCache(SIMPLE_DATE_FORMAT_CACHE,
+            Locale.getDefault(Locale.Category.FORMAT));
+        SimpleDateFormat prototype = cache == null ? null : cache.get(pattern);
+        if (prototype == null) {
+            prototype = new SimpleDateFormat(pattern);
+            if (cache != null && cache.size() < MAX_CACHE_SIZE) {
+                cache.putIfAbsent(pattern, prototype);
+            }
+        }
+        SimpleDateFormat simpleDateFormat = (SimpleDateFormat)prototype.clone();
+        simpleDateFormat.setTimeZone(TimeZone.getDefault());
+        if (threadCache.size() < MAX_CACHE_SIZE) {
+            threadCache.put(pattern, simpleDateFormat);
+        }
+        return simpleDateFormat;
+    }
+
+    /**
+     * Get a decimal format of the current thread, which parses to {@link java.math.BigDecimal}.
+     *
+     * @param pattern      pattern of {@link DecimalFormat}
+     * @param roundingMode rounding mode
+     * @return decimal format, don't share it with other threads
+     */
+    public static DecimalFormat decimalFormat(String pattern, RoundingMode roundingMode) {
+        int slot = roundingMode.ordinal();
+        Map<String, DecimalFormat[]> threadCache = DECIMAL_FORMAT_THREAD_LOCAL.get();
+        if (threadCache == null) {
+            threadCache = MapUtils.newHashMap();
+            DECIMAL_FORMAT_THREAD_LOCAL.set(threadCache);
+        }
+        DecimalFormat[] threadDecimalFormats = threadCache.get(pattern);
+        if (threadDecimalFormats != null && threadDecimalFormats[slot] != null) {
+            return threadDecimalFormats[slot];
+        }
+        DecimalFormat decimalFormat = (DecimalFormat)prototypeDecimalFormat(pattern, roundingMode).clone();
+        decimalFormat.setDecimalFormatSymbols(
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)));
+        if (threadDecimalFormats == null && threadCache.size() < MAX_CACHE_SIZE) {
+            threadDecimalFormats = new DecimalFormat[ROUNDING_MODE_COUNT];
+            threadCache.put(pattern, threadDecimalFormats);
+        }
+        if (threadDecimalFormats != null) {
+            threadDecimalFormats[slot] = decimalFormat;
+        }
+        return decimalFormat;
+    }
+
+    private static DecimalFormat prototypeDecimalFormat(String pattern, RoundingMode roundingMode) {
+        Map<String, DecimalFormat> cache = DECIMAL_FORMAT_CACHE.get(roundingMode);
+        DecimalFormat decimalFormat = cache.get(pattern);
+        if (decimalFormat != null) {
+            return decimalFormat;
+        }
+        decimalFormat = new DecimalFormat(pattern);
+        decimalFormat.setRoundingMode(roundingMode);
+        decimalFormat.setParseBigDecimal(true);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.putIfAbsent(pattern, decimalFormat);
+        }
+        return decimalFormat;
+    }
+
+    /**
+     * @return null if there are too many locales
+     */
+    private static <T> Map<String, T> localeCache(Map<Locale, Map<String, T>> cache, Locale locale) {
+        Map<String, T> localeCache = cache.get(locale);
+        if (localeCache == null) {
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                return null;
+            }
+            localeCache = cache.computeIfAbsent(locale, key -> new ConcurrentHashMap<>(16));
+        }
+        return localeCache;
+    }
+
+    public static void removeThreadLocalCache() {
+        SIMPLE_DATE_FORMAT_THREAD_LOCAL.remove();
+        DECIMAL_FORMAT_THREAD_LOCAL.remove();
+    }
+}
@@ -0,0 +1,157 @@
+package com.alibaba.excel.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.alibaba.excel.enums.CacheLocationEnum;
+import com.alibaba.excel.enums.HeadNameNormalizeEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Find the columns of the heads by the names in the head row.
+ * <p>
+ * The names in the head row are put in a hash index once, so each head is found without going through the head row.
+ * The columns found for the same heads and the same head row are cached by `filedCacheLocation`, so the files with
+ * the same layout skip the matching.
+ *
+ * @author Jiaju Zhuang
+ */
+public class HeadNameMatchUtils {
+    /**
+     * Not found
+     */
+    public static final int NONE = -1;
+    /**
+     * Max number of head rows in the memory cache, the head rows may be different in every file
+     */
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    private static final Map<HeadMatchKey, int[]> HEAD_MATCH_CACHE = new ConcurrentHashMap<>(16);
+    private static final ThreadLocal<Map<HeadMatchKey, int[]>> HEAD_MATCH_THREAD_LOCAL = new ThreadLocal<>();
+
+    private HeadNameMatchUtils() {}
+
+    /**
+     * Find the column of each head name.
+     *
+     * @param headNameList  The names of the heads
+     * @param headRowMap    The names in the head row by the column index
+     * @param autoTrim      Whether the names in the head row are trimmed
+     * @param normalizeSet  How the names are normalized, may be null
+     * @param cacheLocation Where the columns are cached
+     * @return The column of each head name, {@link #NONE} if not found. It's shared, don't change it.
+     */
+    public static int[] match(List<String> headNameList, Map<Integer, String> headRowMap, boolean autoTrim,
+        Set<HeadNameNormalizeEnum> normalizeSet, CacheLocationEnum cacheLocation) {
+        Set<HeadNameNormalizeEnum> normalizeTypeSet = normalizeSet == null ? Collections.emptySet() : normalizeSet;
+        switch (cacheLocation) {
+            case THREAD_LOCAL:
+                Map<HeadMatchKey, int[]> headMatchCacheMap = HEAD_MATCH_THREAD_LOCAL.get();
+                if (headMatchCacheMap == null) {
+                    headMatchCacheMap = MapUtils.newHashMap();
+                    HEAD_MATCH_THREAD_LOCAL.set(headMatchCacheMap);
+                }
+                return headMatchCacheMap.computeIfAbsent(
+                    new HeadMatchKey(headNameList, headRowMap, autoTrim, normalizeTypeSet),
+                    key -> doMatch(headNameList, headRowMap, autoTrim, normalizeTypeSet));
+            case MEMORY:
+                HeadMatchKey headMatchKey = new HeadMatchKey(headNameList, headRowMap, autoTrim, normalizeTypeSet);
+                int[] columnIndexes = HEAD_MATCH_CACHE.get(headMatchKey);
+                if (columnIndexes != null) {
+                    return columnIndexes;
+                }
+                columnIndexes = doMatch(headNameList, headRowMap, autoTrim, normalizeTypeSet);
+                if (HEAD_MATCH_CACHE.size() < MAX_CACHE_SIZE) {
+                    HEAD_MATCH_CACHE.putIfAbsent(headMatchKey, columnIndexes);
+                }
+                return columnIndexes;
+            case NONE:
+                return doMatch(headNameList, headRowMap, autoTrim, normalizeTypeSet);
+            default:
+                throw new UnsupportedOperationException("unsupported enum");
+        }
+    }
+
+    private static int[] doMatch(List<String> headNameList, Map<Integer, String> headRowMap, boolean autoTrim,
+        Set<HeadNameNormalizeEnum> normalizeSet) {
+        // The first column of each name
+        Map<String, Integer> columnIndexMap = MapUtils.newHashMapWithExpectedSize(headRowMap.size());
+        for (Map.Entry<Integer, String> entry : headRowMap.entrySet()) {
+            String headString = entry.getValue();
+            if (StringUtils.isEmpty(headString)) {
+                continue;
+            }
+            if (autoTrim) {
+                headString = headString.trim();
+            }
+            columnIndexMap.merge(normalize(headString, normalizeSet), entry.getKey(), Math::min);
+        }
+        int[] columnIndexes = new int[headNameList.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Integer columnIndex = columnIndexMap.get(normalize(headNameList.get(i), normalizeSet));
+            columnIndexes[i] = columnIndex == null ? NONE : columnIndex;
+        }
+        return columnIndexes;
+    }
+
+    /**
+     * Normalize a head name.
+     *
+     * @param name         head name
+     * @param normalizeSet How the name is normalized
+     * @return normalized name
+     */
+    public static String normalize(String name, Set<HeadNameNormalizeEnum> normalizeSet) {
+        if (name == null || normalizeSet.isEmpty()) {
+            return name;
+        }
+        String normalizedName = name;
+        if (normalizeSet.contains(HeadNameNormalizeEnum.COLLAPSE_WHITESPACE)) {
+            normalizedName = collapseWhitespace(normalizedName);
+        }
+        if (normalizeSet.contains(HeadNameNormalizeEnum.TRIM)) {
+            normalizedName = normalizedName.trim();
+        }
+        if (normalizeSet.contains(HeadNameNormalizeEnum.IGNORE_CASE)) {
+            normalizedName = normalizedName.toLowerCase(Locale.ROOT);
+        }
+        return normalizedName;
+    }
+
+    private static String collapseWhitespace(String name) {
+        StringBuilder stringBuilder = new StringBuilder(name.length());
+        boolean lastWhitespace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                stringBuilder.append(c);
+                lastWhitespace = false;
+            } else if (!lastWhitespace) {
+                stringBuilder.append(' ');
+                lastWhitespace = true;
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    public static void removeThreadLocalCache() {
+        HEAD_MATCH_THREAD_LOCAL.remove();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class HeadMatchKey {
+        private List<String> headNameList;
+        private Map<Integer, String> headRowMap;
+        private boolean autoTrim;
+        private Set<HeadNameNormalizeEnum> normalizeSet;
+    }
+}
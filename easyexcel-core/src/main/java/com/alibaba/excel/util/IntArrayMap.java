@@ -0,0 +1,242 @@
+package com.alibaba.excel.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map with int keys, such as the column index of a row. The keys and values are kept in two arrays in insertion
+ * order, so the iteration order is the same as {@link java.util.LinkedHashMap}.
+ * <p>
+ * No entry is kept for each key and there is no hash table. The key is usually the same as its position, otherwise
+ * a binary search is used if the keys are put in ascending order.
+ *
+ * @param <V> the type of mapped values
+ * @author Jiaju Zhuang
+ */
+public class IntArrayMap<V> extends AbstractMap<Integer, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int[] EMPTY_KEYS = {};
+    private static final Object[] EMPTY_VALUES = {};
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    /**
+     * Whether the keys are put in ascending order
+     */
+    private boolean sorted = true;
+
+    public IntArrayMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity The arrays are created on the first put if it's 0.
+     */
+    public IntArrayMap(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            this.keys = EMPTY_KEYS;
+            this.values = EMPTY_VALUES;
+        } else {
+            this.keys = new int[initialCapacity];
+            this.values = new Object[initialCapacity];
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && indexOf((Integer)key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+        return get(((Integer)key).intValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V)values[index];
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        return put(key.intValue(), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V oldValue = (V)values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size == keys.length) {
+            int capacity = Math.max(size << 1, DEFAULT_CAPACITY);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        if (size > 0 && keys[size - 1] > key) {
+            sorted = false;
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+        int index = indexOf((Integer)key);
+        if (index < 0) {
+            return null;
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        sorted = true;
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    private int indexOf(int key) {
+        if (key >= 0 && key < size && keys[key] == key) {
+            return key;
+        }
+        if (sorted) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            return index < 0 ? -1 : index;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        V oldValue = (V)values[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        values[size] = null;
+        return oldValue;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Integer, V>> {
+        @Override
+        public Iterator<Entry<Integer, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<Integer, V>> {
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<Integer, V> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new IntArrayMapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+    }
+
+    private class IntArrayMapEntry implements Map.Entry<Integer, V> {
+        private final int index;
+
+        private IntArrayMapEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Integer getKey() {
+            return keys[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V)values[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            V oldValue = (V)values[index];
+            values[index] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return keys[index] ^ (values[index] == null ? 0 : values[index].hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return keys[index] + "=" + values[index];
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.Locale;
 
 import com.alibaba.excel.metadata.GlobalConfiguration;
+import com.alibaba.excel.metadata.data.DataFormatData;
 import com.alibaba.excel.metadata.format.DataFormatter;
 
 /**
@@ -36,6 +37,28 @@ public class NumberDataFormatterUtils {
             globalConfiguration.getLocale(), globalConfiguration.getUseScientificFormat());
     }
 
+    /**
+     * Format number data, with whether it's a date format that is already determined. The format is compiled once for
+     * the index.
+     *
+     * @param data
+     * @param dataFormatData      Not null, and the index is not null.
+     * @param globalConfiguration
+     * @return
+     */
+    public static String format(BigDecimal data, DataFormatData dataFormatData,
+        GlobalConfiguration globalConfiguration) {
+        DataFormatter dataFormatter;
+        if (globalConfiguration == null) {
+            dataFormatter = getDataFormatter(null, null, null);
+        } else {
+            dataFormatter = getDataFormatter(globalConfiguration.getUse1904windowing(),
+                globalConfiguration.getLocale(), globalConfiguration.getUseScientificFormat());
+        }
+        return dataFormatter.compile(dataFormatData.getIndex(), dataFormatData.getFormat(),
+            dataFormatData.isDateFormat()).format(data);
+    }
+
     /**
      * Format number data.
      *
@@ -49,12 +72,18 @@ public class NumberDataFormatterUtils {
      */
     public static String format(BigDecimal data, Short dataFormat, String dataFormatString, Boolean use1904windowing,
         Locale locale, Boolean useScientificFormat) {
+        return getDataFormatter(use1904windowing, locale, useScientificFormat).format(data, dataFormat,
+            dataFormatString);
+    }
+
+    private static DataFormatter getDataFormatter(Boolean use1904windowing, Locale locale,
+        Boolean useScientificFormat) {
         DataFormatter dataFormatter = DATA_FORMATTER_THREAD_LOCAL.get();
         if (dataFormatter == null) {
             dataFormatter = new DataFormatter(use1904windowing, locale, useScientificFormat);
             DATA_FORMATTER_THREAD_LOCAL.set(dataFormatter);
         }
-        return dataFormatter.format(data, dataFormat, dataFormatString);
+        return dataFormatter;
     }
 
     public static void removeThreadLocalCache() {
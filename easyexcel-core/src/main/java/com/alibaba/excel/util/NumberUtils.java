@@ -2,7 +2,6 @@ package com.alibaba.excel.util;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.text.ParseException;
 
 import com.alibaba.excel.metadata.data.WriteCellData;
@@ -34,9 +33,7 @@ public class NumberUtils {
         }
         String format = contentProperty.getNumberFormatProperty().getFormat();
         RoundingMode roundingMode = contentProperty.getNumberFormatProperty().getRoundingMode();
-        DecimalFormat decimalFormat = new DecimalFormat(format);
-        decimalFormat.setRoundingMode(roundingMode);
-        return decimalFormat.format(num);
+        return FormatterUtils.decimalFormat(format, roundingMode).format(num);
     }
 
     /**
@@ -181,10 +178,7 @@ public class NumberUtils {
     private static Number parse(String string, ExcelContentProperty contentProperty) throws ParseException {
         String format = contentProperty.getNumberFormatProperty().getFormat();
         RoundingMode roundingMode = contentProperty.getNumberFormatProperty().getRoundingMode();
-        DecimalFormat decimalFormat = new DecimalFormat(format);
-        decimalFormat.setRoundingMode(roundingMode);
-        decimalFormat.setParseBigDecimal(true);
-        return decimalFormat.parse(string);
+        return FormatterUtils.decimalFormat(format, roundingMode).parse(string);
     }
 
 }
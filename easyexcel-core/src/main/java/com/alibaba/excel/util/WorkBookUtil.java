@@ -1,15 +1,19 @@
 package com.alibaba.excel.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.zip.Deflater;
 
 import com.alibaba.excel.metadata.csv.CsvWorkbook;
 import com.alibaba.excel.metadata.data.DataFormatData;
 import com.alibaba.excel.metadata.data.WriteCellData;
+import com.alibaba.excel.metadata.xlsx.XlsxWorkbook;
 import com.alibaba.excel.write.metadata.holder.WriteWorkbookHolder;
 import com.alibaba.excel.write.metadata.style.WriteCellStyle;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
@@ -37,15 +41,24 @@ public class WorkBookUtil {
                     if (writeWorkbookHolder.getInMemory()) {
                         writeWorkbookHolder.setWorkbook(xssfWorkbook);
                     } else {
-                        writeWorkbookHolder.setWorkbook(new SXSSFWorkbook(xssfWorkbook));
+                        writeWorkbookHolder.setWorkbook(
+                            createSxssfWorkbook(xssfWorkbook, false, writeWorkbookHolder.getCompressionLevel()));
                     }
                     return;
                 }
                 Workbook workbook;
                 if (writeWorkbookHolder.getInMemory()) {
                     workbook = new XSSFWorkbook();
+                } else if (writeWorkbookHolder.getDirectWrite()
+                    && StringUtils.isEmpty(writeWorkbookHolder.getPassword())) {
+                    Integer compressionLevel = writeWorkbookHolder.getCompressionLevel();
+                    workbook = new XlsxWorkbook(writeWorkbookHolder.getOutputStream(),
+                        writeWorkbookHolder.getUseSharedStringsTable(),
+                        compressionLevel == null ? Deflater.DEFAULT_COMPRESSION : compressionLevel,
+                        writeWorkbookHolder.getCompressionExecutor());
                 } else {
-                    workbook = new SXSSFWorkbook();
+                    workbook = createSxssfWorkbook(null, writeWorkbookHolder.getUseSharedStringsTable(),
+                        writeWorkbookHolder.getCompressionLevel());
                 }
                 writeWorkbookHolder.setCachedWorkbook(workbook);
                 writeWorkbookHolder.setWorkbook(workbook);
@@ -82,6 +95,21 @@ public class WorkBookUtil {
 
     }
 
+    private static SXSSFWorkbook createSxssfWorkbook(XSSFWorkbook xssfWorkbook, boolean useSharedStringsTable,
+        Integer compressionLevel) {
+        if (compressionLevel == null) {
+            return new SXSSFWorkbook(xssfWorkbook, SXSSFWorkbook.DEFAULT_WINDOW_SIZE, false, useSharedStringsTable);
+        }
+        return new SXSSFWorkbook(xssfWorkbook, SXSSFWorkbook.DEFAULT_WINDOW_SIZE, false, useSharedStringsTable) {
+            @Override
+            protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+                ZipArchiveOutputStream zipArchiveOutputStream = super.createArchiveOutputStream(out);
+                zipArchiveOutputStream.setLevel(compressionLevel);
+                return zipArchiveOutputStream;
+            }
+        };
+    }
+
     public static Sheet createSheet(Workbook workbook, String sheetName) {
         return workbook.createSheet(sheetName);
     }
@@ -0,0 +1,358 @@
+package com.alibaba.excel.write;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alibaba.excel.context.WriteContext;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.util.DateUtils;
+import com.alibaba.excel.util.FormatterUtils;
+import com.alibaba.excel.util.NumberDataFormatterUtils;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import com.alibaba.excel.write.metadata.WriteTable;
+import com.alibaba.excel.write.metadata.fill.FillConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Write the data on another thread, so the caller can prepare the next data while the rows are converted and flushed.
+ * <p>
+ * The writes are queued in order in a bounded queue, and the caller is blocked while it's full. They are done one at a
+ * time by a thread of the pool, which is only taken while there are queued writes, so a writer that is not finished
+ * does not keep a thread. Once a write fails, the queued writes are given up, and the exception is thrown by the next
+ * call of the caller.
+ * <p>
+ * The rows of an iterator are taken on the caller thread, and handed over in batches through a bounded buffer to the
+ * queued write, so only the buffered rows are kept in memory. If taking the rows fails, the write is given up the same
+ * as writing on the current thread.
+ *
+ * @author Jiaju Zhuang
+ */
+@Slf4j
+public class AsyncExcelBuilder implements ExcelBuilder {
+    private static final String THREAD_NAME_PREFIX = "easyexcel-write-async-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    /**
+     * Threads of the writes, they are created on demand and exit after idle for a while
+     */
+    private static final ExecutorService WRITE_EXECUTOR;
+    /**
+     * How long to wait for free space or rows before checking whether the write is stopped
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    /**
+     * Hand over the rows once they fill the window of sxssf, the rows are flushed by the window
+     */
+    private static final int DEFAULT_BATCH_SIZE = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    private final ExcelBuilder delegate;
+    private final int queueSize;
+    private final int batchSize;
+    private final BlockingQueue<Runnable> queue;
+    /**
+     * A thread is taking the queued writes
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+    /**
+     * Prevent multiple shutdowns
+     */
+    private boolean finished;
+    /**
+     * The exception thrown on the write thread
+     */
+    private volatile Throwable failure;
+    /**
+     * The exception has been thrown to the caller
+     */
+    private boolean failureThrown;
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        WRITE_EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * @param delegate  Do the writes.
+     * @param queueSize The maximum number of writes queued, or batches buffered when writing an iterator.
+     * @param batchSize The number of rows of an iterator handed over at a time, default is the window size of sxssf.
+     */
+    public AsyncExcelBuilder(ExcelBuilder delegate, int queueSize, Integer batchSize) {
+        this.delegate = delegate;
+        this.queueSize = Math.max(1, queueSize);
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(this.queueSize);
+    }
+
+    @Override
+    public void addContent(Collection<?> data, WriteSheet writeSheet) {
+        addContent(data, writeSheet, null);
+    }
+
+    @Override
+    public void addContent(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        // The caller may reuse the collection once `write` returns
+        List<?> rows = data == null ? null : new ArrayList<>(data);
+        submit(() -> delegate.addContent(rows, writeSheet, writeTable));
+    }
+
+    @Override
+    public void addContent(Iterator<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        BatchIterator batchIterator = new BatchIterator();
+        submit(() -> delegate.addContent(batchIterator, writeSheet, writeTable));
+        try {
+            List<Object> batch = new ArrayList<>(batchSize);
+            while (data != null && data.hasNext()) {
+                batch.add(data.next());
+                if (batch.size() < batchSize) {
+                    continue;
+                }
+                if (!batchIterator.offer(batch)) {
+                    break;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+            if (!batch.isEmpty()) {
+                batchIterator.offer(batch);
+            }
+        } catch (Throwable t) {
+            // The write thread stops at the next batch, and the workbook is finished on exception
+            fail(t);
+        } finally {
+            batchIterator.end();
+        }
+        throwFailure();
+    }
+
+    @Override
+    public void fill(Object data, FillConfig fillConfig, WriteSheet writeSheet) {
+        Object rows = data instanceof Collection ? new ArrayList<>((Collection<?>)data) : data;
+        submit(() -> delegate.fill(rows, fillConfig, writeSheet));
+    }
+
+    @Override
+    public void merge(int firstRow, int lastRow, int firstCol, int lastCol) {
+        submit(() -> delegate.merge(firstRow, lastRow, firstCol, lastCol));
+    }
+
+    /**
+     * The context is changed by the queued writes, call {@link #await()} before using it.
+     *
+     * @return
+     */
+    @Override
+    public WriteContext writeContext() {
+        return delegate.writeContext();
+    }
+
+    @Override
+    public void await() {
+        if (finished) {
+            return;
+        }
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        offer(() -> written.complete(null));
+        written.join();
+        throwFailure();
+    }
+
+    @Override
+    public void finish(boolean onException) {
+        if (finished) {
+            return;
+        }
+        // Not interrupted, so the workbook is always finished and closed
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        offerUninterruptibly(() -> written.complete(null));
+        written.join();
+        finished = true;
+        delegate.finish(onException || failure != null);
+        // Only thrown once, so it's not thrown again when closing the writer after a failed write
+        if (!onException && !failureThrown) {
+            throwFailure();
+        }
+    }
+
+    private void submit(Runnable write) {
+        if (finished) {
+            throw new ExcelGenerateException("Can not write data after the writer is finished.");
+        }
+        throwFailure();
+        offer(() -> {
+            if (failure != null) {
+                return;
+            }
+            try {
+                write.run();
+            } catch (Throwable t) {
+                if (log.isDebugEnabled()) {
+                    log.debug("The asynchronous write failed.", t);
+                }
+                fail(t);
+            }
+        });
+    }
+
+    private void offer(Runnable task) {
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while waiting for the asynchronous write.", e);
+        }
+        startRunning();
+    }
+
+    private void offerUninterruptibly(Runnable task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(task);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        startRunning();
+    }
+
+    private void startRunning() {
+        if (running.compareAndSet(false, true)) {
+            WRITE_EXECUTOR.execute(this::runTasks);
+        }
+    }
+
+    /**
+     * Keep the first exception, the others are caused by it.
+     */
+    private synchronized void fail(Throwable throwable) {
+        if (failure == null) {
+            failure = throwable;
+        }
+    }
+
+    private void runTasks() {
+        try {
+            while (true) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    running.set(false);
+                    // A task may be queued after the poll, but before `running` is cleared
+                    if (queue.isEmpty() || !running.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                task.run();
+            }
+        } finally {
+            NumberDataFormatterUtils.removeThreadLocalCache();
+            DateUtils.removeThreadLocalCache();
+            FormatterUtils.removeThreadLocalCache();
+            ClassUtils.removeThreadLocalCache();
+        }
+    }
+
+    private void throwFailure() {
+        Throwable throwable = failure;
+        if (throwable == null) {
+            return;
+        }
+        failureThrown = true;
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException)throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error)throwable;
+        }
+        throw new ExcelGenerateException(throwable);
+    }
+
+    /**
+     * The rows handed over by the caller. It's ended by the caller without blocking, so the write always ends even if
+     * the caller is interrupted.
+     */
+    private class BatchIterator implements Iterator<Object> {
+        private final BlockingQueue<List<Object>> batches = new ArrayBlockingQueue<>(queueSize);
+        /**
+         * No more batches are offered
+         */
+        private volatile boolean ended;
+        private Iterator<Object> batch = Collections.emptyIterator();
+
+        /**
+         * @return false if the write is stopped by an exception, and nobody will take the rows
+         */
+        private boolean offer(List<Object> rows) {
+            try {
+                while (!batches.offer(rows, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (failure != null) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExcelGenerateException("Interrupted while waiting for the asynchronous write.", e);
+            }
+        }
+
+        private void end() {
+            ended = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!batch.hasNext()) {
+                if (failure != null) {
+                    throw new ExcelGenerateException("Stop writing the rows, because taking them failed.");
+                }
+                // Read before polling, all the batches are offered before it's ended
+                boolean lastPoll = ended;
+                List<Object> next;
+                try {
+                    next = batches.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ExcelGenerateException("Interrupted while waiting for the rows.", e);
+                }
+                if (next != null) {
+                    batch = next.iterator();
+                } else if (lastPoll) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.next();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.alibaba.excel.write;
 
 import java.util.Collection;
+import java.util.Iterator;
 
 import com.alibaba.excel.context.WriteContext;
 import com.alibaba.excel.write.merge.OnceAbsoluteMergeStrategy;
@@ -37,6 +38,18 @@ public interface ExcelBuilder {
      */
     void addContent(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable);
 
+    /**
+     * WorkBook increase value, the rows are taken from the iterator one by one while writing
+     *
+     * @param data
+     *            java basic type or java model extend BaseModel
+     * @param writeSheet
+     *            Write the sheet
+     * @param writeTable
+     *            Write the table
+     */
+    void addContent(Iterator<?> data, WriteSheet writeSheet, WriteTable writeTable);
+
     /**
      * WorkBook fill value
      *
@@ -69,6 +82,11 @@ public interface ExcelBuilder {
      */
     WriteContext writeContext();
 
+    /**
+     * Wait until the data written before are done, if they are written on another thread.
+     */
+    default void await() {}
+
     /**
      * Close io
      *
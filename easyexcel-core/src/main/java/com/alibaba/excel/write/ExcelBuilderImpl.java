@@ -1,6 +1,7 @@
 package com.alibaba.excel.write;
 
 import java.util.Collection;
+import java.util.Iterator;
 
 import com.alibaba.excel.context.WriteContext;
 import com.alibaba.excel.context.WriteContextImpl;
@@ -43,6 +44,15 @@ public class ExcelBuilderImpl implements ExcelBuilder {
         }
     }
 
+    /**
+     * Build on a created context, such as the context of a sheet writer.
+     *
+     * @param context
+     */
+    public ExcelBuilderImpl(WriteContext context) {
+        this.context = context;
+    }
+
     @Override
     public void addContent(Collection<?> data, WriteSheet writeSheet) {
         addContent(data, writeSheet, null);
@@ -50,6 +60,11 @@ public class ExcelBuilderImpl implements ExcelBuilder {
 
     @Override
     public void addContent(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        addContent(data == null ? null : data.iterator(), writeSheet, writeTable);
+    }
+
+    @Override
+    public void addContent(Iterator<?> data, WriteSheet writeSheet, WriteTable writeTable) {
         try {
             context.currentSheet(writeSheet, WriteTypeEnum.ADD);
             context.currentTable(writeTable);
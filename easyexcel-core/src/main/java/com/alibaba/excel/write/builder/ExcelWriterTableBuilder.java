@@ -1,7 +1,9 @@
 package com.alibaba.excel.write.builder;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.exception.ExcelGenerateException;
@@ -60,6 +62,18 @@ public class ExcelWriterTableBuilder extends AbstractExcelWriterParameterBuilder
         doWrite(supplier.get());
     }
 
+    public void doWrite(Iterator<?> data) {
+        if (excelWriter == null) {
+            throw new ExcelGenerateException("Must use 'EasyExcelFactory.write().sheet().table()' to call this method");
+        }
+        excelWriter.write(data, writeSheet, build());
+        excelWriter.finish();
+    }
+
+    public void doWrite(Stream<?> data) {
+        doWrite(data == null ? null : data.iterator());
+    }
+
     @Override
     protected WriteTable parameter() {
         return writeTable;
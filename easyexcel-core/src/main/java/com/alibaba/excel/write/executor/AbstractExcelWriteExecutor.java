@@ -4,7 +4,7 @@ import java.util.List;
 
 import com.alibaba.excel.context.WriteContext;
 import com.alibaba.excel.converters.Converter;
-import com.alibaba.excel.converters.ConverterKeyBuild;
+import com.alibaba.excel.converters.ConverterMap;
 import com.alibaba.excel.converters.NullableObjectConverter;
 import com.alibaba.excel.converters.WriteConverterContext;
 import com.alibaba.excel.enums.CellDataTypeEnum;
@@ -54,8 +54,19 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
      * @param cellWriteHandlerContext context
      */
     protected void converterAndSet(CellWriteHandlerContext cellWriteHandlerContext) {
+        converterAndSet(cellWriteHandlerContext, null);
+    }
+
+    /**
+     * Transform the data and then to set into the cell
+     *
+     * @param cellWriteHandlerContext context
+     * @param converters              The converters already found for the original field class of the cell, by the
+     *                                target type. Null if they are not cached.
+     */
+    protected void converterAndSet(CellWriteHandlerContext cellWriteHandlerContext, Converter<?>[] converters) {
 
-        WriteCellData<?> cellData = convert(cellWriteHandlerContext);
+        WriteCellData<?> cellData = convert(cellWriteHandlerContext, converters);
         cellWriteHandlerContext.setCellDataList(ListUtils.newArrayList(cellData));
         cellWriteHandlerContext.setFirstCellData(cellData);
 
@@ -180,15 +191,18 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
                     commentData.getRelativeLastRowIndex()) + 1);
         }
 
-        Comment comment = sheet.createDrawingPatriarch().createCellComment(anchor);
-        if (commentData.getRichTextStringData() != null) {
-            comment.setString(
-                StyleUtil.buildRichTextString(writeContext.writeWorkbookHolder(), commentData.getRichTextStringData()));
-        }
-        if (commentData.getAuthor() != null) {
-            comment.setAuthor(commentData.getAuthor());
+        // The drawings and the comments are parts of the workbook, which may be shared by the sheet writers
+        synchronized (cellWriteHandlerContext.getWriteWorkbookHolder()) {
+            Comment comment = sheet.createDrawingPatriarch().createCellComment(anchor);
+            if (commentData.getRichTextStringData() != null) {
+                comment.setString(StyleUtil.buildRichTextString(writeContext.writeWorkbookHolder(),
+                    commentData.getRichTextStringData()));
+            }
+            if (commentData.getAuthor() != null) {
+                comment.setAuthor(commentData.getAuthor());
+            }
+            cell.setCellComment(comment);
         }
-        cell.setCellComment(comment);
     }
 
     protected void fillImage(CellWriteHandlerContext cellWriteHandlerContext, List<ImageData> imageDataList) {
@@ -200,43 +214,50 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
         Sheet sheet = cellWriteHandlerContext.getWriteSheetHolder().getSheet();
         Workbook workbook = cellWriteHandlerContext.getWriteWorkbookHolder().getWorkbook();
 
-        Drawing<?> drawing = sheet.getDrawingPatriarch();
-        if (drawing == null) {
-            drawing = sheet.createDrawingPatriarch();
-        }
-        CreationHelper helper = sheet.getWorkbook().getCreationHelper();
-        for (ImageData imageData : imageDataList) {
-            int index = workbook.addPicture(imageData.getImage(),
-                FileTypeUtils.getImageTypeFormat(imageData.getImage()));
-            ClientAnchor anchor = helper.createClientAnchor();
-            if (imageData.getTop() != null) {
-                anchor.setDy1(StyleUtil.getCoordinate(imageData.getTop()));
-            }
-            if (imageData.getRight() != null) {
-                anchor.setDx2(-StyleUtil.getCoordinate(imageData.getRight()));
-            }
-            if (imageData.getBottom() != null) {
-                anchor.setDy2(-StyleUtil.getCoordinate(imageData.getBottom()));
+        // The pictures are parts of the workbook, which may be shared by the sheet writers
+        synchronized (cellWriteHandlerContext.getWriteWorkbookHolder()) {
+            Drawing<?> drawing = sheet.getDrawingPatriarch();
+            if (drawing == null) {
+                drawing = sheet.createDrawingPatriarch();
             }
-            if (imageData.getLeft() != null) {
-                anchor.setDx1(StyleUtil.getCoordinate(imageData.getLeft()));
-            }
-            anchor.setRow1(StyleUtil.getCellCoordinate(rowIndex, imageData.getFirstRowIndex(),
-                imageData.getRelativeFirstRowIndex()));
-            anchor.setCol1(StyleUtil.getCellCoordinate(columnIndex, imageData.getFirstColumnIndex(),
-                imageData.getRelativeFirstColumnIndex()));
-            anchor.setRow2(StyleUtil.getCellCoordinate(rowIndex, imageData.getLastRowIndex(),
-                imageData.getRelativeLastRowIndex()) + 1);
-            anchor.setCol2(StyleUtil.getCellCoordinate(columnIndex, imageData.getLastColumnIndex(),
-                imageData.getRelativeLastColumnIndex()) + 1);
-            if (imageData.getAnchorType() != null) {
-                anchor.setAnchorType(imageData.getAnchorType().getValue());
+            CreationHelper helper = sheet.getWorkbook().getCreationHelper();
+            for (ImageData imageData : imageDataList) {
+                int index = workbook.addPicture(imageData.getImage(),
+                    FileTypeUtils.getImageTypeFormat(imageData.getImage()));
+                ClientAnchor anchor = helper.createClientAnchor();
+                if (imageData.getTop() != null) {
+                    anchor.setDy1(StyleUtil.getCoordinate(imageData.getTop()));
+                }
+                if (imageData.getRight() != null) {
+                    anchor.setDx2(-StyleUtil.getCoordinate(imageData.getRight()));
+                }
+                if (imageData.getBottom() != null) {
+                    anchor.setDy2(-StyleUtil.getCoordinate(imageData.getBottom()));
+                }
+                if (imageData.getLeft() != null) {
+                    anchor.setDx1(StyleUtil.getCoordinate(imageData.getLeft()));
+                }
+                anchor.setRow1(StyleUtil.getCellCoordinate(rowIndex, imageData.getFirstRowIndex(),
+                    imageData.getRelativeFirstRowIndex()));
+                anchor.setCol1(StyleUtil.getCellCoordinate(columnIndex, imageData.getFirstColumnIndex(),
+                    imageData.getRelativeFirstColumnIndex()));
+                anchor.setRow2(StyleUtil.getCellCoordinate(rowIndex, imageData.getLastRowIndex(),
+                    imageData.getRelativeLastRowIndex()) + 1);
+                anchor.setCol2(StyleUtil.getCellCoordinate(columnIndex, imageData.getLastColumnIndex(),
+                    imageData.getRelativeLastColumnIndex()) + 1);
+                if (imageData.getAnchorType() != null) {
+                    anchor.setAnchorType(imageData.getAnchorType().getValue());
+                }
+                drawing.createPicture(anchor, index);
             }
-            drawing.createPicture(anchor, index);
         }
     }
 
     protected WriteCellData<?> convert(CellWriteHandlerContext cellWriteHandlerContext) {
+        return convert(cellWriteHandlerContext, null);
+    }
+
+    private WriteCellData<?> convert(CellWriteHandlerContext cellWriteHandlerContext, Converter<?>[] converters) {
         // This means that the user has defined the data.
         if (cellWriteHandlerContext.getOriginalFieldClass() == WriteCellData.class) {
             if (cellWriteHandlerContext.getOriginalValue() == null) {
@@ -254,7 +275,7 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
                     return cellDataValue;
                 }
             }
-            WriteCellData<?> cellDataReturn = doConvert(cellWriteHandlerContext);
+            WriteCellData<?> cellDataReturn = doConvert(cellWriteHandlerContext, converters);
 
             if (cellDataValue.getImageDataList() != null) {
                 cellDataReturn.setImageDataList(cellDataValue.getImageDataList());
@@ -274,7 +295,7 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
             }
             return cellDataReturn;
         }
-        return doConvert(cellWriteHandlerContext);
+        return doConvert(cellWriteHandlerContext, converters);
     }
 
     private void fillProperty(WriteCellData<?> cellDataValue, ExcelContentProperty excelContentProperty) {
@@ -298,7 +319,20 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
         }
     }
 
-    private WriteCellData<?> doConvert(CellWriteHandlerContext cellWriteHandlerContext) {
+    private Converter<?> findConverter(CellWriteHandlerContext cellWriteHandlerContext, Converter<?>[] converters) {
+        int slot = RowExtractor.converterSlot(cellWriteHandlerContext.getTargetCellDataType());
+        if (converters != null && converters[slot] != null) {
+            return converters[slot];
+        }
+        Converter<?> converter = ConverterMap.getConverter(writeContext.currentWriteHolder().converterMap(),
+            cellWriteHandlerContext.getOriginalFieldClass(), cellWriteHandlerContext.getTargetCellDataType());
+        if (converters != null) {
+            converters[slot] = converter;
+        }
+        return converter;
+    }
+
+    private WriteCellData<?> doConvert(CellWriteHandlerContext cellWriteHandlerContext, Converter<?>[] converters) {
         ExcelContentProperty excelContentProperty = cellWriteHandlerContext.getExcelContentProperty();
 
         Converter<?> converter = null;
@@ -310,9 +344,7 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
             if (writeContext.writeWorkbookHolder().getExcelType() == ExcelTypeEnum.CSV) {
                 cellWriteHandlerContext.setTargetCellDataType(CellDataTypeEnum.STRING);
             }
-            converter = writeContext.currentWriteHolder().converterMap().get(
-                ConverterKeyBuild.buildKey(cellWriteHandlerContext.getOriginalFieldClass(),
-                    cellWriteHandlerContext.getTargetCellDataType()));
+            converter = findConverter(cellWriteHandlerContext, converters);
         }
         if (cellWriteHandlerContext.getOriginalValue() == null && !(converter instanceof NullableObjectConverter)) {
             return new WriteCellData<>(CellDataTypeEnum.EMPTY);
@@ -1,19 +1,13 @@
 package com.alibaba.excel.write.executor;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 
 import com.alibaba.excel.context.WriteContext;
-import com.alibaba.excel.enums.HeadKindEnum;
-import com.alibaba.excel.metadata.FieldCache;
-import com.alibaba.excel.metadata.FieldWrapper;
 import com.alibaba.excel.metadata.Head;
 import com.alibaba.excel.metadata.property.ExcelContentProperty;
-import com.alibaba.excel.support.cglib.beans.BeanMap;
-import com.alibaba.excel.util.BeanMapUtils;
 import com.alibaba.excel.util.ClassUtils;
 import com.alibaba.excel.util.FieldUtils;
 import com.alibaba.excel.util.WorkBookUtil;
@@ -26,7 +20,6 @@ import com.alibaba.excel.write.metadata.RowData;
 import com.alibaba.excel.write.metadata.holder.WriteHolder;
 import com.alibaba.excel.write.metadata.holder.WriteSheetHolder;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 
@@ -37,13 +30,27 @@ import org.apache.poi.ss.usermodel.Row;
  */
 public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
+    /**
+     * The extractor of the last class written, most of the time all the objects of a sheet are of the same class
+     */
+    private RowExtractor rowExtractor;
+
     public ExcelWriteAddExecutor(WriteContext writeContext) {
         super(writeContext);
     }
 
     public void add(Collection<?> data) {
-        if (CollectionUtils.isEmpty(data)) {
-            data = new ArrayList<>();
+        add(data == null ? null : data.iterator());
+    }
+
+    /**
+     * Add the rows taken from the iterator one by one, so only the rows not flushed are kept in memory.
+     *
+     * @param data
+     */
+    public void add(Iterator<?> data) {
+        if (data == null) {
+            data = Collections.emptyIterator();
         }
         WriteSheetHolder writeSheetHolder = writeContext.writeSheetHolder();
         int newRowIndex = writeSheetHolder.getNewRowIndexAndStartDoWrite();
@@ -51,7 +58,8 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
             newRowIndex += writeContext.currentWriteHolder().relativeHeadRowIndex();
         }
         int relativeRowIndex = 0;
-        for (Object oneRowData : data) {
+        while (data.hasNext()) {
+            Object oneRowData = data.next();
             int lastRowIndex = relativeRowIndex + newRowIndex;
             addOneRowOfDataToExcel(oneRowData, lastRowIndex, relativeRowIndex);
             relativeRowIndex++;
@@ -137,79 +145,42 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
     private void addJavaObjectToExcel(Object oneRowData, Row row, int rowIndex, int relativeRowIndex) {
         WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
-        BeanMap beanMap = BeanMapUtils.create(oneRowData);
-        // Bean the contains of the Map Key method with poor performance,So to create a keySet here
-        Set<String> beanKeySet = new HashSet<>(beanMap.keySet());
-        Set<String> beanMapHandledSet = new HashSet<>();
-        int maxCellIndex = -1;
-        // If it's a class it needs to be cast by type
-        if (HeadKindEnum.CLASS.equals(writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadKind())) {
-            Map<Integer, Head> headMap = writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadMap();
-            for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-                int columnIndex = entry.getKey();
-                Head head = entry.getValue();
-                String name = head.getFieldName();
-                if (!beanKeySet.contains(name)) {
-                    continue;
-                }
-
-                ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(beanMap,
-                    currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), name, currentWriteHolder);
-                CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                    writeContext, row, rowIndex, head, columnIndex, relativeRowIndex, Boolean.FALSE,
-                    excelContentProperty);
-                WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
-
-                Cell cell = WorkBookUtil.createCell(row, columnIndex);
-                cellWriteHandlerContext.setCell(cell);
-
-                WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
-
-                cellWriteHandlerContext.setOriginalValue(beanMap.get(name));
-                cellWriteHandlerContext.setOriginalFieldClass(head.getField().getType());
-                converterAndSet(cellWriteHandlerContext);
-
-                WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
-
-                beanMapHandledSet.add(name);
-                maxCellIndex = Math.max(maxCellIndex, columnIndex);
-            }
+        if (rowExtractor == null || !rowExtractor.matches(currentWriteHolder, oneRowData)) {
+            rowExtractor = new RowExtractor(currentWriteHolder, oneRowData);
         }
-        // Finish
-        if (beanMapHandledSet.size() == beanMap.size()) {
-            return;
+        for (RowExtractor.Column column : rowExtractor.getHeadColumns()) {
+            addJavaObjectCellToExcel(oneRowData, column, row, rowIndex, relativeRowIndex, column.getColumnIndex());
         }
-        maxCellIndex++;
+        // fix https://github.com/alibaba/easyexcel/issues/1870
+        // If there is data, it is written to the next cell
+        int maxCellIndex = rowExtractor.getMaxHeadColumnIndex() + 1;
+        for (RowExtractor.Column column : rowExtractor.getExtraColumns()) {
+            addJavaObjectCellToExcel(oneRowData, column, row, rowIndex, relativeRowIndex, maxCellIndex++);
+        }
+    }
 
-        FieldCache fieldCache = ClassUtils.declaredFields(oneRowData.getClass(), writeContext.currentWriteHolder());
-        for (Map.Entry<Integer, FieldWrapper> entry : fieldCache.getSortedFieldMap().entrySet()) {
-            FieldWrapper field = entry.getValue();
-            String fieldName = field.getFieldName();
-            boolean uselessData = !beanKeySet.contains(fieldName) || beanMapHandledSet.contains(fieldName);
-            if (uselessData) {
-                continue;
-            }
-            Object value = beanMap.get(fieldName);
-            ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(beanMap,
-                currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), fieldName, currentWriteHolder);
-            CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                writeContext, row, rowIndex, null, maxCellIndex, relativeRowIndex, Boolean.FALSE, excelContentProperty);
-            WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
-
-            // fix https://github.com/alibaba/easyexcel/issues/1870
-            // If there is data, it is written to the next cell
-            Cell cell = WorkBookUtil.createCell(row, maxCellIndex);
-            cellWriteHandlerContext.setCell(cell);
-
-            WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
-
-            cellWriteHandlerContext.setOriginalValue(value);
-            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(beanMap, fieldName, value));
-            converterAndSet(cellWriteHandlerContext);
-
-            WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
-            maxCellIndex++;
+    private void addJavaObjectCellToExcel(Object oneRowData, RowExtractor.Column column, Row row, int rowIndex,
+        int relativeRowIndex, int columnIndex) {
+        CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
+            writeContext, row, rowIndex, column.getHead(), columnIndex, relativeRowIndex, Boolean.FALSE,
+            column.getExcelContentProperty());
+        WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
+
+        Cell cell = WorkBookUtil.createCell(row, columnIndex);
+        cellWriteHandlerContext.setCell(cell);
+
+        WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
+
+        Object value = rowExtractor.getValue(oneRowData, column);
+        cellWriteHandlerContext.setOriginalValue(value);
+        if (column.getFieldClass() != null) {
+            cellWriteHandlerContext.setOriginalFieldClass(column.getFieldClass());
+        } else {
+            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(value));
         }
+        converterAndSet(cellWriteHandlerContext, column.getConverters());
+
+        WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
     }
 
 }
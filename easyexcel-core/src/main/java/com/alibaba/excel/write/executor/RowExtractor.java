@@ -0,0 +1,200 @@
+package com.alibaba.excel.write.executor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.enums.HeadKindEnum;
+import com.alibaba.excel.metadata.FieldCache;
+import com.alibaba.excel.metadata.FieldWrapper;
+import com.alibaba.excel.metadata.Head;
+import com.alibaba.excel.metadata.property.ExcelContentProperty;
+import com.alibaba.excel.support.cglib.beans.BeanMap;
+import com.alibaba.excel.util.BeanMapUtils;
+import com.alibaba.excel.util.ClassUtils;
+import com.alibaba.excel.write.metadata.holder.WriteHolder;
+import com.alibaba.excel.write.property.ExcelWriteHeadProperty;
+
+/**
+ * Extract the cells of a row from the objects of a class.
+ * <p>
+ * It's built once for a class and a write holder: the bean map, the columns to write, the content property of each
+ * column and the class of each field are resolved up front, and the converter of a column is found on the first cell.
+ * So writing an object is only the getter calls, without creating any set or looking up anything by name.
+ *
+ * @author Jiaju Zhuang
+ */
+class RowExtractor {
+    /**
+     * One more for the cells without a target type
+     */
+    private static final int CONVERTER_SLOT_COUNT = CellDataTypeEnum.values().length + 1;
+
+    private final WriteHolder writeHolder;
+    private final Map<Integer, Head> headMap;
+    private final Class<?> beanClass;
+    /**
+     * Used for any bean of the class
+     */
+    private final BeanMap beanMap;
+    /**
+     * The columns of the head, in the order of the head
+     */
+    private final Column[] headColumns;
+    /**
+     * The fields that are not in the head, they are written after the last column of the head
+     */
+    private final Column[] extraColumns;
+    /**
+     * The largest column index of the head columns
+     */
+    private final int maxHeadColumnIndex;
+
+    RowExtractor(WriteHolder writeHolder, Object bean) {
+        this.writeHolder = writeHolder;
+        ExcelWriteHeadProperty excelWriteHeadProperty = writeHolder.excelWriteHeadProperty();
+        this.headMap = excelWriteHeadProperty.getHeadMap();
+        this.beanClass = bean.getClass();
+        this.beanMap = BeanMapUtils.create(bean);
+        Class<?> headClazz = excelWriteHeadProperty.getHeadClazz();
+        // Bean the contains of the Map Key method with poor performance,So to create a keySet here
+        Set<String> beanKeySet = new HashSet<>(beanMap.keySet());
+        Set<String> handledSet = new HashSet<>();
+
+        List<Column> headColumnList = new ArrayList<>();
+        int maxColumnIndex = -1;
+        // If it's a class it needs to be cast by type
+        if (HeadKindEnum.CLASS.equals(excelWriteHeadProperty.getHeadKind())) {
+            for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
+                Head head = entry.getValue();
+                String name = head.getFieldName();
+                if (!beanKeySet.contains(name)) {
+                    continue;
+                }
+                headColumnList.add(new Column(entry.getKey(), head, name,
+                    ClassUtils.declaredExcelContentProperty(beanMap, headClazz, name, writeHolder),
+                    head.getField().getType()));
+                handledSet.add(name);
+                maxColumnIndex = Math.max(maxColumnIndex, entry.getKey());
+            }
+        }
+        this.headColumns = headColumnList.toArray(new Column[0]);
+        this.maxHeadColumnIndex = maxColumnIndex;
+
+        List<Column> extraColumnList = new ArrayList<>();
+        if (handledSet.size() != beanMap.size()) {
+            FieldCache fieldCache = ClassUtils.declaredFields(beanClass, writeHolder);
+            for (Map.Entry<Integer, FieldWrapper> entry : fieldCache.getSortedFieldMap().entrySet()) {
+                String fieldName = entry.getValue().getFieldName();
+                boolean uselessData = !beanKeySet.contains(fieldName) || handledSet.contains(fieldName);
+                if (uselessData) {
+                    continue;
+                }
+                extraColumnList.add(new Column(null, null, fieldName,
+                    ClassUtils.declaredExcelContentProperty(beanMap, headClazz, fieldName, writeHolder),
+                    beanMap.getPropertyType(fieldName)));
+            }
+        }
+        this.extraColumns = extraColumnList.toArray(new Column[0]);
+    }
+
+    /**
+     * Whether it's built for the class and the write holder.
+     *
+     * @param writeHolder The current write holder
+     * @param bean        The object to write
+     * @return true if it can be used
+     */
+    boolean matches(WriteHolder writeHolder, Object bean) {
+        return this.writeHolder == writeHolder && bean.getClass() == beanClass
+            && writeHolder.excelWriteHeadProperty().getHeadMap() == headMap;
+    }
+
+    Column[] getHeadColumns() {
+        return headColumns;
+    }
+
+    Column[] getExtraColumns() {
+        return extraColumns;
+    }
+
+    int getMaxHeadColumnIndex() {
+        return maxHeadColumnIndex;
+    }
+
+    /**
+     * Get the value of a column.
+     *
+     * @param bean   The object to write
+     * @param column The column
+     * @return The value of the field
+     */
+    Object getValue(Object bean, Column column) {
+        return beanMap.get(bean, column.fieldName);
+    }
+
+    /**
+     * A resolved column.
+     */
+    static class Column {
+        /**
+         * Null if the field is not in the head
+         */
+        private final Integer columnIndex;
+        private final Head head;
+        private final String fieldName;
+        private final ExcelContentProperty excelContentProperty;
+        /**
+         * Null if the class of the field can not be known, then it's the class of the value
+         */
+        private final Class<?> fieldClass;
+        /**
+         * The converters found by the target type of the cells, only used if the field class is known
+         */
+        private final Converter<?>[] converters;
+
+        private Column(Integer columnIndex, Head head, String fieldName, ExcelContentProperty excelContentProperty,
+            Class<?> fieldClass) {
+            this.columnIndex = columnIndex;
+            this.head = head;
+            this.fieldName = fieldName;
+            this.excelContentProperty = excelContentProperty;
+            this.fieldClass = fieldClass;
+            this.converters = fieldClass == null ? null : new Converter<?>[CONVERTER_SLOT_COUNT];
+        }
+
+        Integer getColumnIndex() {
+            return columnIndex;
+        }
+
+        Head getHead() {
+            return head;
+        }
+
+        ExcelContentProperty getExcelContentProperty() {
+            return excelContentProperty;
+        }
+
+        Class<?> getFieldClass() {
+            return fieldClass;
+        }
+
+        Converter<?>[] getConverters() {
+            return converters;
+        }
+    }
+
+    /**
+     * The slot of a target type in the converters of a column.
+     *
+     * @param targetCellDataType The target type of the cell
+     * @return The slot
+     */
+    static int converterSlot(CellDataTypeEnum targetCellDataType) {
+        return targetCellDataType == null ? 0 : targetCellDataType.ordinal() + 1;
+    }
+}
@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.concurrent.Executor;
 
 import com.alibaba.excel.support.ExcelTypeEnum;
 
@@ -86,4 +87,53 @@ public class WriteWorkbook extends WriteBasicParameter {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Write the xlsx directly to the output stream without the cache file. Default false.
+     * <p>
+     * It's ignored if 'inMemory', a template or a password is used. The sheets must be written one by one, and the
+     * column widths must be set before the first 100 rows are written.
+     * <p>
+     * Images, comments, rich text fonts, data validations, conditional formattings, auto filters, sheet protection,
+     * print settings, headers and footers, margins, column styles, auto sizing columns and selecting sheets are not
+     * supported, the handlers using them throw {@link UnsupportedOperationException}.
+     */
+    private Boolean directWrite;
+    /**
+     * Use the shared strings table when writing xlsx without 'inMemory', or the inline strings. Default false.
+     * <p>
+     * All the different strings are kept in memory until the end, it makes the file smaller if there are many
+     * repeated strings.
+     */
+    private Boolean useSharedStringsTable;
+    /**
+     * The compression level of the xlsx, from 0 (no compression) to 9 (best compression). Default null, the default
+     * level of the zip is used.
+     * <p>
+     * A lower level writes faster but makes the file larger. It's ignored if 'inMemory' or a password is used.
+     */
+    private Integer compressionLevel;
+    /**
+     * Deflate the sheets of the xlsx in blocks on this executor at the same time when 'directWrite'. Default null, the
+     * whole file is deflated on the current thread.
+     * <p>
+     * The blocks are written in order into the same zip entry, so the file is still a normal xlsx, only a little
+     * larger.
+     */
+    private Executor compressionExecutor;
+    /**
+     * Write the data on another thread, the data of up to this number of `write` calls are queued, and `write` waits
+     * while the queue is full. The exception thrown while writing is thrown by the next `write`, `await` or `finish`.
+     * Default is null, the data are written on the current thread.
+     * <p>
+     * The collection passed to `write` is copied, so it can be reused once `write` returns, but the objects of the
+     * rows, the sheet and the table must not be changed until they are written. The handlers are called on the other
+     * thread.
+     */
+    private Integer asyncQueueSize;
+    /**
+     * The rows of an iterator or a stream are handed over to the other thread in batches of this size when
+     * 'asyncQueueSize' is set, so at most 'asyncQueueSize' batches are kept in memory. Default is 100, the rows of the
+     * window of sxssf, which are flushed together.
+     */
+    private Integer asyncBatchSize;
 }
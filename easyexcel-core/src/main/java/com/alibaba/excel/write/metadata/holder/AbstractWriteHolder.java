@@ -2,7 +2,6 @@ package com.alibaba.excel.write.metadata.holder;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +11,7 @@ import java.util.TreeMap;
 import com.alibaba.excel.constant.OrderConstant;
 import com.alibaba.excel.converters.Converter;
 import com.alibaba.excel.converters.ConverterKeyBuild;
+import com.alibaba.excel.converters.ConverterMap;
 import com.alibaba.excel.converters.DefaultConverterLoader;
 import com.alibaba.excel.enums.HeadKindEnum;
 import com.alibaba.excel.event.NotRepeatExecutor;
@@ -223,9 +223,10 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
 
         // Set converterMap
         if (parentAbstractWriteHolder == null) {
-            setConverterMap(DefaultConverterLoader.loadDefaultWriteConverter());
+            // Copied, so the custom converters are not put into the default converters shared by all the writers
+            setConverterMap(new ConverterMap(DefaultConverterLoader.loadDefaultWriteConverter()));
         } else {
-            setConverterMap(new HashMap<>(parentAbstractWriteHolder.getConverterMap()));
+            setConverterMap(new ConverterMap(parentAbstractWriteHolder.getConverterMap()));
         }
         if (writeBasicParameter.getCustomConverterList() != null
             && !writeBasicParameter.getCustomConverterList().isEmpty()) {
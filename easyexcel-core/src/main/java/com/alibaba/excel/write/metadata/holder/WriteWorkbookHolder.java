@@ -9,16 +9,20 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import com.alibaba.excel.enums.CacheLocationEnum;
 import com.alibaba.excel.enums.HolderEnum;
 import com.alibaba.excel.exception.ExcelGenerateException;
 import com.alibaba.excel.metadata.data.DataFormatData;
+import com.alibaba.excel.metadata.xlsx.XlsxWorkbook;
 import com.alibaba.excel.support.ExcelTypeEnum;
 import com.alibaba.excel.util.FileUtils;
 import com.alibaba.excel.util.IoUtils;
-import com.alibaba.excel.util.MapUtils;
 import com.alibaba.excel.util.StyleUtil;
 import com.alibaba.excel.write.handler.context.WorkbookWriteHandlerContext;
 import com.alibaba.excel.write.metadata.WriteWorkbook;
@@ -49,12 +53,14 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 @EqualsAndHashCode
 @Slf4j
 public class WriteWorkbookHolder extends AbstractWriteHolder {
+    private static final int DEFAULT_CACHE_CAPACITY = 16;
+
     /***
      * Current poi Workbook.This is only for writing, and there may be no data in version 07 when template data needs to
      * be read.
      * <ul>
      * <li>03:{@link HSSFWorkbook}</li>
-     * <li>07:{@link SXSSFWorkbook}</li>
+     * <li>07:{@link SXSSFWorkbook}, or {@link XlsxWorkbook} if 'directWrite'</li>
      * </ul>
      */
     private Workbook workbook;
@@ -144,6 +150,22 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Write the xlsx directly to the output stream without the cache file. Default false.
+     */
+    private Boolean directWrite;
+    /**
+     * Use the shared strings table when writing xlsx without 'inMemory', or the inline strings. Default false.
+     */
+    private Boolean useSharedStringsTable;
+    /**
+     * The compression level of the xlsx, null means the default level.
+     */
+    private Integer compressionLevel;
+    /**
+     * Deflate the sheets of the xlsx in blocks on this executor when 'directWrite'.
+     */
+    private Executor compressionExecutor;
 
     /**
      * Used to cell style.
@@ -157,6 +179,13 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      * Used to data format.
      */
     private Map<DataFormatData, Short> dataFormatMap;
+    /**
+     * The names of the sheets written by the sheet writers that are not finished, guarded by this holder. It's null
+     * after the workbook is finished, then no sheet writer can be created.
+     */
+    @Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<String> openSheetWriterSet;
 
     /**
      * handler context
@@ -241,9 +270,22 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         } else {
             this.writeExcelOnException = writeWorkbook.getWriteExcelOnException();
         }
-        this.cellStyleIndexMap = MapUtils.newHashMap();
-        this.fontMap = MapUtils.newHashMap();
-        this.dataFormatMap = MapUtils.newHashMap();
+        if (writeWorkbook.getDirectWrite() == null) {
+            this.directWrite = Boolean.FALSE;
+        } else {
+            this.directWrite = writeWorkbook.getDirectWrite();
+        }
+        if (writeWorkbook.getUseSharedStringsTable() == null) {
+            this.useSharedStringsTable = Boolean.FALSE;
+        } else {
+            this.useSharedStringsTable = writeWorkbook.getUseSharedStringsTable();
+        }
+        this.compressionLevel = writeWorkbook.getCompressionLevel();
+        this.compressionExecutor = writeWorkbook.getCompressionExecutor();
+        this.cellStyleIndexMap = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.fontMap = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.dataFormatMap = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.openSheetWriterSet = new HashSet<>();
     }
 
     private void copyTemplate() throws IOException {
@@ -275,6 +317,9 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
 
     /**
      * create a cell style.
+     * <p>
+     * The styles, fonts and data formats are shared by the sheet writers, the cached ones are read at the same time,
+     * and the new ones are created one by one.
      *
      * @param writeCellStyle
      * @param originCellStyle
@@ -284,7 +329,20 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         if (writeCellStyle == null) {
             return originCellStyle;
         }
+        short styleIndex = originCellStyle == null ? -1 : originCellStyle.getIndex();
+        Map<WriteCellStyle, CellStyle> cellStyleMap = cellStyleIndexMap.get(styleIndex);
+        if (cellStyleMap != null) {
+            CellStyle cellStyle = cellStyleMap.get(writeCellStyle);
+            if (cellStyle != null) {
+                return cellStyle;
+            }
+        }
+        synchronized (this) {
+            return doCreateCellStyle(writeCellStyle, originCellStyle);
+        }
+    }
 
+    private CellStyle doCreateCellStyle(WriteCellStyle writeCellStyle, CellStyle originCellStyle) {
         short styleIndex = -1;
         Font originFont = null;
         boolean useCache = true;
@@ -299,7 +357,7 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         }
 
         Map<WriteCellStyle, CellStyle> cellStyleMap = cellStyleIndexMap.computeIfAbsent(styleIndex,
-            key -> MapUtils.newHashMap());
+            key -> new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY));
         CellStyle cellStyle = cellStyleMap.get(writeCellStyle);
         if (cellStyle != null) {
             return cellStyle;
@@ -333,7 +391,9 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      */
     public Font createFont(WriteFont writeFont, Font originFont, boolean useCache) {
         if (!useCache) {
-            return StyleUtil.buildFont(workbook, originFont, writeFont);
+            synchronized (this) {
+                return StyleUtil.buildFont(workbook, originFont, writeFont);
+            }
         }
         WriteFont tempWriteFont = new WriteFont();
         WriteFont.merge(writeFont, tempWriteFont);
@@ -342,9 +402,9 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         if (font != null) {
             return font;
         }
-        font = StyleUtil.buildFont(workbook, originFont, tempWriteFont);
-        fontMap.put(tempWriteFont, font);
-        return font;
+        synchronized (this) {
+            return fontMap.computeIfAbsent(tempWriteFont, key -> StyleUtil.buildFont(workbook, originFont, key));
+        }
     }
 
     /**
@@ -359,7 +419,9 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
             return null;
         }
         if (!useCache) {
-            return StyleUtil.buildDataFormat(workbook, dataFormatData);
+            synchronized (this) {
+                return StyleUtil.buildDataFormat(workbook, dataFormatData);
+            }
         }
         DataFormatData tempDataFormatData = new DataFormatData();
         DataFormatData.merge(dataFormatData, tempDataFormatData);
@@ -368,9 +430,10 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         if (dataFormat != null) {
             return dataFormat;
         }
-        dataFormat = StyleUtil.buildDataFormat(workbook, tempDataFormatData);
-        dataFormatMap.put(tempDataFormatData, dataFormat);
-        return dataFormat;
+        synchronized (this) {
+            return dataFormatMap.computeIfAbsent(tempDataFormatData,
+                key -> StyleUtil.buildDataFormat(workbook, key));
+        }
     }
 
 }
@@ -0,0 +1,26 @@
+package com.alibaba.easyexcel.test.core.asyncwrite;
+
+import java.util.Date;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.annotation.format.DateTimeFormat;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class AsyncWriteData {
+    @ExcelProperty("string")
+    private String string;
+    @ExcelProperty("integer")
+    private Integer integer;
+    @ExcelProperty("date")
+    @DateTimeFormat("yyyy-MM-dd HH:mm:ss")
+    private Date date;
+}
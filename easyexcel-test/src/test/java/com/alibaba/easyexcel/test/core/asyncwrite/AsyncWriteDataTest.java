@@ -0,0 +1,146 @@
+package com.alibaba.easyexcel.test.core.asyncwrite;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.write.handler.RowWriteHandler;
+import com.alibaba.excel.write.handler.context.RowWriteHandlerContext;
+import com.alibaba.excel.write.metadata.WriteSheet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class AsyncWriteDataTest {
+    private static final int QUEUE_SIZE = 2;
+    private static final int BATCH_COUNT = 20;
+    private static final int BATCH_SIZE = 100;
+
+    private static File file07;
+    private static File fileCsv;
+    private static File fileException07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("asyncWrite07.xlsx");
+        fileCsv = TestFileUtil.createNewFile("asyncWriteCsv.csv");
+        fileException07 = TestFileUtil.createNewFile("asyncWriteException07.xlsx");
+    }
+
+    @Test
+    public void t01ReadAndWrite07() {
+        readAndWrite(file07);
+    }
+
+    @Test
+    public void t02ReadAndWriteCsv() {
+        readAndWrite(fileCsv);
+    }
+
+    @Test
+    public void t03WriteException() {
+        ExcelGenerateException exception = Assertions.assertThrows(ExcelGenerateException.class, () -> {
+            try (ExcelWriter excelWriter = EasyExcel.write(fileException07, AsyncWriteData.class)
+                .asyncQueueSize(QUEUE_SIZE).registerWriteHandler(new RowWriteHandler() {
+                    @Override
+                    public void afterRowDispose(RowWriteHandlerContext context) {
+                        if (context.getRowIndex() == BATCH_SIZE * 3) {
+                            throw new ExcelGenerateException("Failed at row " + context.getRowIndex());
+                        }
+                    }
+                }).build()) {
+                WriteSheet writeSheet = EasyExcel.writerSheet().build();
+                for (int batch = 0; batch < BATCH_COUNT; batch++) {
+                    excelWriter.write(data(batch), writeSheet);
+                }
+            }
+        });
+        Assertions.assertEquals("Failed at row " + BATCH_SIZE * 3, exception.getMessage());
+        Assertions.assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    public void t04WriteAfterFinish() {
+        ExcelWriter excelWriter = EasyExcel.write(fileException07, AsyncWriteData.class).asyncQueueSize(QUEUE_SIZE)
+            .build();
+        WriteSheet writeSheet = EasyExcel.writerSheet().build();
+        excelWriter.write(data(0), writeSheet);
+        excelWriter.finish();
+        Assertions.assertThrows(ExcelGenerateException.class, () -> excelWriter.write(data(1), writeSheet));
+    }
+
+    @Test
+    public void t05ReuseList07() {
+        File file = TestFileUtil.createNewFile("asyncWriteReuseList07.xlsx");
+        List<AsyncWriteData> expected = new ArrayList<>();
+        try (ExcelWriter excelWriter = EasyExcel.write(file, AsyncWriteData.class).asyncQueueSize(QUEUE_SIZE)
+            .build()) {
+            WriteSheet writeSheet = EasyExcel.writerSheet().build();
+            List<AsyncWriteData> buffer = new ArrayList<>();
+            for (int batch = 0; batch < BATCH_COUNT; batch++) {
+                buffer.clear();
+                buffer.addAll(data(batch));
+                excelWriter.write(buffer, writeSheet);
+                expected.addAll(buffer);
+            }
+            buffer.clear();
+        }
+        Assertions.assertEquals(expected, EasyExcel.read(file, AsyncWriteData.class, null).sheet().doReadSync());
+    }
+
+    private void readAndWrite(File file) {
+        AtomicInteger writtenRows = new AtomicInteger();
+        List<String> threadNames = new ArrayList<>();
+        List<AsyncWriteData> expected = new ArrayList<>();
+        try (ExcelWriter excelWriter = EasyExcel.write(file, AsyncWriteData.class).asyncQueueSize(QUEUE_SIZE)
+            .registerWriteHandler(new RowWriteHandler() {
+                @Override
+                public void afterRowDispose(RowWriteHandlerContext context) {
+                    if (!context.getHead()) {
+                        writtenRows.incrementAndGet();
+                        threadNames.add(Thread.currentThread().getName());
+                    }
+                }
+            }).build()) {
+            WriteSheet writeSheet = EasyExcel.writerSheet().build();
+            for (int batch = 0; batch < BATCH_COUNT; batch++) {
+                List<AsyncWriteData> data = data(batch);
+                excelWriter.write(data, writeSheet);
+                expected.addAll(data);
+                // The queued batches and the batch being written
+                Assertions.assertTrue(expected.size() - writtenRows.get() <= (QUEUE_SIZE + 1) * BATCH_SIZE);
+            }
+            excelWriter.await();
+            Assertions.assertEquals(expected.size(), writtenRows.get());
+        }
+        Assertions.assertTrue(threadNames.stream().allMatch(name -> name.startsWith("easyexcel-write-async-")));
+        List<AsyncWriteData> list = EasyExcel.read(file, AsyncWriteData.class, null).sheet().doReadSync();
+        Assertions.assertEquals(expected, list);
+    }
+
+    private List<AsyncWriteData> data(int batch) {
+        List<AsyncWriteData> list = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            int index = batch * BATCH_SIZE + i;
+            AsyncWriteData data = new AsyncWriteData();
+            data.setString("string" + index);
+            data.setInteger(index);
+            data.setDate(new Date(1600000000000L + index * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,20 @@
+package com.alibaba.easyexcel.test.core.batch;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class BatchData {
+    @ExcelProperty("name")
+    private String name;
+    @ExcelProperty("number")
+    private Integer number;
+}
@@ -0,0 +1,146 @@
+package com.alibaba.easyexcel.test.core.batch;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.read.listener.BatchReadListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class BatchDataTest {
+    private static final int ROW_COUNT = 1050;
+    private static final int BATCH_SIZE = 100;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("batch07.xlsx");
+        file03 = TestFileUtil.createNewFile("batch03.xls");
+        fileCsv = TestFileUtil.createNewFile("batchCsv.csv");
+        EasyExcel.write(file07, BatchData.class).sheet().doWrite(data());
+        EasyExcel.write(file03, BatchData.class).sheet().doWrite(data());
+        EasyExcel.write(fileCsv, BatchData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadAndWrite07() {
+        readAndCheck(file07);
+    }
+
+    @Test
+    public void t02ReadAndWrite03() {
+        readAndCheck(file03);
+    }
+
+    @Test
+    public void t03ReadAndWriteCsv() {
+        readAndCheck(fileCsv);
+    }
+
+    @Test
+    public void t04ReadStop() {
+        BatchDataListener listener = new BatchDataListener() {
+            @Override
+            public boolean hasNext(AnalysisContext context) {
+                return getDataList().size() < BATCH_SIZE * 2;
+            }
+        };
+        EasyExcel.read(file07, BatchData.class, listener).sheet().doRead();
+        Assertions.assertEquals(BATCH_SIZE * 2, listener.getDataList().size());
+        Assertions.assertFalse(listener.isFinished());
+    }
+
+    @Test
+    public void t05ReadPipelined() {
+        BatchDataListener listener = new BatchDataListener();
+        EasyExcel.read(file07, BatchData.class, listener).pipelineBufferSize(BATCH_SIZE).sheet().doRead();
+        listener.check();
+    }
+
+    @Test
+    public void t06ReadInvalidBatchSize() {
+        BatchDataListener listener = new BatchDataListener() {
+            @Override
+            public int batchSize() {
+                return 0;
+            }
+        };
+        Assertions.assertThrows(ExcelAnalysisException.class,
+            () -> EasyExcel.read(file07, BatchData.class, listener).sheet().doRead());
+    }
+
+    private void readAndCheck(File file) {
+        BatchDataListener listener = new BatchDataListener();
+        EasyExcel.read(file, BatchData.class, listener).sheet().doRead();
+        listener.check();
+    }
+
+    private static List<BatchData> data() {
+        List<BatchData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            BatchData data = new BatchData();
+            data.setName("name" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class BatchDataListener implements BatchReadListener<BatchData> {
+        private final List<BatchData> dataList = new ArrayList<>();
+        private final List<Integer> batchSizeList = new ArrayList<>();
+        private boolean finished;
+
+        @Override
+        public int batchSize() {
+            return BATCH_SIZE;
+        }
+
+        @Override
+        public void invokeBatch(List<BatchData> batchDataList, AnalysisContext context) {
+            Assertions.assertFalse(finished);
+            Assertions.assertEquals(dataList.size() + batchDataList.size(), context.readRowHolder().getRowIndex());
+            batchSizeList.add(batchDataList.size());
+            dataList.addAll(batchDataList);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            finished = true;
+        }
+
+        List<BatchData> getDataList() {
+            return dataList;
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        void check() {
+            Assertions.assertTrue(finished);
+            Assertions.assertEquals(data(), dataList);
+            Assertions.assertEquals(ROW_COUNT / BATCH_SIZE + 1, batchSizeList.size());
+            for (int i = 0; i < batchSizeList.size() - 1; i++) {
+                Assertions.assertEquals(BATCH_SIZE, batchSizeList.get(i));
+            }
+            Assertions.assertEquals(ROW_COUNT % BATCH_SIZE, batchSizeList.get(batchSizeList.size() - 1));
+        }
+    }
+}
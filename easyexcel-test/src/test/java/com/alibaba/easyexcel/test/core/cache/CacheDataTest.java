@@ -1,9 +1,11 @@
 package com.alibaba.easyexcel.test.core.cache;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +14,10 @@ import com.alibaba.easyexcel.test.demo.read.DemoData;
 import com.alibaba.easyexcel.test.util.TestFileUtil;
 import com.alibaba.excel.EasyExcel;
 import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.cache.LazySharedStringsCache;
+import com.alibaba.excel.cache.MappedFileCache;
+import com.alibaba.excel.cache.PackedMapCache;
+import com.alibaba.excel.cache.selector.SimpleReadCacheSelector;
 import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.enums.CacheLocationEnum;
 import com.alibaba.excel.event.AnalysisEventListener;
@@ -39,6 +45,8 @@ public class CacheDataTest {
     private static File fileCacheInvoke2;
     private static File fileCacheInvokeMemory;
     private static File fileCacheInvokeMemory2;
+    private static File fileMappedFileCache;
+    private static File fileLazySharedStrings;
 
     @BeforeAll
     public static void init() {
@@ -47,6 +55,8 @@ public class CacheDataTest {
         fileCacheInvoke2 = TestFileUtil.createNewFile("cache/fileCacheInvoke2.xlsx");
         fileCacheInvokeMemory = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory.xlsx");
         fileCacheInvokeMemory2 = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory2.xlsx");
+        fileMappedFileCache = TestFileUtil.createNewFile("cache/fileMappedFileCache.xlsx");
+        fileLazySharedStrings = TestFileUtil.createNewFile("cache/fileLazySharedStrings.xlsx");
     }
 
     @Test
@@ -184,6 +194,132 @@ public class CacheDataTest {
 
     }
 
+    @Test
+    public void t04ReadMappedFileCache() {
+        // Use the shared strings table
+        EasyExcel.write(fileMappedFileCache, CacheData.class).inMemory(Boolean.TRUE).sheet().doWrite(data());
+        List<CacheData> list = EasyExcel.read(fileMappedFileCache, CacheData.class, null)
+            .readCache(new MappedFileCache())
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        SimpleReadCacheSelector simpleReadCacheSelector = new SimpleReadCacheSelector();
+        simpleReadCacheSelector.setMaxUseMapCacheSize(0L);
+        list = EasyExcel.read(fileMappedFileCache, CacheData.class, null)
+            .readCacheSelector(simpleReadCacheSelector)
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals(data(), list);
+    }
+
+    @Test
+    public void t05ReadPackedMapCache() {
+        EasyExcel.write(fileMappedFileCache, CacheData.class).inMemory(Boolean.TRUE).sheet().doWrite(data());
+        List<CacheData> list = EasyExcel.read(fileMappedFileCache, CacheData.class, null)
+            .readCache(new PackedMapCache())
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        SimpleReadCacheSelector simpleReadCacheSelector = new SimpleReadCacheSelector();
+        simpleReadCacheSelector.setMaxUseMapCacheSize(0L);
+        simpleReadCacheSelector.setMaxUsePackedMapCacheSize(100L);
+        list = EasyExcel.read(fileMappedFileCache, CacheData.class, null)
+            .readCacheSelector(simpleReadCacheSelector)
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        // A value that spans multiple arenas
+        StringBuilder largeValue = new StringBuilder();
+        for (int i = 0; i < 3 * 1024 * 1024; i++) {
+            largeValue.append((char)('a' + i % 26));
+        }
+        PackedMapCache packedMapCache = new PackedMapCache(2);
+        packedMapCache.put("姓名");
+        packedMapCache.put(null);
+        packedMapCache.put(largeValue.toString());
+        packedMapCache.put("");
+        packedMapCache.putFinished();
+        Assertions.assertEquals("姓名", packedMapCache.get(0));
+        Assertions.assertNull(packedMapCache.get(1));
+        Assertions.assertEquals(largeValue.toString(), packedMapCache.get(2));
+        Assertions.assertEquals("", packedMapCache.get(3));
+        Assertions.assertEquals("姓名", packedMapCache.get(0));
+        packedMapCache.destroy();
+    }
+
+    @Test
+    public void t06ReadLazySharedStrings() {
+        List<CacheData> data = data();
+        data.get(1).setName("<a href=\"x\">&amp;'</a>");
+        data.get(2).setName(" 姓名\r\n换行\t ");
+        data.get(3).setName("SH_x000D_Z002");
+        EasyExcel.write(fileLazySharedStrings, CacheData.class).inMemory(Boolean.TRUE).sheet().doWrite(data);
+        List<CacheData> list = EasyExcel.read(fileLazySharedStrings, CacheData.class, null)
+            .autoTrim(Boolean.FALSE)
+            .sheet()
+            .doReadSync();
+        List<CacheData> lazyList = EasyExcel.read(fileLazySharedStrings, CacheData.class, null)
+            .autoTrim(Boolean.FALSE)
+            .lazySharedStrings(Boolean.TRUE)
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals(list, lazyList);
+        Assertions.assertEquals(data.get(1).getName(), lazyList.get(1).getName());
+
+        List<Map<Integer, Object>> mapList = EasyExcel.read(TestFileUtil.readFile("compatibility/t09.xlsx"))
+            .headRowNumber(0)
+            .lazySharedStrings(Boolean.TRUE)
+            .sheet()
+            .doReadSync();
+        Assertions.assertEquals("SH_x000D_Z002", mapList.get(0).get(0));
+    }
+
+    @Test
+    public void t07DestroyMappedFileCache() throws Exception {
+        MappedFileCache mappedFileCache = new MappedFileCache();
+        mappedFileCache.init(null);
+        mappedFileCache.put("value0");
+        mappedFileCache.put(null);
+        mappedFileCache.putFinished();
+        Assertions.assertEquals("value0", mappedFileCache.get(0));
+        Assertions.assertNull(mappedFileCache.get(1));
+        File cacheDirectory = (File)FieldUtils.getField(MappedFileCache.class, "cacheDirectory", true).get(
+            mappedFileCache);
+        Assertions.assertTrue(cacheDirectory.isDirectory());
+        // The files are unmapped, so they are deleted at once on any system
+        mappedFileCache.destroy();
+        Assertions.assertFalse(cacheDirectory.exists());
+    }
+
+    @Test
+    public void t08LazySharedStringsEncoding() {
+        Assertions.assertTrue(indexLazySharedStrings("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+        Assertions.assertTrue(indexLazySharedStrings("<?xml version='1.0' encoding='utf8' standalone='yes'?>"));
+        Assertions.assertTrue(indexLazySharedStrings("<?xml version=\"1.0\"?>"));
+        Assertions.assertTrue(indexLazySharedStrings(""));
+        // Parsed as usual
+        Assertions.assertFalse(indexLazySharedStrings("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>"));
+        Assertions.assertFalse(indexLazySharedStrings("<?xml version=\"1.0\" encoding=\"GBK\"?>"));
+    }
+
+    private boolean indexLazySharedStrings(String declaration) {
+        LazySharedStringsCache lazySharedStringsCache = new LazySharedStringsCache();
+        try {
+            String sharedStrings = declaration + "<sst><si><t>value</t></si></sst>";
+            if (!lazySharedStringsCache.index(
+                new ByteArrayInputStream(sharedStrings.getBytes(StandardCharsets.UTF_8)))) {
+                return false;
+            }
+            Assertions.assertEquals("value", lazySharedStringsCache.get(0));
+            return true;
+        } finally {
+            lazySharedStringsCache.destroy();
+        }
+    }
+
     private List<CacheData> data() {
         List<CacheData> list = new ArrayList<CacheData>();
         for (int i = 0; i < 10; i++) {
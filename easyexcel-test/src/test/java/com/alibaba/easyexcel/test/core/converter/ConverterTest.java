@@ -1,10 +1,34 @@
 package com.alibaba.easyexcel.test.core.converter;
 
+import java.io.File;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.converters.ConverterKeyBuild;
+import com.alibaba.excel.converters.ConverterMap;
+import com.alibaba.excel.converters.DefaultConverterLoader;
 import com.alibaba.excel.converters.WriteConverterContext;
 import com.alibaba.excel.converters.floatconverter.FloatNumberConverter;
+import com.alibaba.excel.converters.integer.IntegerNumberConverter;
+import com.alibaba.excel.converters.integer.IntegerStringConverter;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.metadata.data.DataFormatData;
+import com.alibaba.excel.metadata.data.ReadCellData;
 import com.alibaba.excel.metadata.data.WriteCellData;
+import com.alibaba.excel.metadata.format.CompiledDataFormat;
+import com.alibaba.excel.metadata.format.DataFormatter;
+import com.alibaba.excel.util.DateUtils;
+import com.alibaba.excel.util.FormatterUtils;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
@@ -26,4 +50,173 @@ public class ConverterTest {
         Assertions.assertEquals(0, writeCellData.getNumberValue().compareTo(new BigDecimal("95.62")));
     }
 
+    @Test
+    public void t02ConverterMap() {
+        ConverterMap converterMap = new ConverterMap(DefaultConverterLoader.loadAllConverter());
+        for (CellDataTypeEnum cellDataTypeEnum : CellDataTypeEnum.values()) {
+            Assertions.assertSame(
+                converterMap.get(ConverterKeyBuild.buildKey(Integer.class, cellDataTypeEnum)),
+                converterMap.getConverter(Integer.class, cellDataTypeEnum));
+        }
+        Assertions.assertSame(converterMap.getConverter(Integer.class, CellDataTypeEnum.NUMBER),
+            converterMap.getConverter(int.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertNull(converterMap.getConverter(ConverterTest.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertNull(converterMap.getConverter(Integer.class, null));
+    }
+
+    @Test
+    public void t03ConverterMapChange() {
+        ConverterMap converterMap = new ConverterMap(DefaultConverterLoader.loadAllConverter());
+        Converter<?> converter = converterMap.getConverter(Integer.class, CellDataTypeEnum.NUMBER);
+        Assertions.assertTrue(converter instanceof IntegerNumberConverter);
+
+        IntegerStringConverter customConverter = new IntegerStringConverter();
+        converterMap.put(ConverterKeyBuild.buildKey(Integer.class, CellDataTypeEnum.NUMBER), customConverter);
+        Assertions.assertSame(customConverter, converterMap.getConverter(int.class, CellDataTypeEnum.NUMBER));
+
+        // Replacing a converter keeps the size of the map
+        IntegerNumberConverter replacedConverter = new IntegerNumberConverter();
+        converterMap.replace(ConverterKeyBuild.buildKey(Integer.class, CellDataTypeEnum.NUMBER), replacedConverter);
+        Assertions.assertSame(replacedConverter, converterMap.getConverter(Integer.class, CellDataTypeEnum.NUMBER));
+
+        converterMap.keySet().remove(ConverterKeyBuild.buildKey(Integer.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertNull(converterMap.getConverter(Integer.class, CellDataTypeEnum.NUMBER));
+
+        converterMap.put(ConverterKeyBuild.buildKey(ConverterTest.class), customConverter);
+        Assertions.assertSame(customConverter, converterMap.getConverter(ConverterTest.class, null));
+    }
+
+    @Test
+    public void t09CustomConverterNotShared() {
+        File file = TestFileUtil.createNewFile("converterNotShared07.xlsx");
+        EasyExcel.write(file).sheet().doWrite(Collections.singletonList(Collections.singletonList("1")));
+        IntegerStringConverter customConverter = new IntegerStringConverter();
+        EasyExcel.read(file).registerConverter(customConverter).sheet().doReadSync();
+        EasyExcel.write(TestFileUtil.createNewFile("converterNotShared07.xlsx")).registerConverter(customConverter)
+            .sheet().doWrite(Collections.singletonList(Collections.singletonList(1)));
+        // The custom converters are only used by their own reader and writer
+        Assertions.assertNotSame(customConverter, DefaultConverterLoader.loadDefaultReadConverter().get(
+            ConverterKeyBuild.buildKey(Integer.class, CellDataTypeEnum.STRING)));
+        Assertions.assertNotSame(customConverter, DefaultConverterLoader.loadDefaultWriteConverter().get(
+            ConverterKeyBuild.buildKey(Integer.class)));
+    }
+
+    @Test
+    public void t04PrimitiveNumberValue() {
+        long[] unscaledValues = {0L, 1L, -1L, 7L, 125L, -1250L, 123456789012345L, -999999999999999L,
+            300000000000001L, 2087025L};
+        for (long unscaledValue : unscaledValues) {
+            for (int scale = 0; scale <= ReadCellData.MAX_PRIMITIVE_SCALE; scale++) {
+                BigDecimal expected = BigDecimal.valueOf(unscaledValue, scale);
+                ReadCellData<?> cellData = new ReadCellData<>(CellDataTypeEnum.NUMBER);
+                cellData.setPrimitiveNumberValue(unscaledValue, scale);
+                Assertions.assertEquals(expected.longValue(), cellData.numberValueAsLong());
+                Assertions.assertEquals(expected.intValue(), cellData.numberValueAsInt());
+                Assertions.assertEquals(expected.doubleValue(), cellData.numberValueAsDouble());
+                Assertions.assertEquals(expected.floatValue(), cellData.numberValueAsFloat());
+                Assertions.assertEquals(Double.parseDouble(expected.toPlainString()), cellData.numberValueAsDouble());
+                Assertions.assertEquals(expected, cellData.getNumberValue());
+                Assertions.assertEquals(expected, cellData.getOriginalNumberValue());
+                Assertions.assertEquals(ReadCellData.newInstanceOriginal(expected, null, null), cellData);
+            }
+        }
+    }
+
+    @Test
+    public void t05FormatterUtils() throws Exception {
+        Assertions.assertSame(FormatterUtils.dateTimeFormatter("yyyy-MM-dd", null),
+            FormatterUtils.dateTimeFormatter("yyyy-MM-dd", null));
+        Assertions.assertSame(FormatterUtils.dateTimeFormatter("yyyy-MM-dd", Locale.CHINA),
+            FormatterUtils.dateTimeFormatter("yyyy-MM-dd", Locale.CHINA));
+        Assertions.assertSame(FormatterUtils.dateTimeFormatter("yyyy-MM-dd", null),
+            FormatterUtils.dateTimeFormatter("yyyy-MM-dd", Locale.getDefault(Locale.Category.FORMAT)));
+
+        DecimalFormat decimalFormat = FormatterUtils.decimalFormat("#.##", RoundingMode.HALF_UP);
+        Assertions.assertSame(decimalFormat, FormatterUtils.decimalFormat("#.##", RoundingMode.HALF_UP));
+        Assertions.assertEquals("1.24", decimalFormat.format(1.235));
+        Assertions.assertEquals("1.23", FormatterUtils.decimalFormat("#.##", RoundingMode.DOWN).format(1.235));
+        Assertions.assertEquals(new BigDecimal("1.235"), decimalFormat.parse("1.235"));
+
+        DecimalFormat otherThreadDecimalFormat = CompletableFuture.supplyAsync(
+            () -> FormatterUtils.decimalFormat("#.##", RoundingMode.HALF_UP)).get();
+        Assertions.assertNotSame(decimalFormat, otherThreadDecimalFormat);
+
+        FormatterUtils.removeThreadLocalCache();
+        Assertions.assertNotSame(decimalFormat, FormatterUtils.decimalFormat("#.##", RoundingMode.HALF_UP));
+        FormatterUtils.removeThreadLocalCache();
+    }
+
+    @Test
+    public void t08FormatterUtilsDefaultChanged() {
+        Locale defaultLocale = Locale.getDefault();
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        Date date = new Date(0L);
+        try {
+            Locale.setDefault(Locale.US);
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+8"));
+            Assertions.assertEquals("1970-01-01 08", FormatterUtils.simpleDateFormat("yyyy-MM-dd HH").format(date));
+            Assertions.assertEquals("1,234.50",
+                FormatterUtils.decimalFormat("#,##0.00", RoundingMode.HALF_UP).format(1234.5));
+            Assertions.assertEquals("Jan",
+                FormatterUtils.dateTimeFormatter("MMM", null).format(LocalDate.of(1970, 1, 1)));
+            FormatterUtils.removeThreadLocalCache();
+
+            Locale.setDefault(Locale.GERMANY);
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+            Assertions.assertEquals("1970-01-01 00", FormatterUtils.simpleDateFormat("yyyy-MM-dd HH").format(date));
+            Assertions.assertEquals("1.234,50",
+                FormatterUtils.decimalFormat("#,##0.00", RoundingMode.HALF_UP).format(1234.5));
+            Assertions.assertEquals("Jan.",
+                FormatterUtils.dateTimeFormatter("MMM", null).format(LocalDate.of(1970, 1, 1)));
+        } finally {
+            FormatterUtils.removeThreadLocalCache();
+            Locale.setDefault(defaultLocale);
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void t06DataFormatDataIsDateFormat() {
+        DataFormatData dataFormatData = new DataFormatData();
+        Assertions.assertFalse(dataFormatData.isDateFormat());
+        dataFormatData.setIndex((short)200);
+        dataFormatData.setFormat("yyyy-mm-dd hh:mm");
+        Assertions.assertTrue(dataFormatData.isDateFormat());
+        Assertions.assertTrue(dataFormatData.clone().isDateFormat());
+
+        DataFormatData numberDataFormatData = new DataFormatData();
+        numberDataFormatData.setIndex((short)201);
+        numberDataFormatData.setFormat("#,##0.00");
+        Assertions.assertFalse(numberDataFormatData.isDateFormat());
+        numberDataFormatData.setIndex((short)14);
+        Assertions.assertTrue(numberDataFormatData.isDateFormat());
+    }
+
+    @Test
+    public void t07CompiledDataFormat() {
+        DataFormatter dataFormatter = new DataFormatter(Boolean.FALSE, Locale.US, Boolean.FALSE);
+        String[] formats = {"#,##0.00", "0.00%", "yyyy-mm-dd hh:mm", "0.00E+00", "General", "[Red]#,##0.00",
+            "#,##0,", "_(* #,##0.00_);_(* \\(#,##0.00\\);_(* \"-\"??_);_(@_)", "[$-409]mmm d, yyyy"};
+        BigDecimal[] values = {new BigDecimal("1234.567"), new BigDecimal("-1234.567"), BigDecimal.ZERO,
+            new BigDecimal("0.5"), new BigDecimal("45000.25"), new BigDecimal("12345678901234")};
+        for (int i = 0; i < formats.length; i++) {
+            short index = (short)(300 + i);
+            boolean dateFormat = DateUtils.isADateFormat(index, formats[i]);
+            CompiledDataFormat compiledDataFormat = dataFormatter.compile(index, formats[i], dateFormat);
+            Assertions.assertSame(compiledDataFormat, dataFormatter.compile(index, formats[i], dateFormat));
+            for (BigDecimal value : values) {
+                if (dateFormat && value.signum() < 0) {
+                    continue;
+                }
+                Assertions.assertEquals(dataFormatter.format(value, index, formats[i], dateFormat),
+                    compiledDataFormat.format(value), formats[i]);
+            }
+        }
+        Assertions.assertEquals("1,234.57", dataFormatter.compile((short)300, "#,##0.00", false).format(
+            new BigDecimal("1234.567")));
+        Assertions.assertEquals("123456.70%", dataFormatter.compile((short)301, "0.00%", false).format(
+            new BigDecimal("1234.567")));
+        Assertions.assertEquals("1.23E+03", dataFormatter.compile((short)303, "0.00E+00", false).format(
+            new BigDecimal("1234.567")));
+    }
 }
@@ -0,0 +1,36 @@
+package com.alibaba.easyexcel.test.core.directwrite;
+
+import java.util.Date;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.annotation.format.DateTimeFormat;
+import com.alibaba.excel.annotation.write.style.ColumnWidth;
+import com.alibaba.excel.annotation.write.style.HeadRowHeight;
+import com.alibaba.excel.annotation.write.style.OnceAbsoluteMerge;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@HeadRowHeight(30)
+@OnceAbsoluteMerge(firstRowIndex = 1, lastRowIndex = 2, firstColumnIndex = 4, lastColumnIndex = 4)
+public class DirectWriteData {
+    @ColumnWidth(30)
+    @ExcelProperty("string")
+    private String string;
+    @ExcelProperty("date")
+    @DateTimeFormat("yyyy-MM-dd HH:mm:ss")
+    private Date date;
+    @ExcelProperty("double")
+    private Double doubleData;
+    @ExcelProperty("boolean")
+    private Boolean booleanData;
+    @ExcelProperty("integer")
+    private Integer integerData;
+}
@@ -0,0 +1,214 @@
+package com.alibaba.easyexcel.test.core.directwrite;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.metadata.data.FormulaData;
+import com.alibaba.excel.metadata.data.HyperlinkData;
+import com.alibaba.excel.metadata.data.HyperlinkData.HyperlinkType;
+import com.alibaba.excel.metadata.data.WriteCellData;
+import com.alibaba.excel.write.handler.SheetWriteHandler;
+import com.alibaba.excel.write.handler.context.SheetWriteHandlerContext;
+import com.alibaba.excel.write.metadata.WriteSheet;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DirectWriteDataTest {
+    private static final int ROW_COUNT = 1050;
+    private static final String SHEET_NAME0 = "sheet0";
+    private static final String SHEET_NAME1 = "sheet1";
+
+    private static File file07;
+    private static File fileSharedStrings07;
+    private static File fileCell07;
+    private static File fileFinished07;
+    private static File fileCompressionExecutor07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("directWrite07.xlsx");
+        fileSharedStrings07 = TestFileUtil.createNewFile("directWriteSharedStrings07.xlsx");
+        fileCell07 = TestFileUtil.createNewFile("directWriteCell07.xlsx");
+        fileFinished07 = TestFileUtil.createNewFile("directWriteFinished07.xlsx");
+        fileCompressionExecutor07 = TestFileUtil.createNewFile("directWriteCompressionExecutor07.xlsx");
+    }
+
+    @Test
+    public void t01ReadAndWrite07() throws Exception {
+        readAndWrite(file07, false, null);
+    }
+
+    @Test
+    public void t02ReadAndWriteSharedStrings07() throws Exception {
+        readAndWrite(fileSharedStrings07, true, null);
+    }
+
+    @Test
+    public void t03WriteFormulaAndHyperlink07() throws Exception {
+        List<List<Object>> list = new ArrayList<>();
+        List<Object> row = new ArrayList<>();
+        row.add(1);
+        row.add(2);
+        WriteCellData<String> formula = new WriteCellData<>();
+        FormulaData formulaData = new FormulaData();
+        formulaData.setFormulaValue("A1+B1");
+        formula.setFormulaData(formulaData);
+        row.add(formula);
+        WriteCellData<String> hyperlink = new WriteCellData<>("site");
+        HyperlinkData hyperlinkData = new HyperlinkData();
+        hyperlinkData.setAddress("https://github.com/alibaba/easyexcel");
+        hyperlinkData.setHyperlinkType(HyperlinkType.URL);
+        hyperlink.setHyperlinkData(hyperlinkData);
+        row.add(hyperlink);
+        WriteCellData<String> document = new WriteCellData<>("document");
+        HyperlinkData documentData = new HyperlinkData();
+        documentData.setAddress("'" + SHEET_NAME0 + "'!A1");
+        documentData.setHyperlinkType(HyperlinkType.DOCUMENT);
+        document.setHyperlinkData(documentData);
+        row.add(document);
+        row.add("a\u0001b");
+        list.add(row);
+        EasyExcel.write(fileCell07).directWrite(true).sheet(SHEET_NAME0).doWrite(list);
+
+        try (Workbook workbook = WorkbookFactory.create(fileCell07, null, true)) {
+            Row row0 = workbook.getSheetAt(0).getRow(0);
+            Assertions.assertEquals(1, row0.getCell(0).getNumericCellValue(), 0);
+            Cell formulaCell = row0.getCell(2);
+            Assertions.assertEquals(CellType.FORMULA, formulaCell.getCellType());
+            Assertions.assertEquals("A1+B1", formulaCell.getCellFormula());
+            Assertions.assertEquals("site", row0.getCell(3).getStringCellValue());
+            Assertions.assertEquals("https://github.com/alibaba/easyexcel",
+                row0.getCell(3).getHyperlink().getAddress());
+            Assertions.assertEquals("'" + SHEET_NAME0 + "'!A1", row0.getCell(4).getHyperlink().getAddress());
+            Assertions.assertEquals("a?b", row0.getCell(5).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void t04WriteFinishedSheet07() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileFinished07, DirectWriteData.class).directWrite(true)
+            .build()) {
+            WriteSheet writeSheet0 = EasyExcel.writerSheet(0, SHEET_NAME0).build();
+            excelWriter.write(data(), writeSheet0);
+            excelWriter.write(data(), EasyExcel.writerSheet(1, SHEET_NAME1).build());
+            Assertions.assertThrows(ExcelGenerateException.class, () -> excelWriter.write(data(), writeSheet0));
+        }
+    }
+
+    @Test
+    public void t05ReadAndWriteCompressionExecutor07() throws Exception {
+        ExecutorService compressionExecutor = Executors.newFixedThreadPool(4);
+        try {
+            readAndWrite(fileCompressionExecutor07, false, compressionExecutor);
+        } finally {
+            compressionExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void t06WriteCompressionLevel07() {
+        Assertions.assertTrue(writeCompressionLevel(false, 0) > writeCompressionLevel(false, 9));
+        Assertions.assertTrue(writeCompressionLevel(true, 0) > writeCompressionLevel(true, 9));
+    }
+
+    private long writeCompressionLevel(boolean directWrite, int compressionLevel) {
+        File file = TestFileUtil.createNewFile("directWriteCompressionLevel07.xlsx");
+        EasyExcel.write(file, DirectWriteData.class).directWrite(directWrite).compressionLevel(compressionLevel)
+            .sheet().doWrite(data());
+        Assertions.assertEquals(data(), EasyExcel.read(file, DirectWriteData.class, null).sheet().doReadSync());
+        return file.length();
+    }
+
+    @Test
+    public void t07WriteDataValidation07() {
+        File file = TestFileUtil.createNewFile("directWriteDataValidation07.xlsx");
+        UnsupportedOperationException exception = Assertions.assertThrows(UnsupportedOperationException.class,
+            () -> EasyExcel.write(file, DirectWriteData.class).directWrite(true)
+                .registerWriteHandler(new SheetWriteHandler() {
+                    @Override
+                    public void afterSheetCreate(SheetWriteHandlerContext context) {
+                        context.getWriteSheetHolder().getSheet().getDataValidationHelper();
+                    }
+                }).sheet().doWrite(data()));
+        Assertions.assertEquals("Data validations are not supported when writing xlsx directly.",
+            exception.getMessage());
+    }
+
+    @Test
+    public void t08ReadAndWriteRejectedCompressionExecutor07() throws Exception {
+        ExecutorService compressionExecutor = Executors.newFixedThreadPool(1);
+        compressionExecutor.shutdown();
+        readAndWrite(TestFileUtil.createNewFile("directWriteRejectedCompressionExecutor07.xlsx"), false,
+            compressionExecutor);
+    }
+
+    private void readAndWrite(File file, boolean useSharedStringsTable, Executor compressionExecutor)
+        throws Exception {
+        try (ExcelWriter excelWriter = EasyExcel.write(file, DirectWriteData.class).directWrite(true)
+            .useSharedStringsTable(useSharedStringsTable).compressionExecutor(compressionExecutor).build()) {
+            WriteSheet writeSheet0 = EasyExcel.writerSheet(0, SHEET_NAME0).build();
+            excelWriter.write(data(), writeSheet0);
+            excelWriter.write(data(), writeSheet0);
+            excelWriter.write(data(), EasyExcel.writerSheet(1, SHEET_NAME1).build());
+        }
+
+        List<DirectWriteData> expected = new ArrayList<>(data());
+        expected.addAll(data());
+        List<DirectWriteData> list = EasyExcel.read(file, DirectWriteData.class, null).sheet(0).doReadSync();
+        Assertions.assertEquals(expected, list);
+        list = EasyExcel.read(file, DirectWriteData.class, null).sheet(1).doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        try (Workbook workbook = WorkbookFactory.create(file, null, true)) {
+            Assertions.assertEquals(2, workbook.getNumberOfSheets());
+            Assertions.assertEquals(SHEET_NAME1, workbook.getSheetName(1));
+            Sheet sheet = workbook.getSheetAt(0);
+            Assertions.assertEquals(30 * 256, sheet.getColumnWidth(0));
+            Assertions.assertEquals(600, sheet.getRow(0).getHeight());
+            Assertions.assertEquals(1, sheet.getNumMergedRegions());
+            Assertions.assertEquals("E2:E3", sheet.getMergedRegion(0).formatAsString());
+            Assertions.assertEquals(ROW_COUNT * 2, sheet.getLastRowNum());
+            Cell dateCell = sheet.getRow(1).getCell(1);
+            Assertions.assertEquals("yyyy-MM-dd HH:mm:ss", dateCell.getCellStyle().getDataFormatString());
+            Assertions.assertEquals(CellType.BOOLEAN, sheet.getRow(1).getCell(3).getCellType());
+            Assertions.assertEquals("<&>\"q\"", sheet.getRow(ROW_COUNT).getCell(0).getStringCellValue());
+        }
+    }
+
+    private List<DirectWriteData> data() {
+        List<DirectWriteData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            DirectWriteData data = new DirectWriteData();
+            data.setString(i == ROW_COUNT - 1 ? "<&>\"q\"" : "string" + i % 100);
+            data.setDate(new Date(1600000000000L + i * 1000L));
+            data.setDoubleData(i + 0.25);
+            data.setBooleanData(i % 2 == 0);
+            data.setIntegerData(i);
+            list.add(data);
+        }
+        return list;
+    }
+}
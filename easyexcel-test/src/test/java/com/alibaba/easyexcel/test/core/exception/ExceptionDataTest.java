@@ -11,6 +11,7 @@ import com.alibaba.easyexcel.test.demo.write.DemoData;
 import com.alibaba.easyexcel.test.util.TestFileUtil;
 import com.alibaba.excel.EasyExcel;
 import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.exception.ExcelDataConvertException;
 import com.alibaba.excel.write.metadata.WriteSheet;
 
 import org.assertj.core.util.Lists;
@@ -81,6 +82,15 @@ public class ExceptionDataTest {
         readAndWriteExcelAnalysisStopSheetException(fileExcelAnalysisStopSheetException03);
     }
 
+    @Test
+    public void t31ReadPrivateConstructor07() throws Exception {
+        readAndWrite(file07);
+        // The head class must be instantiable without changing the accessibility of its constructor
+        ExcelDataConvertException exception = Assertions.assertThrows(ExcelDataConvertException.class,
+            () -> EasyExcel.read(file07).head(PrivateConstructorData.class).sheet().doReadSync());
+        Assertions.assertEquals("Can not instance class: " + PrivateConstructorData.class.getName(),
+            exception.getMessage());
+    }
 
     private void readAndWriteExcelAnalysisStopSheetException(File file) throws Exception {
         try (ExcelWriter excelWriter = EasyExcel.write(file, ExceptionData.class).build()) {
@@ -0,0 +1,18 @@
+package com.alibaba.easyexcel.test.core.exception;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+public class PrivateConstructorData {
+    @ExcelProperty("姓名")
+    private String name;
+
+    private PrivateConstructorData() {}
+}
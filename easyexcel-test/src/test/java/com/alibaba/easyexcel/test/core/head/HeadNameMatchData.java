@@ -0,0 +1,22 @@
+package com.alibaba.easyexcel.test.core.head;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class HeadNameMatchData {
+    @ExcelProperty("user name")
+    private String userName;
+    @ExcelProperty("number")
+    private Integer number;
+    @ExcelProperty("name")
+    private String name;
+}
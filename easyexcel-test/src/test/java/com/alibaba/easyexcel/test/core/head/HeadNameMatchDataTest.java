@@ -0,0 +1,136 @@
+package com.alibaba.easyexcel.test.core.head;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.enums.CacheLocationEnum;
+import com.alibaba.excel.enums.HeadNameNormalizeEnum;
+import com.alibaba.excel.util.HeadNameMatchUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class HeadNameMatchDataTest {
+
+    private static File file07;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("headNameMatch07.xlsx");
+        fileCsv = TestFileUtil.createNewFile("headNameMatchCsv.csv");
+        EasyExcel.write(file07).head(head()).sheet().doWrite(data());
+        EasyExcel.write(fileCsv).head(head()).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadExactName07() {
+        readExactName(file07);
+    }
+
+    @Test
+    public void t02ReadExactNameCsv() {
+        readExactName(fileCsv);
+    }
+
+    @Test
+    public void t03ReadNormalizedName07() {
+        readNormalizedName(file07);
+    }
+
+    @Test
+    public void t04ReadNormalizedNameCsv() {
+        readNormalizedName(fileCsv);
+    }
+
+    @Test
+    public void t05ReadMemoryCache() {
+        for (int i = 0; i < 2; i++) {
+            List<HeadNameMatchData> list = EasyExcel.read(file07).head(HeadNameMatchData.class)
+                .filedCacheLocation(CacheLocationEnum.MEMORY)
+                .headNameNormalize(HeadNameNormalizeEnum.IGNORE_CASE)
+                .headNameNormalize(HeadNameNormalizeEnum.COLLAPSE_WHITESPACE)
+                .sheet().doReadSync();
+            Assertions.assertEquals(1, list.size());
+            Assertions.assertEquals("user0", list.get(0).getUserName());
+            Assertions.assertEquals(1, list.get(0).getNumber());
+            Assertions.assertEquals("name0", list.get(0).getName());
+        }
+    }
+
+    @Test
+    public void t06Match() {
+        Map<Integer, String> headRowMap = new HashMap<>();
+        headRowMap.put(0, "a");
+        headRowMap.put(1, " B ");
+        headRowMap.put(2, "a");
+        headRowMap.put(3, null);
+        List<String> headNameList = Arrays.asList("a", "B", "b", "c");
+        int[] columnIndexes = HeadNameMatchUtils.match(headNameList, headRowMap, true, null,
+            CacheLocationEnum.NONE);
+        Assertions.assertArrayEquals(new int[] {0, 1, HeadNameMatchUtils.NONE, HeadNameMatchUtils.NONE},
+            columnIndexes);
+
+        columnIndexes = HeadNameMatchUtils.match(headNameList, headRowMap, false,
+            EnumSet.of(HeadNameNormalizeEnum.TRIM, HeadNameNormalizeEnum.IGNORE_CASE), CacheLocationEnum.MEMORY);
+        Assertions.assertArrayEquals(new int[] {0, 1, 1, HeadNameMatchUtils.NONE}, columnIndexes);
+        Assertions.assertSame(columnIndexes, HeadNameMatchUtils.match(headNameList, new HashMap<>(headRowMap),
+            false, EnumSet.of(HeadNameNormalizeEnum.TRIM, HeadNameNormalizeEnum.IGNORE_CASE),
+            CacheLocationEnum.MEMORY));
+
+        Assertions.assertEquals("a b c", HeadNameMatchUtils.normalize(" a \t b\n\nc ",
+            EnumSet.of(HeadNameNormalizeEnum.COLLAPSE_WHITESPACE, HeadNameNormalizeEnum.TRIM)));
+        Assertions.assertEquals("a b", HeadNameMatchUtils.normalize("a b", Collections.emptySet()));
+    }
+
+    private void readExactName(File file) {
+        List<HeadNameMatchData> list = EasyExcel.read(file).head(HeadNameMatchData.class).sheet().doReadSync();
+        Assertions.assertEquals(1, list.size());
+        HeadNameMatchData data = list.get(0);
+        Assertions.assertNull(data.getUserName());
+        Assertions.assertNull(data.getNumber());
+        Assertions.assertEquals("name0", data.getName());
+    }
+
+    private void readNormalizedName(File file) {
+        List<HeadNameMatchData> list = EasyExcel.read(file).head(HeadNameMatchData.class)
+            .headNameNormalize(HeadNameNormalizeEnum.IGNORE_CASE)
+            .headNameNormalize(HeadNameNormalizeEnum.COLLAPSE_WHITESPACE)
+            .sheet().doReadSync();
+        Assertions.assertEquals(1, list.size());
+        HeadNameMatchData data = list.get(0);
+        Assertions.assertEquals("user0", data.getUserName());
+        Assertions.assertEquals(1, data.getNumber());
+        Assertions.assertEquals("name0", data.getName());
+    }
+
+    private static List<List<String>> head() {
+        List<List<String>> list = new ArrayList<>();
+        list.add(Collections.singletonList("  Number "));
+        list.add(Collections.singletonList("extra"));
+        list.add(Collections.singletonList("USER\n  NAME"));
+        list.add(Collections.singletonList("name"));
+        return list;
+    }
+
+    private static List<List<Object>> data() {
+        List<List<Object>> list = new ArrayList<>();
+        list.add(Arrays.asList(1, "extra0", "user0", "name0"));
+        return list;
+    }
+}
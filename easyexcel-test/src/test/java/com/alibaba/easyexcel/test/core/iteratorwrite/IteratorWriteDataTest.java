@@ -0,0 +1,194 @@
+package com.alibaba.easyexcel.test.core.iteratorwrite;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.exception.ExcelGenerateException;
+import com.alibaba.excel.write.handler.RowWriteHandler;
+import com.alibaba.excel.write.handler.context.RowWriteHandlerContext;
+import com.alibaba.excel.write.metadata.WriteSheet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class IteratorWriteDataTest {
+    private static final int ROW_COUNT = 1000;
+    private static final int QUEUE_SIZE = 2;
+    private static final int BATCH_SIZE = 30;
+
+    private static File file07;
+    private static File fileCsv;
+    private static File fileAsync07;
+    private static File fileException07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("iteratorWrite07.xlsx");
+        fileCsv = TestFileUtil.createNewFile("iteratorWriteCsv.csv");
+        fileAsync07 = TestFileUtil.createNewFile("iteratorWriteAsync07.xlsx");
+        fileException07 = TestFileUtil.createNewFile("iteratorWriteException07.xlsx");
+    }
+
+    @Test
+    public void t01WriteIterator07() {
+        EasyExcel.write(file07, IteratorWriteData.class).sheet().doWrite(iterator(ROW_COUNT, null));
+        Assertions.assertEquals(dataList(ROW_COUNT),
+            EasyExcel.read(file07, IteratorWriteData.class, null).sheet().doReadSync());
+    }
+
+    @Test
+    public void t02WriteStreamCsv() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileCsv, IteratorWriteData.class).build();
+             Stream<IteratorWriteData> stream = IntStream.range(0, ROW_COUNT).mapToObj(this::data)) {
+            excelWriter.write(stream, EasyExcel.writerSheet().build());
+        }
+        Assertions.assertEquals(dataList(ROW_COUNT),
+            EasyExcel.read(fileCsv, IteratorWriteData.class, null).sheet().doReadSync());
+    }
+
+    @Test
+    public void t03WriteIteratorAsync07() {
+        AtomicInteger writtenRows = new AtomicInteger();
+        List<Integer> relativeRowIndexList = new ArrayList<>();
+        // The buffered batches, the batch being filled and the batch being written
+        int maxPendingRows = (QUEUE_SIZE + 2) * BATCH_SIZE;
+        try (ExcelWriter excelWriter = EasyExcel.write(fileAsync07, IteratorWriteData.class)
+            .asyncQueueSize(QUEUE_SIZE).asyncBatchSize(BATCH_SIZE).registerWriteHandler(new RowWriteHandler() {
+                @Override
+                public void afterRowDispose(RowWriteHandlerContext context) {
+                    if (!context.getHead()) {
+                        writtenRows.incrementAndGet();
+                        relativeRowIndexList.add(context.getRelativeRowIndex());
+                    }
+                }
+            }).build()) {
+            WriteSheet writeSheet = EasyExcel.writerSheet().build();
+            excelWriter.write(iterator(ROW_COUNT, pulledRows -> Assertions.assertTrue(
+                pulledRows - writtenRows.get() <= maxPendingRows)), writeSheet);
+            excelWriter.write(IntStream.range(ROW_COUNT, ROW_COUNT * 2).mapToObj(this::data), writeSheet);
+        }
+        List<Integer> expectedRelativeRowIndexList = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            expectedRelativeRowIndexList.add(i);
+        }
+        expectedRelativeRowIndexList.addAll(expectedRelativeRowIndexList);
+        Assertions.assertEquals(expectedRelativeRowIndexList, relativeRowIndexList);
+        Assertions.assertEquals(dataList(ROW_COUNT * 2),
+            EasyExcel.read(fileAsync07, IteratorWriteData.class, null).sheet().doReadSync());
+    }
+
+    @Test
+    public void t04IteratorException() {
+        writeIteratorException(null);
+        writeIteratorException(QUEUE_SIZE);
+    }
+
+    @Test
+    public void t05WriteExceptionAsync() {
+        ExcelGenerateException exception = Assertions.assertThrows(ExcelGenerateException.class, () -> {
+            try (ExcelWriter excelWriter = EasyExcel.write(fileException07, IteratorWriteData.class)
+                .asyncQueueSize(QUEUE_SIZE).asyncBatchSize(BATCH_SIZE).registerWriteHandler(new RowWriteHandler() {
+                    @Override
+                    public void afterRowDispose(RowWriteHandlerContext context) {
+                        if (context.getRowIndex() == BATCH_SIZE) {
+                            throw new ExcelGenerateException("Failed at row " + context.getRowIndex());
+                        }
+                    }
+                }).build()) {
+                excelWriter.write(iterator(ROW_COUNT, null), EasyExcel.writerSheet().build());
+            }
+        });
+        Assertions.assertEquals("Failed at row " + BATCH_SIZE, exception.getMessage());
+    }
+
+    @Test
+    public void t06InterruptAsync() {
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Iterator<IteratorWriteData> iterator = iterator(ROW_COUNT, pulledRows -> {
+                if (pulledRows == BATCH_SIZE * 3) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            try (ExcelWriter excelWriter = EasyExcel.write(fileException07, IteratorWriteData.class)
+                .asyncQueueSize(QUEUE_SIZE).asyncBatchSize(BATCH_SIZE).build()) {
+                Assertions.assertThrows(ExcelGenerateException.class,
+                    () -> excelWriter.write(iterator, EasyExcel.writerSheet().build()));
+            } finally {
+                Assertions.assertTrue(Thread.interrupted());
+            }
+        });
+        Assertions.assertEquals(0, fileException07.length());
+    }
+
+    private void writeIteratorException(Integer asyncQueueSize) {
+        Iterator<IteratorWriteData> iterator = iterator(ROW_COUNT, pulledRows -> {
+            if (pulledRows == BATCH_SIZE * 3) {
+                throw new IllegalStateException("Failed at row " + pulledRows);
+            }
+        });
+        try (ExcelWriter excelWriter = EasyExcel.write(fileException07, IteratorWriteData.class)
+            .asyncQueueSize(asyncQueueSize).asyncBatchSize(BATCH_SIZE).build()) {
+            IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> excelWriter.write(iterator, EasyExcel.writerSheet().build()));
+            Assertions.assertEquals("Failed at row " + BATCH_SIZE * 3, exception.getMessage());
+        }
+        // The workbook is not written, the same as any other failed write
+        Assertions.assertEquals(0, fileException07.length());
+    }
+
+    /**
+     * Create the rows while they are taken
+     */
+    private Iterator<IteratorWriteData> iterator(int count, PulledRowsChecker checker) {
+        return new Iterator<IteratorWriteData>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public IteratorWriteData next() {
+                if (checker != null) {
+                    checker.check(index);
+                }
+                return data(index++);
+            }
+        };
+    }
+
+    private List<IteratorWriteData> dataList(int count) {
+        return IntStream.range(0, count).mapToObj(this::data).collect(Collectors.toList());
+    }
+
+    private IteratorWriteData data(int index) {
+        IteratorWriteData data = new IteratorWriteData();
+        data.setString("string" + index);
+        data.setInteger(index);
+        data.setDate(new Date(1600000000000L + index * 1000L));
+        return data;
+    }
+
+    private interface PulledRowsChecker {
+        void check(int pulledRows);
+    }
+}
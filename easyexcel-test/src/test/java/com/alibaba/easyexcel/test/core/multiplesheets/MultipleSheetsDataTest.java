@@ -1,11 +1,23 @@
 package com.alibaba.easyexcel.test.core.multiplesheets;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.alibaba.easyexcel.test.util.TestFileUtil;
 import com.alibaba.excel.EasyExcel;
 import com.alibaba.excel.ExcelReader;
+import com.alibaba.excel.cache.MapCache;
+import com.alibaba.excel.cache.ReadCache;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisException;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.alibaba.excel.read.listener.ReadListener;
 import com.alibaba.excel.read.metadata.ReadSheet;
 
 import org.junit.jupiter.api.Assertions;
@@ -49,6 +61,95 @@ public class MultipleSheetsDataTest {
         readAll(file03);
     }
 
+    @Test
+    public void t05Read07AllConcurrently() {
+        Map<Integer, List<String>> expected = readAllTitles(null);
+        ExecutorService sheetExecutor = Executors.newFixedThreadPool(4);
+        try {
+            Assertions.assertEquals(expected, readAllTitles(sheetExecutor));
+        } finally {
+            sheetExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void t06Read07AllConcurrentlyStop() {
+        ExecutorService sheetExecutor = Executors.newFixedThreadPool(4);
+        try {
+            EasyExcel.read(file07, MultipleSheetsData.class, new ReadListener<MultipleSheetsData>() {
+                @Override
+                public void invoke(MultipleSheetsData data, AnalysisContext context) {
+                    throw new ExcelAnalysisStopException();
+                }
+
+                @Override
+                public void doAfterAllAnalysed(AnalysisContext context) {}
+            }).sheetExecutor(sheetExecutor).doReadAll();
+
+            Assertions.assertThrows(RuntimeException.class,
+                () -> EasyExcel.read(file07, MultipleSheetsData.class, new ReadListener<MultipleSheetsData>() {
+                    @Override
+                    public void invoke(MultipleSheetsData data, AnalysisContext context) {
+                        throw new IllegalStateException("Failed to read " + data.getTitle());
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                }).sheetExecutor(sheetExecutor).doReadAll());
+        } finally {
+            sheetExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void t07Read07AllConcurrentlyCustomCache() {
+        Map<Integer, List<String>> expected = readAllTitles(null, null);
+        ExecutorService sheetExecutor = Executors.newFixedThreadPool(4);
+        try {
+            ConcurrentCountReadCache readCache = new ConcurrentCountReadCache();
+            Assertions.assertEquals(expected, readAllTitles(sheetExecutor, readCache));
+            Assertions.assertTrue(readCache.getCount.get() > 0);
+            // The cache that is not thread safe is locked
+            Assertions.assertEquals(1, readCache.maxConcurrentCount.get());
+        } finally {
+            sheetExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void t08Read07SyncConcurrentlyUnsupported() {
+        ExecutorService sheetExecutor = Executors.newFixedThreadPool(4);
+        try {
+            Assertions.assertThrows(ExcelAnalysisException.class,
+                () -> EasyExcel.read(file07, MultipleSheetsData.class, null).sheetExecutor(sheetExecutor)
+                    .doReadAllSync());
+            Assertions.assertThrows(ExcelAnalysisException.class,
+                () -> EasyExcel.read(file07, MultipleSheetsData.class, null).sheetExecutor(sheetExecutor).sheet()
+                    .doReadSync());
+        } finally {
+            sheetExecutor.shutdown();
+        }
+    }
+
+    private Map<Integer, List<String>> readAllTitles(ExecutorService sheetExecutor) {
+        return readAllTitles(sheetExecutor, null);
+    }
+
+    private Map<Integer, List<String>> readAllTitles(ExecutorService sheetExecutor, ReadCache readCache) {
+        Map<Integer, List<String>> titleMap = new ConcurrentHashMap<>();
+        EasyExcel.read(file07, MultipleSheetsData.class, new ReadListener<MultipleSheetsData>() {
+            @Override
+            public void invoke(MultipleSheetsData data, AnalysisContext context) {
+                titleMap.computeIfAbsent(context.readSheetHolder().getSheetNo(), key -> new ArrayList<>())
+                    .add(data.getTitle());
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {}
+        }).sheetExecutor(sheetExecutor).readCache(readCache).doReadAll();
+        return titleMap;
+    }
+
     private void read(File file) {
         MultipleSheetsListener multipleSheetsListener = new MultipleSheetsListener();
         try (ExcelReader excelReader = EasyExcel.read(file, MultipleSheetsData.class, multipleSheetsListener).build()) {
@@ -66,4 +167,27 @@ public class MultipleSheetsDataTest {
         EasyExcel.read(file, MultipleSheetsData.class, new MultipleSheetsListener()).doReadAll();
     }
 
+    /**
+     * Count the threads getting a value at the same time.
+     */
+    private static class ConcurrentCountReadCache extends MapCache {
+        private final AtomicInteger concurrentCount = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCount = new AtomicInteger();
+        private final AtomicInteger getCount = new AtomicInteger();
+
+        @Override
+        public String get(Integer key) {
+            int count = concurrentCount.incrementAndGet();
+            maxConcurrentCount.accumulateAndGet(count, Math::max);
+            getCount.incrementAndGet();
+            try {
+                // Give the other sheets a chance to get at the same time
+                Thread.yield();
+                return super.get(key);
+            } finally {
+                concurrentCount.decrementAndGet();
+            }
+        }
+    }
+
 }
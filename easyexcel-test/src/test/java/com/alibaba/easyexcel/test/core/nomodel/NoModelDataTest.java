@@ -9,8 +9,11 @@ import java.util.Map;
 
 import com.alibaba.easyexcel.test.util.TestFileUtil;
 import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
 import com.alibaba.excel.enums.ReadDefaultReturnEnum;
 import com.alibaba.excel.metadata.data.ReadCellData;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.read.metadata.FlyweightRowMap;
 import com.alibaba.excel.util.DateUtils;
 import com.alibaba.fastjson2.JSON;
 
@@ -60,6 +63,53 @@ public class NoModelDataTest {
         readAndWrite(fileCsv, fileRepeatCsv, true);
     }
 
+    @Test
+    public void t04ReadFlyweight07() throws Exception {
+        readFlyweight(file07);
+    }
+
+    @Test
+    public void t05ReadFlyweight03() throws Exception {
+        readFlyweight(file03);
+    }
+
+    @Test
+    public void t06ReadFlyweightCsv() throws Exception {
+        readFlyweight(fileCsv);
+    }
+
+    private void readFlyweight(File file) throws Exception {
+        EasyExcel.write(file).sheet().doWrite(data());
+        List<Map<Integer, String>> expected = EasyExcel.read(file).headRowNumber(0).sheet().doReadSync();
+
+        List<Map<Integer, String>> copyList = new ArrayList<>();
+        List<Map<Integer, String>> rowList = new ArrayList<>();
+        EasyExcel.read(file, new ReadListener<Map<Integer, String>>() {
+            @Override
+            public void invoke(Map<Integer, String> data, AnalysisContext context) {
+                Assertions.assertTrue(data instanceof FlyweightRowMap);
+                FlyweightRowMap<String> flyweightRowMap = (FlyweightRowMap<String>)data;
+                Map<Integer, String> expectedData = expected.get(copyList.size());
+                Assertions.assertEquals(expectedData, data);
+                Assertions.assertEquals(expectedData.get(0), flyweightRowMap.getValue(0));
+                Assertions.assertNull(flyweightRowMap.getValue(expectedData.size()));
+                copyList.add(flyweightRowMap.copy());
+                rowList.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {}
+        }).headRowNumber(0).flyweightRow(Boolean.TRUE).sheet().doRead();
+        Assertions.assertEquals(expected, copyList);
+        for (Map<Integer, String> row : rowList) {
+            Assertions.assertSame(rowList.get(0), row);
+        }
+
+        List<Map<Integer, String>> syncList = EasyExcel.read(file).headRowNumber(0).flyweightRow(Boolean.TRUE)
+            .sheet().doReadSync();
+        Assertions.assertEquals(expected, syncList);
+    }
+
     private void readAndWrite(File file, File fileRepeat, boolean isCsv) throws Exception {
         EasyExcel.write(file).sheet().doWrite(data());
         List<Map<Integer, String>> result = EasyExcel.read(file).headRowNumber(0).sheet().doReadSync();
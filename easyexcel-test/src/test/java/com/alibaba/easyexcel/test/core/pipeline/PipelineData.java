@@ -0,0 +1,24 @@
+package com.alibaba.easyexcel.test.core.pipeline;
+
+import java.util.Date;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class PipelineData {
+    @ExcelProperty("字符串")
+    private String string;
+    @ExcelProperty("日期")
+    private Date date;
+    @ExcelProperty("数字")
+    private Double doubleData;
+}
@@ -0,0 +1,132 @@
+package com.alibaba.easyexcel.test.core.pipeline;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.alibaba.excel.exception.ExcelAnalysisStopSheetException;
+import com.alibaba.excel.read.listener.ReadListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PipelineDataTest {
+    private static final int ROW_COUNT = 5000;
+    private static final int STOP_ROW_COUNT = 1234;
+
+    private static File file07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("pipeline07.xlsx");
+        EasyExcel.write(file07, PipelineData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadPipelined() {
+        List<Integer> rowIndexList = new ArrayList<>();
+        List<PipelineData> expected = EasyExcel.read(file07).head(PipelineData.class).sheet().doReadSync();
+        List<PipelineData> list = new ArrayList<>();
+        boolean[] finished = new boolean[1];
+        EasyExcel.read(file07, PipelineData.class, new ReadListener<PipelineData>() {
+            @Override
+            public void invoke(PipelineData data, AnalysisContext context) {
+                rowIndexList.add(context.readRowHolder().getRowIndex());
+                list.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+                finished[0] = true;
+            }
+        }).pipelineBufferSize(1000).sheet().doRead();
+        Assertions.assertTrue(finished[0]);
+        Assertions.assertEquals(ROW_COUNT, list.size());
+        Assertions.assertEquals(expected, list);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i + 1, rowIndexList.get(i));
+        }
+    }
+
+    @Test
+    public void t02ReadPipelinedStop() {
+        List<PipelineData> list = new ArrayList<>();
+        boolean[] finished = new boolean[1];
+        EasyExcel.read(file07, PipelineData.class, new ReadListener<PipelineData>() {
+            @Override
+            public void invoke(PipelineData data, AnalysisContext context) {
+                list.add(data);
+                if (list.size() == STOP_ROW_COUNT) {
+                    throw new ExcelAnalysisStopException();
+                }
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+                finished[0] = true;
+            }
+        }).pipelineBufferSize(100).sheet().doRead();
+        Assertions.assertEquals(STOP_ROW_COUNT, list.size());
+        Assertions.assertFalse(finished[0]);
+    }
+
+    @Test
+    public void t03ReadPipelinedStopSheet() {
+        List<PipelineData> list = new ArrayList<>();
+        boolean[] finished = new boolean[1];
+        EasyExcel.read(file07, PipelineData.class, new ReadListener<PipelineData>() {
+            @Override
+            public void invoke(PipelineData data, AnalysisContext context) {
+                list.add(data);
+                if (list.size() == STOP_ROW_COUNT) {
+                    throw new ExcelAnalysisStopSheetException();
+                }
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+                finished[0] = true;
+            }
+        }).pipelineBufferSize(1).sheet().doRead();
+        Assertions.assertEquals(STOP_ROW_COUNT, list.size());
+        Assertions.assertTrue(finished[0]);
+    }
+
+    @Test
+    public void t04ReadPipelinedException() {
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> EasyExcel.read(file07, PipelineData.class, new ReadListener<PipelineData>() {
+                @Override
+                public void invoke(PipelineData data, AnalysisContext context) {
+                    throw new IllegalStateException("Failed to read " + data.getString());
+                }
+
+                @Override
+                public void doAfterAllAnalysed(AnalysisContext context) {}
+            }).pipelineBufferSize(100).sheet().doRead());
+    }
+
+    private static List<PipelineData> data() {
+        List<PipelineData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            PipelineData data = new PipelineData();
+            data.setString("字符串" + i);
+            data.setDate(new Date(i * 1000L * 60 * 60));
+            data.setDoubleData(i + 0.5);
+            list.add(data);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,22 @@
+package com.alibaba.easyexcel.test.core.projection;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class ProjectionData {
+    @ExcelProperty("column7")
+    private String column7;
+    @ExcelProperty("column2")
+    private String column2;
+    @ExcelProperty(index = 4)
+    private Double column4;
+}
@@ -0,0 +1,188 @@
+package com.alibaba.easyexcel.test.core.projection;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ProjectionDataTest {
+    private static final int ROW_COUNT = 10;
+    private static final int COLUMN_COUNT = 10;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("projection07.xlsx");
+        file03 = TestFileUtil.createNewFile("projection03.xls");
+        fileCsv = TestFileUtil.createNewFile("projectionCsv.csv");
+        EasyExcel.write(file07).head(head()).sheet().doWrite(data());
+        EasyExcel.write(file03).head(head()).sheet().doWrite(data());
+        EasyExcel.write(fileCsv).head(head()).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadHeadColumns07() {
+        readHeadColumns(file07);
+    }
+
+    @Test
+    public void t02ReadHeadColumns03() {
+        readHeadColumns(file03);
+    }
+
+    @Test
+    public void t03ReadHeadColumnsCsv() {
+        readHeadColumns(fileCsv);
+    }
+
+    @Test
+    public void t04ReadAllColumns07() {
+        readAllColumns(file07);
+    }
+
+    @Test
+    public void t05ReadAllColumns03() {
+        readAllColumns(file03);
+    }
+
+    @Test
+    public void t06ReadAllColumnsCsv() {
+        readAllColumns(fileCsv);
+    }
+
+    @Test
+    public void t11ReadIncludeColumnIndexes07() {
+        readIncludeColumnIndexes(file07);
+    }
+
+    @Test
+    public void t12ReadIncludeColumnIndexes03() {
+        readIncludeColumnIndexes(file03);
+    }
+
+    @Test
+    public void t13ReadIncludeColumnIndexesCsv() {
+        readIncludeColumnIndexes(fileCsv);
+    }
+
+    private void readHeadColumns(File file) {
+        List<ProjectionData> list = new ArrayList<>();
+        List<Integer> headSizeList = new ArrayList<>();
+        EasyExcel.read(file, ProjectionData.class, new ReadListener<ProjectionData>() {
+            @Override
+            public void invokeHead(Map headMap, AnalysisContext context) {
+                headSizeList.add(headMap.size());
+            }
+
+            @Override
+            public void invoke(ProjectionData data, AnalysisContext context) {
+                // Only the cells of the head are read
+                Set<Integer> columnIndexSet = new TreeSet<>(context.readRowHolder().getCellMap().keySet());
+                if (list.size() < ROW_COUNT) {
+                    Assertions.assertEquals(new TreeSet<>(Arrays.asList(2, 4, 7)), columnIndexSet);
+                } else {
+                    Assertions.assertTrue(columnIndexSet.isEmpty());
+                }
+                list.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {}
+        }).onlyReadHeadColumns(true).sheet().doRead();
+        Assertions.assertEquals(Arrays.asList(COLUMN_COUNT), headSizeList);
+        // The last row only has data in the columns not read, but it's still a data row
+        Assertions.assertEquals(ROW_COUNT + 1, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ProjectionData data = list.get(i);
+            Assertions.assertEquals("value" + i + "-7", data.getColumn7());
+            Assertions.assertEquals("value" + i + "-2", data.getColumn2());
+            Assertions.assertEquals(i + 0.5, data.getColumn4());
+        }
+        Assertions.assertEquals(new ProjectionData(), list.get(ROW_COUNT));
+    }
+
+    private void readAllColumns(File file) {
+        List<ProjectionData> list = new ArrayList<>();
+        EasyExcel.read(file, ProjectionData.class, new ReadListener<ProjectionData>() {
+            @Override
+            public void invoke(ProjectionData data, AnalysisContext context) {
+                // The custom listener can still read the columns not in the head by default
+                if (list.size() < ROW_COUNT) {
+                    Assertions.assertEquals(COLUMN_COUNT, context.readRowHolder().getCellMap().size());
+                }
+                list.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {}
+        }).sheet().doRead();
+        Assertions.assertEquals(ROW_COUNT + 1, list.size());
+        Assertions.assertEquals("value0-7", list.get(0).getColumn7());
+    }
+
+    private void readIncludeColumnIndexes(File file) {
+        List<Map<Integer, String>> list = EasyExcel.read(file).includeColumnIndexes(Arrays.asList(1, 8)).sheet()
+            .doReadSync();
+        Assertions.assertEquals(ROW_COUNT + 1, list.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Map<Integer, String> data = list.get(i);
+            Assertions.assertEquals(2, data.values().stream().filter(Objects::nonNull).count());
+            Assertions.assertEquals("value" + i + "-1", data.get(1));
+            Assertions.assertEquals("value" + i + "-8", data.get(8));
+        }
+        // Sheet level overrides the workbook
+        list = EasyExcel.read(file).includeColumnIndexes(Arrays.asList(1, 8)).sheet().includeColumnIndexes(
+            Arrays.asList(0)).doReadSync();
+        Assertions.assertEquals("value0-0", list.get(0).get(0));
+        Assertions.assertEquals(1, list.get(0).values().stream().filter(Objects::nonNull).count());
+    }
+
+    private static List<List<String>> head() {
+        List<List<String>> head = new ArrayList<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            head.add(Arrays.asList("column" + i));
+        }
+        return head;
+    }
+
+    private static List<List<Object>> data() {
+        List<List<Object>> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            List<Object> row = new ArrayList<>();
+            for (int j = 0; j < COLUMN_COUNT; j++) {
+                if (j == 4) {
+                    row.add(i + 0.5);
+                } else {
+                    row.add("value" + i + "-" + j);
+                }
+            }
+            list.add(row);
+        }
+        List<Object> row = new ArrayList<>();
+        row.add("value" + ROW_COUNT + "-0");
+        list.add(row);
+        return list;
+    }
+}
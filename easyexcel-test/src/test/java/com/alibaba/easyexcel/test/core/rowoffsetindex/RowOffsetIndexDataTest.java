@@ -0,0 +1,177 @@
+package com.alibaba.easyexcel.test.core.rowoffsetindex;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndex;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndexBuilder;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.util.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class RowOffsetIndexDataTest {
+    private static final int ROW_COUNT = 5000;
+    private static final int INTERVAL = 100;
+
+    private static File file07;
+    private static File indexDirectory;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("rowOffsetIndex07.xlsx");
+        EasyExcel.write(file07, RowOffsetIndexData.class).sheet().doWrite(data());
+        indexDirectory = new File(TestFileUtil.getPath(), "rowOffsetIndex");
+        FileUtils.delete(indexDirectory);
+    }
+
+    @Test
+    public void t01Build() {
+        File indexFile = XlsxRowOffsetIndexBuilder.build(file07, indexDirectory, INTERVAL);
+        Assertions.assertTrue(indexFile.isFile());
+        XlsxRowOffsetIndex rowOffsetIndex = XlsxRowOffsetIndex.read(indexFile);
+        Assertions.assertNotNull(rowOffsetIndex);
+        Assertions.assertEquals(INTERVAL, rowOffsetIndex.getInterval());
+        XlsxRowOffsetIndex.SheetRowOffsets sheetRowOffsets = rowOffsetIndex.sheet(0);
+        // The head row and the data rows
+        Assertions.assertEquals((ROW_COUNT + 1 + INTERVAL - 1) / INTERVAL, sheetRowOffsets.size());
+        for (int i = 0; i < sheetRowOffsets.size(); i++) {
+            Assertions.assertEquals(i * INTERVAL, sheetRowOffsets.getRowIndex(i));
+        }
+        Assertions.assertEquals(2, sheetRowOffsets.floor(INTERVAL * 2 + 1));
+        Assertions.assertNull(rowOffsetIndex.sheet(1));
+    }
+
+    @Test
+    public void t02ReadRange() {
+        List<RowOffsetIndexData> expected = readRange(null, 3333, 3340);
+        Assertions.assertEquals(7, expected.size());
+        Assertions.assertEquals(3332, expected.get(0).getNumber());
+        Assertions.assertEquals(expected, readRange(indexDirectory, 3333, 3340));
+        Assertions.assertEquals(readRange(null, 1, 3), readRange(indexDirectory, 1, 3));
+        Assertions.assertEquals(readRange(null, ROW_COUNT - 1, ROW_COUNT + 1),
+            readRange(indexDirectory, ROW_COUNT - 1, ROW_COUNT + 1));
+        Assertions.assertEquals(readRange(null, 4000, 4001), readRange(indexDirectory, 4000, 4001));
+    }
+
+    @Test
+    public void t03ReadInputStream() throws IOException {
+        File indexFile = XlsxRowOffsetIndexBuilder.indexFile(file07, indexDirectory);
+        long lastModified = indexFile.lastModified();
+        try (InputStream inputStream = new FileInputStream(file07)) {
+            List<RowOffsetIndexData> list = EasyExcel.read(inputStream).head(RowOffsetIndexData.class)
+                .rowOffsetIndexDirectory(indexDirectory).rowOffsetIndexInterval(INTERVAL).sheet().startRow(2001)
+                .doReadSync();
+            Assertions.assertEquals(ROW_COUNT - 2000, list.size());
+            Assertions.assertEquals(2000, list.get(0).getNumber());
+        }
+        // The same index is used
+        Assertions.assertEquals(lastModified, indexFile.lastModified());
+    }
+
+    @Test
+    public void t04ReadSharedStrings() {
+        File file = TestFileUtil.readFile("demo" + File.separator + "demo.xlsx");
+        XlsxRowOffsetIndex rowOffsetIndex = XlsxRowOffsetIndex.read(
+            XlsxRowOffsetIndexBuilder.build(file, indexDirectory, INTERVAL));
+        Assertions.assertNotNull(rowOffsetIndex);
+        Assertions.assertNotNull(rowOffsetIndex.getSharedStringsPositions());
+        List<Map<Integer, String>> expected = EasyExcel.read(file).sheet().doReadSync();
+        List<Map<Integer, String>> list = EasyExcel.read(file).rowOffsetIndexDirectory(indexDirectory).sheet()
+            .doReadSync();
+        Assertions.assertFalse(expected.isEmpty());
+        Assertions.assertEquals(expected, list);
+    }
+
+    @Test
+    public void t05ReadBrokenIndex() throws IOException {
+        File indexFile = XlsxRowOffsetIndexBuilder.build(file07, indexDirectory, INTERVAL);
+        byte[] index = Files.readAllBytes(indexFile.toPath());
+
+        // Truncated
+        Files.write(indexFile.toPath(), Arrays.copyOf(index, index.length / 2));
+        Assertions.assertNull(XlsxRowOffsetIndex.read(indexFile));
+        List<RowOffsetIndexData> expected = readRange(null, 3333, 3340);
+        Assertions.assertEquals(expected, readRange(indexDirectory, 3333, 3340));
+        Assertions.assertNotNull(XlsxRowOffsetIndex.read(indexFile));
+
+        // A broken size of the shared strings, after the magic, version and interval
+        byte[] brokenIndex = index.clone();
+        ByteBuffer.wrap(brokenIndex).putInt(12, Integer.MAX_VALUE);
+        Files.write(indexFile.toPath(), brokenIndex);
+        Assertions.assertNull(XlsxRowOffsetIndex.read(indexFile));
+        ByteBuffer.wrap(brokenIndex).putInt(12, -2);
+        Files.write(indexFile.toPath(), brokenIndex);
+        Assertions.assertNull(XlsxRowOffsetIndex.read(indexFile));
+        Assertions.assertEquals(expected, readRange(indexDirectory, 3333, 3340));
+        Assertions.assertNotNull(XlsxRowOffsetIndex.read(indexFile));
+    }
+
+    @Test
+    public void t06ReadOtherInterval() {
+        File indexFile = XlsxRowOffsetIndexBuilder.build(file07, indexDirectory, INTERVAL * 2);
+        Assertions.assertEquals(INTERVAL * 2, XlsxRowOffsetIndex.read(indexFile).getInterval());
+        List<RowOffsetIndexData> expected = readRange(null, 3333, 3340);
+        Assertions.assertEquals(expected, readRange(indexDirectory, 3333, 3340));
+        // Built again with the interval of the read
+        Assertions.assertEquals(INTERVAL, XlsxRowOffsetIndex.read(indexFile).getInterval());
+    }
+
+    private List<RowOffsetIndexData> readRange(File directory, int startRow, int endRow) {
+        List<RowOffsetIndexData> list = new ArrayList<>();
+        List<Integer> headCount = new ArrayList<>();
+        EasyExcel.read(file07, RowOffsetIndexData.class, new ReadListener<RowOffsetIndexData>() {
+                @Override
+                public void invokeHead(Map headMap, AnalysisContext context) {
+                    headCount.add(context.readRowHolder().getRowIndex());
+                }
+
+                @Override
+                public void invoke(RowOffsetIndexData data, AnalysisContext context) {
+                    Assertions.assertEquals(data.getNumber() + 1, context.readRowHolder().getRowIndex());
+                    list.add(data);
+                }
+
+                @Override
+                public void doAfterAllAnalysed(AnalysisContext context) {}
+            })
+            .rowOffsetIndexDirectory(directory)
+            .rowOffsetIndexInterval(INTERVAL)
+            .sheet()
+            .startRow(startRow)
+            .endRow(endRow)
+            .doRead();
+        Assertions.assertEquals(1, headCount.size());
+        return list;
+    }
+
+    private static List<RowOffsetIndexData> data() {
+        List<RowOffsetIndexData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowOffsetIndexData data = new RowOffsetIndexData();
+            data.setName("name" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+}
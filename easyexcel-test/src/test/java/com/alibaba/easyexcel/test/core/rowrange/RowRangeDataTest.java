@@ -0,0 +1,161 @@
+package com.alibaba.easyexcel.test.core.rowrange;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.metadata.CellExtra;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.write.merge.OnceAbsoluteMergeStrategy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class RowRangeDataTest {
+    private static final int ROW_COUNT = 100;
+    private static final int MERGE_ROW_INDEX = 90;
+
+    private static File file07;
+    private static File file03;
+    private static File fileCsv;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("rowRange07.xlsx");
+        file03 = TestFileUtil.createNewFile("rowRange03.xls");
+        fileCsv = TestFileUtil.createNewFile("rowRangeCsv.csv");
+        OnceAbsoluteMergeStrategy mergeStrategy = new OnceAbsoluteMergeStrategy(MERGE_ROW_INDEX, MERGE_ROW_INDEX + 1,
+            0, 0);
+        EasyExcel.write(file07, RowRangeData.class).registerWriteHandler(mergeStrategy).sheet().doWrite(data());
+        EasyExcel.write(file03, RowRangeData.class).registerWriteHandler(mergeStrategy).sheet().doWrite(data());
+        EasyExcel.write(fileCsv, RowRangeData.class).sheet().doWrite(data());
+    }
+
+    @Test
+    public void t01ReadRange07() {
+        readRange(file07, false);
+    }
+
+    @Test
+    public void t02ReadRange03() {
+        readRange(file03, false);
+    }
+
+    @Test
+    public void t03ReadRangeCsv() {
+        readRange(fileCsv, false);
+    }
+
+    @Test
+    public void t04ReadRangeSheetTokenizer() {
+        readRange(file07, true);
+    }
+
+    @Test
+    public void t11ReadRangeWithExtra07() {
+        readRangeWithExtra(file07);
+    }
+
+    @Test
+    public void t12ReadRangeWithExtra03() {
+        readRangeWithExtra(file03);
+    }
+
+    @Test
+    public void t21ReadStartRow07() {
+        readStartRow(file07);
+    }
+
+    @Test
+    public void t22ReadStartRow03() {
+        readStartRow(file03);
+    }
+
+    @Test
+    public void t23ReadStartRowCsv() {
+        readStartRow(fileCsv);
+    }
+
+    private void readRange(File file, boolean useSheetTokenizer) {
+        RowRangeListener listener = new RowRangeListener();
+        EasyExcel.read(file, RowRangeData.class, listener).useSheetTokenizer(useSheetTokenizer).sheet().startRow(11)
+            .endRow(31).rowStride(5).doRead();
+        Assertions.assertEquals(1, listener.headCount);
+        Assertions.assertTrue(listener.analysed);
+        Assertions.assertEquals(Arrays.asList(11, 16, 21, 26), listener.rowIndexList);
+        for (int i = 0; i < listener.dataList.size(); i++) {
+            Assertions.assertEquals(listener.rowIndexList.get(i) - 1, listener.dataList.get(i).getNumber());
+        }
+    }
+
+    private void readRangeWithExtra(File file) {
+        RowRangeListener listener = new RowRangeListener();
+        EasyExcel.read(file, RowRangeData.class, listener).extraRead(CellExtraTypeEnum.MERGE).sheet().endRow(3)
+            .doRead();
+        Assertions.assertEquals(Arrays.asList(1, 2), listener.rowIndexList);
+        Assertions.assertTrue(listener.analysed);
+        Assertions.assertEquals(1, listener.extraList.size());
+        Assertions.assertEquals(MERGE_ROW_INDEX, listener.extraList.get(0).getFirstRowIndex());
+    }
+
+    private void readStartRow(File file) {
+        RowRangeListener listener = new RowRangeListener();
+        EasyExcel.read(file, RowRangeData.class, listener).sheet().startRow(ROW_COUNT - 1).doRead();
+        Assertions.assertEquals(1, listener.headCount);
+        Assertions.assertEquals(Arrays.asList(ROW_COUNT - 1, ROW_COUNT), listener.rowIndexList);
+        Assertions.assertTrue(listener.analysed);
+    }
+
+    private static List<RowRangeData> data() {
+        List<RowRangeData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowRangeData data = new RowRangeData();
+            data.setName("name" + i);
+            data.setNumber(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    private static class RowRangeListener implements ReadListener<RowRangeData> {
+        private final List<RowRangeData> dataList = new ArrayList<>();
+        private final List<Integer> rowIndexList = new ArrayList<>();
+        private final List<CellExtra> extraList = new ArrayList<>();
+        private int headCount;
+        private boolean analysed;
+
+        @Override
+        public void invokeHead(Map headMap, AnalysisContext context) {
+            headCount++;
+        }
+
+        @Override
+        public void invoke(RowRangeData data, AnalysisContext context) {
+            dataList.add(data);
+            rowIndexList.add(context.readRowHolder().getRowIndex());
+        }
+
+        @Override
+        public void extra(CellExtra extra, AnalysisContext context) {
+            extraList.add(extra);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            analysed = true;
+        }
+    }
+}
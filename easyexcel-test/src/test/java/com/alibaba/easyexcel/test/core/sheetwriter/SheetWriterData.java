@@ -0,0 +1,32 @@
+package com.alibaba.easyexcel.test.core.sheetwriter;
+
+import java.util.Date;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.annotation.format.DateTimeFormat;
+import com.alibaba.excel.annotation.write.style.ContentFontStyle;
+import com.alibaba.excel.annotation.write.style.ContentStyle;
+import com.alibaba.excel.enums.BooleanEnum;
+import com.alibaba.excel.enums.poi.HorizontalAlignmentEnum;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@ContentStyle(horizontalAlignment = HorizontalAlignmentEnum.CENTER)
+public class SheetWriterData {
+    @ExcelProperty("string")
+    private String string;
+    @ExcelProperty("integer")
+    @ContentFontStyle(bold = BooleanEnum.TRUE)
+    private Integer integer;
+    @ExcelProperty("date")
+    @DateTimeFormat("yyyy-MM-dd HH:mm:ss")
+    private Date date;
+}
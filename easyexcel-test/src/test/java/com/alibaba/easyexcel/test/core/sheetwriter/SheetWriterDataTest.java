@@ -0,0 +1,152 @@
+package com.alibaba.easyexcel.test.core.sheetwriter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelSheetWriter;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.exception.ExcelGenerateException;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class SheetWriterDataTest {
+    private static final int SHEET_COUNT = 4;
+    private static final int BATCH_COUNT = 5;
+    private static final int BATCH_SIZE = 300;
+
+    private static File file07;
+    private static File fileException07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("sheetWriter07.xlsx");
+        fileException07 = TestFileUtil.createNewFile("sheetWriterException07.xlsx");
+    }
+
+    @Test
+    public void t01WriteConcurrently07() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(SHEET_COUNT);
+        try (ExcelWriter excelWriter = EasyExcel.write(file07, SheetWriterData.class).build()) {
+            List<Future<?>> futureList = new ArrayList<>();
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                int sheetNo = i;
+                ExcelSheetWriter sheetWriter = excelWriter.sheetWriter(
+                    EasyExcel.writerSheet(sheetNo, "sheet" + sheetNo).build());
+                futureList.add(executorService.submit(() -> {
+                    try (ExcelSheetWriter writer = sheetWriter) {
+                        for (int batch = 0; batch < BATCH_COUNT; batch++) {
+                            writer.write(data(sheetNo, batch));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futureList) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            List<SheetWriterData> expected = new ArrayList<>();
+            for (int batch = 0; batch < BATCH_COUNT; batch++) {
+                expected.addAll(data(i, batch));
+            }
+            List<SheetWriterData> list = EasyExcel.read(file07, SheetWriterData.class, null).sheet(i).doReadSync();
+            Assertions.assertEquals(expected, list);
+        }
+        try (Workbook workbook = WorkbookFactory.create(file07, null, true)) {
+            Assertions.assertEquals(SHEET_COUNT, workbook.getNumberOfSheets());
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                Sheet sheet = workbook.getSheetAt(i);
+                Assertions.assertEquals("sheet" + i, sheet.getSheetName());
+                CellStyle cellStyle = sheet.getRow(BATCH_SIZE).getCell(1).getCellStyle();
+                Assertions.assertEquals(HorizontalAlignment.CENTER, cellStyle.getAlignment());
+                Assertions.assertTrue(workbook.getFontAt(cellStyle.getFontIndex()).getBold());
+            }
+        }
+    }
+
+    @Test
+    public void t02WriteUnsupported() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileException07, SheetWriterData.class).inMemory(true)
+            .build()) {
+            Assertions.assertThrows(ExcelGenerateException.class,
+                () -> excelWriter.sheetWriter(EasyExcel.writerSheet(0).build()));
+        }
+    }
+
+    @Test
+    public void t03WriteSameSheet() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileException07, SheetWriterData.class).build()) {
+            excelWriter.sheetWriter(EasyExcel.writerSheet(0, "sheet0").build()).finish();
+            Assertions.assertThrows(ExcelGenerateException.class,
+                () -> excelWriter.sheetWriter(EasyExcel.writerSheet(0, "sheet0").build()));
+        }
+    }
+
+    @Test
+    public void t04WriteAfterFinish() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileException07, SheetWriterData.class).build()) {
+            ExcelSheetWriter sheetWriter = excelWriter.sheetWriter(EasyExcel.writerSheet(0, "sheet0").build());
+            sheetWriter.write(data(0, 0));
+            sheetWriter.finish();
+            Assertions.assertThrows(ExcelGenerateException.class, () -> sheetWriter.write(data(0, 1)));
+        }
+    }
+
+    @Test
+    public void t05FinishBeforeSheetWriter() {
+        ExcelWriter excelWriter = EasyExcel.write(fileException07, SheetWriterData.class).build();
+        ExcelSheetWriter sheetWriter = excelWriter.sheetWriter(EasyExcel.writerSheet(0, "sheet0").build());
+        sheetWriter.write(data(0, 0));
+        ExcelGenerateException exception = Assertions.assertThrows(ExcelGenerateException.class, excelWriter::finish);
+        Assertions.assertTrue(exception.getMessage().contains("[sheet0]"));
+        Assertions.assertEquals(0, fileException07.length());
+        sheetWriter.finish();
+        Assertions.assertThrows(ExcelGenerateException.class,
+            () -> excelWriter.sheetWriter(EasyExcel.writerSheet(1, "sheet1").build()));
+    }
+
+    @Test
+    public void t06WriteAsyncUnsupported() {
+        try (ExcelWriter excelWriter = EasyExcel.write(fileException07, SheetWriterData.class).asyncQueueSize(2)
+            .build()) {
+            Assertions.assertThrows(ExcelGenerateException.class,
+                () -> excelWriter.sheetWriter(EasyExcel.writerSheet(0).build()));
+        }
+    }
+
+    private List<SheetWriterData> data(int sheetNo, int batch) {
+        List<SheetWriterData> list = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            int index = batch * BATCH_SIZE + i;
+            SheetWriterData data = new SheetWriterData();
+            data.setString("sheet" + sheetNo + "-" + index);
+            data.setInteger(index);
+            data.setDate(new Date(1600000000000L + index * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,22 @@
+package com.alibaba.easyexcel.test.core.tokenizer;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class SheetTokenizerData {
+    @ExcelProperty("字符串")
+    private String string;
+    @ExcelProperty("多行")
+    private String multiline;
+    @ExcelProperty("数字")
+    private Double doubleData;
+}
@@ -0,0 +1,144 @@
+package com.alibaba.easyexcel.test.core.tokenizer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.enums.CellExtraTypeEnum;
+import com.alibaba.excel.enums.ReadDefaultReturnEnum;
+import com.alibaba.excel.metadata.CellExtra;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.util.IoUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+/**
+ * @author Jiaju Zhuang
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class SheetTokenizerDataTest {
+    private static final String SHEET_ENTRY_NAME = "xl/worksheets/sheet1.xml";
+    private static final List<String> FILE_NAMES = Arrays.asList("compatibility/t02.xlsx", "compatibility/t03.xlsx",
+        "compatibility/t04.xlsx", "compatibility/t05.xlsx", "compatibility/t06.xlsx", "compatibility/t07.xlsx",
+        "compatibility/t09.xlsx", "converter/converter07.xlsx", "dataformat/dataformat.xlsx", "demo/cellDataDemo.xlsx",
+        "demo/demo.xlsx", "demo/extra.xlsx", "extra/extra.xlsx", "extra/extraRelationships.xlsx",
+        "fill/complex.xlsx", "fill/style.xlsx", "multiplesheets/multiplesheets.xlsx", "simple/simple07.xlsx",
+        "template/template07.xlsx");
+
+    private static File file07;
+    private static File fileUtf16;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        file07 = TestFileUtil.createNewFile("sheetTokenizer07.xlsx");
+        EasyExcel.write(file07, SheetTokenizerData.class).sheet().doWrite(data());
+        fileUtf16 = TestFileUtil.createNewFile("sheetTokenizerUtf16.xlsx");
+        reencodeSheet(file07, fileUtf16);
+    }
+
+    @Test
+    public void t01ReadSameAsSax() {
+        for (String fileName : FILE_NAMES) {
+            File file = TestFileUtil.readFile(fileName);
+            Assertions.assertEquals(read(file, false), read(file, true), fileName);
+        }
+    }
+
+    @Test
+    public void t02ReadSpecialText() {
+        List<SheetTokenizerData> list = EasyExcel.read(file07).head(SheetTokenizerData.class).useSheetTokenizer(
+            Boolean.TRUE).sheet().doReadSync();
+        Assertions.assertEquals(data(), list);
+    }
+
+    @Test
+    public void t03ReadFallback() {
+        Assertions.assertEquals(read(file07, false), read(fileUtf16, true));
+        List<SheetTokenizerData> list = EasyExcel.read(fileUtf16).head(SheetTokenizerData.class).useSheetTokenizer(
+            Boolean.TRUE).sheet().doReadSync();
+        Assertions.assertEquals(data(), list);
+    }
+
+    private static List<String> read(File file, boolean useSheetTokenizer) {
+        List<String> result = new ArrayList<>();
+        EasyExcel.read(file, new ReadListener<Map<Integer, Object>>() {
+                @Override
+                public void invoke(Map<Integer, Object> data, AnalysisContext context) {
+                    result.add(context.readSheetHolder().getSheetNo() + ":" + context.readRowHolder().getRowIndex()
+                        + ":" + data);
+                }
+
+                @Override
+                public void extra(CellExtra extra, AnalysisContext context) {
+                    result.add(context.readSheetHolder().getSheetNo() + ":" + extra.getType() + ":" + extra.getText()
+                        + ":" + extra.getFirstRowIndex() + "," + extra.getFirstColumnIndex() + ","
+                        + extra.getLastRowIndex() + "," + extra.getLastColumnIndex());
+                }
+
+                @Override
+                public void doAfterAllAnalysed(AnalysisContext context) {}
+            })
+            .headRowNumber(0)
+            .readDefaultReturn(ReadDefaultReturnEnum.ACTUAL_DATA)
+            .extraRead(CellExtraTypeEnum.COMMENT)
+            .extraRead(CellExtraTypeEnum.HYPERLINK)
+            .extraRead(CellExtraTypeEnum.MERGE)
+            .useSheetTokenizer(useSheetTokenizer)
+            .doReadAll();
+        return result;
+    }
+
+    /**
+     * Rewrite the sheet in UTF-16, which is not handled by the tokenizer.
+     */
+    private static void reencodeSheet(File source, File target) throws IOException {
+        try (ZipFile zipFile = new ZipFile(source);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(target))) {
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                byte[] bytes;
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    bytes = IoUtils.toByteArray(inputStream);
+                }
+                if (SHEET_ENTRY_NAME.equals(zipEntry.getName())) {
+                    String xml = new String(bytes, StandardCharsets.UTF_8);
+                    xml = xml.replaceFirst("encoding=\"UTF-8\"", "encoding=\"UTF-16\"");
+                    bytes = xml.getBytes(StandardCharsets.UTF_16);
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(zipEntry.getName()));
+                zipOutputStream.write(bytes);
+                zipOutputStream.closeEntry();
+            }
+        }
+    }
+
+    private static List<SheetTokenizerData> data() {
+        List<SheetTokenizerData> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            SheetTokenizerData data = new SheetTokenizerData();
+            data.setString("字符串" + i + " <&>\"' \t😀" + i);
+            data.setMultiline("第一行" + i + "\n  第二行");
+            data.setDoubleData(i + 0.25);
+            list.add(data);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,78 @@
+package com.alibaba.easyexcel.test.temp.dataformat;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.function.Function;
+
+import com.alibaba.excel.metadata.format.CompiledDataFormat;
+import com.alibaba.excel.metadata.format.DataFormatter;
+import com.alibaba.excel.util.DateUtils;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Time and bytes allocated per value of {@link DataFormatter#format(BigDecimal, Short, String, boolean)} and of the
+ * compiled format, run it before and after a change of the formatting.
+ *
+ * @author Jiaju Zhuang
+ */
+public class CompiledDataFormatTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDataFormatTest.class);
+    private static final int COUNT = 1000000;
+    private static final int WARM_UP_TIMES = 3;
+    private static final String[] FORMATS = {"#,##0.00", "0.00%", "yyyy-mm-dd hh:mm",
+        "_(* #,##0.00_);_(* \\(#,##0.00\\);_(* \"-\"??_);_(@_)", "_(\"$\"* #,##0_);_(\"$\"* \\(#,##0\\)"};
+
+    @Test
+    public void format() {
+        DataFormatter dataFormatter = new DataFormatter(Boolean.FALSE, Locale.US, Boolean.FALSE);
+        BigDecimal[] values = values();
+        for (int i = 0; i < FORMATS.length; i++) {
+            Short index = (short)(400 + i);
+            String format = FORMATS[i];
+            boolean dateFormat = DateUtils.isADateFormat(index, format);
+            CompiledDataFormat compiledDataFormat = dataFormatter.compile(index, format, dateFormat);
+            for (int j = 0; j < WARM_UP_TIMES; j++) {
+                measure(values, value -> dataFormatter.format(value, index, format, dateFormat));
+                measure(values, value -> dataFormatter.compile(index, format, dateFormat).format(value));
+            }
+            long[] reference = measure(values, value -> dataFormatter.format(value, index, format, dateFormat));
+            long[] compiled = measure(values,
+                value -> dataFormatter.compile(index, format, dateFormat).format(value));
+            LOGGER.info("{}, sample:{}, DataFormatter.format {} ns {} bytes, compiled {} ns {} bytes", format,
+                compiledDataFormat.format(values[1]), reference[0], reference[1], compiled[0], compiled[1]);
+        }
+    }
+
+    private static BigDecimal[] values() {
+        BigDecimal[] values = new BigDecimal[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigDecimal.valueOf(40000 + i * 37, 2 + i % 3);
+        }
+        return values;
+    }
+
+    /**
+     * @return nanoseconds and bytes allocated per value
+     */
+    private static long[] measure(BigDecimal[] values, Function<BigDecimal, String> formatter) {
+        com.sun.management.ThreadMXBean threadMxBean
+            = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long length = 0;
+        long start = threadMxBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            length += formatter.apply(values[i & (values.length - 1)]).length();
+        }
+        long time = System.nanoTime() - startTime;
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - start;
+        if (length == 0) {
+            LOGGER.info("Nothing formatted");
+        }
+        return new long[] {time / COUNT, allocated / COUNT};
+    }
+}
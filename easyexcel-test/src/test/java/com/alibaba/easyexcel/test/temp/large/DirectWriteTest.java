@@ -0,0 +1,82 @@
+package com.alibaba.easyexcel.test.temp.large;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.alibaba.easyexcel.test.temp.large.ReadAllocationTest.ReadAllocationData;
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compare the time spent and the file size of writing with sxssf and writing xlsx directly, with the different
+ * compression levels and the parallel compression.
+ *
+ * @author Jiaju Zhuang
+ */
+public class DirectWriteTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectWriteTest.class);
+    private static final int ROW_COUNT = 200000;
+    private static final int WARM_UP_TIMES = 2;
+
+    @Test
+    public void write() {
+        List<ReadAllocationData> data = data();
+        ExecutorService compressionExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors());
+        try {
+            for (int i = 0; i < WARM_UP_TIMES; i++) {
+                write(data, false, false, null, null);
+                write(data, true, false, null, null);
+                write(data, true, false, null, compressionExecutor);
+            }
+            write(data, false, false, null, null);
+            write(data, false, false, 1, null);
+            write(data, true, false, null, null);
+            write(data, true, true, null, null);
+            write(data, true, false, 1, null);
+            write(data, true, false, null, compressionExecutor);
+            write(data, true, false, 1, compressionExecutor);
+        } finally {
+            compressionExecutor.shutdown();
+        }
+    }
+
+    private void write(List<ReadAllocationData> data, boolean directWrite, boolean useSharedStringsTable,
+        Integer compressionLevel, Executor compressionExecutor) {
+        File file = TestFileUtil.createNewFile("large" + File.separator + "directWrite07.xlsx");
+        long start = System.currentTimeMillis();
+        EasyExcel.write(file, ReadAllocationData.class).directWrite(directWrite)
+            .useSharedStringsTable(useSharedStringsTable).compressionLevel(compressionLevel)
+            .compressionExecutor(compressionExecutor).sheet().doWrite(data);
+        LOGGER.info("directWrite:{}, useSharedStringsTable:{}, compressionLevel:{}, compressionExecutor:{}, "
+                + "time spent:{}, bytes:{}", directWrite, useSharedStringsTable, compressionLevel,
+            compressionExecutor != null, System.currentTimeMillis() - start, file.length());
+    }
+
+    private static List<ReadAllocationData> data() {
+        List<ReadAllocationData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ReadAllocationData data = new ReadAllocationData();
+            data.setString1("string1-" + i);
+            data.setString2("string2-" + i % 100);
+            data.setString3("string3");
+            data.setDouble1(i + 0.25);
+            data.setDouble2(i * 3.1);
+            data.setInteger1(i);
+            data.setInteger2(i % 100);
+            data.setDate1(new Date(1600000000000L + i * 1000L));
+            data.setDate2(new Date(1600000000000L));
+            list.add(data);
+        }
+        return list;
+    }
+}
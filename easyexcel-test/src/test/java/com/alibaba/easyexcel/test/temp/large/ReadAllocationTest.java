@@ -0,0 +1,151 @@
+package com.alibaba.easyexcel.test.temp.large;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.event.AnalysisEventListener;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bytes allocated per cell when reading, run it before and after a change of the read path.
+ *
+ * @author Jiaju Zhuang
+ */
+public class ReadAllocationTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadAllocationTest.class);
+    private static final int ROW_COUNT = 100000;
+    private static final int COLUMN_COUNT = 20;
+    private static final int WARM_UP_TIMES = 3;
+
+    private static File file07;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("large" + File.separator + "readAllocation07.xlsx");
+        EasyExcel.write(file07, ReadAllocationData.class).sheet().doWrite(ReadAllocationTest::data);
+    }
+
+    @Test
+    public void read() {
+        for (int i = 0; i < WARM_UP_TIMES; i++) {
+            measure(true);
+            measure(false);
+        }
+        LOGGER.info("Model read, bytes allocated per cell:{}", measure(true));
+        LOGGER.info("No model read, bytes allocated per cell:{}", measure(false));
+    }
+
+    @Test
+    public void readWithSheetTokenizer() {
+        for (int i = 0; i < WARM_UP_TIMES; i++) {
+            measure(true, false);
+            measure(true, true);
+        }
+        LOGGER.info("SAX read, bytes allocated per cell:{}", measure(true, false));
+        LOGGER.info("Sheet tokenizer read, bytes allocated per cell:{}", measure(true, true));
+    }
+
+    private long measure(boolean model) {
+        return measure(model, false);
+    }
+
+    private long measure(boolean model, boolean useSheetTokenizer) {
+        com.sun.management.ThreadMXBean threadMxBean
+            = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threadMxBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.currentTimeMillis();
+        if (model) {
+            EasyExcel.read(file07, ReadAllocationData.class, new CountListener<>()).useSheetTokenizer(
+                useSheetTokenizer).sheet().doRead();
+        } else {
+            EasyExcel.read(file07, new CountListener<>()).useSheetTokenizer(useSheetTokenizer).sheet().doRead();
+        }
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - start;
+        LOGGER.info("Read {} cells, time spent:{}", (long)ROW_COUNT * COLUMN_COUNT,
+            System.currentTimeMillis() - startTime);
+        return allocated / ((long)ROW_COUNT * COLUMN_COUNT);
+    }
+
+    private static List<ReadAllocationData> data() {
+        List<ReadAllocationData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ReadAllocationData data = new ReadAllocationData();
+            data.setString1("string1-" + i);
+            data.setString2("string2-" + i % 100);
+            data.setString3("string3");
+            data.setString4("string4-" + i % 1000);
+            data.setString5("string5");
+            data.setDouble1(i + 0.25);
+            data.setDouble2(i * 3.1);
+            data.setDouble3(1.5);
+            data.setDouble4(-i / 7.0);
+            data.setDouble5(12345.678);
+            data.setInteger1(i);
+            data.setInteger2(i % 100);
+            data.setInteger3(7);
+            data.setInteger4(-i);
+            data.setInteger5(1000000 + i);
+            data.setDate1(new Date(1600000000000L + i * 1000L));
+            data.setDate2(new Date(1600000000000L));
+            data.setDate3(new Date(1600000000000L + i * 86400000L));
+            data.setDate4(new Date(1500000000000L));
+            data.setDate5(new Date(1700000000000L - i * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class ReadAllocationData {
+        private String string1;
+        private String string2;
+        private String string3;
+        private String string4;
+        private String string5;
+        private Double double1;
+        private Double double2;
+        private Double double3;
+        private Double double4;
+        private Double double5;
+        private Integer integer1;
+        private Integer integer2;
+        private Integer integer3;
+        private Integer integer4;
+        private Integer integer5;
+        private Date date1;
+        private Date date2;
+        private Date date3;
+        private Date date4;
+        private Date date5;
+    }
+
+    private static class CountListener<T> extends AnalysisEventListener<T> {
+        private long count;
+
+        @Override
+        public void invoke(T data, AnalysisContext context) {
+            count++;
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            LOGGER.debug("Read {} rows.", count);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.alibaba.easyexcel.test.temp.large;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.analysis.v07.index.XlsxRowOffsetIndexBuilder;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.event.AnalysisEventListener;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Time of reading a few rows at the end of a large sheet, with and without the row offset index.
+ *
+ * @author Jiaju Zhuang
+ */
+public class RowOffsetIndexTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowOffsetIndexTest.class);
+    private static final int ROW_COUNT = 500000;
+    private static final int READ_TIMES = 5;
+
+    private static File file07;
+    private static File indexDirectory;
+
+    @BeforeAll
+    public static void init() {
+        file07 = TestFileUtil.createNewFile("large" + File.separator + "rowOffsetIndex07.xlsx");
+        EasyExcel.write(file07, RowOffsetIndexData.class).sheet().doWrite(RowOffsetIndexTest::data);
+        indexDirectory = new File(TestFileUtil.getPath(), "large" + File.separator + "rowOffsetIndex");
+        long start = System.currentTimeMillis();
+        XlsxRowOffsetIndexBuilder.build(file07, indexDirectory, XlsxRowOffsetIndexBuilder.DEFAULT_INTERVAL);
+        LOGGER.info("Index built, time spent:{}", System.currentTimeMillis() - start);
+    }
+
+    @Test
+    public void read() {
+        for (int i = 0; i < READ_TIMES; i++) {
+            LOGGER.info("Without index, time spent:{}", measure(null));
+            LOGGER.info("With index, time spent:{}", measure(indexDirectory));
+        }
+    }
+
+    private long measure(File directory) {
+        long start = System.currentTimeMillis();
+        EasyExcel.read(file07, RowOffsetIndexData.class, new CountListener()).useSheetTokenizer(Boolean.TRUE)
+            .rowOffsetIndexDirectory(directory).sheet().startRow(ROW_COUNT - 100).endRow(ROW_COUNT).doRead();
+        return System.currentTimeMillis() - start;
+    }
+
+    private static List<RowOffsetIndexData> data() {
+        List<RowOffsetIndexData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowOffsetIndexData data = new RowOffsetIndexData();
+            data.setString("string-" + i);
+            data.setNumber((double)i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class RowOffsetIndexData {
+        private String string;
+        private Double number;
+    }
+
+    private static class CountListener extends AnalysisEventListener<RowOffsetIndexData> {
+        private long count;
+
+        @Override
+        public void invoke(RowOffsetIndexData data, AnalysisContext context) {
+            count++;
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            LOGGER.debug("Read {} rows.", count);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.alibaba.easyexcel.test.temp.large;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.alibaba.easyexcel.test.temp.large.ReadAllocationTest.ReadAllocationData;
+import com.alibaba.easyexcel.test.util.TestFileUtil;
+import com.alibaba.excel.EasyExcel;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bytes allocated per cell when writing objects, run it before and after a change of the write path.
+ *
+ * @author Jiaju Zhuang
+ */
+public class WriteAllocationTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteAllocationTest.class);
+    private static final int ROW_COUNT = 100000;
+    private static final int COLUMN_COUNT = 20;
+    private static final int WARM_UP_TIMES = 3;
+
+    @Test
+    public void write() {
+        for (int i = 0; i < WARM_UP_TIMES; i++) {
+            measure();
+        }
+        LOGGER.info("Model write, bytes allocated per cell:{}", measure());
+    }
+
+    private long measure() {
+        List<ReadAllocationData> data = data();
+        File file = TestFileUtil.createNewFile("large" + File.separator + "writeAllocation07.xlsx");
+        com.sun.management.ThreadMXBean threadMxBean
+            = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threadMxBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.currentTimeMillis();
+        EasyExcel.write(file, ReadAllocationData.class).sheet().doWrite(data);
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - start;
+        LOGGER.info("Write {} cells, time spent:{}", (long)ROW_COUNT * COLUMN_COUNT,
+            System.currentTimeMillis() - startTime);
+        return allocated / ((long)ROW_COUNT * COLUMN_COUNT);
+    }
+
+    private static List<ReadAllocationData> data() {
+        List<ReadAllocationData> list = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ReadAllocationData data = new ReadAllocationData();
+            data.setString1("string1-" + i);
+            data.setString2("string2-" + i % 100);
+            data.setString3("string3");
+            data.setString4("string4-" + i % 1000);
+            data.setString5("string5");
+            data.setDouble1(i + 0.25);
+            data.setDouble2(i * 3.1);
+            data.setDouble3(1.5);
+            data.setDouble4(-i / 7.0);
+            data.setDouble5(12345.678);
+            data.setInteger1(i);
+            data.setInteger2(i % 100);
+            data.setInteger3(7);
+            data.setInteger4(-i);
+            data.setInteger5(1000000 + i);
+            data.setDate1(new Date(1600000000000L + i * 1000L));
+            data.setDate2(new Date(1600000000000L));
+            data.setDate3(new Date(1600000000000L + i * 86400000L));
+            data.setDate4(new Date(1500000000000L));
+            data.setDate5(new Date(1700000000000L - i * 1000L));
+            list.add(data);
+        }
+        return list;
+    }
+}